@@ -1,6 +1,6 @@
 import { AppState } from "./types";
 import { PlayerControl } from "./generated/socketMessage";
-import { connectToServer, sendToServer } from "./server";
+import { joinGame, sendToServer } from "./server";
 
 export function handleKeyDown(keyCode: string, state: AppState) {
     const control = keyCodeToPlayerControl(keyCode);
@@ -14,6 +14,7 @@ export function handleKeyDown(keyCode: string, state: AppState) {
     sendToServer(state, {
         controlChangeEvent: {
             pressedControls: Array.from(state.pressedControls),
+            sequence: ++state.inputSequence,
         },
     });
 }
@@ -27,6 +28,7 @@ export function handleKeyUp(keyCode: string, state: AppState) {
     sendToServer(state, {
         controlChangeEvent: {
             pressedControls: Array.from(state.pressedControls),
+            sequence: ++state.inputSequence,
         }
     });
 }
@@ -36,7 +38,7 @@ export function handleJoinSubmit(event: JQuery.SubmitEvent, state: AppState) {
     if (name === null || name.toString().length === 0) {
         return;
     }
-    connectToServer(state, String(name));
+    joinGame(state, String(name));
 }
 
 function keyCodeToPlayerControl(code: string): PlayerControl | null {
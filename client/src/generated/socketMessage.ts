@@ -11,7 +11,7 @@ export enum PlayerControl {
     RIGHT = 3
 }
 export class SocketMessage extends pb_1.Message {
-    #one_of_decls: number[][] = [[1, 2, 3, 4, 5, 6]];
+    #one_of_decls: number[][] = [[1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11]];
     constructor(data?: any[] | ({} & (({
         gamePing?: GamePing;
         controlChangeEvent?: never;
@@ -19,6 +19,11 @@ export class SocketMessage extends pb_1.Message {
         gameOverEvent?: never;
         errorReply?: never;
         joinReply?: never;
+        ping?: never;
+        pong?: never;
+        leaveEvent?: never;
+        leaderboardSubscribe?: never;
+        leaderboardUpdate?: never;
     } | {
         gamePing?: never;
         controlChangeEvent?: ControlChangeEvent;
@@ -26,6 +31,11 @@ export class SocketMessage extends pb_1.Message {
         gameOverEvent?: never;
         errorReply?: never;
         joinReply?: never;
+        ping?: never;
+        pong?: never;
+        leaveEvent?: never;
+        leaderboardSubscribe?: never;
+        leaderboardUpdate?: never;
     } | {
         gamePing?: never;
         controlChangeEvent?: never;
@@ -33,6 +43,11 @@ export class SocketMessage extends pb_1.Message {
         gameOverEvent?: never;
         errorReply?: never;
         joinReply?: never;
+        ping?: never;
+        pong?: never;
+        leaveEvent?: never;
+        leaderboardSubscribe?: never;
+        leaderboardUpdate?: never;
     } | {
         gamePing?: never;
         controlChangeEvent?: never;
@@ -40,6 +55,11 @@ export class SocketMessage extends pb_1.Message {
         gameOverEvent?: GameOverEvent;
         errorReply?: never;
         joinReply?: never;
+        ping?: never;
+        pong?: never;
+        leaveEvent?: never;
+        leaderboardSubscribe?: never;
+        leaderboardUpdate?: never;
     } | {
         gamePing?: never;
         controlChangeEvent?: never;
@@ -47,6 +67,11 @@ export class SocketMessage extends pb_1.Message {
         gameOverEvent?: never;
         errorReply?: ErrorReply;
         joinReply?: never;
+        ping?: never;
+        pong?: never;
+        leaveEvent?: never;
+        leaderboardSubscribe?: never;
+        leaderboardUpdate?: never;
     } | {
         gamePing?: never;
         controlChangeEvent?: never;
@@ -54,6 +79,71 @@ export class SocketMessage extends pb_1.Message {
         gameOverEvent?: never;
         errorReply?: never;
         joinReply?: JoinReply;
+        ping?: never;
+        pong?: never;
+        leaveEvent?: never;
+        leaderboardSubscribe?: never;
+        leaderboardUpdate?: never;
+    } | {
+        gamePing?: never;
+        controlChangeEvent?: never;
+        joinEvent?: never;
+        gameOverEvent?: never;
+        errorReply?: never;
+        joinReply?: never;
+        ping?: Ping;
+        pong?: never;
+        leaveEvent?: never;
+        leaderboardSubscribe?: never;
+        leaderboardUpdate?: never;
+    } | {
+        gamePing?: never;
+        controlChangeEvent?: never;
+        joinEvent?: never;
+        gameOverEvent?: never;
+        errorReply?: never;
+        joinReply?: never;
+        ping?: never;
+        pong?: Pong;
+        leaveEvent?: never;
+        leaderboardSubscribe?: never;
+        leaderboardUpdate?: never;
+    } | {
+        gamePing?: never;
+        controlChangeEvent?: never;
+        joinEvent?: never;
+        gameOverEvent?: never;
+        errorReply?: never;
+        joinReply?: never;
+        ping?: never;
+        pong?: never;
+        leaveEvent?: LeaveEvent;
+        leaderboardSubscribe?: never;
+        leaderboardUpdate?: never;
+    } | {
+        gamePing?: never;
+        controlChangeEvent?: never;
+        joinEvent?: never;
+        gameOverEvent?: never;
+        errorReply?: never;
+        joinReply?: never;
+        ping?: never;
+        pong?: never;
+        leaveEvent?: never;
+        leaderboardSubscribe?: LeaderboardSubscribe;
+        leaderboardUpdate?: never;
+    } | {
+        gamePing?: never;
+        controlChangeEvent?: never;
+        joinEvent?: never;
+        gameOverEvent?: never;
+        errorReply?: never;
+        joinReply?: never;
+        ping?: never;
+        pong?: never;
+        leaveEvent?: never;
+        leaderboardSubscribe?: never;
+        leaderboardUpdate?: LeaderboardUpdate;
     })))) {
         super();
         pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [], this.#one_of_decls);
@@ -76,6 +166,21 @@ export class SocketMessage extends pb_1.Message {
             if ("joinReply" in data && data.joinReply != undefined) {
                 this.joinReply = data.joinReply;
             }
+            if ("ping" in data && data.ping != undefined) {
+                this.ping = data.ping;
+            }
+            if ("pong" in data && data.pong != undefined) {
+                this.pong = data.pong;
+            }
+            if ("leaveEvent" in data && data.leaveEvent != undefined) {
+                this.leaveEvent = data.leaveEvent;
+            }
+            if ("leaderboardSubscribe" in data && data.leaderboardSubscribe != undefined) {
+                this.leaderboardSubscribe = data.leaderboardSubscribe;
+            }
+            if ("leaderboardUpdate" in data && data.leaderboardUpdate != undefined) {
+                this.leaderboardUpdate = data.leaderboardUpdate;
+            }
         }
     }
     get gamePing() {
@@ -132,9 +237,54 @@ export class SocketMessage extends pb_1.Message {
     get has_joinReply() {
         return pb_1.Message.getField(this, 6) != null;
     }
+    get ping() {
+        return pb_1.Message.getWrapperField(this, Ping, 7) as Ping;
+    }
+    set ping(value: Ping) {
+        pb_1.Message.setOneofWrapperField(this, 7, this.#one_of_decls[0], value);
+    }
+    get has_ping() {
+        return pb_1.Message.getField(this, 7) != null;
+    }
+    get pong() {
+        return pb_1.Message.getWrapperField(this, Pong, 8) as Pong;
+    }
+    set pong(value: Pong) {
+        pb_1.Message.setOneofWrapperField(this, 8, this.#one_of_decls[0], value);
+    }
+    get has_pong() {
+        return pb_1.Message.getField(this, 8) != null;
+    }
+    get leaveEvent() {
+        return pb_1.Message.getWrapperField(this, LeaveEvent, 9) as LeaveEvent;
+    }
+    set leaveEvent(value: LeaveEvent) {
+        pb_1.Message.setOneofWrapperField(this, 9, this.#one_of_decls[0], value);
+    }
+    get has_leaveEvent() {
+        return pb_1.Message.getField(this, 9) != null;
+    }
+    get leaderboardSubscribe() {
+        return pb_1.Message.getWrapperField(this, LeaderboardSubscribe, 10) as LeaderboardSubscribe;
+    }
+    set leaderboardSubscribe(value: LeaderboardSubscribe) {
+        pb_1.Message.setOneofWrapperField(this, 10, this.#one_of_decls[0], value);
+    }
+    get has_leaderboardSubscribe() {
+        return pb_1.Message.getField(this, 10) != null;
+    }
+    get leaderboardUpdate() {
+        return pb_1.Message.getWrapperField(this, LeaderboardUpdate, 11) as LeaderboardUpdate;
+    }
+    set leaderboardUpdate(value: LeaderboardUpdate) {
+        pb_1.Message.setOneofWrapperField(this, 11, this.#one_of_decls[0], value);
+    }
+    get has_leaderboardUpdate() {
+        return pb_1.Message.getField(this, 11) != null;
+    }
     get payload() {
         const cases: {
-            [index: number]: "none" | "gamePing" | "controlChangeEvent" | "joinEvent" | "gameOverEvent" | "errorReply" | "joinReply";
+            [index: number]: "none" | "gamePing" | "controlChangeEvent" | "joinEvent" | "gameOverEvent" | "errorReply" | "joinReply" | "ping" | "pong" | "leaveEvent" | "leaderboardSubscribe" | "leaderboardUpdate";
         } = {
             0: "none",
             1: "gamePing",
@@ -142,9 +292,14 @@ export class SocketMessage extends pb_1.Message {
             3: "joinEvent",
             4: "gameOverEvent",
             5: "errorReply",
-            6: "joinReply"
+            6: "joinReply",
+            7: "ping",
+            8: "pong",
+            9: "leaveEvent",
+            10: "leaderboardSubscribe",
+            11: "leaderboardUpdate"
         };
-        return cases[pb_1.Message.computeOneofCase(this, [1, 2, 3, 4, 5, 6])];
+        return cases[pb_1.Message.computeOneofCase(this, [1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11])];
     }
     static fromObject(data: {
         gamePing?: ReturnType<typeof GamePing.prototype.toObject>;
@@ -153,6 +308,11 @@ export class SocketMessage extends pb_1.Message {
         gameOverEvent?: ReturnType<typeof GameOverEvent.prototype.toObject>;
         errorReply?: ReturnType<typeof ErrorReply.prototype.toObject>;
         joinReply?: ReturnType<typeof JoinReply.prototype.toObject>;
+        ping?: ReturnType<typeof Ping.prototype.toObject>;
+        pong?: ReturnType<typeof Pong.prototype.toObject>;
+        leaveEvent?: ReturnType<typeof LeaveEvent.prototype.toObject>;
+        leaderboardSubscribe?: ReturnType<typeof LeaderboardSubscribe.prototype.toObject>;
+        leaderboardUpdate?: ReturnType<typeof LeaderboardUpdate.prototype.toObject>;
     }): SocketMessage {
         const message = new SocketMessage({});
         if (data.gamePing != null) {
@@ -173,6 +333,21 @@ export class SocketMessage extends pb_1.Message {
         if (data.joinReply != null) {
             message.joinReply = JoinReply.fromObject(data.joinReply);
         }
+        if (data.ping != null) {
+            message.ping = Ping.fromObject(data.ping);
+        }
+        if (data.pong != null) {
+            message.pong = Pong.fromObject(data.pong);
+        }
+        if (data.leaveEvent != null) {
+            message.leaveEvent = LeaveEvent.fromObject(data.leaveEvent);
+        }
+        if (data.leaderboardSubscribe != null) {
+            message.leaderboardSubscribe = LeaderboardSubscribe.fromObject(data.leaderboardSubscribe);
+        }
+        if (data.leaderboardUpdate != null) {
+            message.leaderboardUpdate = LeaderboardUpdate.fromObject(data.leaderboardUpdate);
+        }
         return message;
     }
     toObject() {
@@ -183,6 +358,11 @@ export class SocketMessage extends pb_1.Message {
             gameOverEvent?: ReturnType<typeof GameOverEvent.prototype.toObject>;
             errorReply?: ReturnType<typeof ErrorReply.prototype.toObject>;
             joinReply?: ReturnType<typeof JoinReply.prototype.toObject>;
+            ping?: ReturnType<typeof Ping.prototype.toObject>;
+            pong?: ReturnType<typeof Pong.prototype.toObject>;
+            leaveEvent?: ReturnType<typeof LeaveEvent.prototype.toObject>;
+            leaderboardSubscribe?: ReturnType<typeof LeaderboardSubscribe.prototype.toObject>;
+            leaderboardUpdate?: ReturnType<typeof LeaderboardUpdate.prototype.toObject>;
         } = {};
         if (this.gamePing != null) {
             data.gamePing = this.gamePing.toObject();
@@ -202,6 +382,21 @@ export class SocketMessage extends pb_1.Message {
         if (this.joinReply != null) {
             data.joinReply = this.joinReply.toObject();
         }
+        if (this.ping != null) {
+            data.ping = this.ping.toObject();
+        }
+        if (this.pong != null) {
+            data.pong = this.pong.toObject();
+        }
+        if (this.leaveEvent != null) {
+            data.leaveEvent = this.leaveEvent.toObject();
+        }
+        if (this.leaderboardSubscribe != null) {
+            data.leaderboardSubscribe = this.leaderboardSubscribe.toObject();
+        }
+        if (this.leaderboardUpdate != null) {
+            data.leaderboardUpdate = this.leaderboardUpdate.toObject();
+        }
         return data;
     }
     serialize(): Uint8Array;
@@ -220,6 +415,16 @@ export class SocketMessage extends pb_1.Message {
             writer.writeMessage(5, this.errorReply, () => this.errorReply.serialize(writer));
         if (this.has_joinReply)
             writer.writeMessage(6, this.joinReply, () => this.joinReply.serialize(writer));
+        if (this.has_ping)
+            writer.writeMessage(7, this.ping, () => this.ping.serialize(writer));
+        if (this.has_pong)
+            writer.writeMessage(8, this.pong, () => this.pong.serialize(writer));
+        if (this.has_leaveEvent)
+            writer.writeMessage(9, this.leaveEvent, () => this.leaveEvent.serialize(writer));
+        if (this.has_leaderboardSubscribe)
+            writer.writeMessage(10, this.leaderboardSubscribe, () => this.leaderboardSubscribe.serialize(writer));
+        if (this.has_leaderboardUpdate)
+            writer.writeMessage(11, this.leaderboardUpdate, () => this.leaderboardUpdate.serialize(writer));
         if (!w)
             return writer.getResultBuffer();
     }
@@ -247,6 +452,21 @@ export class SocketMessage extends pb_1.Message {
                 case 6:
                     reader.readMessage(message.joinReply, () => message.joinReply = JoinReply.deserialize(reader));
                     break;
+                case 7:
+                    reader.readMessage(message.ping, () => message.ping = Ping.deserialize(reader));
+                    break;
+                case 8:
+                    reader.readMessage(message.pong, () => message.pong = Pong.deserialize(reader));
+                    break;
+                case 9:
+                    reader.readMessage(message.leaveEvent, () => message.leaveEvent = LeaveEvent.deserialize(reader));
+                    break;
+                case 10:
+                    reader.readMessage(message.leaderboardSubscribe, () => message.leaderboardSubscribe = LeaderboardSubscribe.deserialize(reader));
+                    break;
+                case 11:
+                    reader.readMessage(message.leaderboardUpdate, () => message.leaderboardUpdate = LeaderboardUpdate.deserialize(reader));
+                    break;
                 default: reader.skipField();
             }
         }
@@ -265,9 +485,11 @@ export class GamePing extends pb_1.Message {
         serverAge?: number;
         players?: Player[];
         platforms?: Platform[];
+        isDelta?: boolean;
+        removedPlayers?: string[];
     }) {
         super();
-        pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [2, 3], this.#one_of_decls);
+        pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [2, 3, 5], this.#one_of_decls);
         if (!Array.isArray(data) && typeof data == "object") {
             if ("serverAge" in data && data.serverAge != undefined) {
                 this.serverAge = data.serverAge;
@@ -278,6 +500,12 @@ export class GamePing extends pb_1.Message {
             if ("platforms" in data && data.platforms != undefined) {
                 this.platforms = data.platforms;
             }
+            if ("isDelta" in data && data.isDelta != undefined) {
+                this.isDelta = data.isDelta;
+            }
+            if ("removedPlayers" in data && data.removedPlayers != undefined) {
+                this.removedPlayers = data.removedPlayers;
+            }
         }
     }
     get serverAge() {
@@ -298,10 +526,24 @@ export class GamePing extends pb_1.Message {
     set platforms(value: Platform[]) {
         pb_1.Message.setRepeatedWrapperField(this, 3, value);
     }
+    get isDelta() {
+        return pb_1.Message.getFieldWithDefault(this, 4, false) as boolean;
+    }
+    set isDelta(value: boolean) {
+        pb_1.Message.setField(this, 4, value);
+    }
+    get removedPlayers() {
+        return pb_1.Message.getFieldWithDefault(this, 5, []) as string[];
+    }
+    set removedPlayers(value: string[]) {
+        pb_1.Message.setField(this, 5, value);
+    }
     static fromObject(data: {
         serverAge?: number;
         players?: ReturnType<typeof Player.prototype.toObject>[];
         platforms?: ReturnType<typeof Platform.prototype.toObject>[];
+        isDelta?: boolean;
+        removedPlayers?: string[];
     }): GamePing {
         const message = new GamePing({});
         if (data.serverAge != null) {
@@ -313,6 +555,12 @@ export class GamePing extends pb_1.Message {
         if (data.platforms != null) {
             message.platforms = data.platforms.map(item => Platform.fromObject(item));
         }
+        if (data.isDelta != null) {
+            message.isDelta = data.isDelta;
+        }
+        if (data.removedPlayers != null) {
+            message.removedPlayers = data.removedPlayers;
+        }
         return message;
     }
     toObject() {
@@ -320,6 +568,8 @@ export class GamePing extends pb_1.Message {
             serverAge?: number;
             players?: ReturnType<typeof Player.prototype.toObject>[];
             platforms?: ReturnType<typeof Platform.prototype.toObject>[];
+            isDelta?: boolean;
+            removedPlayers?: string[];
         } = {};
         if (this.serverAge != null) {
             data.serverAge = this.serverAge;
@@ -330,6 +580,12 @@ export class GamePing extends pb_1.Message {
         if (this.platforms != null) {
             data.platforms = this.platforms.map((item: Platform) => item.toObject());
         }
+        if (this.isDelta != null) {
+            data.isDelta = this.isDelta;
+        }
+        if (this.removedPlayers != null) {
+            data.removedPlayers = this.removedPlayers;
+        }
         return data;
     }
     serialize(): Uint8Array;
@@ -342,6 +598,10 @@ export class GamePing extends pb_1.Message {
             writer.writeRepeatedMessage(2, this.players, (item: Player) => item.serialize(writer));
         if (this.platforms.length)
             writer.writeRepeatedMessage(3, this.platforms, (item: Platform) => item.serialize(writer));
+        if (this.isDelta != false)
+            writer.writeBool(4, this.isDelta);
+        if (this.removedPlayers.length)
+            writer.writeRepeatedString(5, this.removedPlayers);
         if (!w)
             return writer.getResultBuffer();
     }
@@ -360,6 +620,12 @@ export class GamePing extends pb_1.Message {
                 case 3:
                     reader.readMessage(message.platforms, () => pb_1.Message.addToRepeatedWrapperField(message, 3, Platform.deserialize(reader), Platform));
                     break;
+                case 4:
+                    message.isDelta = reader.readBool();
+                    break;
+                case 5:
+                    pb_1.Message.addToRepeatedField(message, 5, reader.readString());
+                    break;
                 default: reader.skipField();
             }
         }
@@ -372,10 +638,145 @@ export class GamePing extends pb_1.Message {
         return GamePing.deserialize(bytes);
     }
 }
+export class Ping extends pb_1.Message {
+    #one_of_decls: number[][] = [];
+    constructor(data?: any[] | {
+        serverTimeNanos?: number;
+    }) {
+        super();
+        pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [], this.#one_of_decls);
+        if (!Array.isArray(data) && typeof data == "object") {
+            if ("serverTimeNanos" in data && data.serverTimeNanos != undefined) {
+                this.serverTimeNanos = data.serverTimeNanos;
+            }
+        }
+    }
+    get serverTimeNanos() {
+        return pb_1.Message.getFieldWithDefault(this, 1, 0) as number;
+    }
+    set serverTimeNanos(value: number) {
+        pb_1.Message.setField(this, 1, value);
+    }
+    static fromObject(data: {
+        serverTimeNanos?: number;
+    }): Ping {
+        const message = new Ping({});
+        if (data.serverTimeNanos != null) {
+            message.serverTimeNanos = data.serverTimeNanos;
+        }
+        return message;
+    }
+    toObject() {
+        const data: {
+            serverTimeNanos?: number;
+        } = {};
+        if (this.serverTimeNanos != null) {
+            data.serverTimeNanos = this.serverTimeNanos;
+        }
+        return data;
+    }
+    serialize(): Uint8Array;
+    serialize(w: pb_1.BinaryWriter): void;
+    serialize(w?: pb_1.BinaryWriter): Uint8Array | void {
+        const writer = w || new pb_1.BinaryWriter();
+        if (this.serverTimeNanos != 0)
+            writer.writeInt64(1, this.serverTimeNanos);
+        if (!w)
+            return writer.getResultBuffer();
+    }
+    static deserialize(bytes: Uint8Array | pb_1.BinaryReader): Ping {
+        const reader = bytes instanceof pb_1.BinaryReader ? bytes : new pb_1.BinaryReader(bytes), message = new Ping();
+        while (reader.nextField()) {
+            if (reader.isEndGroup())
+                break;
+            switch (reader.getFieldNumber()) {
+                case 1:
+                    message.serverTimeNanos = reader.readInt64();
+                    break;
+                default: reader.skipField();
+            }
+        }
+        return message;
+    }
+    serializeBinary(): Uint8Array {
+        return this.serialize();
+    }
+    static deserializeBinary(bytes: Uint8Array): Ping {
+        return Ping.deserialize(bytes);
+    }
+}
+export class Pong extends pb_1.Message {
+    #one_of_decls: number[][] = [];
+    constructor(data?: any[] | {
+        serverTimeNanos?: number;
+    }) {
+        super();
+        pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [], this.#one_of_decls);
+        if (!Array.isArray(data) && typeof data == "object") {
+            if ("serverTimeNanos" in data && data.serverTimeNanos != undefined) {
+                this.serverTimeNanos = data.serverTimeNanos;
+            }
+        }
+    }
+    get serverTimeNanos() {
+        return pb_1.Message.getFieldWithDefault(this, 1, 0) as number;
+    }
+    set serverTimeNanos(value: number) {
+        pb_1.Message.setField(this, 1, value);
+    }
+    static fromObject(data: {
+        serverTimeNanos?: number;
+    }): Pong {
+        const message = new Pong({});
+        if (data.serverTimeNanos != null) {
+            message.serverTimeNanos = data.serverTimeNanos;
+        }
+        return message;
+    }
+    toObject() {
+        const data: {
+            serverTimeNanos?: number;
+        } = {};
+        if (this.serverTimeNanos != null) {
+            data.serverTimeNanos = this.serverTimeNanos;
+        }
+        return data;
+    }
+    serialize(): Uint8Array;
+    serialize(w: pb_1.BinaryWriter): void;
+    serialize(w?: pb_1.BinaryWriter): Uint8Array | void {
+        const writer = w || new pb_1.BinaryWriter();
+        if (this.serverTimeNanos != 0)
+            writer.writeInt64(1, this.serverTimeNanos);
+        if (!w)
+            return writer.getResultBuffer();
+    }
+    static deserialize(bytes: Uint8Array | pb_1.BinaryReader): Pong {
+        const reader = bytes instanceof pb_1.BinaryReader ? bytes : new pb_1.BinaryReader(bytes), message = new Pong();
+        while (reader.nextField()) {
+            if (reader.isEndGroup())
+                break;
+            switch (reader.getFieldNumber()) {
+                case 1:
+                    message.serverTimeNanos = reader.readInt64();
+                    break;
+                default: reader.skipField();
+            }
+        }
+        return message;
+    }
+    serializeBinary(): Uint8Array {
+        return this.serialize();
+    }
+    static deserializeBinary(bytes: Uint8Array): Pong {
+        return Pong.deserialize(bytes);
+    }
+}
 export class ControlChangeEvent extends pb_1.Message {
     #one_of_decls: number[][] = [];
     constructor(data?: any[] | {
         pressedControls?: PlayerControl[];
+        sequence?: number;
     }) {
         super();
         pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [1], this.#one_of_decls);
@@ -383,6 +784,9 @@ export class ControlChangeEvent extends pb_1.Message {
             if ("pressedControls" in data && data.pressedControls != undefined) {
                 this.pressedControls = data.pressedControls;
             }
+            if ("sequence" in data && data.sequence != undefined) {
+                this.sequence = data.sequence;
+            }
         }
     }
     get pressedControls() {
@@ -391,22 +795,36 @@ export class ControlChangeEvent extends pb_1.Message {
     set pressedControls(value: PlayerControl[]) {
         pb_1.Message.setField(this, 1, value);
     }
+    get sequence() {
+        return pb_1.Message.getFieldWithDefault(this, 2, 0) as number;
+    }
+    set sequence(value: number) {
+        pb_1.Message.setField(this, 2, value);
+    }
     static fromObject(data: {
         pressedControls?: PlayerControl[];
+        sequence?: number;
     }): ControlChangeEvent {
         const message = new ControlChangeEvent({});
         if (data.pressedControls != null) {
             message.pressedControls = data.pressedControls;
         }
+        if (data.sequence != null) {
+            message.sequence = data.sequence;
+        }
         return message;
     }
     toObject() {
         const data: {
             pressedControls?: PlayerControl[];
+            sequence?: number;
         } = {};
         if (this.pressedControls != null) {
             data.pressedControls = this.pressedControls;
         }
+        if (this.sequence != null) {
+            data.sequence = this.sequence;
+        }
         return data;
     }
     serialize(): Uint8Array;
@@ -415,6 +833,8 @@ export class ControlChangeEvent extends pb_1.Message {
         const writer = w || new pb_1.BinaryWriter();
         if (this.pressedControls.length)
             writer.writePackedEnum(1, this.pressedControls);
+        if (this.sequence != 0)
+            writer.writeUint32(2, this.sequence);
         if (!w)
             return writer.getResultBuffer();
     }
@@ -427,6 +847,9 @@ export class ControlChangeEvent extends pb_1.Message {
                 case 1:
                     message.pressedControls = reader.readPackedEnum();
                     break;
+                case 2:
+                    message.sequence = reader.readUint32();
+                    break;
                 default: reader.skipField();
             }
         }
@@ -443,6 +866,7 @@ export class JoinEvent extends pb_1.Message {
     #one_of_decls: number[][] = [];
     constructor(data?: any[] | {
         name?: string;
+        resumeToken?: string;
     }) {
         super();
         pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [], this.#one_of_decls);
@@ -450,6 +874,9 @@ export class JoinEvent extends pb_1.Message {
             if ("name" in data && data.name != undefined) {
                 this.name = data.name;
             }
+            if ("resumeToken" in data && data.resumeToken != undefined) {
+                this.resumeToken = data.resumeToken;
+            }
         }
     }
     get name() {
@@ -458,22 +885,36 @@ export class JoinEvent extends pb_1.Message {
     set name(value: string) {
         pb_1.Message.setField(this, 1, value);
     }
+    get resumeToken() {
+        return pb_1.Message.getFieldWithDefault(this, 2, "") as string;
+    }
+    set resumeToken(value: string) {
+        pb_1.Message.setField(this, 2, value);
+    }
     static fromObject(data: {
         name?: string;
+        resumeToken?: string;
     }): JoinEvent {
         const message = new JoinEvent({});
         if (data.name != null) {
             message.name = data.name;
         }
+        if (data.resumeToken != null) {
+            message.resumeToken = data.resumeToken;
+        }
         return message;
     }
     toObject() {
         const data: {
             name?: string;
+            resumeToken?: string;
         } = {};
         if (this.name != null) {
             data.name = this.name;
         }
+        if (this.resumeToken != null) {
+            data.resumeToken = this.resumeToken;
+        }
         return data;
     }
     serialize(): Uint8Array;
@@ -482,6 +923,8 @@ export class JoinEvent extends pb_1.Message {
         const writer = w || new pb_1.BinaryWriter();
         if (this.name.length)
             writer.writeString(1, this.name);
+        if (this.resumeToken.length)
+            writer.writeString(2, this.resumeToken);
         if (!w)
             return writer.getResultBuffer();
     }
@@ -494,6 +937,9 @@ export class JoinEvent extends pb_1.Message {
                 case 1:
                     message.name = reader.readString();
                     break;
+                case 2:
+                    message.resumeToken = reader.readString();
+                    break;
                 default: reader.skipField();
             }
         }
@@ -506,6 +952,46 @@ export class JoinEvent extends pb_1.Message {
         return JoinEvent.deserialize(bytes);
     }
 }
+export class LeaveEvent extends pb_1.Message {
+    #one_of_decls: number[][] = [];
+    constructor(data?: any[] | {}) {
+        super();
+        pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [], this.#one_of_decls);
+        if (!Array.isArray(data) && typeof data == "object") { }
+    }
+    static fromObject(data: {}): LeaveEvent {
+        const message = new LeaveEvent({});
+        return message;
+    }
+    toObject() {
+        const data: {} = {};
+        return data;
+    }
+    serialize(): Uint8Array;
+    serialize(w: pb_1.BinaryWriter): void;
+    serialize(w?: pb_1.BinaryWriter): Uint8Array | void {
+        const writer = w || new pb_1.BinaryWriter();
+        if (!w)
+            return writer.getResultBuffer();
+    }
+    static deserialize(bytes: Uint8Array | pb_1.BinaryReader): LeaveEvent {
+        const reader = bytes instanceof pb_1.BinaryReader ? bytes : new pb_1.BinaryReader(bytes), message = new LeaveEvent();
+        while (reader.nextField()) {
+            if (reader.isEndGroup())
+                break;
+            switch (reader.getFieldNumber()) {
+                default: reader.skipField();
+            }
+        }
+        return message;
+    }
+    serializeBinary(): Uint8Array {
+        return this.serialize();
+    }
+    static deserializeBinary(bytes: Uint8Array): LeaveEvent {
+        return LeaveEvent.deserialize(bytes);
+    }
+}
 export class GameOverEvent extends pb_1.Message {
     #one_of_decls: number[][] = [];
     constructor(data?: any[] | {
@@ -573,10 +1059,164 @@ export class GameOverEvent extends pb_1.Message {
         return GameOverEvent.deserialize(bytes);
     }
 }
+export class LeaderboardSubscribe extends pb_1.Message {
+    #one_of_decls: number[][] = [];
+    constructor(data?: any[] | {}) {
+        super();
+        pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [], this.#one_of_decls);
+        if (!Array.isArray(data) && typeof data == "object") { }
+    }
+    static fromObject(data: {}): LeaderboardSubscribe {
+        const message = new LeaderboardSubscribe({});
+        return message;
+    }
+    toObject() {
+        const data: {} = {};
+        return data;
+    }
+    serialize(): Uint8Array;
+    serialize(w: pb_1.BinaryWriter): void;
+    serialize(w?: pb_1.BinaryWriter): Uint8Array | void {
+        const writer = w || new pb_1.BinaryWriter();
+        if (!w)
+            return writer.getResultBuffer();
+    }
+    static deserialize(bytes: Uint8Array | pb_1.BinaryReader): LeaderboardSubscribe {
+        const reader = bytes instanceof pb_1.BinaryReader ? bytes : new pb_1.BinaryReader(bytes), message = new LeaderboardSubscribe();
+        while (reader.nextField()) {
+            if (reader.isEndGroup())
+                break;
+            switch (reader.getFieldNumber()) {
+                default: reader.skipField();
+            }
+        }
+        return message;
+    }
+    serializeBinary(): Uint8Array {
+        return this.serialize();
+    }
+    static deserializeBinary(bytes: Uint8Array): LeaderboardSubscribe {
+        return LeaderboardSubscribe.deserialize(bytes);
+    }
+}
+export class LeaderboardUpdate extends pb_1.Message {
+    #one_of_decls: number[][] = [];
+    constructor(data?: any[] | {
+        isFull?: boolean;
+        rows?: LeaderboardRow[];
+        removedPlayers?: string[];
+    }) {
+        super();
+        pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [2, 3], this.#one_of_decls);
+        if (!Array.isArray(data) && typeof data == "object") {
+            if ("isFull" in data && data.isFull != undefined) {
+                this.isFull = data.isFull;
+            }
+            if ("rows" in data && data.rows != undefined) {
+                this.rows = data.rows;
+            }
+            if ("removedPlayers" in data && data.removedPlayers != undefined) {
+                this.removedPlayers = data.removedPlayers;
+            }
+        }
+    }
+    get isFull() {
+        return pb_1.Message.getFieldWithDefault(this, 1, false) as boolean;
+    }
+    set isFull(value: boolean) {
+        pb_1.Message.setField(this, 1, value);
+    }
+    get rows() {
+        return pb_1.Message.getRepeatedWrapperField(this, LeaderboardRow, 2) as LeaderboardRow[];
+    }
+    set rows(value: LeaderboardRow[]) {
+        pb_1.Message.setRepeatedWrapperField(this, 2, value);
+    }
+    get removedPlayers() {
+        return pb_1.Message.getFieldWithDefault(this, 3, []) as string[];
+    }
+    set removedPlayers(value: string[]) {
+        pb_1.Message.setField(this, 3, value);
+    }
+    static fromObject(data: {
+        isFull?: boolean;
+        rows?: ReturnType<typeof LeaderboardRow.prototype.toObject>[];
+        removedPlayers?: string[];
+    }): LeaderboardUpdate {
+        const message = new LeaderboardUpdate({});
+        if (data.isFull != null) {
+            message.isFull = data.isFull;
+        }
+        if (data.rows != null) {
+            message.rows = data.rows.map(item => LeaderboardRow.fromObject(item));
+        }
+        if (data.removedPlayers != null) {
+            message.removedPlayers = data.removedPlayers;
+        }
+        return message;
+    }
+    toObject() {
+        const data: {
+            isFull?: boolean;
+            rows?: ReturnType<typeof LeaderboardRow.prototype.toObject>[];
+            removedPlayers?: string[];
+        } = {};
+        if (this.isFull != null) {
+            data.isFull = this.isFull;
+        }
+        if (this.rows != null) {
+            data.rows = this.rows.map((item: LeaderboardRow) => item.toObject());
+        }
+        if (this.removedPlayers != null) {
+            data.removedPlayers = this.removedPlayers;
+        }
+        return data;
+    }
+    serialize(): Uint8Array;
+    serialize(w: pb_1.BinaryWriter): void;
+    serialize(w?: pb_1.BinaryWriter): Uint8Array | void {
+        const writer = w || new pb_1.BinaryWriter();
+        if (this.isFull != false)
+            writer.writeBool(1, this.isFull);
+        if (this.rows.length)
+            writer.writeRepeatedMessage(2, this.rows, (item: LeaderboardRow) => item.serialize(writer));
+        if (this.removedPlayers.length)
+            writer.writeRepeatedString(3, this.removedPlayers);
+        if (!w)
+            return writer.getResultBuffer();
+    }
+    static deserialize(bytes: Uint8Array | pb_1.BinaryReader): LeaderboardUpdate {
+        const reader = bytes instanceof pb_1.BinaryReader ? bytes : new pb_1.BinaryReader(bytes), message = new LeaderboardUpdate();
+        while (reader.nextField()) {
+            if (reader.isEndGroup())
+                break;
+            switch (reader.getFieldNumber()) {
+                case 1:
+                    message.isFull = reader.readBool();
+                    break;
+                case 2:
+                    reader.readMessage(message.rows, () => pb_1.Message.addToRepeatedWrapperField(message, 2, LeaderboardRow.deserialize(reader), LeaderboardRow));
+                    break;
+                case 3:
+                    pb_1.Message.addToRepeatedField(message, 3, reader.readString());
+                    break;
+                default: reader.skipField();
+            }
+        }
+        return message;
+    }
+    serializeBinary(): Uint8Array {
+        return this.serialize();
+    }
+    static deserializeBinary(bytes: Uint8Array): LeaderboardUpdate {
+        return LeaderboardUpdate.deserialize(bytes);
+    }
+}
 export class JoinReply extends pb_1.Message {
     #one_of_decls: number[][] = [];
     constructor(data?: any[] | {
         serverId?: string;
+        resumeToken?: string;
     }) {
         super();
         pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [], this.#one_of_decls);
@@ -584,6 +1224,9 @@ export class JoinReply extends pb_1.Message {
             if ("serverId" in data && data.serverId != undefined) {
                 this.serverId = data.serverId;
             }
+            if ("resumeToken" in data && data.resumeToken != undefined) {
+                this.resumeToken = data.resumeToken;
+            }
         }
     }
     get serverId() {
@@ -592,22 +1235,36 @@ export class JoinReply extends pb_1.Message {
     set serverId(value: string) {
         pb_1.Message.setField(this, 1, value);
     }
+    get resumeToken() {
+        return pb_1.Message.getFieldWithDefault(this, 2, "") as string;
+    }
+    set resumeToken(value: string) {
+        pb_1.Message.setField(this, 2, value);
+    }
     static fromObject(data: {
         serverId?: string;
+        resumeToken?: string;
     }): JoinReply {
         const message = new JoinReply({});
         if (data.serverId != null) {
             message.serverId = data.serverId;
         }
+        if (data.resumeToken != null) {
+            message.resumeToken = data.resumeToken;
+        }
         return message;
     }
     toObject() {
         const data: {
             serverId?: string;
+            resumeToken?: string;
         } = {};
         if (this.serverId != null) {
             data.serverId = this.serverId;
         }
+        if (this.resumeToken != null) {
+            data.resumeToken = this.resumeToken;
+        }
         return data;
     }
     serialize(): Uint8Array;
@@ -616,6 +1273,8 @@ export class JoinReply extends pb_1.Message {
         const writer = w || new pb_1.BinaryWriter();
         if (this.serverId.length)
             writer.writeString(1, this.serverId);
+        if (this.resumeToken.length)
+            writer.writeString(2, this.resumeToken);
         if (!w)
             return writer.getResultBuffer();
     }
@@ -628,6 +1287,9 @@ export class JoinReply extends pb_1.Message {
                 case 1:
                     message.serverId = reader.readString();
                     break;
+                case 2:
+                    message.resumeToken = reader.readString();
+                    break;
                 default: reader.skipField();
             }
         }
@@ -715,6 +1377,7 @@ export class Player extends pb_1.Message {
         x?: number;
         y?: number;
         score?: number;
+        lastInputSequence?: number;
     }) {
         super();
         pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [], this.#one_of_decls);
@@ -734,6 +1397,9 @@ export class Player extends pb_1.Message {
             if ("score" in data && data.score != undefined) {
                 this.score = data.score;
             }
+            if ("lastInputSequence" in data && data.lastInputSequence != undefined) {
+                this.lastInputSequence = data.lastInputSequence;
+            }
         }
     }
     get name() {
@@ -766,12 +1432,19 @@ export class Player extends pb_1.Message {
     set score(value: number) {
         pb_1.Message.setField(this, 5, value);
     }
+    get lastInputSequence() {
+        return pb_1.Message.getFieldWithDefault(this, 6, 0) as number;
+    }
+    set lastInputSequence(value: number) {
+        pb_1.Message.setField(this, 6, value);
+    }
     static fromObject(data: {
         name?: string;
         color?: string;
         x?: number;
         y?: number;
         score?: number;
+        lastInputSequence?: number;
     }): Player {
         const message = new Player({});
         if (data.name != null) {
@@ -789,6 +1462,9 @@ export class Player extends pb_1.Message {
         if (data.score != null) {
             message.score = data.score;
         }
+        if (data.lastInputSequence != null) {
+            message.lastInputSequence = data.lastInputSequence;
+        }
         return message;
     }
     toObject() {
@@ -798,6 +1474,7 @@ export class Player extends pb_1.Message {
             x?: number;
             y?: number;
             score?: number;
+            lastInputSequence?: number;
         } = {};
         if (this.name != null) {
             data.name = this.name;
@@ -814,6 +1491,9 @@ export class Player extends pb_1.Message {
         if (this.score != null) {
             data.score = this.score;
         }
+        if (this.lastInputSequence != null) {
+            data.lastInputSequence = this.lastInputSequence;
+        }
         return data;
     }
     serialize(): Uint8Array;
@@ -830,6 +1510,8 @@ export class Player extends pb_1.Message {
             writer.writeInt32(4, this.y);
         if (this.score != 0)
             writer.writeUint32(5, this.score);
+        if (this.lastInputSequence != 0)
+            writer.writeUint32(6, this.lastInputSequence);
         if (!w)
             return writer.getResultBuffer();
     }
@@ -854,6 +1536,9 @@ export class Player extends pb_1.Message {
                 case 5:
                     message.score = reader.readUint32();
                     break;
+                case 6:
+                    message.lastInputSequence = reader.readUint32();
+                    break;
                 default: reader.skipField();
             }
         }
@@ -866,6 +1551,119 @@ export class Player extends pb_1.Message {
         return Player.deserialize(bytes);
     }
 }
+export class LeaderboardRow extends pb_1.Message {
+    #one_of_decls: number[][] = [];
+    constructor(data?: any[] | {
+        player?: string;
+        score?: number;
+        timestampMillis?: number;
+    }) {
+        super();
+        pb_1.Message.initialize(this, Array.isArray(data) ? data : [], 0, -1, [], this.#one_of_decls);
+        if (!Array.isArray(data) && typeof data == "object") {
+            if ("player" in data && data.player != undefined) {
+                this.player = data.player;
+            }
+            if ("score" in data && data.score != undefined) {
+                this.score = data.score;
+            }
+            if ("timestampMillis" in data && data.timestampMillis != undefined) {
+                this.timestampMillis = data.timestampMillis;
+            }
+        }
+    }
+    get player() {
+        return pb_1.Message.getFieldWithDefault(this, 1, "") as string;
+    }
+    set player(value: string) {
+        pb_1.Message.setField(this, 1, value);
+    }
+    get score() {
+        return pb_1.Message.getFieldWithDefault(this, 2, 0) as number;
+    }
+    set score(value: number) {
+        pb_1.Message.setField(this, 2, value);
+    }
+    get timestampMillis() {
+        return pb_1.Message.getFieldWithDefault(this, 3, 0) as number;
+    }
+    set timestampMillis(value: number) {
+        pb_1.Message.setField(this, 3, value);
+    }
+    static fromObject(data: {
+        player?: string;
+        score?: number;
+        timestampMillis?: number;
+    }): LeaderboardRow {
+        const message = new LeaderboardRow({});
+        if (data.player != null) {
+            message.player = data.player;
+        }
+        if (data.score != null) {
+            message.score = data.score;
+        }
+        if (data.timestampMillis != null) {
+            message.timestampMillis = data.timestampMillis;
+        }
+        return message;
+    }
+    toObject() {
+        const data: {
+            player?: string;
+            score?: number;
+            timestampMillis?: number;
+        } = {};
+        if (this.player != null) {
+            data.player = this.player;
+        }
+        if (this.score != null) {
+            data.score = this.score;
+        }
+        if (this.timestampMillis != null) {
+            data.timestampMillis = this.timestampMillis;
+        }
+        return data;
+    }
+    serialize(): Uint8Array;
+    serialize(w: pb_1.BinaryWriter): void;
+    serialize(w?: pb_1.BinaryWriter): Uint8Array | void {
+        const writer = w || new pb_1.BinaryWriter();
+        if (this.player.length)
+            writer.writeString(1, this.player);
+        if (this.score != 0)
+            writer.writeUint32(2, this.score);
+        if (this.timestampMillis != 0)
+            writer.writeInt64(3, this.timestampMillis);
+        if (!w)
+            return writer.getResultBuffer();
+    }
+    static deserialize(bytes: Uint8Array | pb_1.BinaryReader): LeaderboardRow {
+        const reader = bytes instanceof pb_1.BinaryReader ? bytes : new pb_1.BinaryReader(bytes), message = new LeaderboardRow();
+        while (reader.nextField()) {
+            if (reader.isEndGroup())
+                break;
+            switch (reader.getFieldNumber()) {
+                case 1:
+                    message.player = reader.readString();
+                    break;
+                case 2:
+                    message.score = reader.readUint32();
+                    break;
+                case 3:
+                    message.timestampMillis = reader.readInt64();
+                    break;
+                default: reader.skipField();
+            }
+        }
+        return message;
+    }
+    serializeBinary(): Uint8Array {
+        return this.serialize();
+    }
+    static deserializeBinary(bytes: Uint8Array): LeaderboardRow {
+        return LeaderboardRow.deserialize(bytes);
+    }
+}
 export class Platform extends pb_1.Message {
     #one_of_decls: number[][] = [];
     constructor(data?: any[] | {
@@ -19,11 +19,17 @@ jQuery(function main() {
         server: null,
         connectedStatus: "CLOSED",
         pressedControls: new Set(),
+        inputSequence: 0,
         lastPing: null,
         errors: [],
         context: getGameContext(),
         buttons: [],
         serverId: null,
+        resumeToken: null,
+        resumeDeadline: null,
+        resumeAttempts: 0,
+        isInGame: false,
+        leaderboard: new Map(),
 
         bytesIn: 0,
         messagesIn: 0,
@@ -1,6 +1,10 @@
 import { z } from "zod";
 
-import { SocketMessage } from "./generated/socketMessage";
+import {
+    GamePing,
+    LeaderboardUpdate,
+    SocketMessage,
+} from "./generated/socketMessage";
 import { AppState, LeaderboardEntryParser } from "./types";
 import { Button, subscribeButtonsToCursor } from "./ui/button";
 import { fillLeaderboard, gameElements, renderMessageStats } from "./ui/dom";
@@ -16,6 +20,11 @@ const MAX_NAME_LENGTH = 25;
 const MAX_HISTORY_LEN = 25;
 const ERROR_DISPLAY_TIME = 5000;
 const DEFAULT_SERVER = "localhost:8081";
+const NORMAL_CLOSURE = 1000;
+// give up resuming well before the server's 15s RESUME_GRACE_MS runs out
+const RESUME_DEADLINE_MS = 10000;
+const RESUME_BASE_DELAY_MS = 250;
+const RESUME_MAX_DELAY_MS = 2000;
 
 // type to represent SocketMessages with object literals
 type SocketMessageObject = Parameters<typeof SocketMessage.fromObject>[0];
@@ -71,7 +80,39 @@ export function sendToServer(state: AppState, message: SocketMessageObject) {
     renderMessageStats(state);
 }
 
-export function connectToServer(state: AppState, username: string) {
+/**
+ * Join the game over the open connection if there is one, since the server
+ * keeps it open across games. Otherwise open a new connection.
+ */
+export function joinGame(state: AppState, username: string) {
+    if (state.server === null || state.connectedStatus !== "OPEN") {
+        connectToServer(state, username);
+        return;
+    }
+    if (state.isInGame) {
+        return;
+    }
+    if (username.length > MAX_NAME_LENGTH) {
+        addErrorNotification(state, "Username is too long");
+        return;
+    }
+
+    clearCanvas(state.context);
+    state.inputSequence = 0;
+    state.pressedControls.clear();
+    sendToServer(state, { joinEvent: { name: username } });
+    onGameJoined(state);
+}
+
+/**
+ * Open a new connection and join the game. With a resume token, takes back
+ * the player left behind by a dropped connection instead.
+ */
+export function connectToServer(
+    state: AppState,
+    username: string,
+    resumeToken?: string
+) {
     if (username.length > MAX_NAME_LENGTH) {
         addErrorNotification(state, "Username is too long");
         return;
@@ -79,6 +120,10 @@ export function connectToServer(state: AppState, username: string) {
 
     clearCanvas(state.context);
     state.bytesIn = 0;
+    if (resumeToken === undefined) {
+        // the server remembers the sequence of a resumed player
+        state.inputSequence = 0;
+    }
     state.messagesIn = 0;
     state.messagesOut = 0;
     state.connectedStatus = "CONNECTING";
@@ -91,22 +136,33 @@ export function connectToServer(state: AppState, username: string) {
     server.onopen = () => {
         sendToServer(state, {
             joinEvent: {
-                name: username
+                name: username,
+                resumeToken,
             }
         });
+        // the server pushes the leaderboard whenever it changes
+        sendToServer(state, { leaderboardSubscribe: {} });
         clearCanvas(state.context);
         state.connectedStatus = "OPEN";
         drawMetadata(state);
         gameElements.errorBox.empty();
         gameElements.connectedBox.show();
-        gameElements.inactiveOverlay.hide();
-
-        const disconnectButton = new Button("Disconnect")
-            .positionRight()
-            .onClick(() => disconnectFromServer(state));
-        subscribeButtonsToCursor(state, [disconnectButton]);
+        onGameJoined(state);
+    };
+    server.onclose = (event) => {
+        // a newer connection has already replaced this one
+        if (state.server !== null && state.server !== server) {
+            return;
+        }
+        onServerClose(state);
+        // the server only closes normally when the client disconnects or
+        // sits idle, anything else could be a dropped connection
+        if (event.code !== NORMAL_CLOSURE) {
+            resumeSession(state, username);
+        } else {
+            stopResuming(state);
+        }
     };
-    server.onclose = () => onServerClose(state);
     server.onerror = () => {
         onServerClose(state);
         addErrorNotification(state, "Connection error");
@@ -137,7 +193,36 @@ export function connectToServer(state: AppState, username: string) {
     };
 }
 
+function onGameJoined(state: AppState) {
+    state.isInGame = true;
+    gameElements.inactiveOverlay.hide();
+
+    const leaveButton = new Button("Leave")
+        .positionRight()
+        .positionBottom()
+        .onClick(() => leaveGame(state));
+    const disconnectButton = createDisconnectButton(state);
+    subscribeButtonsToCursor(state, [leaveButton, disconnectButton]);
+}
+
+/**
+ * Show the join form again, the connection stays open for the next game.
+ */
+function onGameOver(state: AppState) {
+    state.isInGame = false;
+    stopResuming(state);  // nothing left to resume
+    gameElements.inactiveOverlay.show();
+    subscribeButtonsToCursor(state, [createDisconnectButton(state)]);
+}
+
+function createDisconnectButton(state: AppState) {
+    return new Button("Disconnect")
+        .positionRight()
+        .onClick(() => disconnectFromServer(state));
+}
+
 function onServerClose(state: AppState) {
+    state.isInGame = false;
     state.serverId = null;
     state.server = null;
     state.connectedStatus = "CLOSED";
@@ -147,28 +232,128 @@ function onServerClose(state: AppState) {
 
     subscribeButtonsToCursor(state, []);
     redrawGame(state);
-    updateLeaderboard();
 }
 
 function handleServerMessage(message: SocketMessage, state: AppState) {
     if (message.payload === "gamePing") {
-        state.lastPing = message.gamePing;
-        drawGame(state, message.gamePing);
+        const ping = mergeGamePing(state.lastPing, message.gamePing);
+        state.lastPing = ping;
+        drawGame(state, ping);
     }
     else if (message.payload === "gameOverEvent") {
         drawGameOver(state.context, message.gameOverEvent.reason);
+        onGameOver(state);
     }
     else if (message.payload === "errorReply") {
         addErrorNotification(state, message.errorReply.message);
+        // the only answer to a resumed join is a JoinReply or an ErrorReply
+        if (state.resumeDeadline !== null) {
+            onGameOver(state);
+        }
     }
     else if (message.payload === "joinReply") {
         state.serverId = message.joinReply.serverId;
+        state.resumeToken = message.joinReply.resumeToken || null;
+        state.resumeDeadline = null;  // accepted, or a new game
+    }
+    else if (message.payload === "leaderboardUpdate") {
+        mergeLeaderboard(state, message.leaderboardUpdate);
+    }
+    else if (message.payload === "ping") {
+        // answer right away so the server can measure the round trip time
+        sendToServer(state, {
+            pong: { serverTimeNanos: message.ping.serverTimeNanos }
+        });
     }
     else {
         throw new Error(`Unsupported message type: ${message.payload}`);
     }
 }
 
+/**
+ * Large rooms send deltas with only the players that changed, without their
+ * color and score. Fill in everything else from the last ping.
+ */
+function mergeGamePing(last: GamePing | null, ping: GamePing): GamePing {
+    if (!ping.isDelta || last === null) {
+        return ping;
+    }
+    const players = new Map(last.players.map(p => [p.name, p]));
+    ping.removedPlayers.forEach(name => players.delete(name));
+    ping.players.forEach(player => {
+        const previous = players.get(player.name);
+        if (previous !== undefined) {
+            player.color = previous.color;
+            player.score = previous.score;
+        }
+        players.set(player.name, player);
+    });
+    ping.players = Array.from(players.values());
+    return ping;
+}
+
+/**
+ * The server sends the full leaderboard when the client subscribes, then only
+ * the rows that changed.
+ */
+function mergeLeaderboard(state: AppState, update: LeaderboardUpdate) {
+    if (update.isFull) {
+        state.leaderboard.clear();
+    }
+    update.removedPlayers.forEach(name => state.leaderboard.delete(name));
+    update.rows.forEach(row => state.leaderboard.set(row.player, {
+        player: row.player,
+        score: row.score,
+        timestamp: new Date(row.timestampMillis).toISOString(),
+    }));
+    const entries = Array.from(state.leaderboard.values()).sort(
+        (a, b) => b.score - a.score || a.player.localeCompare(b.player));
+    fillLeaderboard(entries);
+    gameElements.leaderboardStatus.text("");
+}
+
+/**
+ * Reconnect with the resume token from the last JoinReply, if there is one.
+ * Attempts back off exponentially with full jitter, so clients that dropped
+ * together do not all come back at once, until a deadline that stays within
+ * the server's grace period. The token is kept until the server accepts it
+ * with a JoinReply or rejects it with an ErrorReply.
+ */
+function resumeSession(state: AppState, username: string) {
+    const resumeToken = state.resumeToken;
+    if (resumeToken === null) {
+        return;
+    }
+    const now = Date.now();
+    if (state.resumeDeadline === null) {
+        state.resumeDeadline = now + RESUME_DEADLINE_MS;
+        state.resumeAttempts = 0;
+    }
+    const backoff = Math.min(
+        RESUME_MAX_DELAY_MS,
+        RESUME_BASE_DELAY_MS * 2 ** state.resumeAttempts
+    );
+    const delay = Math.random() * backoff;
+    if (now + delay > state.resumeDeadline) {
+        stopResuming(state);
+        addErrorNotification(state, "Could not resume the game");
+        return;
+    }
+    state.resumeAttempts++;
+    setTimeout(() => {
+        // the player joined a new game by hand in the meantime
+        if (state.server !== null || state.resumeToken !== resumeToken) {
+            return;
+        }
+        connectToServer(state, username, resumeToken);
+    }, delay);
+}
+
+function stopResuming(state: AppState) {
+    state.resumeToken = null;
+    state.resumeDeadline = null;
+}
+
 function addErrorNotification(state: AppState, error: string) {
     state.errors.unshift(error);  // enqueue at start
     redrawGame(state);
@@ -178,12 +363,21 @@ function addErrorNotification(state: AppState, error: string) {
     }, ERROR_DISPLAY_TIME);
 }
 
+function leaveGame(state: AppState) {
+    if (!state.isInGame) {
+        return;
+    }
+    // the server answers with a GameOverEvent
+    sendToServer(state, { leaveEvent: {} });
+}
+
 function disconnectFromServer(state: AppState) {
     const server = state.server;
     if (server === null) {
         throw new ReferenceError("tried to disconnect from null server");
     }
-    server.close();
+    stopResuming(state);  // leaving on purpose, don't resume
+    server.close(1000);  // a normal closure, so the server ends the game
 }
 
 function getWebsocketEndpoint() {
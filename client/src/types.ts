@@ -9,11 +9,22 @@ export type AppState = {
     server: WebSocket | null,
     connectedStatus: "CLOSED" | "CONNECTING" | "OPEN" | "ERROR";
     pressedControls: Set<PlayerControl>;
+    // incremented for every control change sent, echoed back in pings
+    inputSequence: number;
     lastPing: GamePing | null;
     errors: string[];
     context: Context2D;
     buttons: Button[];
     serverId: string | null;
+    // from the last JoinReply, used to take the player back after a drop
+    resumeToken: string | null;
+    // when to stop retrying a resume, null while not resuming
+    resumeDeadline: number | null;
+    resumeAttempts: number;
+    // false between a GameOverEvent and the next join on the same socket
+    isInGame: boolean;
+    // rows from LeaderboardUpdates by player, pushed while connected
+    leaderboard: Map<string, LeaderboardEntry>;
 
     // non-essential stats
     bytesIn: number;
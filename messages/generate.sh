@@ -9,6 +9,7 @@ TS_PLUGIN_PATH="../client/node_modules/.bin/protoc-gen-ts"
 TS_OUT_PATH="../client/src/generated"
 JAVA_OUT_PATH="../server/src/main/java"
 PROTO_FILE_PATH="./socketMessage.proto"
+SNAPSHOT_FILE_PATH="./gameSnapshot.proto"
 
 protoc \
     --plugin="protoc-gen-ts=$TS_PLUGIN_PATH" \
@@ -18,5 +19,8 @@ protoc \
     --ts_out=$TS_OUT_PATH \
     $PROTO_FILE_PATH
 
+# Snapshots are only read and written by the server
+protoc --java_out=$JAVA_OUT_PATH $SNAPSHOT_FILE_PATH
+
 # The JS files arent needed, but protoc needs to generate them for the TS file
 rm ../client/src/generated/*.js
@@ -0,0 +1,107 @@
+#!/bin/bash
+# Measures cold start as the time from launching the server to the first
+# accepted WebSocket handshake, and the memory the process holds (RSS) at
+# that point, over several runs, and prints the medians. Linux only.
+#
+# Usage, from the server folder:
+#   scripts/startup-time.sh [runs] [faststart|plain|native]
+#
+# faststart (the default) runs target/faststart from ./mvnw -Pfaststart
+# package, with its AppCDS archive and the faststart Spring profile.
+# plain runs the jar from ./mvnw package as is, for comparison.
+# native runs target/game from ./mvnw -Pnative native:compile.
+set -euo pipefail
+
+RUNS=${1:-5}
+MODE=${2:-faststart}
+PORT=${PORT:-8081}
+TIMEOUT_MS=60000
+JAR=game-0.0.1-SNAPSHOT.jar
+
+cd "$(dirname "$0")/.."
+case "$MODE" in
+    faststart)
+        WORKDIR=target/faststart
+        ARTIFACT=$JAR
+        COMMAND=(java -XX:SharedArchiveFile=game.jsa
+            -Dspring.profiles.active=faststart -jar "$JAR")
+        ;;
+    plain)
+        WORKDIR=target
+        ARTIFACT=$JAR
+        COMMAND=(java -jar "$JAR")
+        ;;
+    native)
+        WORKDIR=target
+        ARTIFACT=game
+        COMMAND=(./game)
+        ;;
+    *)
+        echo "Unknown mode: $MODE" >&2
+        exit 1
+        ;;
+esac
+if [ ! -f "$WORKDIR/$ARTIFACT" ]; then
+    echo "$WORKDIR/$ARTIFACT not found, build it first" >&2
+    exit 1
+fi
+
+now_ms() {
+    echo $(( $(date +%s%N) / 1000000 ))
+}
+
+# prints the status of a WebSocket upgrade and how long the response took,
+# in seconds. curl keeps an accepted upgrade open until it times out, so
+# only the time to the response counts.
+handshake() {
+    curl -s -o /dev/null -w '%{http_code} %{time_starttransfer}' \
+        --max-time 0.5 \
+        -H 'Connection: Upgrade' \
+        -H 'Upgrade: websocket' \
+        -H 'Sec-WebSocket-Version: 13' \
+        -H 'Sec-WebSocket-Key: dGhlIHNhbXBsZSBub25jZQ==' \
+        "http://localhost:$PORT/" || true
+}
+
+if [[ "$(handshake)" == 101* ]]; then
+    echo "Something is already listening on port $PORT" >&2
+    exit 1
+fi
+
+results=()
+memory=()
+for run in $(seq "$RUNS"); do
+    start=$(now_ms)
+    (cd "$WORKDIR" && exec "${COMMAND[@]}" \
+        --server.port="$PORT" > /dev/null 2>&1) &
+    pid=$!
+    while true; do
+        probe=$(now_ms)
+        read -r status seconds <<< "$(handshake)"
+        if [ "$status" = "101" ]; then
+            break
+        fi
+        if (( $(now_ms) - start > TIMEOUT_MS )) || ! kill -0 "$pid" 2> /dev/null
+        then
+            echo "Server did not accept a WebSocket in time" >&2
+            kill "$pid" 2> /dev/null || true
+            exit 1
+        fi
+        sleep 0.01
+    done
+    elapsed=$(awk -v probe=$((probe - start)) -v s="$seconds" \
+        'BEGIN { printf "%d", probe + s * 1000 }')
+    rss_mb=$(awk '/VmRSS/ { printf "%d", $2 / 1024 }' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "run $run: ${elapsed}ms, ${rss_mb}MB RSS"
+    results+=("$elapsed")
+    memory+=("$rss_mb")
+done
+
+median() {
+    printf '%s\n' "$@" | sort -n \
+        | awk '{ values[NR] = $1 } END { print values[int((NR + 1) / 2)] }'
+}
+echo "$MODE: median $(median "${results[@]}")ms to the first WebSocket," \
+    "$(median "${memory[@]}")MB RSS, over $RUNS runs"
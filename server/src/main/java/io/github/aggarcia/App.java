@@ -1,10 +1,26 @@
 package io.github.aggarcia;
 
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
 import org.springframework.dao.DataAccessException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,38 +28,198 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.lang.NonNull;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.socket.config.annotation.EnableWebSocket;
 import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
 import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
 
+import io.github.aggarcia.clients.AsyncSession;
 import io.github.aggarcia.clients.ClientHandler;
+import io.github.aggarcia.clients.SessionLatency;
+import io.github.aggarcia.clients.SessionLatencyEndpoint;
+import io.github.aggarcia.engine.GameConstants;
 import io.github.aggarcia.engine.GameLoop;
+import io.github.aggarcia.engine.RoomActor;
+import io.github.aggarcia.engine.RoomProfile;
+import io.github.aggarcia.history.HistoryStore;
+import io.github.aggarcia.leaderboard.CircuitBreaker;
+import io.github.aggarcia.leaderboard.LeaderboardEntry;
+import io.github.aggarcia.leaderboard.LeaderboardFeed;
 import io.github.aggarcia.leaderboard.LeaderboardService;
+import io.github.aggarcia.leaderboard.LeaderboardWindow;
+import io.github.aggarcia.leaderboard.LeaderboardWriter;
 import io.github.aggarcia.models.GameStore;
 import io.github.aggarcia.models.PlayerStore;
+import io.github.aggarcia.snapshot.SnapshotStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 
 @SpringBootApplication
 @CrossOrigin
 @RestController
 @EnableWebSocket
+@ImportRuntimeHints(NativeHints.class)
 public class App implements WebSocketConfigurer {
     private static final int IDLE_TIMEOUT_SECONDS = 15 * 60;  // 15 minutes
 
-    private final GameStore store = new GameStore();
+    /** How long finished games have to be saved when shutting down. */
+    private static final long SHUTDOWN_DRAIN_MS = 5_000;
+
+    /** Most leaderboard entries returned by one request. */
+    private static final int MAX_PAGE = 100;
+
+    private final GameStore store;
 
+    /**
+     * Proxy that creates the template, and with it the connection pool, on
+     * first use, so that booting never waits on the database.
+     */
+    @Lazy
     @Autowired
     private JdbcTemplate jdbcTemplate;
 
+    @Autowired
+    private Environment env;
+
+    /** File to save running games to, snapshots are disabled if blank. */
+    @Value("${game.snapshot.path:}")
+    private String snapshotPath;
+
+    @Value("${game.snapshot.intervalMs:1000}")
+    private int snapshotIntervalMs;
+
+    /**
+     * How long restored players have to reconnect before they are lost,
+     * the same grace as a dropped connection by default.
+     */
+    @Value("${game.snapshot.resumeGraceSeconds:"
+        + GameConstants.RESUME_GRACE_MS / 1000 + "}")
+    private int resumeGraceSeconds;
+
+    /** Scores kept in the leaderboard table, lower ones are pruned. */
+    @Value("${database.leaderboard.retained:"
+        + LeaderboardService.DEFAULT_RETAINED + "}")
+    private int leaderboardRetained;
+
+    /** Delay before the leaderboard tables are set up after boot. */
+    @Value("${database.leaderboard.setupDelayMs:0}")
+    private long leaderboardSetupDelayMs;
+
+    @Value("${database.leaderboard.pruneIntervalMs:600000}")
+    private long pruneIntervalMs;
+
+    /** How often daily and weekly scores are written to the database. */
+    @Value("${database.leaderboard.flushIntervalMs:5000}")
+    private long flushIntervalMs;
+
+    /** Threads saving finished games, each player always uses the same. */
+    @Value("${database.leaderboard.writers:2}")
+    private int leaderboardWriters;
+
+    @Value("${database.leaderboard.maxRetries:3}")
+    private int leaderboardMaxRetries;
+
+    /** Scores kept in memory while the database is unreachable. */
+    @Value("${database.leaderboard.bufferCapacity:10000}")
+    private int leaderboardBufferCapacity;
+
+    /** How long each player's best score is held before it is saved. */
+    @Value("${database.leaderboard.coalesceWindowMs:1000}")
+    private long leaderboardCoalesceWindowMs;
+
+    /** Folder for per-game history, history is disabled if blank. */
+    @Value("${game.history.path:}")
+    private String historyPath;
+
+    @Value("${game.history.flushIntervalMs:10000}")
+    private long historyFlushIntervalMs;
+
+    private LeaderboardWriter leaderboardWriter = null;
+
+    private HistoryStore history = null;
+
+    private SnapshotStore snapshots = null;
+
+    private ScheduledExecutorService snapshotScheduler = null;
+
+    /** Players restored from the last snapshot when booting. */
+    private int restoredPlayers = 0;
+
+    /**
+     * @param actorThreads threads shared by the room actors. With 0, the
+     *  room gets a thread of its own.
+     * @param interestRadius how far from its own player a client can see,
+     *  0 sends every client the whole game
+     * @param profile how the room scales, STANDARD or LARGE
+     * @param maxPendingMessages messages a client of a LARGE room can fall
+     *  behind by before it is closed
+     */
+    App(
+        @Value("${game.actor.threads:0}") int actorThreads,
+        @Value("${game.interest.radius:0}") int interestRadius,
+        @Value("${game.room.profile:STANDARD}") RoomProfile profile,
+        @Value("${game.session.maxPending:"
+            + AsyncSession.DEFAULT_MAX_PENDING + "}") int maxPendingMessages
+    ) {
+        this.store = GameStore.builder()
+            .actor(createActor(actorThreads))
+            .interestRadius(interestRadius)
+            .profile(profile)
+            .maxPendingMessages(maxPendingMessages)
+            .build();
+    }
+
     public static void main(String[] args) {
         SpringApplication.run(App.class, args);
     }
 
     @PostConstruct
     void init() {
-        // I hate java sometimes
-        new Thread(this::processLosers).start();
+        leaderboardWriter = new LeaderboardWriter(
+            this::saveScore,
+            new LeaderboardWriter.Settings(
+                leaderboardWriters,
+                leaderboardMaxRetries,
+                100,  // first retry after 100ms, then 200ms, 400ms...
+                5_000,
+                5,  // failures in a row that stop writes
+                10_000,  // for 10 seconds
+                leaderboardBufferCapacity,
+                leaderboardCoalesceWindowMs
+            )
+        );
+        if (!historyPath.isBlank()) {
+            startHistory(new HistoryStore(Path.of(historyPath)));
+        }
+        leaderboardWriter.start(store.unprocessedLosers(), this::finishGame);
+        startLeaderboardPrune();
+        if (!snapshotPath.isBlank()) {
+            startSnapshots(new SnapshotStore(store, Path.of(snapshotPath)));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        if (leaderboardWriter != null) {
+            int unsaved = leaderboardWriter.close(SHUTDOWN_DRAIN_MS);
+            if (unsaved > 0) {
+                System.err.println(
+                    "Shutting down with " + unsaved + " unsaved scores");
+            }
+        }
+        if (history != null) {
+            flushHistory();
+        }
+        if (snapshots == null) {
+            return;
+        }
+        snapshotScheduler.shutdownNow();
+        // the final snapshot is what the next process restores
+        saveSnapshot();
     }
 
     @Override
@@ -54,7 +230,7 @@ public class App implements WebSocketConfigurer {
 
     @Bean
     public LeaderboardService leaderboardService() {
-        return new LeaderboardService(jdbcTemplate);
+        return new LeaderboardService(jdbcTemplate, leaderboardRetained);
     }
 
     @Bean
@@ -62,7 +238,12 @@ public class App implements WebSocketConfigurer {
         return new ClientHandler(store);
     }
 
+    /**
+     * Never lazy, since nothing asks for the loop until a game starts, and
+     * it is what starts games and shuts down the idle server.
+     */
     @Bean
+    @Lazy(false)
     public GameLoop gameLoop() {
         var loop = new GameLoop(store);
         loop.onIdleTimeout(() -> {
@@ -78,29 +259,326 @@ public class App implements WebSocketConfigurer {
     }
 
     /**
-     * Should be run on a seperate thread. Consumes players from the loser
-     * queue and saves their stats.
+     * Per-session round trip times, disabled unless turned on in the
+     * management properties.
      */
-    void processLosers() {
-        while (true) {
+    @Bean
+    public SessionLatencyEndpoint sessionLatencyEndpoint() {
+        return new SessionLatencyEndpoint(store);
+    }
+
+    @Bean
+    public MeterBinder latencyMetrics() {
+        return registry -> {
+            Gauge.builder("game.sessions.rtt", () -> meanLatency(
+                    SessionLatency.Stats::rttMillis))
+                .description("Mean round trip time of open sessions")
+                .baseUnit("milliseconds")
+                .register(registry);
+            Gauge.builder("game.sessions.rtt.max", () -> maxLatency(
+                    SessionLatency.Stats::rttMillis))
+                .description("Highest round trip time of open sessions")
+                .baseUnit("milliseconds")
+                .register(registry);
+            Gauge.builder("game.sessions.jitter", () -> meanLatency(
+                    SessionLatency.Stats::jitterMillis))
+                .description("Mean round trip jitter of open sessions")
+                .baseUnit("milliseconds")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder inboundMetrics() {
+        return registry -> {
+            FunctionCounter.builder("game.events.dropped",
+                    store.droppedEvents(), LongAdder::sum)
+                .description("Client messages over the rate limit")
+                .register(registry);
+            FunctionCounter.builder("game.events.coalesced",
+                    store.coalescedEvents(), LongAdder::sum)
+                .description("Control changes replaced by a newer one")
+                .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder leaderboardWriterMetrics() {
+        return registry -> {
+            Gauge.builder("game.leaderboard.pending", () ->
+                    store.unprocessedLosers().size()
+                    + (leaderboardWriter == null
+                        ? 0
+                        : leaderboardWriter.pending()))
+                .description("Finished games waiting to be saved")
+                .register(registry);
+            Gauge.builder("game.leaderboard.breaker.open", () ->
+                    leaderboardWriter != null
+                    && leaderboardWriter.breakerState()
+                        != CircuitBreaker.State.CLOSED ? 1 : 0)
+                .description("1 while writes to the database are stopped")
+                .register(registry);
+            FunctionCounter.builder("game.leaderboard.written", this,
+                    app -> app.writerCount(LeaderboardWriter::written))
+                .description("Scores saved to the leaderboard")
+                .register(registry);
+            FunctionCounter.builder("game.leaderboard.failures", this,
+                    app -> app.writerCount(LeaderboardWriter::failures))
+                .description("Failed attempts to save a score")
+                .register(registry);
+            FunctionCounter.builder("game.leaderboard.dropped", this,
+                    app -> app.writerCount(LeaderboardWriter::dropped))
+                .description("Scores lost because the buffer was full")
+                .register(registry);
+            FunctionCounter.builder("game.leaderboard.coalesced", this,
+                    app -> app.writerCount(LeaderboardWriter::coalesced))
+                .description("Scores skipped for a better one of the player")
+                .register(registry);
+        };
+    }
+
+    private double writerCount(ToLongFunction<LeaderboardWriter> count) {
+        return leaderboardWriter == null
+            ? 0
+            : count.applyAsLong(leaderboardWriter);
+    }
+
+    /**
+     * Start the loop for a game restored from a snapshot, once the context
+     * is up, since the loop is a bean of this same object. The loop expires
+     * players that are not resumed in time.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    void startRestoredGame() {
+        if (restoredPlayers > 0) {
+            gameLoop().start();
+        }
+    }
+
+    /**
+     * Restore the last snapshot, then keep saving new ones on a background
+     * thread, away from the room actor.
+     */
+    private void startSnapshots(SnapshotStore snapshots) {
+        this.snapshots = snapshots;
+        this.snapshotScheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                var thread = new Thread(runnable, "game-snapshots");
+                thread.setDaemon(true);
+                return thread;
+            });
+        try {
+            restoredPlayers = snapshots.restore(resumeGraceSeconds * 1000L);
+            System.out.println("Restored " + restoredPlayers
+                + " players from " + snapshots.path());
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Could not restore snapshot: " + e);
+        }
+        snapshotScheduler.scheduleWithFixedDelay(
+            this::saveSnapshot,
+            snapshotIntervalMs,
+            snapshotIntervalMs,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Keep the leaderboard table at the best scores, and save the daily
+     * and weekly boards, on a background thread. The tables and indexes
+     * are created first, after the setup delay. Nothing is scheduled when
+     * the server runs without a database.
+     */
+    private void startLeaderboardPrune() {
+        if (!LeaderboardService.hasCredentials(env)) {
+            System.out.println(
+                "No database credentials, the leaderboard is not saved");
+            return;
+        }
+        var scheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                var thread = new Thread(runnable, "leaderboard");
+                thread.setDaemon(true);
+                return thread;
+            });
+        scheduler.schedule(() -> {
             try {
-                PlayerStore nextLoser = store.unprocessedLosers().take();
-                var entry = nextLoser.createLeaderboardEntry();
-                leaderboardService().update(entry);
+                leaderboardService().createIndexes();
+                publishLeaderboard();
             } catch (DataAccessException e) {
-                System.err.println(e);
-            } catch (InterruptedException e) {
-                System.err.println("Loser worker thread interrupted");
-                break;
+                System.err.println("Could not create indexes: " + e);
             }
+        }, leaderboardSetupDelayMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(
+            this::pruneLeaderboard,
+            pruneIntervalMs,
+            pruneIntervalMs,
+            TimeUnit.MILLISECONDS
+        );
+        scheduler.scheduleWithFixedDelay(
+            this::flushLeaderboardWindows,
+            flushIntervalMs,
+            flushIntervalMs,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void flushLeaderboardWindows() {
+        try {
+            leaderboardService().flushWindows();
+        } catch (DataAccessException e) {
+            // the scores are kept, the next flush writes them
+            System.err.println("Could not save leaderboard windows: " + e);
+        }
+    }
+
+    private void pruneLeaderboard() {
+        try {
+            int deleted = leaderboardService().prune();
+            System.out.println(
+                "Pruned " + deleted + " leaderboard entries");
+            // picks up scores saved by other servers
+            publishLeaderboard();
+        } catch (DataAccessException e) {
+            // keep the schedule alive, the next attempt may succeed
+            System.err.println("Could not prune leaderboard: " + e);
+        }
+    }
+
+    /**
+     * Push the top of the leaderboard to subscribed clients, if it changed
+     * since the last push. Synchronized so that diffs are posted in the
+     * order they were computed.
+     */
+    private synchronized void publishLeaderboard()
+    throws DataAccessException {
+        var top = leaderboardService().getPage(
+            0, LeaderboardFeed.SIZE, LeaderboardWindow.ALL_TIME);
+        store.leaderboardFeed().diff(top)
+            .ifPresent(clientHandler()::pushLeaderboard);
+    }
+
+    private void saveSnapshot() {
+        try {
+            snapshots.save();
+        } catch (IOException | RuntimeException e) {
+            // keep the schedule alive, the next attempt may succeed
+            System.err.println("Could not save snapshot: " + e);
+        }
+    }
+
+    /**
+     * Append finished games to the history on a background thread. The
+     * games themselves are buffered by the dispatcher, so it never waits
+     * on the disk.
+     */
+    private void startHistory(HistoryStore history) {
+        this.history = history;
+        var scheduler = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                var thread = new Thread(runnable, "game-history");
+                thread.setDaemon(true);
+                return thread;
+            });
+        scheduler.scheduleWithFixedDelay(
+            this::flushHistory,
+            historyFlushIntervalMs,
+            historyFlushIntervalMs,
+            TimeUnit.MILLISECONDS
+        );
+    }
+
+    private void flushHistory() {
+        try {
+            history.flush();
+        } catch (IOException e) {
+            // the games are kept, the next flush writes them
+            System.err.println("Could not save game history: " + e);
+        }
+    }
+
+    /**
+     * Runs on the leaderboard dispatcher for every player that lost.
+     * @return score to save to the leaderboard
+     */
+    private LeaderboardEntry finishGame(PlayerStore player) {
+        if (history != null) {
+            history.append(
+                player.createGameRecord(System.currentTimeMillis()));
         }
+        var entry = player.createLeaderboardEntry();
+        // every game counts in memory, coalescing only saves writes
+        leaderboardService().recordGame(entry);
+        return entry;
     }
 
+    /**
+     * Runs on a leaderboard writer, which retries if this throws.
+     */
+    private void saveScore(LeaderboardEntry entry) {
+        if (leaderboardService().update(entry)) {
+            publishLeaderboard();
+        }
+    }
+
+    /**
+     * Without parameters, the top 10 read from the database. With an
+     * offset, a limit or a window, a page served from memory.
+     */
     @GetMapping("/api/leaderboard")
-    ResponseEntity<?> getLeaderboard() {
+    ResponseEntity<?> getLeaderboard(
+        @RequestParam(required = false) Integer offset,
+        @RequestParam(required = false) Integer limit,
+        @RequestParam(required = false) String window
+    ) {
+        try {
+            if (offset == null && limit == null && window == null) {
+                var top10 = leaderboardService().getTop10();
+                return new ResponseEntity<>(top10, HttpStatus.OK);
+            }
+            var period = LeaderboardWindow.fromParam(
+                window == null ? "all" : window);
+            if (period.isEmpty()) {
+                return new ResponseEntity<>(
+                    "window must be daily, weekly or all",
+                    HttpStatus.BAD_REQUEST);
+            }
+            int pageOffset = offset == null ? 0 : offset;
+            int pageLimit = limit == null ? 10 : limit;
+            if (pageOffset < 0 || pageLimit < 1 || pageLimit > MAX_PAGE) {
+                return new ResponseEntity<>(
+                    "offset must be at least 0, limit between 1 and "
+                        + MAX_PAGE,
+                    HttpStatus.BAD_REQUEST);
+            }
+            var page = leaderboardService()
+                .getPage(pageOffset, pageLimit, period.get());
+            return new ResponseEntity<>(page, HttpStatus.OK);
+        } catch (DataAccessException e) {
+            System.err.println(e);
+            return new ResponseEntity<>(
+                e.toString(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    @GetMapping("/api/leaderboard/rank")
+    ResponseEntity<?> getLeaderboardRank(
+        @RequestParam String player,
+        @RequestParam(defaultValue = "all") String window
+    ) {
+        var period = LeaderboardWindow.fromParam(window);
+        if (period.isEmpty()) {
+            return new ResponseEntity<>(
+                "window must be daily, weekly or all",
+                HttpStatus.BAD_REQUEST);
+        }
         try {
-            var top10 = leaderboardService().getTop10();
-            return new ResponseEntity<>(top10, HttpStatus.OK);
+            var rank = leaderboardService().getRank(player, period.get());
+            if (rank.isEmpty()) {
+                return new ResponseEntity<>(
+                    "Not on the leaderboard: " + player,
+                    HttpStatus.NOT_FOUND);
+            }
+            return new ResponseEntity<>(rank.get(), HttpStatus.OK);
         } catch (DataAccessException e) {
             System.err.println(e);
             return new ResponseEntity<>(
@@ -108,6 +586,66 @@ public class App implements WebSocketConfigurer {
         }
     }
 
+    /**
+     * Average seconds survived by the highest level reached, from the
+     * games flushed to the history so far.
+     */
+    @GetMapping("/api/history/survival")
+    ResponseEntity<?> getSurvivalByLevel() {
+        if (history == null) {
+            return new ResponseEntity<>(
+                "Game history is disabled", HttpStatus.NOT_FOUND);
+        }
+        try {
+            return new ResponseEntity<>(
+                history.averageSurvivalByLevel(), HttpStatus.OK);
+        } catch (IOException e) {
+            System.err.println(e);
+            return new ResponseEntity<>(
+                e.toString(), HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private double
+    meanLatency(ToDoubleFunction<SessionLatency.Stats> metric) {
+        return store.latencies()
+            .values()
+            .stream()
+            .map(SessionLatency::stats)
+            .filter(stats -> stats.samples() > 0)
+            .mapToDouble(metric)
+            .average()
+            .orElse(0);
+    }
+
+    private double
+    maxLatency(ToDoubleFunction<SessionLatency.Stats> metric) {
+        return store.latencies()
+            .values()
+            .stream()
+            .map(SessionLatency::stats)
+            .filter(stats -> stats.samples() > 0)
+            .mapToDouble(metric)
+            .max()
+            .orElse(0);
+    }
+
+    /**
+     * @param threads threads shared by the room actors, 0 for a thread of
+     *  the room's own, so room messages never run on WebSocket threads
+     */
+    private static RoomActor createActor(int threads) {
+        ThreadFactory factory = runnable -> {
+            var thread = new Thread(runnable, "room-actor");
+            thread.setDaemon(true);
+            return thread;
+        };
+        var executor = threads <= 0
+            ? Executors.newSingleThreadExecutor(factory)
+            : Executors.newFixedThreadPool(threads, factory);
+        return new RoomActor(executor);
+    }
+
     @GetMapping("/api/health")
     String getRoot() {
         return "Keep Jumping server is alive";
@@ -0,0 +1,75 @@
+package io.github.aggarcia;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.lang.NonNull;
+
+import io.github.aggarcia.clients.SessionLatency;
+import io.github.aggarcia.leaderboard.LeaderboardEntry;
+import io.github.aggarcia.leaderboard.LeaderboardRank;
+import io.github.aggarcia.messages.Generated;
+import io.github.aggarcia.messages.Snapshots;
+
+/**
+ * What a native image needs that Spring AOT cannot find on its own. Only
+ * used by the native build, the JVM ignores it.
+ *
+ * Lombok models need nothing here, their accessors and builders are plain
+ * compiled code.
+ */
+class NativeHints implements RuntimeHintsRegistrar {
+    /** Loaded by name by the connection pool, if on the classpath. */
+    static final String[] JDBC_DRIVERS = {
+        "org.postgresql.Driver",
+        "org.h2.Driver",
+    };
+
+    @Override
+    public void
+    registerHints(@NonNull RuntimeHints hints, ClassLoader loader) {
+        // protobuf builds field accessors of generated messages through
+        // reflection, e.g. for toString and the descriptor based APIs
+        registerMessages(hints, Generated.class);
+        registerMessages(hints, Snapshots.class);
+
+        // REST responses declared as ResponseEntity<?>, so AOT cannot see
+        // which types Jackson serializes
+        new BindingReflectionHintsRegistrar().registerReflectionHints(
+            hints.reflection(),
+            LeaderboardEntry.class,
+            LeaderboardRank.class,
+            // values of the map returned by the session latency endpoint
+            SessionLatency.Stats.class
+        );
+
+        for (var driver : JDBC_DRIVERS) {
+            hints.reflection().registerTypeIfPresent(loader, driver,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+    }
+
+    /**
+     * @param outer outer class generated by protoc, with every message and
+     *  enum nested in it
+     */
+    private static void registerMessages(RuntimeHints hints, Class<?> outer) {
+        hints.reflection().registerType(outer,
+            MemberCategory.INVOKE_PUBLIC_METHODS);
+        for (var nested : outer.getDeclaredClasses()) {
+            registerNested(hints, nested);
+        }
+    }
+
+    private static void registerNested(RuntimeHints hints, Class<?> type) {
+        hints.reflection().registerType(type,
+            MemberCategory.INVOKE_PUBLIC_METHODS,
+            MemberCategory.INVOKE_DECLARED_METHODS,
+            MemberCategory.DECLARED_FIELDS);
+        // Builder and any nested messages
+        for (var nested : type.getDeclaredClasses()) {
+            registerNested(hints, nested);
+        }
+    }
+}
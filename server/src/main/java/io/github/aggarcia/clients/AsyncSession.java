@@ -0,0 +1,130 @@
+package io.github.aggarcia.clients;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.lang.NonNull;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import io.github.aggarcia.engine.RoomActor;
+
+/**
+ * Session whose messages are queued and written by a shared pool, so that
+ * sending never blocks the room actor. Messages to one session are still
+ * written one at a time, in the order they were sent.
+ *
+ * A client that falls too far behind is closed instead of buffering
+ * without limit, and the messages still queued for it are dropped. It can
+ * take its player back with its resume token.
+ */
+public final class AsyncSession extends WebSocketSessionDecorator {
+    private static final Executor DEFAULT_POOL = createDefaultPool();
+
+    /**
+     * Three seconds of game pings, so a client on a slow link has time to
+     * catch up before it is closed.
+     */
+    public static final int DEFAULT_MAX_PENDING = 150;
+
+    /** Writes to this session, in order. */
+    private final RoomActor outbox;
+
+    private final int maxPending;
+
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private final AtomicBoolean isClosing = new AtomicBoolean(false);
+
+    /**
+     * @param session session to write to
+     * @param maxPending messages that can wait to be written before the
+     *  session is closed
+     */
+    public AsyncSession(WebSocketSession session, int maxPending) {
+        this(session, DEFAULT_POOL, maxPending);
+    }
+
+    /**
+     * @param session session to write to
+     * @param pool writes the messages, may be shared with other sessions
+     * @param maxPending messages that can wait to be written before the
+     *  session is closed
+     */
+    public AsyncSession(
+        WebSocketSession session,
+        Executor pool,
+        int maxPending
+    ) {
+        super(session);
+        this.outbox = new RoomActor(pool);
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Queue a message and return right away. Ignored once the session is
+     * closing.
+     */
+    @Override
+    public void sendMessage(@NonNull WebSocketMessage<?> message) {
+        if (isClosing.get()) {
+            return;
+        }
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            closeSlowClient();
+            return;
+        }
+        outbox.execute(() -> {
+            try {
+                if (!isClosing.get()) {
+                    getDelegate().sendMessage(message);
+                }
+            } catch (IOException | IllegalStateException e) {
+                System.err.println(e);
+            } finally {
+                pending.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * @return messages waiting to be written
+     */
+    public int pending() {
+        return pending.get();
+    }
+
+    /**
+     * Closing writes to the socket too, so it goes through the outbox and
+     * never overlaps a message being written. The messages queued ahead of
+     * it see the session closing and are dropped, so it only waits for the
+     * write in progress.
+     */
+    private void closeSlowClient() {
+        if (!isClosing.compareAndSet(false, true)) {
+            return;
+        }
+        outbox.execute(() -> {
+            try {
+                getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (IOException | IllegalStateException e) {
+                System.err.println(e);
+            }
+        });
+    }
+
+    private static Executor createDefaultPool() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            var thread = new Thread(runnable, "session-send");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -8,10 +8,17 @@ import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.AbstractWebSocketHandler;
 
 import io.github.aggarcia.clients.updates.GameUpdate;
+import io.github.aggarcia.messages.Generated.ControlChangeEvent;
+import io.github.aggarcia.messages.Generated.LeaderboardUpdate;
+import io.github.aggarcia.messages.Generated.SocketMessage;
+import io.github.aggarcia.models.DetachedPlayer;
 import io.github.aggarcia.models.GameStore;
 
+import static io.github.aggarcia.clients.EventProcessor.processControlChange;
 import static io.github.aggarcia.clients.EventProcessor.processEvent;
+import static io.github.aggarcia.engine.GameConstants.RESUME_GRACE_MS;
 import static io.github.aggarcia.messages.Serializer.deserialize;
+import static io.github.aggarcia.messages.Serializer.serialize;
 
 import java.io.IOException;
 
@@ -19,6 +26,9 @@ import java.io.IOException;
  * State management for client sessions. Externally, state is read only.
  * None of the methods should throw exepctions, since that would cause the
  * server to crash.
+ *
+ * Every change to the game store is posted to the room actor, so the
+ * handler never touches game state from the WebSocket threads directly.
  */
 public class ClientHandler extends AbstractWebSocketHandler {
     private final GameStore gameStore;
@@ -33,7 +43,10 @@ public class ClientHandler extends AbstractWebSocketHandler {
      */
     @Override
     public void afterConnectionEstablished(@NonNull WebSocketSession session) {
-        gameStore.sessions().add(session);
+        var registered = gameStore.profile().isAsyncSend()
+            ? new AsyncSession(session, gameStore.maxPendingMessages())
+            : session;
+        gameStore.actor().execute(() -> gameStore.sessions().add(registered));
         // Entire string needs to be printed at once since the console is
         // shared with other threads
         var consoleMessage = new StringBuilder()
@@ -45,25 +58,46 @@ public class ClientHandler extends AbstractWebSocketHandler {
     }
 
     /**
-     * Remove the client session from memory when the client disconnects,
-     * remove the instance of the player.
+     * Remove the client session from memory when the client disconnects.
+     * If the connection dropped, the player is detached rather than
+     * removed, so that a new session can take it over with its resume
+     * token for a few seconds. A client that closed normally left on
+     * purpose, and its game ends right away.
      */
     @Override
     public void afterConnectionClosed(
         @NonNull WebSocketSession session, @NonNull CloseStatus status
     ) {
+        gameStore.inboundLimiters().remove(session.getId());
+        boolean canResume = !status.equalsCode(CloseStatus.NORMAL);
+        gameStore.actor().execute(() -> removeSession(session, canResume));
+    }
+
+    /**
+     * Message for the room actor, removes every trace of the session.
+     * @param canResume true to detach the player, false to send it to the
+     *  losers
+     */
+    private void removeSession(WebSocketSession session, boolean canResume) {
         var players = gameStore.players();
 
         String sessionId = session.getId();
-        var player = players.get(sessionId);
+        var player = players.remove(sessionId);
         if (player == null) {
             System.err.println(
                 "No player was saved for session " + sessionId);
+        } else if (canResume) {
+            long expiresAtMillis = System.currentTimeMillis() + RESUME_GRACE_MS;
+            gameStore.detachedPlayers().put(
+                player.resumeToken(),
+                new DetachedPlayer(player, expiresAtMillis)
+            );
         } else {
-            players.remove(sessionId);
             gameStore.unprocessedLosers().add(player);
         }
-        gameStore.sessions().remove(session);
+        gameStore.sessions().remove(registered(session));
+        gameStore.latencies().remove(sessionId);
+        gameStore.leaderboardSubscribers().remove(sessionId);
 
         // Entire string needs to be printed at once since the console is
         // shared with other threads
@@ -78,11 +112,16 @@ public class ClientHandler extends AbstractWebSocketHandler {
 
     /**
      * Handle sample ping message, sepereate from the rest of the app.
+     * Messages over the session's rate limit are dropped. Control changes
+     * are exempt, they already share one slot per session, and dropping
+     * the newest one would leave the player holding a released key.
      */
     @Override
     public void handleBinaryMessage(
         @NonNull WebSocketSession client, @NonNull BinaryMessage data
     ) {
+        var limiter = gameStore.inboundLimiters()
+            .computeIfAbsent(client.getId(), id -> new InboundLimiter());
         var payload = data.getPayload().array();
         var message = deserialize(payload);
         if (message.isEmpty()) {
@@ -90,20 +129,93 @@ public class ClientHandler extends AbstractWebSocketHandler {
             return;
         }
         var event = message.get();
-        GameUpdate update = processEvent(client.getId(), event, gameStore);
+        if (event.hasControlChangeEvent()) {
+            postControls(client, limiter, event.getControlChangeEvent());
+            return;
+        }
+        if (!limiter.tryAcquire(SessionLatency.now())) {
+            gameStore.droppedEvents().increment();
+            return;
+        }
+        gameStore.actor().execute(() -> applyUpdate(
+            client, processEvent(client.getId(), event, gameStore)));
+    }
 
+    /**
+     * Only the newest control change matters, so one that has not been
+     * applied yet is replaced instead of queued behind.
+     */
+    private void postControls(
+        WebSocketSession client,
+        InboundLimiter limiter,
+        ControlChangeEvent controls
+    ) {
+        if (!limiter.offerControls(controls)) {
+            gameStore.coalescedEvents().increment();
+            return;
+        }
+        gameStore.actor().execute(() -> applyUpdate(
+            client,
+            processControlChange(
+                client.getId(), limiter.takeControls(), gameStore)
+        ));
+    }
+
+    /**
+     * Message for the room actor, applies an update and sends its reply.
+     */
+    private void applyUpdate(WebSocketSession client, GameUpdate update) {
         update.applyTo(gameStore);
-        if (!update.reply().isPresent()) {
+        // encodes the reply, so only ask once
+        var replyData = update.reply();
+        if (replyData.isEmpty()) {
             return;
         }
-        synchronized (client) {
-            var reply = new BinaryMessage(update.reply().get());
-            try {
-                client.sendMessage(reply);
-            } catch (IOException e) {
-                System.err.println(e);
+        // only the actor sends messages, so sends never overlap
+        var reply = new BinaryMessage(replyData.get());
+        try {
+            registered(client).sendMessage(reply);
+        } catch (IOException | IllegalStateException e) {
+            System.err.println(e);
+        }
+    }
+
+    /**
+     * Send the changes to the top of the leaderboard to every client that
+     * subscribed to them.
+     * @param update rows that changed
+     */
+    public void pushLeaderboard(LeaderboardUpdate update) {
+        var message = new BinaryMessage(serialize(
+            SocketMessage.newBuilder().setLeaderboardUpdate(update).build()));
+        gameStore.actor().execute(() -> {
+            var subscribers = gameStore.leaderboardSubscribers();
+            for (var session : gameStore.sessions().snapshot()) {
+                if (!subscribers.contains(session.getId())) {
+                    continue;
+                }
+                try {
+                    session.sendMessage(message);
+                } catch (IOException | IllegalStateException e) {
+                    System.err.println(e);
+                }
             }
+        });
+    }
+
+    /**
+     * Large rooms register a wrapper around each session, and every message
+     * has to go through it so they are written in order.
+     * @param session session passed in by the WebSocket container
+     * @return session held by the registry, or the same session if the
+     *  room does not wrap them
+     */
+    private WebSocketSession registered(WebSocketSession session) {
+        if (!gameStore.profile().isAsyncSend()) {
+            return session;
         }
+        var registered = gameStore.sessions().find(session.getId());
+        return registered == null ? session : registered;
     }
 
      /**
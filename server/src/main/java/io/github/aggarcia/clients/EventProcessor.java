@@ -2,22 +2,24 @@ package io.github.aggarcia.clients;
 
 import static io.github.aggarcia.models.PlayerStore.SPAWN_HEIGHT;
 
-import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.List;
-
 import io.github.aggarcia.clients.updates.CreateFirstPlayer;
 import io.github.aggarcia.clients.updates.CreatePlayer;
 import io.github.aggarcia.clients.updates.ErrorUpdate;
 import io.github.aggarcia.clients.updates.GameUpdate;
+import io.github.aggarcia.clients.updates.RecordRoundTrip;
+import io.github.aggarcia.clients.updates.RemovePlayer;
+import io.github.aggarcia.clients.updates.ResumePlayer;
+import io.github.aggarcia.clients.updates.SubscribeLeaderboard;
 import io.github.aggarcia.clients.updates.UpdateVelocity;
 import io.github.aggarcia.engine.GameConstants;
 import io.github.aggarcia.messages.Generated.ControlChangeEvent;
 import io.github.aggarcia.messages.Generated.JoinEvent;
 import io.github.aggarcia.messages.Generated.PlayerControl;
+import io.github.aggarcia.messages.Generated.Pong;
 import io.github.aggarcia.messages.Generated.SocketMessage;
 import io.github.aggarcia.models.GamePlatform;
 import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlatformList;
 import io.github.aggarcia.models.PlayerStore;
 
 /**
@@ -27,10 +29,17 @@ import io.github.aggarcia.models.PlayerStore;
 public final class EventProcessor {
     private static final int PLAYER_MOVE_SPEED = 20;
     protected static final int PLAYER_JUMP_SPEED = 40;
-    protected static final int MAX_PLAYER_COUNT = 15;
     protected static final int MAX_NAME_LENGTH = 25;
     protected static final int INIT_PLATFORM_SPACING = 175;
 
+    // errors that never change are encoded once, at startup
+    private static final ErrorUpdate BLANK_NAME =
+        ErrorUpdate.fromText("Username cannot be blank");
+    private static final ErrorUpdate NAME_TOO_LONG =
+        ErrorUpdate.fromText("Username is too long");
+    private static final ErrorUpdate RESUME_EXPIRED =
+        ErrorUpdate.fromText("Game can no longer be resumed");
+
     private EventProcessor() {}
 
     /**
@@ -57,6 +66,13 @@ public final class EventProcessor {
                 processJoin(
                     client, event.getJoinEvent(), store
                 );
+            case PONG ->
+                processPong(client, event.getPong());
+            case LEAVEEVENT ->
+                processLeave(client, store);
+            case LEADERBOARDSUBSCRIBE ->
+                new SubscribeLeaderboard(
+                    client, store.leaderboardFeed().full());
             default ->
                 ErrorUpdate.fromText(
                     "Unsupported event type: " + event.getPayloadCase()
@@ -86,15 +102,12 @@ public final class EventProcessor {
                 .fromText("No player exists for client " + client);
         }
         PlayerStore player = sessions.get(client);
-        int oldYVelocity;
-        // read y velocity once before other threads can change it
-        synchronized (player) {
-            oldYVelocity = player.yVelocity();
-        }
+        int oldYVelocity = player.yVelocity();
 
         int newXVelocity = 0;
         int newYVelocity = oldYVelocity;
-        var pressedControls = new HashSet<>(event.getPressedControlsList());
+        // at most three controls, a list scan is cheaper than a set
+        var pressedControls = event.getPressedControlsList();
 
         // Prioritizes right over left - arbitrary decision
         if (pressedControls.contains(PlayerControl.RIGHT)) {
@@ -114,7 +127,20 @@ public final class EventProcessor {
         } else if (!isPressingUp && oldYVelocity < 0) {
             newYVelocity = 0;
         }
-        return new UpdateVelocity(client, newXVelocity, newYVelocity);
+        return new UpdateVelocity(
+            client, newXVelocity, newYVelocity, event.getSequence());
+    }
+
+    /**
+     * Measures the round trip time of a latency Ping. Impure, since it
+     * depends on the current time.
+     * @param client id for client
+     * @param event pong with the timestamp of the original ping
+     * @return update recording the round trip time for the client
+     */
+    public static GameUpdate processPong(String client, Pong event) {
+        long rttNanos = SessionLatency.now() - event.getServerTimeNanos();
+        return new RecordRoundTrip(client, rttNanos);
     }
 
     /**
@@ -128,27 +154,30 @@ public final class EventProcessor {
      */
     public static GameUpdate
     processJoin(String client, JoinEvent event, GameStore store) {
+        if (!event.getResumeToken().isEmpty()) {
+            return processResume(client, event.getResumeToken(), store);
+        }
         String name = event.getName();
         if (name.isEmpty()) {
-            return ErrorUpdate.fromText("Username cannot be blank");
+            return BLANK_NAME;
         }
         if (name.length() > MAX_NAME_LENGTH) {
-            return ErrorUpdate.fromText("Username is too long");
+            return NAME_TOO_LONG;
         }
 
         var players = store.players();
-        if (players.size() >= MAX_PLAYER_COUNT) {
+        // detached players keep their place until they expire
+        int playerCount = players.size() + store.detachedPlayers().size();
+        if (playerCount >= store.profile().maxPlayers()) {
             return ErrorUpdate
-                .fromText("Player limit reached: " + players.size());
+                .fromText("Player limit reached: " + playerCount);
         }
         if (players.containsKey(client)) {
             return ErrorUpdate
                 .fromText("Client is already playing: " + client);
         }
-        boolean isUsernameTaken = players
-            .values()
-            .stream()
-            .anyMatch(player -> player.name().equalsIgnoreCase(name));
+        boolean isUsernameTaken = players.containsName(name)
+            || store.detachedPlayers().containsName(name);
         if (isUsernameTaken) {
             return ErrorUpdate
                 .fromText("Username already in use: " + name);
@@ -168,6 +197,44 @@ public final class EventProcessor {
         return new CreatePlayer(client, newPlayer, "" + store.instanceId());
     }
 
+    /**
+     * Take the player of a client out of the game, without closing the
+     * connection.
+     * @param client id for client
+     * @param store current game state
+     * @return update removing the player, or an error if the client is not
+     *  playing
+     */
+    public static GameUpdate processLeave(String client, GameStore store) {
+        if (!store.players().containsKey(client)) {
+            return ErrorUpdate
+                .fromText("No player exists for client " + client);
+        }
+        return new RemovePlayer(client);
+    }
+
+    /**
+     * Give a detached player to a new client, usually the same person
+     * reconnecting after their connection dropped.
+     * @param client id for the new client
+     * @param resumeToken token from the JoinReply sent to the old client
+     * @param store current game state
+     * @return update moving the player to the new client, or an error if
+     *  the token does not belong to a detached player
+     */
+    public static GameUpdate
+    processResume(String client, String resumeToken, GameStore store) {
+        if (store.players().containsKey(client)) {
+            return ErrorUpdate
+                .fromText("Client is already playing: " + client);
+        }
+        if (!store.detachedPlayers().containsKey(resumeToken)) {
+            return RESUME_EXPIRED;
+        }
+        return new ResumePlayer(
+            client, resumeToken, "" + store.instanceId());
+    }
+
     /**
      * Choose the platform that is closest to the top of the screen, but
      * leaving some room above to spawn a player.
@@ -175,24 +242,14 @@ public final class EventProcessor {
      * @return platform with y closest to but not smaller than SPAWN_HEIGHT
      */
     private static GamePlatform choosePlatformForPlayer(
-        List<GamePlatform> platforms
+        PlatformList platforms
     ) {
         if (platforms.isEmpty()) {
             throw new IllegalArgumentException("No platforms to choose from");
         }
-        // minimize by y with lower bound of SPAWN_HEIGHT
-        return platforms
-            .stream()
-            .reduce((old, curr) -> {
-                if (old.y() <= curr.y()) {
-                    return old;
-                }
-                if (curr.y() < SPAWN_HEIGHT) {
-                    return old;
-                }
-                return curr;
-            })
-            .get();
+        var platform = platforms.nearestBelow(SPAWN_HEIGHT);
+        // every platform is too high, the lowest one leaves the most room
+        return platform == null ? platforms.bottommost() : platform;
     }
 
     /**
@@ -200,8 +257,8 @@ public final class EventProcessor {
      * intervals for the first player. Inherently impure.
      * @return new platforms
      */
-    private static List<GamePlatform> spawnInitPlatforms() {
-        List<GamePlatform> platforms = new ArrayList<>();
+    private static PlatformList spawnInitPlatforms() {
+        var platforms = new PlatformList();
 
         int platformHeight = 0;
         while (platformHeight < GameConstants.HEIGHT) {
@@ -0,0 +1,86 @@
+package io.github.aggarcia.clients;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.aggarcia.messages.Generated.ControlChangeEvent;
+
+/**
+ * Bounds the work one session can give the server. Every message takes a
+ * token from a bucket, and messages that find the bucket empty are
+ * dropped. Control changes only matter until the next one arrives, so
+ * they skip the bucket instead: at most one waits for the room actor per
+ * session, and a newer one replaces it.
+ *
+ * A client only sends a control change when a key goes up or down, so a
+ * person playing never comes close to the limit.
+ */
+public final class InboundLimiter {
+    /** Messages a client can send at once after being quiet. */
+    public static final int DEFAULT_BURST = 20;
+
+    /** Messages per second a client can keep sending. */
+    public static final int DEFAULT_RATE = 30;
+
+    private static final double NANOS_PER_SECOND = 1e9;
+
+    private final double burst;
+    private final double tokensPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    /** Newest control change the room actor has not applied yet. */
+    private final AtomicReference<ControlChangeEvent> pendingControls =
+        new AtomicReference<>();
+
+    public InboundLimiter() {
+        this(DEFAULT_BURST, DEFAULT_RATE, SessionLatency.now());
+    }
+
+    /**
+     * @param burst size of the bucket, it starts full
+     * @param ratePerSecond tokens added back per second
+     * @param nowNanos current time
+     */
+    public InboundLimiter(int burst, int ratePerSecond, long nowNanos) {
+        this.burst = burst;
+        this.tokensPerNano = ratePerSecond / NANOS_PER_SECOND;
+        this.tokens = burst;
+        this.lastRefillNanos = nowNanos;
+    }
+
+    /**
+     * Take a token for an incoming message.
+     * @param nowNanos current time
+     * @return true if the message may be processed, false if it should be
+     *  dropped
+     */
+    public synchronized boolean tryAcquire(long nowNanos) {
+        long elapsed = Math.max(0, nowNanos - lastRefillNanos);
+        tokens = Math.min(burst, tokens + elapsed * tokensPerNano);
+        lastRefillNanos = nowNanos;
+        if (tokens < 1) {
+            return false;
+        }
+        tokens--;
+        return true;
+    }
+
+    /**
+     * Hold a control change until the room actor takes it.
+     * @param event newest controls from the client
+     * @return true if nothing was waiting, so the caller must post a
+     *  message to take it. False if an older change was replaced, and the
+     *  message already posted will take this one instead.
+     */
+    public boolean offerControls(ControlChangeEvent event) {
+        return pendingControls.getAndSet(event) == null;
+    }
+
+    /**
+     * @return the newest control change, or null if it was already taken
+     */
+    public ControlChangeEvent takeControls() {
+        return pendingControls.getAndSet(null);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.aggarcia.clients;
+
+/**
+ * Round trip time statistics for one client session, updated every time the
+ * client answers a latency Ping. Both values are exponentially weighted
+ * moving averages so that a single slow sample does not dominate.
+ */
+public final class SessionLatency {
+    /** Weight of a new RTT sample, same as the TCP smoothed RTT. */
+    private static final double RTT_WEIGHT = 1.0 / 8;
+
+    /** Weight of a new jitter sample, same as RTP interarrival jitter. */
+    private static final double JITTER_WEIGHT = 1.0 / 16;
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Longest round trip that is believed. Clients echo the timestamp of
+     * the Ping, so anything longer is a forged or corrupted Pong, which
+     * would otherwise push the averages and the max gauge off the scale.
+     */
+    static final long MAX_SAMPLE_NANOS = 10_000_000_000L;
+
+    /** Timestamps sent to clients are relative to this origin. */
+    private static final long ORIGIN_NANOS = System.nanoTime();
+
+    private double rttNanos;
+    private double jitterNanos;
+    private long lastSampleNanos;
+    private long samples;
+
+    /**
+     * @return nanoseconds since the server started. Small enough to survive
+     *  the round trip through a JavaScript number.
+     */
+    public static long now() {
+        return System.nanoTime() - ORIGIN_NANOS;
+    }
+
+    /**
+     * Add a new round trip time sample to the averages.
+     * @param sampleNanos measured round trip time. Negative samples, from
+     *  a timestamp in the future, and samples over
+     *  {@link #MAX_SAMPLE_NANOS} are ignored.
+     */
+    public synchronized void record(long sampleNanos) {
+        if (sampleNanos < 0 || sampleNanos > MAX_SAMPLE_NANOS) {
+            return;
+        }
+        if (samples == 0) {
+            rttNanos = sampleNanos;
+            jitterNanos = 0;
+        } else {
+            rttNanos += RTT_WEIGHT * (sampleNanos - rttNanos);
+            long delta = Math.abs(sampleNanos - lastSampleNanos);
+            jitterNanos += JITTER_WEIGHT * (delta - jitterNanos);
+        }
+        lastSampleNanos = sampleNanos;
+        samples++;
+    }
+
+    /**
+     * @return the averages in milliseconds, read at the same instant
+     */
+    public synchronized Stats stats() {
+        return new Stats(
+            rttNanos / NANOS_PER_MILLI,
+            jitterNanos / NANOS_PER_MILLI,
+            samples
+        );
+    }
+
+    /**
+     * Immutable copy of the statistics, read by the metrics and by the
+     * session latency actuator endpoint.
+     */
+    public record Stats(
+        double rttMillis,
+        double jitterMillis,
+        long samples
+    ) {}
+}
@@ -0,0 +1,40 @@
+package io.github.aggarcia.clients;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import io.github.aggarcia.models.GameStore;
+
+/**
+ * Round trip time of every open session, to find the clients that are
+ * slow. Served under /actuator/sessionlatency, but session IDs are not
+ * public, so the endpoint is disabled unless it is enabled and exposed in
+ * the management properties, ideally on a management port that is not
+ * reachable from the internet.
+ */
+@Endpoint(id = "sessionlatency", enableByDefault = false)
+public class SessionLatencyEndpoint {
+    private final GameStore store;
+
+    /**
+     * @param store room whose sessions are reported
+     */
+    public SessionLatencyEndpoint(GameStore store) {
+        this.store = store;
+    }
+
+    /**
+     * @return statistics of each session that answered a Ping, by session
+     *  id
+     */
+    @ReadOperation
+    public Map<String, SessionLatency.Stats> latencies() {
+        var stats = new TreeMap<String, SessionLatency.Stats>();
+        store.latencies().forEach((session, latency) ->
+            stats.put(session, latency.stats()));
+        return stats;
+    }
+}
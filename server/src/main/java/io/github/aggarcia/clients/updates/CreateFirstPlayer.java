@@ -1,22 +1,24 @@
 package io.github.aggarcia.clients.updates;
 
-import static io.github.aggarcia.messages.Serializer.serialize;
+import static io.github.aggarcia.messages.Replies.joinReply;
 
-import java.util.List;
 import java.util.Optional;
 
-import io.github.aggarcia.messages.Generated.JoinReply;
-import io.github.aggarcia.messages.Generated.SocketMessage;
-import io.github.aggarcia.models.GamePlatform;
 import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlatformList;
 import io.github.aggarcia.models.PlayerStore;
 
 public record CreateFirstPlayer(
     String client,
     PlayerStore player,
-    List<GamePlatform> platforms,
+    PlatformList platforms,
     String serverId
 ) implements GameUpdate {
+    /**
+     * Add the mapping `client -> player` and start the game.
+     * @throws IllegalArgumentException if another client took the name
+     *  after the join was processed
+     */
     @Override
     public void applyTo(GameStore store) {
         store.players().put(client, player);
@@ -26,9 +28,6 @@ public record CreateFirstPlayer(
 
     @Override
     public Optional<byte[]> reply() {
-        var reply = JoinReply.newBuilder().setServerId(serverId);
-        var wrappedReply =
-            SocketMessage.newBuilder().setJoinReply(reply).build();
-        return Optional.of(serialize(wrappedReply));
+        return Optional.of(joinReply(serverId, player.resumeToken()));
     }
 }
@@ -1,11 +1,9 @@
 package io.github.aggarcia.clients.updates;
 
-import static io.github.aggarcia.messages.Serializer.serialize;
+import static io.github.aggarcia.messages.Replies.joinReply;
 
 import java.util.Optional;
 
-import io.github.aggarcia.messages.Generated.JoinReply;
-import io.github.aggarcia.messages.Generated.SocketMessage;
 import io.github.aggarcia.models.GameStore;
 import io.github.aggarcia.models.PlayerStore;
 
@@ -16,14 +14,13 @@ public record CreatePlayer(
 ) implements GameUpdate {
     @Override
     public Optional<byte[]> reply() {
-        var reply = JoinReply.newBuilder().setServerId(serverId);
-        var wrappedReply =
-            SocketMessage.newBuilder().setJoinReply(reply).build();
-        return Optional.of(serialize(wrappedReply));
+        return Optional.of(joinReply(serverId, player.resumeToken()));
     }
 
     /**
      * Add the mapping `client -> player`.
+     * @throws IllegalArgumentException if another client took the name
+     *  after the join was processed
      */
     @Override
     public void applyTo(GameStore store) {
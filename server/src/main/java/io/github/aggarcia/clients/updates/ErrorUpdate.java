@@ -1,11 +1,9 @@
 package io.github.aggarcia.clients.updates;
 
-import static io.github.aggarcia.messages.Serializer.serialize;
+import static io.github.aggarcia.messages.Replies.error;
 
 import java.util.Optional;
 
-import io.github.aggarcia.messages.Generated.ErrorReply;
-import io.github.aggarcia.messages.Generated.SocketMessage;
 import io.github.aggarcia.models.GameStore;
 
 public record ErrorUpdate(
@@ -13,18 +11,14 @@ public record ErrorUpdate(
 ) implements GameUpdate {
 
     /**
-     * Factory function to serialize a text message as a JSON ErorReply.
+     * Factory function to serialize a text message as an ErrorReply.
+     * Errors that never change should be created once and reused, since
+     * the update holds nothing but the encoded reply.
      * @param message
-     * @return ErrorUpdate with ErrorReply serializes as a String
+     * @return ErrorUpdate with the serialized ErrorReply
      */
     public static ErrorUpdate fromText(String message) {
-        var reply = ErrorReply.newBuilder().setMessage(message).build();
-        var wrappedReply = SocketMessage
-            .newBuilder()
-            .setErrorReply(reply)
-            .build();
-
-        return new ErrorUpdate(serialize(wrappedReply));
+        return new ErrorUpdate(error(message));
     }
 
     @Override
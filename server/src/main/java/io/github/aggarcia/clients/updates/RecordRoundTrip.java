@@ -0,0 +1,26 @@
+package io.github.aggarcia.clients.updates;
+
+import java.util.Optional;
+
+import io.github.aggarcia.clients.SessionLatency;
+import io.github.aggarcia.models.GameStore;
+
+public record RecordRoundTrip(
+    String client,
+    long rttNanos
+) implements GameUpdate {
+    @Override
+    public Optional<byte[]> reply() {
+        return Optional.empty();
+    }
+
+    /**
+     * Add the sample to the latency statistics of the client.
+     */
+    @Override
+    public void applyTo(GameStore store) {
+        store.latencies()
+            .computeIfAbsent(client, id -> new SessionLatency())
+            .record(rttNanos);
+    }
+}
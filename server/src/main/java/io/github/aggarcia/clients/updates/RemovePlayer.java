@@ -0,0 +1,28 @@
+package io.github.aggarcia.clients.updates;
+
+import static io.github.aggarcia.messages.Replies.leftGame;
+
+import java.util.Optional;
+
+import io.github.aggarcia.models.GameStore;
+
+public record RemovePlayer(
+    String client
+) implements GameUpdate {
+    @Override
+    public Optional<byte[]> reply() {
+        return Optional.of(leftGame());
+    }
+
+    /**
+     * Remove the player of `client` and save their score. The session is
+     * kept, so the client can join again.
+     */
+    @Override
+    public void applyTo(GameStore store) {
+        var player = store.players().remove(client);
+        if (player != null) {
+            store.unprocessedLosers().add(player);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.aggarcia.clients.updates;
+
+import static io.github.aggarcia.messages.Replies.joinReply;
+
+import java.util.Optional;
+
+import io.github.aggarcia.models.GameStore;
+
+public record ResumePlayer(
+    String client,
+    String resumeToken,
+    String serverId
+) implements GameUpdate {
+    @Override
+    public Optional<byte[]> reply() {
+        return Optional.of(joinReply(serverId, resumeToken));
+    }
+
+    /**
+     * Move the detached player to `client`, restarting the game if nobody
+     * else was playing.
+     */
+    @Override
+    public void applyTo(GameStore store) {
+        var detached = store.detachedPlayers().remove(resumeToken);
+        if (detached == null) {
+            throw new IllegalArgumentException(
+                "no detached player for token: " + resumeToken);
+        }
+        boolean isFirstPlayer = store.players().isEmpty();
+        // resend the player in full to everyone
+        store.players().put(client, detached.player().hasChanged(true));
+        if (isFirstPlayer) {
+            store.tiggerStartEvent();
+        }
+    }
+}
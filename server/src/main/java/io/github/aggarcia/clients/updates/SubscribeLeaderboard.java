@@ -0,0 +1,29 @@
+package io.github.aggarcia.clients.updates;
+
+import static io.github.aggarcia.messages.Serializer.serialize;
+
+import java.util.Optional;
+
+import io.github.aggarcia.messages.Generated.LeaderboardUpdate;
+import io.github.aggarcia.messages.Generated.SocketMessage;
+import io.github.aggarcia.models.GameStore;
+
+public record SubscribeLeaderboard(
+    String client,
+    LeaderboardUpdate board
+) implements GameUpdate {
+    @Override
+    public Optional<byte[]> reply() {
+        var wrappedBoard =
+            SocketMessage.newBuilder().setLeaderboardUpdate(board).build();
+        return Optional.of(serialize(wrappedBoard));
+    }
+
+    /**
+     * Send `client` every leaderboard update from now on.
+     */
+    @Override
+    public void applyTo(GameStore store) {
+        store.leaderboardSubscribers().add(client);
+    }
+}
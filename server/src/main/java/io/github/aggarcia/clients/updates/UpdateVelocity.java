@@ -7,7 +7,8 @@ import io.github.aggarcia.models.GameStore;
 public record UpdateVelocity(
     String clientId,
     int xVelocity,
-    int yVelocity
+    int yVelocity,
+    int inputSequence
 ) implements GameUpdate {
     @Override
     public Optional<byte[]> reply() {
@@ -20,10 +21,9 @@ public record UpdateVelocity(
             throw new IllegalArgumentException(
                 "no player for id: " + this.clientId);
         }
-        var player = store.players().get(this.clientId);
-        synchronized (player) {
-            player.xVelocity(this.xVelocity);
-            player.yVelocity(this.yVelocity);
-        }
+        store.players().get(this.clientId)
+            .xVelocity(this.xVelocity)
+            .yVelocity(this.yVelocity)
+            .lastInputSequence(this.inputSequence);
     }
 }
@@ -0,0 +1,68 @@
+package io.github.aggarcia.engine;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import io.github.aggarcia.messages.Generated.GamePing;
+import io.github.aggarcia.messages.Generated.Player;
+import io.github.aggarcia.messages.Generated.SocketMessage;
+import io.github.aggarcia.models.GameStore;
+
+import static io.github.aggarcia.engine.TickProcessor.toPlatformMessage;
+import static io.github.aggarcia.engine.TickProcessor.toPlayerMessage;
+
+/**
+ * Builds game pings that only carry the players that changed since the
+ * previous ping. A full ping is sent on the first tick of every second, so
+ * clients that joined in between catch up within a second.
+ *
+ * Holds the last ping sent, so it must only be used by the room actor.
+ */
+public final class DeltaPings {
+    /** Players in the last ping, by name. */
+    private Map<String, Player> lastSent = Map.of();
+
+    /**
+     * @param store game state, after the tick has been applied
+     * @return the next ping to broadcast, full or delta
+     */
+    public SocketMessage next(GameStore store) {
+        var players = new HashMap<String, Player>();
+        for (var player : store.players().view().values()) {
+            var message = toPlayerMessage(player);
+            players.put(message.getName(), message);
+        }
+        var previous = lastSent;
+        lastSent = players;
+
+        var ping = GamePing.newBuilder()
+            .setServerAge(store.gameAgeSeconds());
+        for (var platform : store.platforms()) {
+            ping.addPlatforms(toPlatformMessage(platform));
+        }
+
+        boolean isKeyframe = store.tickCount() == 0 || previous.isEmpty();
+        if (isKeyframe) {
+            ping.addAllPlayers(players.values());
+            return SocketMessage.newBuilder().setGamePing(ping).build();
+        }
+
+        ping.setIsDelta(true);
+        for (var player : players.values()) {
+            var last = previous.get(player.getName());
+            if (last == null) {
+                // new to the client, so it needs every field
+                ping.addPlayers(player);
+            } else if (!last.equals(player)) {
+                // colors never change, and scores only on keyframes
+                ping.addPlayers(player.toBuilder().clearColor().clearScore());
+            }
+        }
+        for (var name : previous.keySet()) {
+            if (!players.containsKey(name)) {
+                ping.addRemovedPlayers(name);
+            }
+        }
+        return SocketMessage.newBuilder().setGamePing(ping).build();
+    }
+}
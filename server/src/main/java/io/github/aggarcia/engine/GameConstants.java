@@ -7,6 +7,19 @@ public final class GameConstants {
     public static final int TICK_DELAY_MS = 20;
     public static final int MAX_TIME_SECONDS = 3600;  // 1 hour
 
+    /**
+     * How long a disconnected player can be resumed for, in ms. Players
+     * restored from a snapshot get the same time, counted from the restore.
+     * Clients stop retrying a few seconds before it runs out.
+     */
+    public static final int RESUME_GRACE_MS = 15000;
+
+    /**
+     * Height of an interest band, clients whose players are in the same band
+     * share one game ping.
+     */
+    public static final int INTEREST_BAND_HEIGHT = 120;
+
     public static final int INIT_PLATFORM_GRAVITY = 7;
     public static final int LEVELUP_PLATFORM_GRAVITY = 2;
 
@@ -1,29 +1,57 @@
 package io.github.aggarcia.engine;
 
 import java.io.IOException;
-import java.util.Collection;
+import java.util.HashMap;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.WebSocketSession;
 
+import io.github.aggarcia.clients.SessionLatency;
 import io.github.aggarcia.messages.Generated.SocketMessage;
 import io.github.aggarcia.models.GamePlatform;
 import io.github.aggarcia.models.GameStore;
 import io.github.aggarcia.models.PlayerStore;
+import io.github.aggarcia.models.SessionRegistry;
 
 import static io.github.aggarcia.engine.GameConstants.INIT_PLATFORM_GRAVITY;
 import static io.github.aggarcia.engine.TickProcessor.advanceToNextTick;
+import static io.github.aggarcia.engine.TickProcessor.createBandPing;
+import static io.github.aggarcia.engine.TickProcessor.createGameOver;
 import static io.github.aggarcia.engine.TickProcessor.createGamePing;
+import static io.github.aggarcia.engine.TickProcessor.createLatencyPing;
+import static io.github.aggarcia.engine.TickProcessor.interestBand;
 import static io.github.aggarcia.messages.Serializer.serialize;
 
 
 /**
  * Interface to hide the thread management logic of running the game loop.
+ *
+ * The loop is a small state machine, IDLE -> RUNNING -> STOPPING -> IDLE.
+ * Ticks and the idle timeout are tasks on a scheduler that can be shared by
+ * many loops, so starting and stopping a game never creates a thread.
  */
 public class GameLoop {
+    private static final ScheduledExecutorService DEFAULT_SCHEDULER =
+        createDefaultScheduler();
+
+    private static final SocketMessage FELL_OFF_SCREEN =
+        createGameOver("You fell off the screen");
+
+    private static final SocketMessage GAME_ENDED =
+        createGameOver("The game has ended");
+
+    private enum State { IDLE, RUNNING, STOPPING }
+
     private final GameStore gameStore;
 
+    private final ScheduledExecutorService scheduler;
+
      /**
      * Amount of time to wait between each tick.
      */
@@ -32,22 +60,57 @@ public class GameLoop {
     private int maxTimeSeconds = GameConstants.MAX_TIME_SECONDS;
 
     /**
-     * Thread for the game loop.
+     * Only changed while holding the lock on this object.
+     */
+    private volatile State state = State.IDLE;
+
+    /**
+     * The next scheduled tick, cancelled when the loop is stopped.
+     */
+    private ScheduledFuture<?> nextTick = null;
+
+    /**
+     * When the next tick is due. Each one is due a tick delay after the
+     * last, however long the last one took, so the loop keeps its rate.
+     */
+    private long nextTickNanos;
+
+    /**
+     * Pending idle timeout, cancelled when a new game starts.
+     */
+    private ScheduledFuture<?> idleTimeout = null;
+
+    /**
+     * Completed once the loop has finished cleaning up after a game.
      */
-    private Thread loopThread = new Thread();
+    private CompletableFuture<Void> stopped =
+        CompletableFuture.completedFuture(null);
 
     /**
-     * Thread for the idle action to perform after the loop stops.
+     * Last ping sent by a room that uses delta pings. Only used by the room
+     * actor.
      */
-    private Thread idleThread = new Thread();
+    private DeltaPings deltaPings = new DeltaPings();
 
     /**
      * Action to perform after the game loop has been closed.
      */
     private Runnable idleTimeoutAction = () -> {};
 
+    private int idleTimeoutMs = 0;
+
     public GameLoop(GameStore gameStore) {
+        this(gameStore, DEFAULT_SCHEDULER);
+    }
+
+    /**
+     * @param gameStore state of the room
+     * @param scheduler runs the ticks and the idle timeout, may be shared
+     *  with other loops
+     */
+    public GameLoop(GameStore gameStore, ScheduledExecutorService scheduler) {
         this.gameStore = gameStore;
+        this.scheduler = scheduler;
     }
 
     // PUBLIC API //
@@ -96,19 +159,14 @@ public class GameLoop {
      *  before calling the action.
      * @return a refernce to the same object
      */
-    public GameLoop onIdleTimeout(Runnable action, int delayMs) {
-        if (this.isRunning() || this.idleThread.isAlive()) {
+    public synchronized GameLoop onIdleTimeout(Runnable action, int delayMs) {
+        boolean isTimeoutPending = idleTimeout != null && !idleTimeout.isDone();
+        if (state != State.IDLE || isTimeoutPending) {
             throw new IllegalStateException(
                 "Cannot set idle action while loop is running");
         }
-        this.idleTimeoutAction = () -> {
-            try {
-                Thread.sleep(delayMs);
-                action.run();
-            } catch (InterruptedException e) {
-                System.out.println("Game loop idle action interrupted");
-            }
-        };
+        this.idleTimeoutAction = action;
+        this.idleTimeoutMs = delayMs;
         return this;
     }
 
@@ -117,101 +175,222 @@ public class GameLoop {
      * Does not describe the state of the idle timeout action.
      */
     public boolean isRunning() {
-        return this.loopThread.isAlive() && !this.loopThread.isInterrupted();
+        return this.state == State.RUNNING;
     }
 
     /**
-     * Start a new thread running the game loop, if none is currently active.
+     * Start running the game loop, if it is not already active. Cancels the
+     * idle timeout if it is waiting.
      * @return true if a new loop was started, false if a loop was already
      * running and no new loop was created
      */
-    public boolean start() {
-        if (this.isRunning()) {
+    public synchronized boolean start() {
+        if (state != State.IDLE) {
             return false;
         }
-        if (idleThread.isAlive()) {
-            idleThread.interrupt();
-            try {
-                idleThread.join();
-            } catch (InterruptedException e) {
-                System.err.println(e);
-            }
+        if (idleTimeout != null) {
+            idleTimeout.cancel(false);
+            idleTimeout = null;
         }
-        this.loopThread = new Thread(this::runGameLoop);
-        this.loopThread.start();
+        state = State.RUNNING;
+        stopped = new CompletableFuture<>();
+
+        gameStore.actor().execute(this::resetGame);
+        System.out.println("Starting game loop");
+        nextTickNanos = System.nanoTime();
+        scheduleTick(0);
         return true;
     }
 
     /**
-     * Interrupt the game loop, wait for its thread to stop execution.
+     * Stop the game loop, wait for it to finish cleaning up. Must not be
+     * called from inside a room actor message.
      */
-    public void forceQuit() throws InterruptedException {
-        this.loopThread.interrupt();
-        this.loopThread.join();
+    public void forceQuit() {
+        stop();
+        CompletableFuture<Void> current;
+        synchronized (this) {
+            current = stopped;
+        }
+        current.join();
     }
 
     // PRIVATE UTILITIES //
 
+    private synchronized void scheduleTick(long delayNanos) {
+        if (state != State.RUNNING) {
+            return;
+        }
+        nextTick = scheduler.schedule(
+            this::runTick, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
     /**
-     * Internal thread function for the game loop.
+     * Schedule the tick after the one that just ran. A loop that fell
+     * behind ticks right away, but does not try to catch up on the ticks
+     * it missed.
      */
-    private void runGameLoop() {
-        if (idleThread.isAlive()) {
-            idleThread.interrupt();
-            try {
-                idleThread.join();
-            } catch (InterruptedException e) {
+    private synchronized void scheduleNextTick() {
+        nextTickNanos += TimeUnit.MILLISECONDS.toNanos(tickDelayMs);
+        long delayNanos = nextTickNanos - System.nanoTime();
+        if (delayNanos < 0) {
+            nextTickNanos -= delayNanos;
+            delayNanos = 0;
+        }
+        scheduleTick(delayNanos);
+    }
+
+    /**
+     * Scheduled task, posts one tick to the room actor and schedules the
+     * next one once it has run.
+     */
+    private void runTick() {
+        gameStore.actor().submit(this::tick).whenComplete((isActive, e) -> {
+            if (e != null) {
                 System.err.println(e);
             }
+            if (e == null && isActive) {
+                scheduleNextTick();
+            } else {
+                stop();
+            }
+        });
+    }
+
+    /**
+     * Move from RUNNING to STOPPING. The game is cleaned up by the room
+     * actor, after any tick that is already waiting in its mailbox.
+     */
+    private synchronized void stop() {
+        if (state != State.RUNNING) {
+            return;
+        }
+        state = State.STOPPING;
+        if (nextTick != null) {
+            nextTick.cancel(false);
+            nextTick = null;
         }
+        System.out.println("Closing game loop");
+        gameStore.actor().execute(() -> {
+            closeGame();
+            onStopped();
+        });
+    }
+
+    /**
+     * Move from STOPPING to IDLE and start waiting for the idle timeout.
+     */
+    private synchronized void onStopped() {
+        state = State.IDLE;
+        idleTimeout = scheduler.schedule(
+            idleTimeoutAction, idleTimeoutMs, TimeUnit.MILLISECONDS);
+        stopped.complete(null);
+    }
+
+    /**
+     * Loops and their idle timeouts use daemon threads, so that an idle
+     * server can still exit.
+     */
+    private static ScheduledExecutorService createDefaultScheduler() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        var scheduler = new ScheduledThreadPoolExecutor(threads, runnable -> {
+            var thread = new Thread(runnable, "game-loop");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // cancelled idle timeouts would otherwise wait out their delay
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
 
+    /**
+     * Message for the room actor, puts the game back in its starting state,
+     * unless the store was just restored from a snapshot.
+     */
+    private void resetGame() {
+        deltaPings = new DeltaPings();
+        if (gameStore.isRestored()) {
+            gameStore.isRestored(false);
+            return;
+        }
         gameStore.tickCount(0);
         gameStore.gameAgeSeconds(0);
         gameStore.platformGravity(INIT_PLATFORM_GRAVITY);
+    }
+
+    /**
+     * Message for the room actor, advances the game by one tick.
+     * @return true if the game should keep running, false otherwise
+     */
+    private boolean tick() {
         final var players = gameStore.players();
         final var sessions = gameStore.sessions();
+        releaseExpiredPlayers(System.currentTimeMillis());
 
-        System.out.println("Starting game loop");
-        while (
-            players.size() > 0
-            && sessions.size() > 0
-            && gameStore.gameAgeSeconds() < this.maxTimeSeconds
+        boolean hasActivePlayers = players.size() > 0 && sessions.size() > 0;
+        boolean isWaitingForResume = !gameStore.detachedPlayers().isEmpty();
+        if (
+            (!hasActivePlayers && !isWaitingForResume)
+            || gameStore.gameAgeSeconds() >= this.maxTimeSeconds
         ) {
-            var response = advanceToNextTick(gameStore);
-            this.gameStore.platforms(response.nextPlatformsState());
-            if (TickProcessor.shouldSpawnPlatform(gameStore.platforms())) {
-                gameStore.platforms().add(GamePlatform.generateAtHeight(0));
-            }
-            for (var playerId : response.playersToRemove()) {
-                var player = players.get(playerId);
+            return false;
+        }
+        if (!hasActivePlayers) {
+            // nobody to play for, keep the game paused until someone resumes
+            return true;
+        }
+
+        var response = advanceToNextTick(gameStore);
+        this.gameStore.platforms(response.nextPlatformsState());
+        if (TickProcessor.shouldSpawnPlatform(gameStore.platforms())) {
+            gameStore.platforms().add(GamePlatform.generateAtHeight(0));
+        }
+        for (var playerId : response.playersToRemove()) {
+            var player = players.remove(playerId);
+            if (player != null) {
                 gameStore.unprocessedLosers().add(player);
-                players.remove(playerId);
-            }
-            if (response.isUpdateNeeded()) {
-                var update = createGamePing(gameStore);
-                broadcast(sessions, update);
-            }
-            try {
-                Thread.sleep(tickDelayMs);
-            } catch (InterruptedException e) {
-                System.err.println(e);
-                break;
+                send(sessions.find(playerId), FELL_OFF_SCREEN);
             }
         }
+        if (response.isUpdateNeeded()) {
+            broadcastGamePing(sessions);
+        }
+        // measure client latency once per second
+        if (gameStore.tickCount() == 0) {
+            var ping = createLatencyPing(SessionLatency.now());
+            broadcast(sessions, ping);
+        }
+        return true;
+    }
 
-        System.out.println("Closing game loop");
+    /**
+     * Message for the room actor, removes every player and session.
+     */
+    private void closeGame() {
+        final var sessions = gameStore.sessions();
+        var players = gameStore.players().removeAll();
         gameStore.unprocessedLosers().addAll(players.values());
-        players.clear();
-        for (var session : sessions) {
-            try {
-                session.close();
-            } catch (IOException e) {
-                System.err.println(e);
+        releaseExpiredPlayers(Long.MAX_VALUE);
+        // sessions stay open so that they can join the next game
+        for (var client : players.keySet()) {
+            send(sessions.find(client), GAME_ENDED);
+        }
+    }
+
+    /**
+     * Send detached players that were not resumed in time to the loser
+     * queue, so that their scores are saved.
+     * @param nowMillis current wall clock time
+     */
+    private void releaseExpiredPlayers(long nowMillis) {
+        var iterator = gameStore.detachedPlayers().values().iterator();
+        while (iterator.hasNext()) {
+            var detached = iterator.next();
+            if (detached.isExpired(nowMillis)) {
+                gameStore.unprocessedLosers().add(detached.player());
+                iterator.remove();
             }
         }
-        sessions.clear();
-        idleThread = new Thread(idleTimeoutAction);
-        idleThread.start();
     }
 
     /**
@@ -236,21 +415,85 @@ public class GameLoop {
     }
 
     /**
-     * Send a message to muliple clients at once.
+     * Send a message to one client, if the session is still open.
+     * @param session recipient, may be null
      * @param message SocketMessage protobuf instance
      */
-    private synchronized <T> void broadcast(
-        Collection<WebSocketSession> sessions,
+    private void send(WebSocketSession session, SocketMessage message) {
+        if (session == null) {
+            return;
+        }
+        try {
+            session.sendMessage(encode(message));
+        } catch (IOException | IllegalStateException e) {
+            System.err.println(e);
+        }
+    }
+
+    /**
+     * Send the game ping to every client. With an interest radius, each
+     * client only gets the objects near its own player. Pings are encoded
+     * once per band instead of once per client, so the encoding cost is
+     * bounded by the height of the game, not by the number of clients.
+     *
+     * Band pings are always full pings, deltas are only used when every
+     * client shares the same ping.
+     */
+    private void broadcastGamePing(SessionRegistry sessions) {
+        if (gameStore.interestRadius() <= 0) {
+            var ping = gameStore.profile().isDeltaPing()
+                ? deltaPings.next(gameStore)
+                : createGamePing(gameStore);
+            broadcast(sessions, ping);
+            return;
+        }
+        final var players = gameStore.players().view();
+        var bandPings = new HashMap<Integer, BinaryMessage>();
+        BinaryMessage fullPing = null;
+
+        for (WebSocketSession session : sessions.snapshot()) {
+            var player = players.get(session.getId());
+            BinaryMessage ping;
+            if (player != null) {
+                ping = bandPings.computeIfAbsent(
+                    interestBand(player.yPosition()),
+                    band -> encode(createBandPing(gameStore, band)));
+            } else {
+                // spectators are not near anything, show them everything
+                if (fullPing == null) {
+                    fullPing = encode(createGamePing(gameStore));
+                }
+                ping = fullPing;
+            }
+            try {
+                session.sendMessage(ping);
+            } catch (IOException | IllegalStateException e) {
+                System.err.println(e);
+            }
+        }
+    }
+
+    private static BinaryMessage encode(SocketMessage message) {
+        return new BinaryMessage(serialize(message));
+    }
+
+    /**
+     * Send a message to muliple clients at once. Closed sessions are removed
+     * from the registry by their close event, so no open check is needed.
+     * Only called by the room actor, so sends to a session never overlap.
+     * @param message SocketMessage protobuf instance
+     */
+    private void broadcast(
+        SessionRegistry sessions,
         SocketMessage message
     ) {
-        var binary = new BinaryMessage(serialize(message));
+        var binary = encode(message);
 
-        for (WebSocketSession session : sessions) try {
-            synchronized (session) {
-                if (!session.isOpen()) continue;
-                session.sendMessage(binary);
-            }
-        } catch (IOException e) {
+        // plain array loop, the snapshot never changes after it is read
+        for (WebSocketSession session : sessions.snapshot()) try {
+            session.sendMessage(binary);
+        } catch (IOException | IllegalStateException e) {
+            // closed between the snapshot and the send
             System.err.println(e);
         }
     }
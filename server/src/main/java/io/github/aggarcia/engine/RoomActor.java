@@ -0,0 +1,108 @@
+package io.github.aggarcia.engine;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * Mailbox that owns the state of one room. Joins, leaves, inputs and ticks
+ * are all posted as messages, and messages run one at a time in the order
+ * they were posted, so the state they touch needs no locks.
+ *
+ * Many rooms can share the same executor, a room only occupies a thread
+ * while it has messages waiting.
+ */
+public final class RoomActor implements Executor {
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+
+    /** true while a drain is queued or running on the executor. */
+    private final AtomicBoolean isScheduled = new AtomicBoolean(false);
+
+    /**
+     * @param executor runs the mailbox, may be shared with other rooms
+     */
+    public RoomActor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Factory function for an actor without threads of its own. Messages run
+     * on the thread that posts them, unless another thread is already
+     * draining the mailbox, in which case that thread runs them instead.
+     * @return new actor
+     */
+    public static RoomActor inline() {
+        return new RoomActor(Runnable::run);
+    }
+
+    /**
+     * Post a message to the mailbox.
+     * @param message action to run on the room
+     */
+    @Override
+    public void execute(Runnable message) {
+        mailbox.add(message);
+        scheduleDrain();
+    }
+
+    /**
+     * Post a message that produces a result.
+     * @param message action to run on the room
+     * @return completed with the result once the message has run, or with
+     *  whatever it threw. An error completes it too before it is rethrown,
+     *  so nothing waits forever on a message that died. Must not be joined
+     *  from inside another message, since that would block the mailbox
+     *  forever.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> message) {
+        var result = new CompletableFuture<T>();
+        execute(() -> {
+            try {
+                result.complete(message.get());
+            } catch (Exception e) {
+                result.completeExceptionally(e);
+            } catch (Error e) {
+                result.completeExceptionally(e);
+                throw e;
+            }
+        });
+        return result;
+    }
+
+    private void scheduleDrain() {
+        if (isScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * Run every waiting message, then give the thread back to the executor.
+     * Errors such as OutOfMemoryError are not caught, they end the drain
+     * and reach the executor, but the messages left behind are drained
+     * again.
+     */
+    private void drain() {
+        try {
+            Runnable message;
+            while ((message = mailbox.poll()) != null) {
+                try {
+                    message.run();
+                } catch (Exception e) {
+                    // one bad message should not stop the room
+                    System.err.println(e);
+                }
+            }
+        } finally {
+            isScheduled.set(false);
+            // a message may have been posted after the last poll, but
+            // before the flag was cleared, or been left behind by an error
+            if (!mailbox.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
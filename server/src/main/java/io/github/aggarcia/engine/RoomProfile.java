@@ -0,0 +1,58 @@
+package io.github.aggarcia.engine;
+
+/**
+ * Settings that decide how a room scales. Small rooms send every client the
+ * whole game on the room actor, which is simple and cheap at that size.
+ * Large rooms trade that simplicity for less work per player.
+ */
+public enum RoomProfile {
+    STANDARD(15, false, false, false),
+
+    /**
+     * For events with up to 1000 players in one room. Deployments must also
+     * raise their connection limits to match.
+     */
+    LARGE(1000, true, true, true);
+
+    private final int maxPlayers;
+    private final boolean isBroadphase;
+    private final boolean isDeltaPing;
+    private final boolean isAsyncSend;
+
+    /**
+     * @param maxPlayers players allowed in the room, including detached ones
+     * @param isBroadphase only test players against the platforms in their
+     *  vertical path, instead of every platform
+     * @param isDeltaPing send only what changed between game pings, with a
+     *  full ping every second
+     * @param isAsyncSend queue messages to each session and write them on a
+     *  shared pool, so a slow client never holds up the room actor
+     */
+    RoomProfile(
+        int maxPlayers,
+        boolean isBroadphase,
+        boolean isDeltaPing,
+        boolean isAsyncSend
+    ) {
+        this.maxPlayers = maxPlayers;
+        this.isBroadphase = isBroadphase;
+        this.isDeltaPing = isDeltaPing;
+        this.isAsyncSend = isAsyncSend;
+    }
+
+    public int maxPlayers() {
+        return maxPlayers;
+    }
+
+    public boolean isBroadphase() {
+        return isBroadphase;
+    }
+
+    public boolean isDeltaPing() {
+        return isDeltaPing;
+    }
+
+    public boolean isAsyncSend() {
+        return isAsyncSend;
+    }
+}
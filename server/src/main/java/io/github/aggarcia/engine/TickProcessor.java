@@ -1,5 +1,6 @@
 package io.github.aggarcia.engine;
 
+import static io.github.aggarcia.engine.GameConstants.INTEREST_BAND_HEIGHT;
 import static io.github.aggarcia.engine.GameConstants.LEVELUP_PLATFORM_GRAVITY;
 import static io.github.aggarcia.engine.GameConstants.PLATFORM_SPEEDUP_INTERVAL;
 
@@ -7,12 +8,15 @@ import java.util.ArrayList;
 import java.util.List;
 
 import ch.qos.logback.core.testUtil.RandomUtil;
+import io.github.aggarcia.messages.Generated.GameOverEvent;
 import io.github.aggarcia.messages.Generated.GamePing;
+import io.github.aggarcia.messages.Generated.Ping;
 import io.github.aggarcia.messages.Generated.Platform;
 import io.github.aggarcia.messages.Generated.Player;
 import io.github.aggarcia.messages.Generated.SocketMessage;
 import io.github.aggarcia.models.GamePlatform;
 import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlatformList;
 import io.github.aggarcia.models.PlayerStore;
 
 public final class TickProcessor {
@@ -26,7 +30,7 @@ public final class TickProcessor {
     /** Response produced by advancing the game tick. */
     public record TickResponse(
         boolean isUpdateNeeded,
-        List<GamePlatform> nextPlatformsState,
+        PlatformList nextPlatformsState,
         List<String> playersToRemove
     ) {}
 
@@ -47,7 +51,8 @@ public final class TickProcessor {
         }
 
         // handle platforms
-        List<GamePlatform> nextPlatformsState = new ArrayList<>();
+        // every platform moves the same distance, so they stay sorted
+        var nextPlatformsState = new PlatformList();
         for (GamePlatform platform : store.platforms()) {
             var nextPlatform = platform.toNextTick(store.platformGravity());
             // to "delete" platforms that fall below the ground
@@ -57,10 +62,14 @@ public final class TickProcessor {
         }
 
         // handle players
+        boolean isBroadphase = store.profile().isBroadphase();
         List<String> playersToRemove = new ArrayList<>();
-        for (var playerEntry : store.players().entrySet()) {
+        for (var playerEntry : store.players().view().entrySet()) {
             PlayerStore player = playerEntry.getValue();
-            player.moveToNextTick(nextPlatformsState, store.platformGravity());
+            List<GamePlatform> platforms = isBroadphase
+                ? platformsInPath(nextPlatformsState, player)
+                : nextPlatformsState;
+            player.moveToNextTick(platforms, store.platformGravity());
             if (player.hasChanged()) {
                 player.hasChanged(false);
             }
@@ -78,6 +87,25 @@ public final class TickProcessor {
         return new TickResponse(true, nextPlatformsState, playersToRemove);
     }
 
+    /**
+     * Broadphase for player collisions. A player can only land on the
+     * platforms between where it is now and where it will be after its next
+     * move, so there is no need to test it against the rest.
+     * @param platforms platforms after this tick's move
+     * @param player player that has not moved yet this tick
+     * @return view of the platforms the player could touch in the next tick
+     */
+    protected static List<GamePlatform> platformsInPath(
+        PlatformList platforms,
+        PlayerStore player
+    ) {
+        int y = player.yPosition();
+        int nextY = y + player.yVelocity() + PlayerStore.GRAVITY;
+        int minY = Math.min(y, nextY);
+        int maxY = Math.max(y, nextY) + PlayerStore.PLAYER_HEIGHT;
+        return platforms.between(minY, maxY);
+    }
+
     /**
      * Add one second to the game store, update platform gravity if necessary.
      * @param store
@@ -98,26 +126,50 @@ public final class TickProcessor {
      * @return GamePing message
      */
     public static SocketMessage createGamePing(GameStore store) {
-        List<Player> players = store.players().values()
+        return createGamePing(store, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param y vertical position of a player
+     * @return interest band the position falls in
+     */
+    public static int interestBand(int y) {
+        return Math.floorDiv(y, INTEREST_BAND_HEIGHT);
+    }
+
+    /**
+     * Create a GamePing message with only the players and platforms that
+     * clients in the given band can see, using the store's interest radius.
+     * @param store
+     * @param band interest band of the viewing clients
+     * @return GamePing message, the same for every client in the band
+     */
+    public static SocketMessage createBandPing(GameStore store, int band) {
+        int top = band * INTEREST_BAND_HEIGHT - store.interestRadius();
+        int bottom =
+            (band + 1) * INTEREST_BAND_HEIGHT + store.interestRadius();
+        return createGamePing(store, top, bottom);
+    }
+
+    /**
+     * @param minY top of the visible window, players that overlap it are
+     *  still included
+     * @param maxY bottom of the visible window
+     */
+    private static SocketMessage
+    createGamePing(GameStore store, int minY, int maxY) {
+        // compared as longs so the unbounded window cannot overflow
+        long playerTop = (long) minY - PlayerStore.PLAYER_HEIGHT;
+        List<Player> players = store.players().view().values()
             .stream()
-            .map(p -> Player.newBuilder()
-                .setColor(p.color())
-                .setName(p.name())
-                .setScore(p.score())
-                .setX(p.xPosition())
-                .setY(p.yPosition())
-                .build()
-            )
+            .filter(p -> playerTop < p.yPosition() && p.yPosition() <= maxY)
+            .map(TickProcessor::toPlayerMessage)
             .toList();
 
         List<Platform> platforms = store.platforms()
             .stream()
-            .map(p -> Platform.newBuilder()
-                .setWidth(p.width())
-                .setX(p.x())
-                .setY(p.y())
-                .build()
-            )
+            .filter(p -> minY <= p.y() && p.y() <= maxY)
+            .map(TickProcessor::toPlatformMessage)
             .toList();
 
         var ping = GamePing.newBuilder()
@@ -129,6 +181,55 @@ public final class TickProcessor {
         return SocketMessage.newBuilder().setGamePing(ping).build();
     }
 
+    /**
+     * @param player
+     * @return the player as it is sent to clients
+     */
+    public static Player toPlayerMessage(PlayerStore player) {
+        return Player.newBuilder()
+            .setColor(player.color())
+            .setName(player.name())
+            .setScore(player.score())
+            .setX(player.xPosition())
+            .setY(player.yPosition())
+            .setLastInputSequence(player.lastInputSequence())
+            .build();
+    }
+
+    /**
+     * @param platform
+     * @return the platform as it is sent to clients
+     */
+    public static Platform toPlatformMessage(GamePlatform platform) {
+        return Platform.newBuilder()
+            .setWidth(platform.width())
+            .setX(platform.x())
+            .setY(platform.y())
+            .build();
+    }
+
+    /**
+     * Create a latency Ping message, clients answer with a Pong carrying the
+     * same timestamp.
+     * @param serverTimeNanos current time, relative to the server start
+     * @return Ping message
+     */
+    public static SocketMessage createLatencyPing(long serverTimeNanos) {
+        var ping = Ping.newBuilder().setServerTimeNanos(serverTimeNanos);
+        return SocketMessage.newBuilder().setPing(ping).build();
+    }
+
+    /**
+     * Create a GameOverEvent message for a player who is no longer in the
+     * game. Their connection stays open so they can join the next game.
+     * @param reason text shown to the player
+     * @return GameOverEvent message
+     */
+    public static SocketMessage createGameOver(String reason) {
+        var event = GameOverEvent.newBuilder().setReason(reason);
+        return SocketMessage.newBuilder().setGameOverEvent(event).build();
+    }
+
     // /**
     //  * Generate random platforms at fixed vertical
     //  * intervals for the first player.
@@ -154,13 +255,11 @@ public final class TickProcessor {
      * @param platforms
      * @return boolean decision
      */
-    public static boolean shouldSpawnPlatform(List<GamePlatform> platforms) {
+    public static boolean shouldSpawnPlatform(PlatformList platforms) {
         final int spawnProbability = (1000 / GameConstants.TICK_DELAY_MS) / 2;
 
-        int smallestY = platforms.stream()
-            .map(platform -> platform.y())
-            .min(Integer::compareTo)
-            .orElse(0);
+        var topmost = platforms.topmost();
+        int smallestY = topmost == null ? 0 : topmost.y();
 
         // so that platforms are not too close to each other
         if (smallestY < MIN_PLATFORM_SPACING) {
@@ -0,0 +1,37 @@
+package io.github.aggarcia.history;
+
+import static io.github.aggarcia.engine.GameConstants.INIT_PLATFORM_GRAVITY;
+import static io.github.aggarcia.engine.GameConstants.LEVELUP_PLATFORM_GRAVITY;
+
+/**
+ * One finished game, as kept in the game history.
+ * @param player name of the player
+ * @param score final score
+ * @param durationMillis how long the player survived
+ * @param peakPlatformGravity highest platform gravity the player reached
+ * @param joinedAtMillis when the player joined, in epoch milliseconds
+ */
+public record GameRecord(
+    String player,
+    int score,
+    long durationMillis,
+    int peakPlatformGravity,
+    long joinedAtMillis
+) {
+    /**
+     * @return when the game ended, in epoch milliseconds
+     */
+    public long endedAtMillis() {
+        return joinedAtMillis + durationMillis;
+    }
+
+    /**
+     * @param platformGravity a platform gravity
+     * @return the level it is reached at, 1 for the initial gravity
+     */
+    public static int levelOf(int platformGravity) {
+        int levelUps = (platformGravity - INIT_PLATFORM_GRAVITY)
+            / LEVELUP_PLATFORM_GRAVITY;
+        return Math.max(1, levelUps + 1);
+    }
+}
@@ -0,0 +1,323 @@
+package io.github.aggarcia.history;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Columnar file format of the game history. A segment file is a sequence
+ * of blocks, each appended in one write:
+ *
+ * <pre>
+ * int magic, int rowCount,
+ * then for each column: int rawLength, int compressedLength, deflated data
+ * </pre>
+ *
+ * Each column holds one field of every row in the block, so a scan only
+ * inflates the columns it needs and skips over the others. A block cut
+ * short by a crash or a failed write is cut off before the next append to
+ * its file, see {@link #completeLength}, so it can only be the last block,
+ * which readers ignore.
+ */
+final class HistorySegment {
+    /** "GHB1", marks the start of every block. */
+    static final int MAGIC = 0x47484231;
+
+    private static final int HEADER_BYTES = 2 * Integer.BYTES;
+
+    /** Columns in the order they are written. */
+    enum Column {
+        PLAYER(0),
+        SCORE(Integer.BYTES),
+        DURATION(Long.BYTES),
+        PEAK_GRAVITY(Integer.BYTES),
+        JOINED_AT(Long.BYTES);
+
+        /** Bytes per row, 0 for variable length columns. */
+        private final int width;
+
+        Column(int width) {
+            this.width = width;
+        }
+    }
+
+    /**
+     * Columns of one block. Columns that were not asked for are null.
+     */
+    record Block(
+        int rowCount,
+        String[] players,
+        int[] scores,
+        long[] durations,
+        int[] peakGravities,
+        long[] joinedAt
+    ) {}
+
+    private HistorySegment() {}
+
+    /**
+     * @param rows games to write, at least one
+     * @return one encoded block holding every row
+     */
+    static byte[] encode(List<GameRecord> rows) {
+        int count = rows.size();
+        var players = new ByteArrayOutputStream();
+        var scores = ByteBuffer.allocate(count * Integer.BYTES);
+        var durations = ByteBuffer.allocate(count * Long.BYTES);
+        var peakGravities = ByteBuffer.allocate(count * Integer.BYTES);
+        var joinedAt = ByteBuffer.allocate(count * Long.BYTES);
+        for (var row : rows) {
+            var name = row.player().getBytes(StandardCharsets.UTF_8);
+            players.writeBytes(
+                ByteBuffer.allocate(Integer.BYTES).putInt(name.length).array());
+            players.writeBytes(name);
+            scores.putInt(row.score());
+            durations.putLong(row.durationMillis());
+            peakGravities.putInt(row.peakPlatformGravity());
+            joinedAt.putLong(row.joinedAtMillis());
+        }
+
+        var block = new ByteArrayOutputStream();
+        block.writeBytes(ByteBuffer.allocate(HEADER_BYTES)
+            .putInt(MAGIC)
+            .putInt(count)
+            .array());
+        var deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            for (var column : List.of(
+                players.toByteArray(),
+                scores.array(),
+                durations.array(),
+                peakGravities.array(),
+                joinedAt.array()
+            )) {
+                writeColumn(block, column, deflater);
+            }
+        } finally {
+            deflater.end();
+        }
+        return block.toByteArray();
+    }
+
+    /**
+     * Read every complete block of a segment file, through a memory map.
+     * @param file segment to read
+     * @param columns columns to inflate, the others are skipped
+     * @param visitor called once per block
+     * @throws IOException if the file could not be read or is not a
+     *  segment
+     */
+    static void scan(
+        Path file,
+        Set<Column> columns,
+        Consumer<Block> visitor
+    ) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var map = channel.map(
+                FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            var inflater = new Inflater();
+            try {
+                while (map.remaining() >= HEADER_BYTES) {
+                    var block = readBlock(map, columns, inflater);
+                    if (block == null) {
+                        break;
+                    }
+                    visitor.accept(block);
+                }
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+
+    /**
+     * Find where the last complete block of a segment ends, reading only
+     * the block and column headers.
+     * @param channel open segment file
+     * @return length of the file without a trailing block that was cut
+     *  short, which is where the next block must be written
+     * @throws IOException if the file could not be read or is not a
+     *  segment
+     */
+    static long completeLength(FileChannel channel) throws IOException {
+        long size = channel.size();
+        var header = ByteBuffer.allocate(HEADER_BYTES);
+        long end = 0;
+        while (true) {
+            long position = end;
+            if (!readHeader(channel, position, header)) {
+                return end;
+            }
+            if (header.getInt() != MAGIC) {
+                throw new IOException(
+                    "Not a history block at byte " + position);
+            }
+            position += HEADER_BYTES;
+            for (int i = 0; i < Column.values().length; i++) {
+                if (!readHeader(channel, position, header)) {
+                    return end;
+                }
+                header.getInt();  // raw length
+                int compressedLength = header.getInt();
+                position += HEADER_BYTES;
+                if (compressedLength < 0
+                    || size - position < compressedLength) {
+                    return end;
+                }
+                position += compressedLength;
+            }
+            end = position;
+        }
+    }
+
+    /**
+     * @return false if the file ends before a whole header could be read
+     */
+    private static boolean readHeader(
+        FileChannel channel,
+        long position,
+        ByteBuffer header
+    ) throws IOException {
+        header.clear();
+        while (header.hasRemaining()) {
+            if (channel.read(header, position + header.position()) < 0) {
+                return false;
+            }
+        }
+        header.flip();
+        return true;
+    }
+
+    /**
+     * @return the block at the buffer's position, or null if it was cut
+     *  short
+     */
+    private static Block readBlock(
+        ByteBuffer map,
+        Set<Column> columns,
+        Inflater inflater
+    ) throws IOException {
+        if (map.getInt() != MAGIC) {
+            throw new IOException(
+                "Not a history block at byte " + (map.position() - 4));
+        }
+        int count = map.getInt();
+        var data = new ByteBuffer[Column.values().length];
+        for (var column : Column.values()) {
+            if (map.remaining() < HEADER_BYTES) {
+                return null;
+            }
+            int rawLength = map.getInt();
+            int compressedLength = map.getInt();
+            if (compressedLength < 0 || map.remaining() < compressedLength) {
+                return null;
+            }
+            if (column.width > 0 && rawLength != count * column.width) {
+                throw new IOException("History column " + column
+                    + " does not match its row count");
+            }
+            if (columns.contains(column)) {
+                var compressed = map.slice(map.position(), compressedLength);
+                data[column.ordinal()] =
+                    inflate(compressed, rawLength, inflater);
+            }
+            map.position(map.position() + compressedLength);
+        }
+        return new Block(
+            count,
+            readStrings(data[Column.PLAYER.ordinal()], count),
+            readInts(data[Column.SCORE.ordinal()], count),
+            readLongs(data[Column.DURATION.ordinal()], count),
+            readInts(data[Column.PEAK_GRAVITY.ordinal()], count),
+            readLongs(data[Column.JOINED_AT.ordinal()], count)
+        );
+    }
+
+    private static void writeColumn(
+        ByteArrayOutputStream block,
+        byte[] raw,
+        Deflater deflater
+    ) {
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        var compressed = new ByteArrayOutputStream();
+        var chunk = new byte[4096];
+        while (!deflater.finished()) {
+            int length = deflater.deflate(chunk);
+            compressed.write(chunk, 0, length);
+        }
+        block.writeBytes(ByteBuffer.allocate(HEADER_BYTES)
+            .putInt(raw.length)
+            .putInt(compressed.size())
+            .array());
+        block.writeBytes(compressed.toByteArray());
+    }
+
+    private static ByteBuffer inflate(
+        ByteBuffer compressed,
+        int rawLength,
+        Inflater inflater
+    ) throws IOException {
+        inflater.reset();
+        inflater.setInput(compressed);
+        var raw = new byte[rawLength];
+        try {
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, length, rawLength - length);
+                if (read == 0 && inflater.needsInput()) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != rawLength) {
+                throw new IOException("History column is truncated");
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("History column is corrupt", e);
+        }
+        return ByteBuffer.wrap(raw);
+    }
+
+    private static String[] readStrings(ByteBuffer data, int count) {
+        if (data == null) {
+            return null;
+        }
+        var strings = new String[count];
+        for (int i = 0; i < count; i++) {
+            var bytes = new byte[data.getInt()];
+            data.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static int[] readInts(ByteBuffer data, int count) {
+        if (data == null) {
+            return null;
+        }
+        var ints = new int[count];
+        data.asIntBuffer().get(ints);
+        return ints;
+    }
+
+    private static long[] readLongs(ByteBuffer data, int count) {
+        if (data == null) {
+            return null;
+        }
+        var longs = new long[count];
+        data.asLongBuffer().get(longs);
+        return longs;
+    }
+}
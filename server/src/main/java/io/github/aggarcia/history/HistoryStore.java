@@ -0,0 +1,232 @@
+package io.github.aggarcia.history;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import io.github.aggarcia.history.HistorySegment.Column;
+
+/**
+ * Keeps a row for every finished game in local files, so that games can be
+ * analysed without any load on the database.
+ *
+ * Games are buffered in memory and appended to disk on flush, one
+ * compressed block per hour of games. Each hour gets its own segment file,
+ * so old hours can be archived or deleted as whole files. A block left cut
+ * short by a crash or a failed write is truncated away before the next
+ * block is appended after it.
+ */
+public final class HistoryStore {
+    /** Games buffered while the disk fails, the oldest are dropped. */
+    public static final int MAX_UNFLUSHED = 100_000;
+
+    static final String SUFFIX = ".seg";
+
+    private static final DateTimeFormatter HOUR = DateTimeFormatter
+        .ofPattern("yyyyMMdd-HH")
+        .withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+
+    /** Games not written yet, oldest first. */
+    private final Deque<GameRecord> unflushed = new ArrayDeque<>();
+
+    /** Held while writing, so blocks are appended in order. */
+    private final Object flushLock = new Object();
+
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Segment last appended to without an error, so known to end on a
+     * complete block. Only accessed while holding the flush lock.
+     */
+    private Path lastAppended = null;
+
+    /**
+     * @param directory folder holding the segment files, created on the
+     *  first flush
+     */
+    public HistoryStore(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Buffer a finished game until the next flush. Cheap, never touches
+     * the disk.
+     * @param record game to keep
+     */
+    public void append(GameRecord record) {
+        synchronized (unflushed) {
+            if (unflushed.size() >= MAX_UNFLUSHED) {
+                unflushed.pollFirst();
+                dropped.increment();
+            }
+            unflushed.addLast(record);
+        }
+    }
+
+    /**
+     * Write buffered games to the segment of the hour they ended in. Games
+     * that could not be written are kept for the next flush.
+     * @return number of games written
+     * @throws IOException if a segment could not be written
+     */
+    public int flush() throws IOException {
+        synchronized (flushLock) {
+            List<GameRecord> rows;
+            synchronized (unflushed) {
+                rows = new ArrayList<>(unflushed);
+                unflushed.clear();
+            }
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            var byHour = new TreeMap<String, List<GameRecord>>();
+            for (var row : rows) {
+                var ended = Instant.ofEpochMilli(row.endedAtMillis());
+                byHour.computeIfAbsent(HOUR.format(ended),
+                    hour -> new ArrayList<>()).add(row);
+            }
+            int written = 0;
+            try {
+                Files.createDirectories(directory);
+                while (!byHour.isEmpty()) {
+                    var hour = byHour.firstEntry();
+                    appendBlock(
+                        segmentPath(hour.getKey()),
+                        HistorySegment.encode(hour.getValue()));
+                    byHour.pollFirstEntry();
+                    written += hour.getValue().size();
+                }
+            } catch (IOException e) {
+                requeue(byHour.values());
+                throw e;
+            }
+            return written;
+        }
+    }
+
+    /**
+     * Average time survived, grouped by the highest level each player
+     * reached. Only reads the duration and gravity columns of flushed
+     * games.
+     * @return seconds survived on average, by level
+     * @throws IOException if a segment could not be read
+     */
+    public SortedMap<Integer, Double> averageSurvivalByLevel()
+    throws IOException {
+        var totalMillis = new TreeMap<Integer, Long>();
+        var games = new TreeMap<Integer, Long>();
+        for (var segment : segments()) {
+            HistorySegment.scan(
+                segment,
+                EnumSet.of(Column.DURATION, Column.PEAK_GRAVITY),
+                block -> {
+                    for (int i = 0; i < block.rowCount(); i++) {
+                        int level =
+                            GameRecord.levelOf(block.peakGravities()[i]);
+                        totalMillis.merge(level, block.durations()[i],
+                            Long::sum);
+                        games.merge(level, 1L, Long::sum);
+                    }
+                });
+        }
+        var averages = new TreeMap<Integer, Double>();
+        for (var level : totalMillis.entrySet()) {
+            averages.put(level.getKey(),
+                level.getValue() / 1000.0 / games.get(level.getKey()));
+        }
+        return averages;
+    }
+
+    /**
+     * @return segment files, oldest hour first
+     * @throws IOException if the folder could not be listed
+     */
+    public List<Path> segments() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+
+    /** @return games buffered, not written yet */
+    public int unflushed() {
+        synchronized (unflushed) {
+            return unflushed.size();
+        }
+    }
+
+    /** @return games thrown away because the buffer was full */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /**
+     * Write a block at the end of the last complete block of a segment.
+     * Only segments that may end with a torn block, because they were
+     * written by an earlier process or by a failed append, are checked.
+     */
+    private void appendBlock(Path segment, byte[] block) throws IOException {
+        boolean isChecked = segment.equals(lastAppended);
+        lastAppended = null;
+        try (var channel = FileChannel.open(segment,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE)
+        ) {
+            long end = isChecked
+                ? channel.size()
+                : HistorySegment.completeLength(channel);
+            channel.truncate(end);
+            var data = ByteBuffer.wrap(block);
+            while (data.hasRemaining()) {
+                end += channel.write(data, end);
+            }
+        }
+        lastAppended = segment;
+    }
+
+    private Path segmentPath(String hour) {
+        return directory.resolve("games-" + hour + SUFFIX);
+    }
+
+    /**
+     * Put back the hours that were not written, ahead of the games
+     * appended since.
+     */
+    private void requeue(Collection<List<GameRecord>> hours) {
+        var rows = new ArrayList<GameRecord>();
+        hours.forEach(rows::addAll);
+        synchronized (unflushed) {
+            for (int i = rows.size() - 1; i >= 0; i--) {
+                unflushed.addFirst(rows.get(i));
+            }
+            while (unflushed.size() > MAX_UNFLUSHED) {
+                unflushed.pollFirst();
+                dropped.increment();
+            }
+        }
+    }
+}
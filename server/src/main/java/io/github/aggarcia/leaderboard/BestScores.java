@@ -0,0 +1,62 @@
+package io.github.aggarcia.leaderboard;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * Best all time score of every player this server has seen, in its own
+ * games or in the leaderboard table. Unlike the rank index, nothing but the
+ * score is kept, so players outside the top K can still be ranked. The
+ * table is pruned to the top K, so their ranks only count the players of
+ * other servers that made it into the table.
+ */
+public final class BestScores {
+    private final Map<String, Integer> byPlayer = new HashMap<>();
+
+    private final ScoreCounts counts = new ScoreCounts();
+
+    /**
+     * Record a score, kept only if it is the player's best.
+     * @param player name of the player
+     * @param score score of a finished game
+     */
+    public synchronized void add(String player, int score) {
+        if (score < 0) {
+            throw new IllegalArgumentException(
+                "score must not be negative: " + score);
+        }
+        var existing = byPlayer.get(player);
+        if (existing != null) {
+            if (score <= existing) {
+                return;
+            }
+            counts.add(existing, -1);
+        }
+        byPlayer.put(player, score);
+        counts.add(score, 1);
+    }
+
+    /**
+     * @param player name of the player
+     * @return the player's best score, or empty if it was never seen
+     */
+    public synchronized OptionalInt score(String player) {
+        var score = byPlayer.get(player);
+        return score == null ? OptionalInt.empty() : OptionalInt.of(score);
+    }
+
+    /**
+     * @param player name of the player
+     * @return 1 for the best score, players with the same score share a
+     *  rank. Empty if the player was never seen.
+     */
+    public synchronized OptionalInt rank(String player) {
+        var score = byPlayer.get(player);
+        if (score == null) {
+            return OptionalInt.empty();
+        }
+        long above = byPlayer.size() - counts.countAtOrBelow(score);
+        return OptionalInt.of((int) above + 1);
+    }
+}
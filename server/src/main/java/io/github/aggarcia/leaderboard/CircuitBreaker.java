@@ -0,0 +1,94 @@
+package io.github.aggarcia.leaderboard;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Stops calls to the database after it fails several times in a row, so
+ * that writers do not spend their time waiting on timeouts. After a pause,
+ * one call is let through to test it, and the breaker closes again if it
+ * succeeds.
+ */
+public final class CircuitBreaker {
+    public enum State {
+        /** Calls go through. */
+        CLOSED,
+        /** Calls are refused until the pause is over. */
+        OPEN,
+        /** One call is testing whether the database is back. */
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openedAtNanos = 0;
+
+    /**
+     * @param failureThreshold failures in a row that open the breaker
+     * @param openMillis how long the breaker stays open
+     */
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this(failureThreshold, openMillis, System::nanoTime);
+    }
+
+    /**
+     * @param failureThreshold failures in a row that open the breaker
+     * @param openMillis how long the breaker stays open
+     * @param nanoClock current time in nanoseconds
+     */
+    public CircuitBreaker(
+        int failureThreshold,
+        long openMillis,
+        LongSupplier nanoClock
+    ) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openMillis * 1_000_000;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * @return true if the caller may try a call. While half open, only the
+     *  first caller is allowed until the result is recorded.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && isReady()) {
+            state = State.HALF_OPEN;
+            return true;
+        }
+        return state == State.CLOSED;
+    }
+
+    /**
+     * @return true if a call would be let through, without claiming the
+     *  half open test call
+     */
+    public synchronized boolean isReady() {
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> nanoClock.getAsLong() - openedAtNanos >= openNanos;
+            case HALF_OPEN -> false;
+        };
+    }
+
+    public synchronized void recordSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+    }
+
+    public synchronized void recordFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN
+            || consecutiveFailures >= failureThreshold
+        ) {
+            state = State.OPEN;
+            openedAtNanos = nanoClock.getAsLong();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
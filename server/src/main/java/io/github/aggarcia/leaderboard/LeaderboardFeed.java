@@ -0,0 +1,75 @@
+package io.github.aggarcia.leaderboard;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.github.aggarcia.messages.Generated.LeaderboardRow;
+import io.github.aggarcia.messages.Generated.LeaderboardUpdate;
+
+/**
+ * Top of the leaderboard as last pushed to clients. Turns each new top into
+ * the rows that changed, so clients only hear about the leaderboard when it
+ * actually changes, and only what changed.
+ *
+ * Diffs only add, replace or remove rows by player, so applying one twice,
+ * or on top of a full board that already includes it, changes nothing.
+ */
+public final class LeaderboardFeed {
+    /** Rows clients show. */
+    public static final int SIZE = 10;
+
+    /** Rows last pushed, by player, best score first. */
+    private Map<String, LeaderboardRow> rows = new LinkedHashMap<>();
+
+    /**
+     * @param top best entries, best first, at most SIZE are used
+     * @return the rows that changed since the last call, or empty if none
+     *  did
+     */
+    public synchronized Optional<LeaderboardUpdate>
+    diff(List<LeaderboardEntry> top) {
+        var next = new LinkedHashMap<String, LeaderboardRow>();
+        for (var entry : top.subList(0, Math.min(SIZE, top.size()))) {
+            next.put(entry.player(), toRow(entry));
+        }
+        var previous = rows;
+        rows = next;
+
+        var update = LeaderboardUpdate.newBuilder();
+        for (var row : next.values()) {
+            if (!row.equals(previous.get(row.getPlayer()))) {
+                update.addRows(row);
+            }
+        }
+        for (var player : previous.keySet()) {
+            if (!next.containsKey(player)) {
+                update.addRemovedPlayers(player);
+            }
+        }
+        boolean hasChanged = update.getRowsCount() > 0
+            || update.getRemovedPlayersCount() > 0;
+        return hasChanged ? Optional.of(update.build()) : Optional.empty();
+    }
+
+    /**
+     * @return every row last pushed, for a new subscriber
+     */
+    public synchronized LeaderboardUpdate full() {
+        return LeaderboardUpdate.newBuilder()
+            .setIsFull(true)
+            .addAllRows(rows.values())
+            .build();
+    }
+
+    private static LeaderboardRow toRow(LeaderboardEntry entry) {
+        var row = LeaderboardRow.newBuilder()
+            .setPlayer(entry.player())
+            .setScore(entry.score());
+        if (entry.timestamp() != null) {
+            row.setTimestampMillis(entry.timestamp().getTime());
+        }
+        return row.build();
+    }
+}
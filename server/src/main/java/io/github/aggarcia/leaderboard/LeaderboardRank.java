@@ -0,0 +1,7 @@
+package io.github.aggarcia.leaderboard;
+
+public record LeaderboardRank(
+    String player,
+    int score,
+    int rank
+) {}
@@ -1,6 +1,9 @@
 package io.github.aggarcia.leaderboard;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,9 +12,18 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 
 public class LeaderboardService {
+    /** Scores kept in the table, everything below is pruned. */
+    public static final int DEFAULT_RETAINED = 1000;
+
+    private static final String USERNAME_VAR = "SPRING_DATASOURCE_USERNAME";
+
+    private static final String PASSWORD_VAR = "SPRING_DATASOURCE_PASSWORD";
+
     @Autowired
     private Environment env;
 
@@ -20,8 +32,51 @@ public class LeaderboardService {
 
     private final JdbcTemplate jdbcTemplate;
 
+    /** Best scores in the table, loaded on first use. */
+    private final TopScores topScores;
+
+    /**
+     * Ranks of the players in the table, loaded on first use. Scores saved
+     * by other servers only show up after the next prune.
+     */
+    private final RankIndex rankIndex = new RankIndex();
+
+    /**
+     * Best score of every player seen, so players outside the top K still
+     * have an all time rank. Never reloaded, pruned rows stay here.
+     */
+    private final BestScores bestScores = new BestScores();
+
+    /** Daily and weekly boards, flushed to the windows table in batches. */
+    private final WindowedBoards windows;
+
+    private volatile boolean isLoaded = false;
+
     public LeaderboardService(JdbcTemplate jdbcTemplate) {
+        this(jdbcTemplate, DEFAULT_RETAINED);
+    }
+
+    /**
+     * @param jdbcTemplate connection to the leaderboard database
+     * @param retained number of scores kept in the table, K
+     */
+    public LeaderboardService(JdbcTemplate jdbcTemplate, int retained) {
+        this(jdbcTemplate, retained, new WindowedBoards());
+    }
+
+    /**
+     * @param jdbcTemplate connection to the leaderboard database
+     * @param retained number of scores kept in the table, K
+     * @param windows daily and weekly boards
+     */
+    public LeaderboardService(
+        JdbcTemplate jdbcTemplate,
+        int retained,
+        WindowedBoards windows
+    ) {
         this.jdbcTemplate = jdbcTemplate;
+        this.topScores = new TopScores(retained);
+        this.windows = windows;
     }
 
     /**
@@ -39,14 +94,35 @@ public class LeaderboardService {
         );
     }
 
+    /**
+     * Add a finished game to the daily and weekly boards, and to the best
+     * scores of every player, in memory. Called for every game, before
+     * scores are coalesced for the all time table, so a game is counted in
+     * the window it finished in even if a better score of the same player
+     * replaces it in the next one.
+     * @param entry score of the game
+     */
+    public void recordGame(LeaderboardEntry entry) {
+        windows.record(entry);
+        bestScores.add(entry.player(), entry.score());
+    }
+
     /**
      * Saves the leaderboard entry to the database only if the player
-     * is in the top 10 by score. Overrides any previous entry for the player
-     * if the new score is larger.
+     * is in the top K by score. Overrides any previous entry for the player
+     * if the new score is larger. The scores in memory follow once the
+     * transaction commits. The daily and weekly boards are updated
+     * separately, by {@link #recordGame}.
+     * @return false if the score was too low to be written
      */
     @Transactional
-    public void update(LeaderboardEntry newEntry) throws DataAccessException {
+    public boolean update(LeaderboardEntry newEntry)
+    throws DataAccessException {
         verifyDatabaseCredentialsDefined();
+        ensureLoaded();
+        if (!topScores.isCandidate(newEntry)) {
+            return false;
+        }
 
         Integer existingScore;
         try {
@@ -75,9 +151,260 @@ public class LeaderboardService {
                 newEntry.timestamp(),
                 newEntry.player()
             );
+        } else {
+            return false;
         }
+        afterCommit(() -> {
+            topScores.add(newEntry);
+            rankIndex.add(newEntry);
+        });
+        return true;
+    }
+
+    /**
+     * @param player name of the player
+     * @param window period the rank covers
+     * @return rank of the player's best score in the window, or empty if
+     *  it is not on that leaderboard. All time ranks outside the top K
+     *  come from the best scores seen by this server.
+     */
+    public Optional<LeaderboardRank>
+    getRank(String player, LeaderboardWindow window)
+    throws DataAccessException {
+        ensureLoaded();
+        var index = index(window);
+        var entry = index.get(player);
+        var rank = index.rank(player);
+        if (entry != null && rank.isPresent()) {
+            return Optional.of(
+                new LeaderboardRank(player, entry.score(), rank.getAsInt()));
+        }
+        if (window != LeaderboardWindow.ALL_TIME) {
+            return Optional.empty();
+        }
+        var score = bestScores.score(player);
+        rank = bestScores.rank(player);
+        if (score.isEmpty() || rank.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(new LeaderboardRank(
+            player, score.getAsInt(), rank.getAsInt()));
+    }
 
-        // TODO: cleanup lowest scores when there are more than 10 entries
+    /**
+     * @param offset entries to skip, from the best score down
+     * @param limit most entries to return
+     * @param window period the page covers
+     * @return entries sorted by score, served from memory
+     */
+    public List<LeaderboardEntry>
+    getPage(int offset, int limit, LeaderboardWindow window)
+    throws DataAccessException {
+        ensureLoaded();
+        return index(window).page(offset, limit);
+    }
+
+    /**
+     * Write the window scores that changed since the last flush, in two
+     * batches: one UPDATE for every score, then one INSERT for the players
+     * the UPDATE found no row for. Scores that fail are kept for the next
+     * flush. Also starts any window whose period is over.
+     * @return number of scores written
+     */
+    public int flushWindows() throws DataAccessException {
+        windows.rollOver();
+        var pending = windows.drainPending();
+        if (pending.isEmpty()) {
+            // most flushes have nothing to write, and need no database
+            return 0;
+        }
+        try {
+            verifyDatabaseCredentialsDefined();
+            // SET reads the old row, so the timestamp follows the best score
+            int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE " + windowsTable()
+                    + " SET timestamp = CASE WHEN score < ?"
+                    + " THEN ? ELSE timestamp END,"
+                    + " score = GREATEST(score, ?)"
+                    + " WHERE window_name = ? AND starts_at = ?"
+                    + " AND player = ?",
+                pending.stream()
+                    .map(score -> new Object[] {
+                        score.entry().score(),
+                        score.entry().timestamp(),
+                        score.entry().score(),
+                        score.window().name(),
+                        Timestamp.from(score.start()),
+                        score.entry().player()
+                    })
+                    .toList()
+            );
+            var inserts = new ArrayList<Object[]>();
+            for (int i = 0; i < pending.size(); i++) {
+                if (updated[i] != 0) {
+                    continue;
+                }
+                var score = pending.get(i);
+                inserts.add(new Object[] {
+                    score.window().name(),
+                    Timestamp.from(score.start()),
+                    score.entry().player(),
+                    score.entry().score(),
+                    score.entry().timestamp()
+                });
+            }
+            if (!inserts.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                    "INSERT INTO " + windowsTable()
+                        + " (window_name, starts_at, player, score, timestamp)"
+                        + " VALUES (?, ?, ?, ?, ?)",
+                    inserts
+                );
+            }
+        } catch (DataAccessException e) {
+            windows.requeue(pending);
+            throw e;
+        }
+        return pending.size();
+    }
+
+    /**
+     * Create the leaderboard table, the index its queries and the prune
+     * rely on, and the table for the daily and weekly boards, if they do
+     * not exist yet. Safe to run on every start, and lets an empty embedded
+     * database stand in for the remote one.
+     */
+    public void createIndexes() throws DataAccessException {
+        verifyDatabaseCredentialsDefined();
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS " + tableName + " ("
+                + "player VARCHAR(64) PRIMARY KEY,"
+                + " score INTEGER NOT NULL,"
+                + " timestamp TIMESTAMP)"
+        );
+        jdbcTemplate.execute(
+            "CREATE INDEX IF NOT EXISTS " + tableName + "_score_idx"
+                + " ON " + tableName + " (score DESC)"
+        );
+        jdbcTemplate.execute(
+            "CREATE TABLE IF NOT EXISTS " + windowsTable() + " ("
+                + "window_name VARCHAR(16) NOT NULL,"
+                + " starts_at TIMESTAMP NOT NULL,"
+                + " player VARCHAR(64) NOT NULL,"
+                + " score INTEGER NOT NULL,"
+                + " timestamp TIMESTAMP,"
+                + " PRIMARY KEY (window_name, starts_at, player))"
+        );
+    }
+
+    /**
+     * Delete every row below the K-th best score, and the scores of windows
+     * that are over, then reload the scores kept in memory, since other
+     * servers write to the tables too. Rows tied with the K-th best score
+     * are kept.
+     * @return number of rows deleted
+     */
+    public int prune() throws DataAccessException {
+        verifyDatabaseCredentialsDefined();
+        int deleted = jdbcTemplate.update(
+            "DELETE FROM " + tableName + " WHERE score < ("
+                + "SELECT score FROM " + tableName
+                + " ORDER BY score DESC OFFSET ? LIMIT 1)",
+            topScores.capacity() - 1
+        );
+        // only the current windows are ever read back
+        deleted += jdbcTemplate.update(
+            "DELETE FROM " + windowsTable() + " WHERE starts_at < ?",
+            Timestamp.from(windows.start(LeaderboardWindow.WEEKLY))
+        );
+        reload();
+        return deleted;
+    }
+
+    private void ensureLoaded() throws DataAccessException {
+        if (isLoaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!isLoaded) {
+                verifyDatabaseCredentialsDefined();
+                reload();
+            }
+        }
+    }
+
+    /**
+     * Read every row into memory. The table only holds the top K, plus
+     * rows tied with the K-th best score, once it has been pruned. The
+     * current daily and weekly windows are read too.
+     */
+    private void reload() throws DataAccessException {
+        var entries = jdbcTemplate.query(
+            "SELECT * FROM " + tableName,
+            (row, i) -> new LeaderboardEntry(
+                row.getString("player"),
+                row.getInt("score"),
+                row.getTimestamp("timestamp")
+            )
+        );
+        topScores.reload(entries);
+        rankIndex.reload(entries);
+        for (var entry : entries) {
+            bestScores.add(entry.player(), entry.score());
+        }
+        for (var window : WindowedBoards.WINDOWS) {
+            var start = windows.start(window);
+            windows.load(window, start, jdbcTemplate.query(
+                "SELECT * FROM " + windowsTable()
+                    + " WHERE window_name = ? AND starts_at = ?",
+                (row, i) -> new LeaderboardEntry(
+                    row.getString("player"),
+                    row.getInt("score"),
+                    row.getTimestamp("timestamp")
+                ),
+                window.name(),
+                Timestamp.from(start)
+            ));
+        }
+        isLoaded = true;
+    }
+
+    /**
+     * Run once the current transaction commits, or right away outside of
+     * one, so memory never holds a score the database rolled back.
+     */
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+    }
+
+    private RankIndex index(LeaderboardWindow window) {
+        return window == LeaderboardWindow.ALL_TIME
+            ? rankIndex
+            : windows.index(window);
+    }
+
+    private String windowsTable() {
+        return tableName + "Windows";
+    }
+
+    /**
+     * @param env properties of the application
+     * @return true if the env variables for database connection are
+     *  defined, false if the server runs without a database
+     */
+    public static boolean hasCredentials(Environment env) {
+        return env.getProperty(USERNAME_VAR) != null
+            && env.getProperty(PASSWORD_VAR) != null;
     }
 
     /**
@@ -87,17 +414,15 @@ public class LeaderboardService {
     private void verifyDatabaseCredentialsDefined() throws DataAccessException {
         System.out.println("Table name set to " + tableName);
 
-        final String usernameVar = "SPRING_DATASOURCE_USERNAME";
-        if (env.getProperty(usernameVar) == null) {
-            throw new BadCredentialsException(usernameVar + " is not defined");
+        if (env.getProperty(USERNAME_VAR) == null) {
+            throw new BadCredentialsException(USERNAME_VAR + " is not defined");
         }
-        System.out.println(usernameVar + " is defined");
+        System.out.println(USERNAME_VAR + " is defined");
 
-        final String passwordVar = "SPRING_DATASOURCE_PASSWORD";
-        if (env.getProperty(passwordVar) == null) {
-            throw new BadCredentialsException(passwordVar + " is not defined");
+        if (env.getProperty(PASSWORD_VAR) == null) {
+            throw new BadCredentialsException(PASSWORD_VAR + " is not defined");
         }
-        System.out.println(passwordVar + " is defined");
+        System.out.println(PASSWORD_VAR + " is defined");
     }
 
     class BadCredentialsException extends DataAccessException {
@@ -0,0 +1,48 @@
+package io.github.aggarcia.leaderboard;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Period a leaderboard covers. Days and weeks start at midnight UTC, weeks
+ * on Monday.
+ */
+public enum LeaderboardWindow {
+    DAILY,
+    WEEKLY,
+    ALL_TIME;
+
+    /**
+     * @param now any instant
+     * @return start of the window that contains `now`
+     */
+    public Instant start(Instant now) {
+        var day = LocalDate.ofInstant(now, ZoneOffset.UTC);
+        return switch (this) {
+            case DAILY -> day.atStartOfDay(ZoneOffset.UTC).toInstant();
+            case WEEKLY -> day
+                .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                .atStartOfDay(ZoneOffset.UTC)
+                .toInstant();
+            case ALL_TIME -> Instant.EPOCH;
+        };
+    }
+
+    /**
+     * @param param "daily", "weekly" or "all", in any case
+     * @return matching window, or empty if there is none
+     */
+    public static Optional<LeaderboardWindow> fromParam(String param) {
+        return switch (param.toLowerCase(Locale.ROOT)) {
+            case "daily" -> Optional.of(DAILY);
+            case "weekly" -> Optional.of(WEEKLY);
+            case "all" -> Optional.of(ALL_TIME);
+            default -> Optional.empty();
+        };
+    }
+}
@@ -0,0 +1,350 @@
+package io.github.aggarcia.leaderboard;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Saves finished games to the leaderboard on a pool of writer threads.
+ *
+ * Each player always goes to the same writer, so the scores of one player
+ * are saved in the order the games ended. A failed write is retried with
+ * exponential backoff on the same writer. While the database keeps failing,
+ * a circuit breaker stops the writers from trying, and scores wait in a
+ * bounded buffer until a test write succeeds. A score that waits in the
+ * buffer can be saved after a later one, which is harmless since the
+ * leaderboard only keeps each player's best.
+ *
+ * Games taken from the queue can also be coalesced: only the best score
+ * of each player is handed to the writers, once per flush window.
+ */
+public final class LeaderboardWriter {
+    /** How often buffered scores are retried. */
+    private static final long RETRY_BUFFER_MS = 1000;
+
+    private final Consumer<LeaderboardEntry> sink;
+    private final CircuitBreaker breaker;
+    private final int maxRetries;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final int bufferCapacity;
+    private final long coalesceWindowMs;
+
+    /** One thread per writer, so each preserves the order of its scores. */
+    private final List<ExecutorService> writers = new ArrayList<>();
+
+    /** Retries buffered scores and flushes coalesced ones. */
+    private final ScheduledExecutorService scheduler =
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "leaderboard-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    /** Scores waiting for the database to come back, oldest first. */
+    private final Deque<LeaderboardEntry> buffer = new ArrayDeque<>();
+
+    private final ScoreCoalescer coalescer = new ScoreCoalescer();
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    private Thread dispatcher = null;
+
+    private volatile boolean isClosed = false;
+
+    /**
+     * @param sink saves one score, throws on failure
+     * @param settings pool size, retries and breaker thresholds
+     */
+    public LeaderboardWriter(
+        Consumer<LeaderboardEntry> sink,
+        Settings settings
+    ) {
+        this.sink = sink;
+        this.breaker = new CircuitBreaker(
+            settings.breakerFailures(), settings.breakerOpenMs());
+        this.maxRetries = settings.maxRetries();
+        this.baseBackoffMs = settings.baseBackoffMs();
+        this.maxBackoffMs = settings.maxBackoffMs();
+        this.bufferCapacity = settings.bufferCapacity();
+        this.coalesceWindowMs = settings.coalesceWindowMs();
+        for (int i = 0; i < settings.writers(); i++) {
+            int index = i;
+            writers.add(Executors.newSingleThreadExecutor(runnable -> {
+                var thread =
+                    new Thread(runnable, "leaderboard-writer-" + index);
+                thread.setDaemon(true);
+                return thread;
+            }));
+        }
+    }
+
+    /**
+     * Start taking scores from a queue, on a thread of its own. With a
+     * coalescing window, each player's best score is handed to the writers
+     * at the end of the window instead of right away.
+     * @param queue finished games, converted to scores as they are taken
+     * @param toEntry converts a queued game to a score
+     */
+    public synchronized <T> void start(
+        BlockingQueue<T> queue,
+        Function<T, LeaderboardEntry> toEntry
+    ) {
+        dispatcher = new Thread(() -> {
+            while (!isClosed) {
+                try {
+                    take(toEntry.apply(queue.take()));
+                } catch (InterruptedException e) {
+                    break;
+                }
+            }
+            // graceful drain: whatever was queued still gets a writer
+            var remaining = new ArrayList<T>();
+            queue.drainTo(remaining);
+            remaining.forEach(game -> take(toEntry.apply(game)));
+        }, "leaderboard-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+        scheduler.scheduleWithFixedDelay(
+            this::retryBuffer,
+            RETRY_BUFFER_MS,
+            RETRY_BUFFER_MS,
+            TimeUnit.MILLISECONDS
+        );
+        if (coalesceWindowMs > 0) {
+            scheduler.scheduleWithFixedDelay(
+                this::flushCoalesced,
+                coalesceWindowMs,
+                coalesceWindowMs,
+                TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    /**
+     * Hand a score to the writer of its player right away, without
+     * coalescing.
+     * @param entry score to save
+     */
+    public void submit(LeaderboardEntry entry) {
+        synchronized (buffer) {
+            // keep the order of scores behind buffered ones
+            if (!buffer.isEmpty()) {
+                addToBuffer(entry);
+                return;
+            }
+        }
+        dispatch(entry);
+    }
+
+    /**
+     * Stop taking new scores, then wait for the writers to save the ones
+     * they already have. Scores still buffered are tried one last time.
+     * @param timeoutMs how long to wait for the writers
+     * @return scores that could not be saved
+     */
+    public int close(long timeoutMs) throws InterruptedException {
+        isClosed = true;
+        scheduler.shutdownNow();
+        synchronized (this) {
+            if (dispatcher != null) {
+                dispatcher.interrupt();
+                dispatcher.join(timeoutMs);
+            }
+        }
+        flushCoalesced();
+        retryBuffer();
+        long deadline = System.nanoTime()
+            + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        for (var writer : writers) {
+            writer.shutdown();
+        }
+        for (var writer : writers) {
+            long left = deadline - System.nanoTime();
+            writer.awaitTermination(
+                Math.max(0, left), TimeUnit.NANOSECONDS);
+        }
+        return pending();
+    }
+
+    /**
+     * @return scores coalescing, handed to a writer or buffered, not yet
+     *  saved
+     */
+    public int pending() {
+        synchronized (buffer) {
+            return coalescer.size() + buffer.size() + inFlight.get();
+        }
+    }
+
+    /** @return scores saved */
+    public long written() {
+        return written.sum();
+    }
+
+    /** @return failed attempts, including the ones retried */
+    public long failures() {
+        return failures.sum();
+    }
+
+    /** @return scores thrown away because the buffer was full */
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    /** @return scores not written because the player had a better one */
+    public long coalesced() {
+        return coalescer.coalesced();
+    }
+
+    public CircuitBreaker.State breakerState() {
+        return breaker.state();
+    }
+
+    /**
+     * Runs on the dispatcher for every game taken from the queue.
+     */
+    private void take(LeaderboardEntry entry) {
+        if (coalesceWindowMs > 0) {
+            coalescer.offer(entry);
+        } else {
+            submit(entry);
+        }
+    }
+
+    private void flushCoalesced() {
+        coalescer.drain().forEach(this::submit);
+    }
+
+    private void dispatch(LeaderboardEntry entry) {
+        int index = Math.floorMod(entry.player().hashCode(), writers.size());
+        inFlight.incrementAndGet();
+        try {
+            writers.get(index).execute(() -> {
+                try {
+                    write(entry);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // closed while dispatching, the buffer is reported as unsaved
+            inFlight.decrementAndGet();
+            addToBuffer(entry);
+        }
+    }
+
+    /**
+     * Runs on the player's writer. Sleeps between retries, so later scores
+     * of players on the same writer wait behind this one.
+     */
+    private void write(LeaderboardEntry entry) {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            if (!breaker.tryAcquire()) {
+                break;
+            }
+            try {
+                sink.accept(entry);
+                breaker.recordSuccess();
+                written.increment();
+                return;
+            } catch (RuntimeException e) {
+                failures.increment();
+                breaker.recordFailure();
+                System.err.println(
+                    "Could not save score, attempt " + (attempt + 1)
+                    + ": " + e);
+            }
+            if (attempt < maxRetries && !sleep(backoffMs(attempt))) {
+                break;
+            }
+        }
+        addToBuffer(entry);
+    }
+
+    /**
+     * @return base * 2^attempt, capped, with up to half of it as jitter so
+     *  that writers do not retry in lockstep
+     */
+    private long backoffMs(int attempt) {
+        long backoff = Math.min(maxBackoffMs, baseBackoffMs << attempt);
+        return backoff / 2
+            + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+    }
+
+    private void addToBuffer(LeaderboardEntry entry) {
+        synchronized (buffer) {
+            if (buffer.size() >= bufferCapacity) {
+                buffer.pollFirst();
+                dropped.increment();
+            }
+            buffer.addLast(entry);
+        }
+    }
+
+    /**
+     * Hand buffered scores back to the writers once the breaker lets calls
+     * through again. The first one to reach a writer tests the database,
+     * the others come back to the buffer until the test succeeds.
+     */
+    private void retryBuffer() {
+        if (!breaker.isReady()) {
+            return;
+        }
+        List<LeaderboardEntry> entries;
+        synchronized (buffer) {
+            entries = new ArrayList<>(buffer);
+            buffer.clear();
+        }
+        entries.forEach(this::dispatch);
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * @param writers threads saving scores, players are spread across them
+     * @param maxRetries attempts after the first, before a score is buffered
+     * @param baseBackoffMs wait before the first retry, doubled each time
+     * @param maxBackoffMs longest wait between retries
+     * @param breakerFailures failures in a row that stop all writes
+     * @param breakerOpenMs how long writes stay stopped before a test write
+     * @param bufferCapacity scores kept while writes are stopped, the
+     *  oldest are dropped beyond it
+     * @param coalesceWindowMs how long each player's best score is held
+     *  before it is written, 0 writes every game
+     */
+    public record Settings(
+        int writers,
+        int maxRetries,
+        long baseBackoffMs,
+        long maxBackoffMs,
+        int breakerFailures,
+        long breakerOpenMs,
+        int bufferCapacity,
+        long coalesceWindowMs
+    ) {}
+}
@@ -0,0 +1,127 @@
+package io.github.aggarcia.leaderboard;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.TreeSet;
+
+/**
+ * In memory copy of the leaderboard that answers rank and page queries
+ * without a database round trip. The players at each score are counted in
+ * a Fenwick tree, so the number of players above a score, and the score at
+ * a given position, both take logarithmic time in the highest score.
+ */
+public final class RankIndex {
+    /** Best score first, ties by name so that pages are stable. */
+    private static final Comparator<LeaderboardEntry> BY_RANK = Comparator
+        .comparingInt(LeaderboardEntry::score)
+        .reversed()
+        .thenComparing(LeaderboardEntry::player);
+
+    private final ScoreCounts counts = new ScoreCounts();
+
+    private final Map<String, LeaderboardEntry> byPlayer = new HashMap<>();
+
+    private final TreeSet<LeaderboardEntry> byRank = new TreeSet<>(BY_RANK);
+
+    /**
+     * Record a player's best score, replacing a lower one.
+     * @param entry score saved to the leaderboard
+     */
+    public synchronized void add(LeaderboardEntry entry) {
+        if (entry.score() < 0) {
+            throw new IllegalArgumentException(
+                "score must not be negative: " + entry.score());
+        }
+        var existing = byPlayer.get(entry.player());
+        if (existing != null) {
+            if (entry.score() <= existing.score()) {
+                return;
+            }
+            remove(existing);
+        }
+        byPlayer.put(entry.player(), entry);
+        byRank.add(entry);
+        counts.add(entry.score(), 1);
+    }
+
+    /**
+     * Replace every score with the ones read from the database.
+     * @param entries at most one per player
+     */
+    public synchronized void reload(List<LeaderboardEntry> entries) {
+        counts.clear();
+        byPlayer.clear();
+        byRank.clear();
+        for (var entry : entries) {
+            add(entry);
+        }
+    }
+
+    /**
+     * @param player name of the player
+     * @return 1 for the best score, players with the same score share a
+     *  rank. Empty if the player is not on the leaderboard.
+     */
+    public synchronized OptionalInt rank(String player) {
+        var entry = byPlayer.get(player);
+        if (entry == null) {
+            return OptionalInt.empty();
+        }
+        long above = byPlayer.size() - counts.countAtOrBelow(entry.score());
+        return OptionalInt.of((int) above + 1);
+    }
+
+    /**
+     * @param player name of the player
+     * @return the player's entry, or null if they are not on the leaderboard
+     */
+    public synchronized LeaderboardEntry get(String player) {
+        return byPlayer.get(player);
+    }
+
+    /**
+     * @param offset entries to skip, from the best score down
+     * @param limit most entries to return
+     * @return entries sorted by rank
+     */
+    public synchronized List<LeaderboardEntry> page(int offset, int limit) {
+        var page = new ArrayList<LeaderboardEntry>();
+        if (offset < 0 || limit <= 0 || offset >= byPlayer.size()) {
+            return page;
+        }
+        // the score at the offset, found by walking down the tree
+        int score = counts.scoreAtPosition(byPlayer.size() - offset);
+        long above = byPlayer.size() - counts.countAtOrBelow(score);
+        // skip the players tied at that score who come before the offset
+        long skip = offset - above;
+        var first = new LeaderboardEntry("", score, null);
+        for (var entry : byRank.tailSet(first, true)) {
+            if (skip > 0) {
+                skip--;
+                continue;
+            }
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(entry);
+        }
+        return page;
+    }
+
+    /**
+     * @return number of players on the leaderboard
+     */
+    public synchronized int size() {
+        return byPlayer.size();
+    }
+
+    private void remove(LeaderboardEntry entry) {
+        byPlayer.remove(entry.player());
+        byRank.remove(entry);
+        counts.add(entry.score(), -1);
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.aggarcia.leaderboard;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Best score of each player since the last drain. A player who loses many
+ * short games in a row only costs one leaderboard write per drain, for
+ * the best of those games, since the leaderboard only keeps each player's
+ * best anyway.
+ */
+public final class ScoreCoalescer {
+    /** Players in the order they first lost since the last drain. */
+    private final Map<String, LeaderboardEntry> best = new LinkedHashMap<>();
+
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * @param entry score of a finished game, kept if it is the player's
+     *  best since the last drain. On a tie the earlier game is kept.
+     */
+    public synchronized void offer(LeaderboardEntry entry) {
+        var previous = best.get(entry.player());
+        if (previous != null) {
+            coalesced.increment();
+            if (previous.score() >= entry.score()) {
+                return;
+            }
+        }
+        best.put(entry.player(), entry);
+    }
+
+    /**
+     * @return best score of each player since the last drain, then starts
+     *  over empty
+     */
+    public synchronized List<LeaderboardEntry> drain() {
+        var entries = new ArrayList<>(best.values());
+        best.clear();
+        return entries;
+    }
+
+    /** @return players waiting for the next drain */
+    public synchronized int size() {
+        return best.size();
+    }
+
+    /** @return scores merged into a better or earlier one, never written */
+    public long coalesced() {
+        return coalesced.sum();
+    }
+}
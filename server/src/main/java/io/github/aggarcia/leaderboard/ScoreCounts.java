@@ -0,0 +1,80 @@
+package io.github.aggarcia.leaderboard;
+
+/**
+ * Number of players at each score, as a Fenwick tree. The number of players
+ * at or below a score, and the score at a given position, both take
+ * logarithmic time in the highest score.
+ *
+ * Scores are small integers, so each score is its own bucket. The tree
+ * doubles when a higher score than it can hold arrives. Not thread safe,
+ * the classes holding one synchronize on themselves.
+ */
+final class ScoreCounts {
+    /** Must be a power of two, so the tree can double in place. */
+    private static final int INITIAL_SCORES = 1024;
+
+    /** 1 based, index score + 1. */
+    private long[] tree = new long[INITIAL_SCORES + 1];
+
+    /**
+     * @param score score that gained or lost players, not negative
+     * @param delta players added, negative to remove them
+     */
+    void add(int score, int delta) {
+        while (score >= tree.length - 1) {
+            grow();
+        }
+        for (int i = score + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+
+    /**
+     * @return number of players with a score of at most `score`
+     */
+    long countAtOrBelow(int score) {
+        long count = 0;
+        int last = Math.min(score + 1, tree.length - 1);
+        for (int i = last; i > 0; i -= i & -i) {
+            count += tree[i];
+        }
+        return count;
+    }
+
+    /**
+     * @param position 1 based, counting from the lowest score up
+     * @return lowest score with at least `position` players at or below it
+     */
+    int scoreAtPosition(long position) {
+        int index = 0;
+        for (int step = Integer.highestOneBit(tree.length - 1);
+            step > 0;
+            step >>= 1
+        ) {
+            int next = index + step;
+            if (next < tree.length && tree[next] < position) {
+                index = next;
+                position -= tree[next];
+            }
+        }
+        // tree index + 1 reaches the position, which holds score = index
+        return index;
+    }
+
+    /** Forget every player. */
+    void clear() {
+        tree = new long[INITIAL_SCORES + 1];
+    }
+
+    /**
+     * Double the scores the tree can hold. The new nodes cover only scores
+     * nobody has yet, except the last one, which covers every score.
+     */
+    private void grow() {
+        int size = tree.length - 1;
+        var grown = new long[2 * size + 1];
+        System.arraycopy(tree, 0, grown, 0, tree.length);
+        grown[2 * size] = tree[size];
+        tree = grown;
+    }
+}
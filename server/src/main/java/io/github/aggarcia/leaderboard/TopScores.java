@@ -0,0 +1,100 @@
+package io.github.aggarcia.leaderboard;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * In memory copy of the best K scores in the leaderboard, one per player.
+ * The lowest of them sits at the head of a min-heap, so deciding whether a
+ * new score could make the leaderboard takes constant time, and scores that
+ * cannot never reach the database.
+ *
+ * Other servers write to the same table, so the copy can fall behind. It
+ * only ever underestimates the threshold, which costs a write that was not
+ * needed, never a score that was lost. Reload it from the database now and
+ * then to keep it close.
+ */
+public final class TopScores {
+    private final int capacity;
+
+    /** Lowest score first. */
+    private final PriorityQueue<LeaderboardEntry> heap = new PriorityQueue<>(
+        Comparator.comparingInt(LeaderboardEntry::score));
+
+    /** Entry in the heap for each player. */
+    private final Map<String, LeaderboardEntry> byPlayer = new HashMap<>();
+
+    /**
+     * @param capacity number of scores kept, K
+     */
+    public TopScores(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException(
+                "capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * @return number of scores kept when the leaderboard is full
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @param entry new score for a player
+     * @return false if the score is too low to enter the top K, or no
+     *  better than the player's score already in it
+     */
+    public synchronized boolean isCandidate(LeaderboardEntry entry) {
+        var existing = byPlayer.get(entry.player());
+        if (existing != null) {
+            return entry.score() > existing.score();
+        }
+        return heap.size() < capacity || entry.score() > heap.peek().score();
+    }
+
+    /**
+     * Record a score that was saved, evicting the lowest score if there
+     * are now more than K.
+     * @param entry score saved to the database
+     */
+    public synchronized void add(LeaderboardEntry entry) {
+        var existing = byPlayer.get(entry.player());
+        if (existing != null) {
+            if (entry.score() <= existing.score()) {
+                return;
+            }
+            // linear, but only for players already in the top K
+            heap.remove(existing);
+        }
+        heap.add(entry);
+        byPlayer.put(entry.player(), entry);
+        if (heap.size() > capacity) {
+            byPlayer.remove(heap.poll().player());
+        }
+    }
+
+    /**
+     * Replace every score with the ones read from the database.
+     * @param entries the best scores, at most one per player
+     */
+    public synchronized void reload(List<LeaderboardEntry> entries) {
+        heap.clear();
+        byPlayer.clear();
+        for (var entry : entries) {
+            add(entry);
+        }
+    }
+
+    /**
+     * @return number of scores kept
+     */
+    public synchronized int size() {
+        return heap.size();
+    }
+}
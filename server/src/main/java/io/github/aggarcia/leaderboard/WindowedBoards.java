@@ -0,0 +1,197 @@
+package io.github.aggarcia.leaderboard;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Daily and weekly leaderboards, kept up to date one finished game at a
+ * time instead of recomputed from the table. Each window keeps every
+ * player's best score since it started, and starts over empty when the
+ * clock passes into the next one.
+ *
+ * Scores that changed since the last flush are remembered, so they can be
+ * written to the database in one batch.
+ */
+public final class WindowedBoards {
+    /** Windows kept here, all time is kept by the leaderboard itself. */
+    public static final List<LeaderboardWindow> WINDOWS =
+        List.of(LeaderboardWindow.DAILY, LeaderboardWindow.WEEKLY);
+
+    private final Clock clock;
+
+    private final Map<LeaderboardWindow, Board> boards =
+        new EnumMap<>(LeaderboardWindow.class);
+
+    public WindowedBoards() {
+        this(Clock.systemUTC());
+    }
+
+    /**
+     * @param clock decides when windows roll over
+     */
+    public WindowedBoards(Clock clock) {
+        this.clock = clock;
+        for (var window : WINDOWS) {
+            boards.put(window, new Board(window.start(clock.instant())));
+        }
+    }
+
+    /**
+     * Add a finished game to every window it falls in. Games that finished
+     * in a window that is already over are ignored.
+     * @param entry score of the game, a null timestamp means now
+     */
+    public synchronized void record(LeaderboardEntry entry) {
+        rollOver();
+        var finishedAt = entry.timestamp() == null
+            ? clock.instant()
+            : entry.timestamp().toInstant();
+        for (var board : boards.values()) {
+            if (finishedAt.isBefore(board.start)) {
+                continue;
+            }
+            var best = board.index.get(entry.player());
+            if (best != null && best.score() >= entry.score()) {
+                continue;
+            }
+            board.index.add(entry);
+            board.dirty.put(entry.player(), entry);
+        }
+    }
+
+    /**
+     * @param window DAILY or WEEKLY
+     * @return ranks for the current window
+     */
+    public synchronized RankIndex index(LeaderboardWindow window) {
+        rollOver();
+        return board(window).index;
+    }
+
+    /**
+     * @param window DAILY or WEEKLY
+     * @return start of the current window
+     */
+    public synchronized Instant start(LeaderboardWindow window) {
+        rollOver();
+        return board(window).start;
+    }
+
+    /**
+     * Replace a window's scores with the ones read from the database.
+     * Ignored if the window rolled over since they were read.
+     * @param window DAILY or WEEKLY
+     * @param start start of the window the entries belong to
+     * @param entries best score of each player in the window
+     */
+    public synchronized void load(
+        LeaderboardWindow window,
+        Instant start,
+        List<LeaderboardEntry> entries
+    ) {
+        rollOver();
+        var board = board(window);
+        if (!board.start.equals(start)) {
+            return;
+        }
+        board.index.reload(entries);
+        // games recorded before the load are newer than the database
+        for (var entry : board.dirty.values()) {
+            board.index.add(entry);
+        }
+    }
+
+    /**
+     * Take every score that changed since the last call, including the
+     * ones of windows that have rolled over since.
+     * @return scores to write
+     */
+    public synchronized List<Pending> drainPending() {
+        var pending = new ArrayList<Pending>();
+        for (var entry : boards.entrySet()) {
+            var board = entry.getValue();
+            pending.addAll(board.unflushed);
+            board.unflushed.clear();
+            for (var score : board.dirty.values()) {
+                pending.add(new Pending(entry.getKey(), board.start, score));
+            }
+            board.dirty.clear();
+        }
+        return pending;
+    }
+
+    /**
+     * Give back scores that could not be written, so the next flush tries
+     * again.
+     * @param pending scores returned by drainPending
+     */
+    public synchronized void requeue(List<Pending> pending) {
+        rollOver();
+        for (var score : pending) {
+            var board = board(score.window());
+            if (!board.start.equals(score.start())) {
+                board.unflushed.add(score);
+                continue;
+            }
+            var newer = board.dirty.get(score.entry().player());
+            if (newer == null || newer.score() < score.entry().score()) {
+                board.dirty.put(score.entry().player(), score.entry());
+            }
+        }
+    }
+
+    /**
+     * Start any window whose period is over. Scores of the old window that
+     * were not flushed yet are kept, so they still reach the database.
+     */
+    public synchronized void rollOver() {
+        var now = clock.instant();
+        for (var entry : boards.entrySet()) {
+            var start = entry.getKey().start(now);
+            var board = entry.getValue();
+            if (board.start.equals(start)) {
+                continue;
+            }
+            var unflushed = new ArrayList<Pending>();
+            for (var score : board.dirty.values()) {
+                unflushed.add(new Pending(entry.getKey(), board.start, score));
+            }
+            board.start = start;
+            board.index.reload(List.of());
+            board.dirty.clear();
+            board.unflushed.addAll(unflushed);
+        }
+    }
+
+    private Board board(LeaderboardWindow window) {
+        var board = boards.get(window);
+        if (board == null) {
+            throw new IllegalArgumentException(
+                "window is not kept in memory: " + window);
+        }
+        return board;
+    }
+
+    /** A score that has not been written to the database yet. */
+    public record Pending(
+        LeaderboardWindow window,
+        Instant start,
+        LeaderboardEntry entry
+    ) {}
+
+    private static final class Board {
+        private Instant start;
+        private final RankIndex index = new RankIndex();
+        private final Map<String, LeaderboardEntry> dirty = new HashMap<>();
+        private final List<Pending> unflushed = new ArrayList<>();
+
+        Board(Instant start) {
+            this.start = start;
+        }
+    }
+}
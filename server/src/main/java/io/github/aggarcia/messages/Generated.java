@@ -234,6 +234,81 @@ public final class Generated {
      */
     io.github.aggarcia.messages.Generated.JoinReplyOrBuilder getJoinReplyOrBuilder();
 
+    /**
+     * <code>.Ping ping = 7;</code>
+     * @return Whether the ping field is set.
+     */
+    boolean hasPing();
+    /**
+     * <code>.Ping ping = 7;</code>
+     * @return The ping.
+     */
+    io.github.aggarcia.messages.Generated.Ping getPing();
+    /**
+     * <code>.Ping ping = 7;</code>
+     */
+    io.github.aggarcia.messages.Generated.PingOrBuilder getPingOrBuilder();
+
+    /**
+     * <code>.Pong pong = 8;</code>
+     * @return Whether the pong field is set.
+     */
+    boolean hasPong();
+    /**
+     * <code>.Pong pong = 8;</code>
+     * @return The pong.
+     */
+    io.github.aggarcia.messages.Generated.Pong getPong();
+    /**
+     * <code>.Pong pong = 8;</code>
+     */
+    io.github.aggarcia.messages.Generated.PongOrBuilder getPongOrBuilder();
+
+    /**
+     * <code>.LeaveEvent leaveEvent = 9;</code>
+     * @return Whether the leaveEvent field is set.
+     */
+    boolean hasLeaveEvent();
+    /**
+     * <code>.LeaveEvent leaveEvent = 9;</code>
+     * @return The leaveEvent.
+     */
+    io.github.aggarcia.messages.Generated.LeaveEvent getLeaveEvent();
+    /**
+     * <code>.LeaveEvent leaveEvent = 9;</code>
+     */
+    io.github.aggarcia.messages.Generated.LeaveEventOrBuilder getLeaveEventOrBuilder();
+
+    /**
+     * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+     * @return Whether the leaderboardSubscribe field is set.
+     */
+    boolean hasLeaderboardSubscribe();
+    /**
+     * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+     * @return The leaderboardSubscribe.
+     */
+    io.github.aggarcia.messages.Generated.LeaderboardSubscribe getLeaderboardSubscribe();
+    /**
+     * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+     */
+    io.github.aggarcia.messages.Generated.LeaderboardSubscribeOrBuilder getLeaderboardSubscribeOrBuilder();
+
+    /**
+     * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+     * @return Whether the leaderboardUpdate field is set.
+     */
+    boolean hasLeaderboardUpdate();
+    /**
+     * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+     * @return The leaderboardUpdate.
+     */
+    io.github.aggarcia.messages.Generated.LeaderboardUpdate getLeaderboardUpdate();
+    /**
+     * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+     */
+    io.github.aggarcia.messages.Generated.LeaderboardUpdateOrBuilder getLeaderboardUpdateOrBuilder();
+
     public io.github.aggarcia.messages.Generated.SocketMessage.PayloadCase getPayloadCase();
   }
   /**
@@ -287,6 +362,11 @@ public final class Generated {
       GAMEOVEREVENT(4),
       ERRORREPLY(5),
       JOINREPLY(6),
+      PING(7),
+      PONG(8),
+      LEAVEEVENT(9),
+      LEADERBOARDSUBSCRIBE(10),
+      LEADERBOARDUPDATE(11),
       PAYLOAD_NOT_SET(0);
       private final int value;
       private PayloadCase(int value) {
@@ -310,6 +390,11 @@ public final class Generated {
           case 4: return GAMEOVEREVENT;
           case 5: return ERRORREPLY;
           case 6: return JOINREPLY;
+          case 7: return PING;
+          case 8: return PONG;
+          case 9: return LEAVEEVENT;
+          case 10: return LEADERBOARDSUBSCRIBE;
+          case 11: return LEADERBOARDUPDATE;
           case 0: return PAYLOAD_NOT_SET;
           default: return null;
         }
@@ -511,6 +596,161 @@ public final class Generated {
       return io.github.aggarcia.messages.Generated.JoinReply.getDefaultInstance();
     }
 
+    public static final int PING_FIELD_NUMBER = 7;
+    /**
+     * <code>.Ping ping = 7;</code>
+     * @return Whether the ping field is set.
+     */
+    @java.lang.Override
+    public boolean hasPing() {
+      return payloadCase_ == 7;
+    }
+    /**
+     * <code>.Ping ping = 7;</code>
+     * @return The ping.
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.Ping getPing() {
+      if (payloadCase_ == 7) {
+         return (io.github.aggarcia.messages.Generated.Ping) payload_;
+      }
+      return io.github.aggarcia.messages.Generated.Ping.getDefaultInstance();
+    }
+    /**
+     * <code>.Ping ping = 7;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.PingOrBuilder getPingOrBuilder() {
+      if (payloadCase_ == 7) {
+         return (io.github.aggarcia.messages.Generated.Ping) payload_;
+      }
+      return io.github.aggarcia.messages.Generated.Ping.getDefaultInstance();
+    }
+
+    public static final int PONG_FIELD_NUMBER = 8;
+    /**
+     * <code>.Pong pong = 8;</code>
+     * @return Whether the pong field is set.
+     */
+    @java.lang.Override
+    public boolean hasPong() {
+      return payloadCase_ == 8;
+    }
+    /**
+     * <code>.Pong pong = 8;</code>
+     * @return The pong.
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.Pong getPong() {
+      if (payloadCase_ == 8) {
+         return (io.github.aggarcia.messages.Generated.Pong) payload_;
+      }
+      return io.github.aggarcia.messages.Generated.Pong.getDefaultInstance();
+    }
+    /**
+     * <code>.Pong pong = 8;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.PongOrBuilder getPongOrBuilder() {
+      if (payloadCase_ == 8) {
+         return (io.github.aggarcia.messages.Generated.Pong) payload_;
+      }
+      return io.github.aggarcia.messages.Generated.Pong.getDefaultInstance();
+    }
+
+    public static final int LEAVEEVENT_FIELD_NUMBER = 9;
+    /**
+     * <code>.LeaveEvent leaveEvent = 9;</code>
+     * @return Whether the leaveEvent field is set.
+     */
+    @java.lang.Override
+    public boolean hasLeaveEvent() {
+      return payloadCase_ == 9;
+    }
+    /**
+     * <code>.LeaveEvent leaveEvent = 9;</code>
+     * @return The leaveEvent.
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.LeaveEvent getLeaveEvent() {
+      if (payloadCase_ == 9) {
+         return (io.github.aggarcia.messages.Generated.LeaveEvent) payload_;
+      }
+      return io.github.aggarcia.messages.Generated.LeaveEvent.getDefaultInstance();
+    }
+    /**
+     * <code>.LeaveEvent leaveEvent = 9;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.LeaveEventOrBuilder getLeaveEventOrBuilder() {
+      if (payloadCase_ == 9) {
+         return (io.github.aggarcia.messages.Generated.LeaveEvent) payload_;
+      }
+      return io.github.aggarcia.messages.Generated.LeaveEvent.getDefaultInstance();
+    }
+
+    public static final int LEADERBOARDSUBSCRIBE_FIELD_NUMBER = 10;
+    /**
+     * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+     * @return Whether the leaderboardSubscribe field is set.
+     */
+    @java.lang.Override
+    public boolean hasLeaderboardSubscribe() {
+      return payloadCase_ == 10;
+    }
+    /**
+     * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+     * @return The leaderboardSubscribe.
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.LeaderboardSubscribe getLeaderboardSubscribe() {
+      if (payloadCase_ == 10) {
+         return (io.github.aggarcia.messages.Generated.LeaderboardSubscribe) payload_;
+      }
+      return io.github.aggarcia.messages.Generated.LeaderboardSubscribe.getDefaultInstance();
+    }
+    /**
+     * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.LeaderboardSubscribeOrBuilder getLeaderboardSubscribeOrBuilder() {
+      if (payloadCase_ == 10) {
+         return (io.github.aggarcia.messages.Generated.LeaderboardSubscribe) payload_;
+      }
+      return io.github.aggarcia.messages.Generated.LeaderboardSubscribe.getDefaultInstance();
+    }
+
+    public static final int LEADERBOARDUPDATE_FIELD_NUMBER = 11;
+    /**
+     * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+     * @return Whether the leaderboardUpdate field is set.
+     */
+    @java.lang.Override
+    public boolean hasLeaderboardUpdate() {
+      return payloadCase_ == 11;
+    }
+    /**
+     * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+     * @return The leaderboardUpdate.
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.LeaderboardUpdate getLeaderboardUpdate() {
+      if (payloadCase_ == 11) {
+         return (io.github.aggarcia.messages.Generated.LeaderboardUpdate) payload_;
+      }
+      return io.github.aggarcia.messages.Generated.LeaderboardUpdate.getDefaultInstance();
+    }
+    /**
+     * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.LeaderboardUpdateOrBuilder getLeaderboardUpdateOrBuilder() {
+      if (payloadCase_ == 11) {
+         return (io.github.aggarcia.messages.Generated.LeaderboardUpdate) payload_;
+      }
+      return io.github.aggarcia.messages.Generated.LeaderboardUpdate.getDefaultInstance();
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -543,6 +783,21 @@ public final class Generated {
       if (payloadCase_ == 6) {
         output.writeMessage(6, (io.github.aggarcia.messages.Generated.JoinReply) payload_);
       }
+      if (payloadCase_ == 7) {
+        output.writeMessage(7, (io.github.aggarcia.messages.Generated.Ping) payload_);
+      }
+      if (payloadCase_ == 8) {
+        output.writeMessage(8, (io.github.aggarcia.messages.Generated.Pong) payload_);
+      }
+      if (payloadCase_ == 9) {
+        output.writeMessage(9, (io.github.aggarcia.messages.Generated.LeaveEvent) payload_);
+      }
+      if (payloadCase_ == 10) {
+        output.writeMessage(10, (io.github.aggarcia.messages.Generated.LeaderboardSubscribe) payload_);
+      }
+      if (payloadCase_ == 11) {
+        output.writeMessage(11, (io.github.aggarcia.messages.Generated.LeaderboardUpdate) payload_);
+      }
       getUnknownFields().writeTo(output);
     }
 
@@ -576,6 +831,26 @@ public final class Generated {
         size += com.google.protobuf.CodedOutputStream
           .computeMessageSize(6, (io.github.aggarcia.messages.Generated.JoinReply) payload_);
       }
+      if (payloadCase_ == 7) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, (io.github.aggarcia.messages.Generated.Ping) payload_);
+      }
+      if (payloadCase_ == 8) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(8, (io.github.aggarcia.messages.Generated.Pong) payload_);
+      }
+      if (payloadCase_ == 9) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(9, (io.github.aggarcia.messages.Generated.LeaveEvent) payload_);
+      }
+      if (payloadCase_ == 10) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(10, (io.github.aggarcia.messages.Generated.LeaderboardSubscribe) payload_);
+      }
+      if (payloadCase_ == 11) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(11, (io.github.aggarcia.messages.Generated.LeaderboardUpdate) payload_);
+      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -617,6 +892,26 @@ public final class Generated {
           if (!getJoinReply()
               .equals(other.getJoinReply())) return false;
           break;
+        case 7:
+          if (!getPing()
+              .equals(other.getPing())) return false;
+          break;
+        case 8:
+          if (!getPong()
+              .equals(other.getPong())) return false;
+          break;
+        case 9:
+          if (!getLeaveEvent()
+              .equals(other.getLeaveEvent())) return false;
+          break;
+        case 10:
+          if (!getLeaderboardSubscribe()
+              .equals(other.getLeaderboardSubscribe())) return false;
+          break;
+        case 11:
+          if (!getLeaderboardUpdate()
+              .equals(other.getLeaderboardUpdate())) return false;
+          break;
         case 0:
         default:
       }
@@ -656,6 +951,26 @@ public final class Generated {
           hash = (37 * hash) + JOINREPLY_FIELD_NUMBER;
           hash = (53 * hash) + getJoinReply().hashCode();
           break;
+        case 7:
+          hash = (37 * hash) + PING_FIELD_NUMBER;
+          hash = (53 * hash) + getPing().hashCode();
+          break;
+        case 8:
+          hash = (37 * hash) + PONG_FIELD_NUMBER;
+          hash = (53 * hash) + getPong().hashCode();
+          break;
+        case 9:
+          hash = (37 * hash) + LEAVEEVENT_FIELD_NUMBER;
+          hash = (53 * hash) + getLeaveEvent().hashCode();
+          break;
+        case 10:
+          hash = (37 * hash) + LEADERBOARDSUBSCRIBE_FIELD_NUMBER;
+          hash = (53 * hash) + getLeaderboardSubscribe().hashCode();
+          break;
+        case 11:
+          hash = (37 * hash) + LEADERBOARDUPDATE_FIELD_NUMBER;
+          hash = (53 * hash) + getLeaderboardUpdate().hashCode();
+          break;
         case 0:
         default:
       }
@@ -805,6 +1120,21 @@ public final class Generated {
         if (joinReplyBuilder_ != null) {
           joinReplyBuilder_.clear();
         }
+        if (pingBuilder_ != null) {
+          pingBuilder_.clear();
+        }
+        if (pongBuilder_ != null) {
+          pongBuilder_.clear();
+        }
+        if (leaveEventBuilder_ != null) {
+          leaveEventBuilder_.clear();
+        }
+        if (leaderboardSubscribeBuilder_ != null) {
+          leaderboardSubscribeBuilder_.clear();
+        }
+        if (leaderboardUpdateBuilder_ != null) {
+          leaderboardUpdateBuilder_.clear();
+        }
         payloadCase_ = 0;
         payload_ = null;
         return this;
@@ -875,6 +1205,41 @@ public final class Generated {
             result.payload_ = joinReplyBuilder_.build();
           }
         }
+        if (payloadCase_ == 7) {
+          if (pingBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = pingBuilder_.build();
+          }
+        }
+        if (payloadCase_ == 8) {
+          if (pongBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = pongBuilder_.build();
+          }
+        }
+        if (payloadCase_ == 9) {
+          if (leaveEventBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = leaveEventBuilder_.build();
+          }
+        }
+        if (payloadCase_ == 10) {
+          if (leaderboardSubscribeBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = leaderboardSubscribeBuilder_.build();
+          }
+        }
+        if (payloadCase_ == 11) {
+          if (leaderboardUpdateBuilder_ == null) {
+            result.payload_ = payload_;
+          } else {
+            result.payload_ = leaderboardUpdateBuilder_.build();
+          }
+        }
         result.payloadCase_ = payloadCase_;
         onBuilt();
         return result;
@@ -949,6 +1314,26 @@ public final class Generated {
             mergeJoinReply(other.getJoinReply());
             break;
           }
+          case PING: {
+            mergePing(other.getPing());
+            break;
+          }
+          case PONG: {
+            mergePong(other.getPong());
+            break;
+          }
+          case LEAVEEVENT: {
+            mergeLeaveEvent(other.getLeaveEvent());
+            break;
+          }
+          case LEADERBOARDSUBSCRIBE: {
+            mergeLeaderboardSubscribe(other.getLeaderboardSubscribe());
+            break;
+          }
+          case LEADERBOARDUPDATE: {
+            mergeLeaderboardUpdate(other.getLeaderboardUpdate());
+            break;
+          }
           case PAYLOAD_NOT_SET: {
             break;
           }
@@ -1021,6 +1406,41 @@ public final class Generated {
                 payloadCase_ = 6;
                 break;
               } // case 50
+              case 58: {
+                input.readMessage(
+                    getPingFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 7;
+                break;
+              } // case 58
+              case 66: {
+                input.readMessage(
+                    getPongFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 8;
+                break;
+              } // case 66
+              case 74: {
+                input.readMessage(
+                    getLeaveEventFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 9;
+                break;
+              } // case 74
+              case 82: {
+                input.readMessage(
+                    getLeaderboardSubscribeFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 10;
+                break;
+              } // case 82
+              case 90: {
+                input.readMessage(
+                    getLeaderboardUpdateFieldBuilder().getBuilder(),
+                    extensionRegistry);
+                payloadCase_ = 11;
+                break;
+              } // case 90
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -1903,154 +2323,4928 @@ public final class Generated {
         onChanged();;
         return joinReplyBuilder_;
       }
-      @java.lang.Override
-      public final Builder setUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.setUnknownFields(unknownFields);
-      }
 
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.Ping, io.github.aggarcia.messages.Generated.Ping.Builder, io.github.aggarcia.messages.Generated.PingOrBuilder> pingBuilder_;
+      /**
+       * <code>.Ping ping = 7;</code>
+       * @return Whether the ping field is set.
+       */
       @java.lang.Override
-      public final Builder mergeUnknownFields(
-          final com.google.protobuf.UnknownFieldSet unknownFields) {
-        return super.mergeUnknownFields(unknownFields);
+      public boolean hasPing() {
+        return payloadCase_ == 7;
       }
-
-
-      // @@protoc_insertion_point(builder_scope:SocketMessage)
-    }
-
-    // @@protoc_insertion_point(class_scope:SocketMessage)
-    private static final io.github.aggarcia.messages.Generated.SocketMessage DEFAULT_INSTANCE;
-    static {
-      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.SocketMessage();
-    }
-
-    public static io.github.aggarcia.messages.Generated.SocketMessage getDefaultInstance() {
-      return DEFAULT_INSTANCE;
-    }
-
-    private static final com.google.protobuf.Parser<SocketMessage>
-        PARSER = new com.google.protobuf.AbstractParser<SocketMessage>() {
+      /**
+       * <code>.Ping ping = 7;</code>
+       * @return The ping.
+       */
       @java.lang.Override
-      public SocketMessage parsePartialFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws com.google.protobuf.InvalidProtocolBufferException {
-        Builder builder = newBuilder();
-        try {
-          builder.mergeFrom(input, extensionRegistry);
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.setUnfinishedMessage(builder.buildPartial());
-        } catch (com.google.protobuf.UninitializedMessageException e) {
-          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
-        } catch (java.io.IOException e) {
-          throw new com.google.protobuf.InvalidProtocolBufferException(e)
-              .setUnfinishedMessage(builder.buildPartial());
+      public io.github.aggarcia.messages.Generated.Ping getPing() {
+        if (pingBuilder_ == null) {
+          if (payloadCase_ == 7) {
+            return (io.github.aggarcia.messages.Generated.Ping) payload_;
+          }
+          return io.github.aggarcia.messages.Generated.Ping.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 7) {
+            return pingBuilder_.getMessage();
+          }
+          return io.github.aggarcia.messages.Generated.Ping.getDefaultInstance();
         }
-        return builder.buildPartial();
       }
-    };
-
-    public static com.google.protobuf.Parser<SocketMessage> parser() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public com.google.protobuf.Parser<SocketMessage> getParserForType() {
-      return PARSER;
-    }
-
-    @java.lang.Override
-    public io.github.aggarcia.messages.Generated.SocketMessage getDefaultInstanceForType() {
-      return DEFAULT_INSTANCE;
-    }
-
-  }
-
-  public interface GamePingOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:GamePing)
-      com.google.protobuf.MessageOrBuilder {
-
-    /**
+      /**
+       * <code>.Ping ping = 7;</code>
+       */
+      public Builder setPing(io.github.aggarcia.messages.Generated.Ping value) {
+        if (pingBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          pingBuilder_.setMessage(value);
+        }
+        payloadCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.Ping ping = 7;</code>
+       */
+      public Builder setPing(
+          io.github.aggarcia.messages.Generated.Ping.Builder builderForValue) {
+        if (pingBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          pingBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.Ping ping = 7;</code>
+       */
+      public Builder mergePing(io.github.aggarcia.messages.Generated.Ping value) {
+        if (pingBuilder_ == null) {
+          if (payloadCase_ == 7 &&
+              payload_ != io.github.aggarcia.messages.Generated.Ping.getDefaultInstance()) {
+            payload_ = io.github.aggarcia.messages.Generated.Ping.newBuilder((io.github.aggarcia.messages.Generated.Ping) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 7) {
+            pingBuilder_.mergeFrom(value);
+          } else {
+            pingBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 7;
+        return this;
+      }
+      /**
+       * <code>.Ping ping = 7;</code>
+       */
+      public Builder clearPing() {
+        if (pingBuilder_ == null) {
+          if (payloadCase_ == 7) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 7) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          pingBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.Ping ping = 7;</code>
+       */
+      public io.github.aggarcia.messages.Generated.Ping.Builder getPingBuilder() {
+        return getPingFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Ping ping = 7;</code>
+       */
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.PingOrBuilder getPingOrBuilder() {
+        if ((payloadCase_ == 7) && (pingBuilder_ != null)) {
+          return pingBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 7) {
+            return (io.github.aggarcia.messages.Generated.Ping) payload_;
+          }
+          return io.github.aggarcia.messages.Generated.Ping.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.Ping ping = 7;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.Ping, io.github.aggarcia.messages.Generated.Ping.Builder, io.github.aggarcia.messages.Generated.PingOrBuilder> 
+          getPingFieldBuilder() {
+        if (pingBuilder_ == null) {
+          if (!(payloadCase_ == 7)) {
+            payload_ = io.github.aggarcia.messages.Generated.Ping.getDefaultInstance();
+          }
+          pingBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.aggarcia.messages.Generated.Ping, io.github.aggarcia.messages.Generated.Ping.Builder, io.github.aggarcia.messages.Generated.PingOrBuilder>(
+                  (io.github.aggarcia.messages.Generated.Ping) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 7;
+        onChanged();;
+        return pingBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.Pong, io.github.aggarcia.messages.Generated.Pong.Builder, io.github.aggarcia.messages.Generated.PongOrBuilder> pongBuilder_;
+      /**
+       * <code>.Pong pong = 8;</code>
+       * @return Whether the pong field is set.
+       */
+      @java.lang.Override
+      public boolean hasPong() {
+        return payloadCase_ == 8;
+      }
+      /**
+       * <code>.Pong pong = 8;</code>
+       * @return The pong.
+       */
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.Pong getPong() {
+        if (pongBuilder_ == null) {
+          if (payloadCase_ == 8) {
+            return (io.github.aggarcia.messages.Generated.Pong) payload_;
+          }
+          return io.github.aggarcia.messages.Generated.Pong.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 8) {
+            return pongBuilder_.getMessage();
+          }
+          return io.github.aggarcia.messages.Generated.Pong.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.Pong pong = 8;</code>
+       */
+      public Builder setPong(io.github.aggarcia.messages.Generated.Pong value) {
+        if (pongBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          pongBuilder_.setMessage(value);
+        }
+        payloadCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.Pong pong = 8;</code>
+       */
+      public Builder setPong(
+          io.github.aggarcia.messages.Generated.Pong.Builder builderForValue) {
+        if (pongBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          pongBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.Pong pong = 8;</code>
+       */
+      public Builder mergePong(io.github.aggarcia.messages.Generated.Pong value) {
+        if (pongBuilder_ == null) {
+          if (payloadCase_ == 8 &&
+              payload_ != io.github.aggarcia.messages.Generated.Pong.getDefaultInstance()) {
+            payload_ = io.github.aggarcia.messages.Generated.Pong.newBuilder((io.github.aggarcia.messages.Generated.Pong) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 8) {
+            pongBuilder_.mergeFrom(value);
+          } else {
+            pongBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 8;
+        return this;
+      }
+      /**
+       * <code>.Pong pong = 8;</code>
+       */
+      public Builder clearPong() {
+        if (pongBuilder_ == null) {
+          if (payloadCase_ == 8) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 8) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          pongBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.Pong pong = 8;</code>
+       */
+      public io.github.aggarcia.messages.Generated.Pong.Builder getPongBuilder() {
+        return getPongFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.Pong pong = 8;</code>
+       */
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.PongOrBuilder getPongOrBuilder() {
+        if ((payloadCase_ == 8) && (pongBuilder_ != null)) {
+          return pongBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 8) {
+            return (io.github.aggarcia.messages.Generated.Pong) payload_;
+          }
+          return io.github.aggarcia.messages.Generated.Pong.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.Pong pong = 8;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.Pong, io.github.aggarcia.messages.Generated.Pong.Builder, io.github.aggarcia.messages.Generated.PongOrBuilder> 
+          getPongFieldBuilder() {
+        if (pongBuilder_ == null) {
+          if (!(payloadCase_ == 8)) {
+            payload_ = io.github.aggarcia.messages.Generated.Pong.getDefaultInstance();
+          }
+          pongBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.aggarcia.messages.Generated.Pong, io.github.aggarcia.messages.Generated.Pong.Builder, io.github.aggarcia.messages.Generated.PongOrBuilder>(
+                  (io.github.aggarcia.messages.Generated.Pong) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 8;
+        onChanged();;
+        return pongBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.LeaveEvent, io.github.aggarcia.messages.Generated.LeaveEvent.Builder, io.github.aggarcia.messages.Generated.LeaveEventOrBuilder> leaveEventBuilder_;
+      /**
+       * <code>.LeaveEvent leaveEvent = 9;</code>
+       * @return Whether the leaveEvent field is set.
+       */
+      @java.lang.Override
+      public boolean hasLeaveEvent() {
+        return payloadCase_ == 9;
+      }
+      /**
+       * <code>.LeaveEvent leaveEvent = 9;</code>
+       * @return The leaveEvent.
+       */
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.LeaveEvent getLeaveEvent() {
+        if (leaveEventBuilder_ == null) {
+          if (payloadCase_ == 9) {
+            return (io.github.aggarcia.messages.Generated.LeaveEvent) payload_;
+          }
+          return io.github.aggarcia.messages.Generated.LeaveEvent.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 9) {
+            return leaveEventBuilder_.getMessage();
+          }
+          return io.github.aggarcia.messages.Generated.LeaveEvent.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.LeaveEvent leaveEvent = 9;</code>
+       */
+      public Builder setLeaveEvent(io.github.aggarcia.messages.Generated.LeaveEvent value) {
+        if (leaveEventBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          leaveEventBuilder_.setMessage(value);
+        }
+        payloadCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.LeaveEvent leaveEvent = 9;</code>
+       */
+      public Builder setLeaveEvent(
+          io.github.aggarcia.messages.Generated.LeaveEvent.Builder builderForValue) {
+        if (leaveEventBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          leaveEventBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.LeaveEvent leaveEvent = 9;</code>
+       */
+      public Builder mergeLeaveEvent(io.github.aggarcia.messages.Generated.LeaveEvent value) {
+        if (leaveEventBuilder_ == null) {
+          if (payloadCase_ == 9 &&
+              payload_ != io.github.aggarcia.messages.Generated.LeaveEvent.getDefaultInstance()) {
+            payload_ = io.github.aggarcia.messages.Generated.LeaveEvent.newBuilder((io.github.aggarcia.messages.Generated.LeaveEvent) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 9) {
+            leaveEventBuilder_.mergeFrom(value);
+          } else {
+            leaveEventBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 9;
+        return this;
+      }
+      /**
+       * <code>.LeaveEvent leaveEvent = 9;</code>
+       */
+      public Builder clearLeaveEvent() {
+        if (leaveEventBuilder_ == null) {
+          if (payloadCase_ == 9) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 9) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          leaveEventBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.LeaveEvent leaveEvent = 9;</code>
+       */
+      public io.github.aggarcia.messages.Generated.LeaveEvent.Builder getLeaveEventBuilder() {
+        return getLeaveEventFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.LeaveEvent leaveEvent = 9;</code>
+       */
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.LeaveEventOrBuilder getLeaveEventOrBuilder() {
+        if ((payloadCase_ == 9) && (leaveEventBuilder_ != null)) {
+          return leaveEventBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 9) {
+            return (io.github.aggarcia.messages.Generated.LeaveEvent) payload_;
+          }
+          return io.github.aggarcia.messages.Generated.LeaveEvent.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.LeaveEvent leaveEvent = 9;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.LeaveEvent, io.github.aggarcia.messages.Generated.LeaveEvent.Builder, io.github.aggarcia.messages.Generated.LeaveEventOrBuilder> 
+          getLeaveEventFieldBuilder() {
+        if (leaveEventBuilder_ == null) {
+          if (!(payloadCase_ == 9)) {
+            payload_ = io.github.aggarcia.messages.Generated.LeaveEvent.getDefaultInstance();
+          }
+          leaveEventBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.aggarcia.messages.Generated.LeaveEvent, io.github.aggarcia.messages.Generated.LeaveEvent.Builder, io.github.aggarcia.messages.Generated.LeaveEventOrBuilder>(
+                  (io.github.aggarcia.messages.Generated.LeaveEvent) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 9;
+        onChanged();;
+        return leaveEventBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.LeaderboardSubscribe, io.github.aggarcia.messages.Generated.LeaderboardSubscribe.Builder, io.github.aggarcia.messages.Generated.LeaderboardSubscribeOrBuilder> leaderboardSubscribeBuilder_;
+      /**
+       * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+       * @return Whether the leaderboardSubscribe field is set.
+       */
+      @java.lang.Override
+      public boolean hasLeaderboardSubscribe() {
+        return payloadCase_ == 10;
+      }
+      /**
+       * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+       * @return The leaderboardSubscribe.
+       */
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.LeaderboardSubscribe getLeaderboardSubscribe() {
+        if (leaderboardSubscribeBuilder_ == null) {
+          if (payloadCase_ == 10) {
+            return (io.github.aggarcia.messages.Generated.LeaderboardSubscribe) payload_;
+          }
+          return io.github.aggarcia.messages.Generated.LeaderboardSubscribe.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 10) {
+            return leaderboardSubscribeBuilder_.getMessage();
+          }
+          return io.github.aggarcia.messages.Generated.LeaderboardSubscribe.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+       */
+      public Builder setLeaderboardSubscribe(io.github.aggarcia.messages.Generated.LeaderboardSubscribe value) {
+        if (leaderboardSubscribeBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          leaderboardSubscribeBuilder_.setMessage(value);
+        }
+        payloadCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+       */
+      public Builder setLeaderboardSubscribe(
+          io.github.aggarcia.messages.Generated.LeaderboardSubscribe.Builder builderForValue) {
+        if (leaderboardSubscribeBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          leaderboardSubscribeBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+       */
+      public Builder mergeLeaderboardSubscribe(io.github.aggarcia.messages.Generated.LeaderboardSubscribe value) {
+        if (leaderboardSubscribeBuilder_ == null) {
+          if (payloadCase_ == 10 &&
+              payload_ != io.github.aggarcia.messages.Generated.LeaderboardSubscribe.getDefaultInstance()) {
+            payload_ = io.github.aggarcia.messages.Generated.LeaderboardSubscribe.newBuilder((io.github.aggarcia.messages.Generated.LeaderboardSubscribe) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 10) {
+            leaderboardSubscribeBuilder_.mergeFrom(value);
+          } else {
+            leaderboardSubscribeBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 10;
+        return this;
+      }
+      /**
+       * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+       */
+      public Builder clearLeaderboardSubscribe() {
+        if (leaderboardSubscribeBuilder_ == null) {
+          if (payloadCase_ == 10) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 10) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          leaderboardSubscribeBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+       */
+      public io.github.aggarcia.messages.Generated.LeaderboardSubscribe.Builder getLeaderboardSubscribeBuilder() {
+        return getLeaderboardSubscribeFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+       */
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.LeaderboardSubscribeOrBuilder getLeaderboardSubscribeOrBuilder() {
+        if ((payloadCase_ == 10) && (leaderboardSubscribeBuilder_ != null)) {
+          return leaderboardSubscribeBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 10) {
+            return (io.github.aggarcia.messages.Generated.LeaderboardSubscribe) payload_;
+          }
+          return io.github.aggarcia.messages.Generated.LeaderboardSubscribe.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.LeaderboardSubscribe leaderboardSubscribe = 10;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.LeaderboardSubscribe, io.github.aggarcia.messages.Generated.LeaderboardSubscribe.Builder, io.github.aggarcia.messages.Generated.LeaderboardSubscribeOrBuilder> 
+          getLeaderboardSubscribeFieldBuilder() {
+        if (leaderboardSubscribeBuilder_ == null) {
+          if (!(payloadCase_ == 10)) {
+            payload_ = io.github.aggarcia.messages.Generated.LeaderboardSubscribe.getDefaultInstance();
+          }
+          leaderboardSubscribeBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.aggarcia.messages.Generated.LeaderboardSubscribe, io.github.aggarcia.messages.Generated.LeaderboardSubscribe.Builder, io.github.aggarcia.messages.Generated.LeaderboardSubscribeOrBuilder>(
+                  (io.github.aggarcia.messages.Generated.LeaderboardSubscribe) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 10;
+        onChanged();;
+        return leaderboardSubscribeBuilder_;
+      }
+
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.LeaderboardUpdate, io.github.aggarcia.messages.Generated.LeaderboardUpdate.Builder, io.github.aggarcia.messages.Generated.LeaderboardUpdateOrBuilder> leaderboardUpdateBuilder_;
+      /**
+       * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+       * @return Whether the leaderboardUpdate field is set.
+       */
+      @java.lang.Override
+      public boolean hasLeaderboardUpdate() {
+        return payloadCase_ == 11;
+      }
+      /**
+       * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+       * @return The leaderboardUpdate.
+       */
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.LeaderboardUpdate getLeaderboardUpdate() {
+        if (leaderboardUpdateBuilder_ == null) {
+          if (payloadCase_ == 11) {
+            return (io.github.aggarcia.messages.Generated.LeaderboardUpdate) payload_;
+          }
+          return io.github.aggarcia.messages.Generated.LeaderboardUpdate.getDefaultInstance();
+        } else {
+          if (payloadCase_ == 11) {
+            return leaderboardUpdateBuilder_.getMessage();
+          }
+          return io.github.aggarcia.messages.Generated.LeaderboardUpdate.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+       */
+      public Builder setLeaderboardUpdate(io.github.aggarcia.messages.Generated.LeaderboardUpdate value) {
+        if (leaderboardUpdateBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          payload_ = value;
+          onChanged();
+        } else {
+          leaderboardUpdateBuilder_.setMessage(value);
+        }
+        payloadCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+       */
+      public Builder setLeaderboardUpdate(
+          io.github.aggarcia.messages.Generated.LeaderboardUpdate.Builder builderForValue) {
+        if (leaderboardUpdateBuilder_ == null) {
+          payload_ = builderForValue.build();
+          onChanged();
+        } else {
+          leaderboardUpdateBuilder_.setMessage(builderForValue.build());
+        }
+        payloadCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+       */
+      public Builder mergeLeaderboardUpdate(io.github.aggarcia.messages.Generated.LeaderboardUpdate value) {
+        if (leaderboardUpdateBuilder_ == null) {
+          if (payloadCase_ == 11 &&
+              payload_ != io.github.aggarcia.messages.Generated.LeaderboardUpdate.getDefaultInstance()) {
+            payload_ = io.github.aggarcia.messages.Generated.LeaderboardUpdate.newBuilder((io.github.aggarcia.messages.Generated.LeaderboardUpdate) payload_)
+                .mergeFrom(value).buildPartial();
+          } else {
+            payload_ = value;
+          }
+          onChanged();
+        } else {
+          if (payloadCase_ == 11) {
+            leaderboardUpdateBuilder_.mergeFrom(value);
+          } else {
+            leaderboardUpdateBuilder_.setMessage(value);
+          }
+        }
+        payloadCase_ = 11;
+        return this;
+      }
+      /**
+       * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+       */
+      public Builder clearLeaderboardUpdate() {
+        if (leaderboardUpdateBuilder_ == null) {
+          if (payloadCase_ == 11) {
+            payloadCase_ = 0;
+            payload_ = null;
+            onChanged();
+          }
+        } else {
+          if (payloadCase_ == 11) {
+            payloadCase_ = 0;
+            payload_ = null;
+          }
+          leaderboardUpdateBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+       */
+      public io.github.aggarcia.messages.Generated.LeaderboardUpdate.Builder getLeaderboardUpdateBuilder() {
+        return getLeaderboardUpdateFieldBuilder().getBuilder();
+      }
+      /**
+       * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+       */
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.LeaderboardUpdateOrBuilder getLeaderboardUpdateOrBuilder() {
+        if ((payloadCase_ == 11) && (leaderboardUpdateBuilder_ != null)) {
+          return leaderboardUpdateBuilder_.getMessageOrBuilder();
+        } else {
+          if (payloadCase_ == 11) {
+            return (io.github.aggarcia.messages.Generated.LeaderboardUpdate) payload_;
+          }
+          return io.github.aggarcia.messages.Generated.LeaderboardUpdate.getDefaultInstance();
+        }
+      }
+      /**
+       * <code>.LeaderboardUpdate leaderboardUpdate = 11;</code>
+       */
+      private com.google.protobuf.SingleFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.LeaderboardUpdate, io.github.aggarcia.messages.Generated.LeaderboardUpdate.Builder, io.github.aggarcia.messages.Generated.LeaderboardUpdateOrBuilder> 
+          getLeaderboardUpdateFieldBuilder() {
+        if (leaderboardUpdateBuilder_ == null) {
+          if (!(payloadCase_ == 11)) {
+            payload_ = io.github.aggarcia.messages.Generated.LeaderboardUpdate.getDefaultInstance();
+          }
+          leaderboardUpdateBuilder_ = new com.google.protobuf.SingleFieldBuilderV3<
+              io.github.aggarcia.messages.Generated.LeaderboardUpdate, io.github.aggarcia.messages.Generated.LeaderboardUpdate.Builder, io.github.aggarcia.messages.Generated.LeaderboardUpdateOrBuilder>(
+                  (io.github.aggarcia.messages.Generated.LeaderboardUpdate) payload_,
+                  getParentForChildren(),
+                  isClean());
+          payload_ = null;
+        }
+        payloadCase_ = 11;
+        onChanged();;
+        return leaderboardUpdateBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:SocketMessage)
+    }
+
+    // @@protoc_insertion_point(class_scope:SocketMessage)
+    private static final io.github.aggarcia.messages.Generated.SocketMessage DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.SocketMessage();
+    }
+
+    public static io.github.aggarcia.messages.Generated.SocketMessage getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<SocketMessage>
+        PARSER = new com.google.protobuf.AbstractParser<SocketMessage>() {
+      @java.lang.Override
+      public SocketMessage parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<SocketMessage> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<SocketMessage> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.SocketMessage getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GamePingOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GamePing)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>uint32 serverAge = 1;</code>
+     * @return The serverAge.
+     */
+    int getServerAge();
+
+    /**
+     * <code>repeated .Player players = 2;</code>
+     */
+    java.util.List<io.github.aggarcia.messages.Generated.Player> 
+        getPlayersList();
+    /**
+     * <code>repeated .Player players = 2;</code>
+     */
+    io.github.aggarcia.messages.Generated.Player getPlayers(int index);
+    /**
+     * <code>repeated .Player players = 2;</code>
+     */
+    int getPlayersCount();
+    /**
+     * <code>repeated .Player players = 2;</code>
+     */
+    java.util.List<? extends io.github.aggarcia.messages.Generated.PlayerOrBuilder> 
+        getPlayersOrBuilderList();
+    /**
+     * <code>repeated .Player players = 2;</code>
+     */
+    io.github.aggarcia.messages.Generated.PlayerOrBuilder getPlayersOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .Platform platforms = 3;</code>
+     */
+    java.util.List<io.github.aggarcia.messages.Generated.Platform> 
+        getPlatformsList();
+    /**
+     * <code>repeated .Platform platforms = 3;</code>
+     */
+    io.github.aggarcia.messages.Generated.Platform getPlatforms(int index);
+    /**
+     * <code>repeated .Platform platforms = 3;</code>
+     */
+    int getPlatformsCount();
+    /**
+     * <code>repeated .Platform platforms = 3;</code>
+     */
+    java.util.List<? extends io.github.aggarcia.messages.Generated.PlatformOrBuilder> 
+        getPlatformsOrBuilderList();
+    /**
+     * <code>repeated .Platform platforms = 3;</code>
+     */
+    io.github.aggarcia.messages.Generated.PlatformOrBuilder getPlatformsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * only the players that changed since the last ping, without their
+     * color and score, which only change in full pings
+     * </pre>
+     *
+     * <code>bool isDelta = 4;</code>
+     * @return The isDelta.
+     */
+    boolean getIsDelta();
+
+    /**
+     * <pre>
+     * names, only set in deltas
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 5;</code>
+     * @return A list containing the removedPlayers.
+     */
+    java.util.List<java.lang.String>
+        getRemovedPlayersList();
+    /**
+     * <pre>
+     * names, only set in deltas
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 5;</code>
+     * @return The count of removedPlayers.
+     */
+    int getRemovedPlayersCount();
+    /**
+     * <pre>
+     * names, only set in deltas
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 5;</code>
+     * @param index The index of the element to return.
+     * @return The removedPlayers at the given index.
+     */
+    java.lang.String getRemovedPlayers(int index);
+    /**
+     * <pre>
+     * names, only set in deltas
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedPlayers at the given index.
+     */
+    com.google.protobuf.ByteString
+        getRemovedPlayersBytes(int index);
+  }
+  /**
+   * <pre>
+   * server to client
+   * </pre>
+   *
+   * Protobuf type {@code GamePing}
+   */
+  public static final class GamePing extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GamePing)
+      GamePingOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GamePing.newBuilder() to construct.
+    private GamePing(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GamePing() {
+      players_ = java.util.Collections.emptyList();
+      platforms_ = java.util.Collections.emptyList();
+      removedPlayers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GamePing();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.aggarcia.messages.Generated.internal_static_GamePing_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.aggarcia.messages.Generated.internal_static_GamePing_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.aggarcia.messages.Generated.GamePing.class, io.github.aggarcia.messages.Generated.GamePing.Builder.class);
+    }
+
+    public static final int SERVERAGE_FIELD_NUMBER = 1;
+    private int serverAge_;
+    /**
      * <code>uint32 serverAge = 1;</code>
      * @return The serverAge.
      */
-    int getServerAge();
+    @java.lang.Override
+    public int getServerAge() {
+      return serverAge_;
+    }
+
+    public static final int PLAYERS_FIELD_NUMBER = 2;
+    private java.util.List<io.github.aggarcia.messages.Generated.Player> players_;
+    /**
+     * <code>repeated .Player players = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<io.github.aggarcia.messages.Generated.Player> getPlayersList() {
+      return players_;
+    }
+    /**
+     * <code>repeated .Player players = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends io.github.aggarcia.messages.Generated.PlayerOrBuilder> 
+        getPlayersOrBuilderList() {
+      return players_;
+    }
+    /**
+     * <code>repeated .Player players = 2;</code>
+     */
+    @java.lang.Override
+    public int getPlayersCount() {
+      return players_.size();
+    }
+    /**
+     * <code>repeated .Player players = 2;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.Player getPlayers(int index) {
+      return players_.get(index);
+    }
+    /**
+     * <code>repeated .Player players = 2;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.PlayerOrBuilder getPlayersOrBuilder(
+        int index) {
+      return players_.get(index);
+    }
+
+    public static final int PLATFORMS_FIELD_NUMBER = 3;
+    private java.util.List<io.github.aggarcia.messages.Generated.Platform> platforms_;
+    /**
+     * <code>repeated .Platform platforms = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<io.github.aggarcia.messages.Generated.Platform> getPlatformsList() {
+      return platforms_;
+    }
+    /**
+     * <code>repeated .Platform platforms = 3;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends io.github.aggarcia.messages.Generated.PlatformOrBuilder> 
+        getPlatformsOrBuilderList() {
+      return platforms_;
+    }
+    /**
+     * <code>repeated .Platform platforms = 3;</code>
+     */
+    @java.lang.Override
+    public int getPlatformsCount() {
+      return platforms_.size();
+    }
+    /**
+     * <code>repeated .Platform platforms = 3;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.Platform getPlatforms(int index) {
+      return platforms_.get(index);
+    }
+    /**
+     * <code>repeated .Platform platforms = 3;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.PlatformOrBuilder getPlatformsOrBuilder(
+        int index) {
+      return platforms_.get(index);
+    }
+
+    public static final int ISDELTA_FIELD_NUMBER = 4;
+    private boolean isDelta_;
+    /**
+     * <pre>
+     * only the players that changed since the last ping, without their
+     * color and score, which only change in full pings
+     * </pre>
+     *
+     * <code>bool isDelta = 4;</code>
+     * @return The isDelta.
+     */
+    @java.lang.Override
+    public boolean getIsDelta() {
+      return isDelta_;
+    }
+
+    public static final int REMOVEDPLAYERS_FIELD_NUMBER = 5;
+    private com.google.protobuf.LazyStringList removedPlayers_;
+    /**
+     * <pre>
+     * names, only set in deltas
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 5;</code>
+     * @return A list containing the removedPlayers.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRemovedPlayersList() {
+      return removedPlayers_;
+    }
+    /**
+     * <pre>
+     * names, only set in deltas
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 5;</code>
+     * @return The count of removedPlayers.
+     */
+    public int getRemovedPlayersCount() {
+      return removedPlayers_.size();
+    }
+    /**
+     * <pre>
+     * names, only set in deltas
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 5;</code>
+     * @param index The index of the element to return.
+     * @return The removedPlayers at the given index.
+     */
+    public java.lang.String getRemovedPlayers(int index) {
+      return removedPlayers_.get(index);
+    }
+    /**
+     * <pre>
+     * names, only set in deltas
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 5;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedPlayers at the given index.
+     */
+    public com.google.protobuf.ByteString
+        getRemovedPlayersBytes(int index) {
+      return removedPlayers_.getByteString(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (serverAge_ != 0) {
+        output.writeUInt32(1, serverAge_);
+      }
+      for (int i = 0; i < players_.size(); i++) {
+        output.writeMessage(2, players_.get(i));
+      }
+      for (int i = 0; i < platforms_.size(); i++) {
+        output.writeMessage(3, platforms_.get(i));
+      }
+      if (isDelta_ != false) {
+        output.writeBool(4, isDelta_);
+      }
+      for (int i = 0; i < removedPlayers_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 5, removedPlayers_.getRaw(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (serverAge_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, serverAge_);
+      }
+      for (int i = 0; i < players_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, players_.get(i));
+      }
+      for (int i = 0; i < platforms_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(3, platforms_.get(i));
+      }
+      if (isDelta_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(4, isDelta_);
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedPlayers_.size(); i++) {
+          dataSize += computeStringSizeNoTag(removedPlayers_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedPlayersList().size();
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.GamePing)) {
+        return super.equals(obj);
+      }
+      io.github.aggarcia.messages.Generated.GamePing other = (io.github.aggarcia.messages.Generated.GamePing) obj;
+
+      if (getServerAge()
+          != other.getServerAge()) return false;
+      if (!getPlayersList()
+          .equals(other.getPlayersList())) return false;
+      if (!getPlatformsList()
+          .equals(other.getPlatformsList())) return false;
+      if (getIsDelta()
+          != other.getIsDelta()) return false;
+      if (!getRemovedPlayersList()
+          .equals(other.getRemovedPlayersList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SERVERAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getServerAge();
+      if (getPlayersCount() > 0) {
+        hash = (37 * hash) + PLAYERS_FIELD_NUMBER;
+        hash = (53 * hash) + getPlayersList().hashCode();
+      }
+      if (getPlatformsCount() > 0) {
+        hash = (37 * hash) + PLATFORMS_FIELD_NUMBER;
+        hash = (53 * hash) + getPlatformsList().hashCode();
+      }
+      hash = (37 * hash) + ISDELTA_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsDelta());
+      if (getRemovedPlayersCount() > 0) {
+        hash = (37 * hash) + REMOVEDPLAYERS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedPlayersList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.GamePing prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * server to client
+     * </pre>
+     *
+     * Protobuf type {@code GamePing}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GamePing)
+        io.github.aggarcia.messages.Generated.GamePingOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.aggarcia.messages.Generated.internal_static_GamePing_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.aggarcia.messages.Generated.internal_static_GamePing_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.aggarcia.messages.Generated.GamePing.class, io.github.aggarcia.messages.Generated.GamePing.Builder.class);
+      }
+
+      // Construct using io.github.aggarcia.messages.Generated.GamePing.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        serverAge_ = 0;
+
+        if (playersBuilder_ == null) {
+          players_ = java.util.Collections.emptyList();
+        } else {
+          players_ = null;
+          playersBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (platformsBuilder_ == null) {
+          platforms_ = java.util.Collections.emptyList();
+        } else {
+          platforms_ = null;
+          platformsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        isDelta_ = false;
+
+        removedPlayers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.aggarcia.messages.Generated.internal_static_GamePing_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.GamePing getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.GamePing.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.GamePing build() {
+        io.github.aggarcia.messages.Generated.GamePing result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.GamePing buildPartial() {
+        io.github.aggarcia.messages.Generated.GamePing result = new io.github.aggarcia.messages.Generated.GamePing(this);
+        int from_bitField0_ = bitField0_;
+        result.serverAge_ = serverAge_;
+        if (playersBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            players_ = java.util.Collections.unmodifiableList(players_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.players_ = players_;
+        } else {
+          result.players_ = playersBuilder_.build();
+        }
+        if (platformsBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            platforms_ = java.util.Collections.unmodifiableList(platforms_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.platforms_ = platforms_;
+        } else {
+          result.platforms_ = platformsBuilder_.build();
+        }
+        result.isDelta_ = isDelta_;
+        if (((bitField0_ & 0x00000004) != 0)) {
+          removedPlayers_ = removedPlayers_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000004);
+        }
+        result.removedPlayers_ = removedPlayers_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.aggarcia.messages.Generated.GamePing) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.GamePing)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.GamePing other) {
+        if (other == io.github.aggarcia.messages.Generated.GamePing.getDefaultInstance()) return this;
+        if (other.getServerAge() != 0) {
+          setServerAge(other.getServerAge());
+        }
+        if (playersBuilder_ == null) {
+          if (!other.players_.isEmpty()) {
+            if (players_.isEmpty()) {
+              players_ = other.players_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePlayersIsMutable();
+              players_.addAll(other.players_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.players_.isEmpty()) {
+            if (playersBuilder_.isEmpty()) {
+              playersBuilder_.dispose();
+              playersBuilder_ = null;
+              players_ = other.players_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              playersBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPlayersFieldBuilder() : null;
+            } else {
+              playersBuilder_.addAllMessages(other.players_);
+            }
+          }
+        }
+        if (platformsBuilder_ == null) {
+          if (!other.platforms_.isEmpty()) {
+            if (platforms_.isEmpty()) {
+              platforms_ = other.platforms_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensurePlatformsIsMutable();
+              platforms_.addAll(other.platforms_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.platforms_.isEmpty()) {
+            if (platformsBuilder_.isEmpty()) {
+              platformsBuilder_.dispose();
+              platformsBuilder_ = null;
+              platforms_ = other.platforms_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              platformsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPlatformsFieldBuilder() : null;
+            } else {
+              platformsBuilder_.addAllMessages(other.platforms_);
+            }
+          }
+        }
+        if (other.getIsDelta() != false) {
+          setIsDelta(other.getIsDelta());
+        }
+        if (!other.removedPlayers_.isEmpty()) {
+          if (removedPlayers_.isEmpty()) {
+            removedPlayers_ = other.removedPlayers_;
+            bitField0_ = (bitField0_ & ~0x00000004);
+          } else {
+            ensureRemovedPlayersIsMutable();
+            removedPlayers_.addAll(other.removedPlayers_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                serverAge_ = input.readUInt32();
+
+                break;
+              } // case 8
+              case 18: {
+                io.github.aggarcia.messages.Generated.Player m =
+                    input.readMessage(
+                        io.github.aggarcia.messages.Generated.Player.parser(),
+                        extensionRegistry);
+                if (playersBuilder_ == null) {
+                  ensurePlayersIsMutable();
+                  players_.add(m);
+                } else {
+                  playersBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              case 26: {
+                io.github.aggarcia.messages.Generated.Platform m =
+                    input.readMessage(
+                        io.github.aggarcia.messages.Generated.Platform.parser(),
+                        extensionRegistry);
+                if (platformsBuilder_ == null) {
+                  ensurePlatformsIsMutable();
+                  platforms_.add(m);
+                } else {
+                  platformsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 26
+              case 32: {
+                isDelta_ = input.readBool();
+
+                break;
+              } // case 32
+              case 42: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureRemovedPlayersIsMutable();
+                removedPlayers_.add(s);
+                break;
+              } // case 42
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int serverAge_ ;
+      /**
+       * <code>uint32 serverAge = 1;</code>
+       * @return The serverAge.
+       */
+      @java.lang.Override
+      public int getServerAge() {
+        return serverAge_;
+      }
+      /**
+       * <code>uint32 serverAge = 1;</code>
+       * @param value The serverAge to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerAge(int value) {
+        
+        serverAge_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 serverAge = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearServerAge() {
+        
+        serverAge_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<io.github.aggarcia.messages.Generated.Player> players_ =
+        java.util.Collections.emptyList();
+      private void ensurePlayersIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          players_ = new java.util.ArrayList<io.github.aggarcia.messages.Generated.Player>(players_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.Player, io.github.aggarcia.messages.Generated.Player.Builder, io.github.aggarcia.messages.Generated.PlayerOrBuilder> playersBuilder_;
+
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public java.util.List<io.github.aggarcia.messages.Generated.Player> getPlayersList() {
+        if (playersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(players_);
+        } else {
+          return playersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public int getPlayersCount() {
+        if (playersBuilder_ == null) {
+          return players_.size();
+        } else {
+          return playersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public io.github.aggarcia.messages.Generated.Player getPlayers(int index) {
+        if (playersBuilder_ == null) {
+          return players_.get(index);
+        } else {
+          return playersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public Builder setPlayers(
+          int index, io.github.aggarcia.messages.Generated.Player value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.set(index, value);
+          onChanged();
+        } else {
+          playersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public Builder setPlayers(
+          int index, io.github.aggarcia.messages.Generated.Player.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public Builder addPlayers(io.github.aggarcia.messages.Generated.Player value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.add(value);
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public Builder addPlayers(
+          int index, io.github.aggarcia.messages.Generated.Player value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.add(index, value);
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public Builder addPlayers(
+          io.github.aggarcia.messages.Generated.Player.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.add(builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public Builder addPlayers(
+          int index, io.github.aggarcia.messages.Generated.Player.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public Builder addAllPlayers(
+          java.lang.Iterable<? extends io.github.aggarcia.messages.Generated.Player> values) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, players_);
+          onChanged();
+        } else {
+          playersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public Builder clearPlayers() {
+        if (playersBuilder_ == null) {
+          players_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          playersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public Builder removePlayers(int index) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.remove(index);
+          onChanged();
+        } else {
+          playersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public io.github.aggarcia.messages.Generated.Player.Builder getPlayersBuilder(
+          int index) {
+        return getPlayersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public io.github.aggarcia.messages.Generated.PlayerOrBuilder getPlayersOrBuilder(
+          int index) {
+        if (playersBuilder_ == null) {
+          return players_.get(index);  } else {
+          return playersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public java.util.List<? extends io.github.aggarcia.messages.Generated.PlayerOrBuilder> 
+           getPlayersOrBuilderList() {
+        if (playersBuilder_ != null) {
+          return playersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(players_);
+        }
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public io.github.aggarcia.messages.Generated.Player.Builder addPlayersBuilder() {
+        return getPlayersFieldBuilder().addBuilder(
+            io.github.aggarcia.messages.Generated.Player.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public io.github.aggarcia.messages.Generated.Player.Builder addPlayersBuilder(
+          int index) {
+        return getPlayersFieldBuilder().addBuilder(
+            index, io.github.aggarcia.messages.Generated.Player.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Player players = 2;</code>
+       */
+      public java.util.List<io.github.aggarcia.messages.Generated.Player.Builder> 
+           getPlayersBuilderList() {
+        return getPlayersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.Player, io.github.aggarcia.messages.Generated.Player.Builder, io.github.aggarcia.messages.Generated.PlayerOrBuilder> 
+          getPlayersFieldBuilder() {
+        if (playersBuilder_ == null) {
+          playersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              io.github.aggarcia.messages.Generated.Player, io.github.aggarcia.messages.Generated.Player.Builder, io.github.aggarcia.messages.Generated.PlayerOrBuilder>(
+                  players_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          players_ = null;
+        }
+        return playersBuilder_;
+      }
+
+      private java.util.List<io.github.aggarcia.messages.Generated.Platform> platforms_ =
+        java.util.Collections.emptyList();
+      private void ensurePlatformsIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          platforms_ = new java.util.ArrayList<io.github.aggarcia.messages.Generated.Platform>(platforms_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.Platform, io.github.aggarcia.messages.Generated.Platform.Builder, io.github.aggarcia.messages.Generated.PlatformOrBuilder> platformsBuilder_;
+
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public java.util.List<io.github.aggarcia.messages.Generated.Platform> getPlatformsList() {
+        if (platformsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(platforms_);
+        } else {
+          return platformsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public int getPlatformsCount() {
+        if (platformsBuilder_ == null) {
+          return platforms_.size();
+        } else {
+          return platformsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public io.github.aggarcia.messages.Generated.Platform getPlatforms(int index) {
+        if (platformsBuilder_ == null) {
+          return platforms_.get(index);
+        } else {
+          return platformsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public Builder setPlatforms(
+          int index, io.github.aggarcia.messages.Generated.Platform value) {
+        if (platformsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlatformsIsMutable();
+          platforms_.set(index, value);
+          onChanged();
+        } else {
+          platformsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public Builder setPlatforms(
+          int index, io.github.aggarcia.messages.Generated.Platform.Builder builderForValue) {
+        if (platformsBuilder_ == null) {
+          ensurePlatformsIsMutable();
+          platforms_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          platformsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public Builder addPlatforms(io.github.aggarcia.messages.Generated.Platform value) {
+        if (platformsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlatformsIsMutable();
+          platforms_.add(value);
+          onChanged();
+        } else {
+          platformsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public Builder addPlatforms(
+          int index, io.github.aggarcia.messages.Generated.Platform value) {
+        if (platformsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlatformsIsMutable();
+          platforms_.add(index, value);
+          onChanged();
+        } else {
+          platformsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public Builder addPlatforms(
+          io.github.aggarcia.messages.Generated.Platform.Builder builderForValue) {
+        if (platformsBuilder_ == null) {
+          ensurePlatformsIsMutable();
+          platforms_.add(builderForValue.build());
+          onChanged();
+        } else {
+          platformsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public Builder addPlatforms(
+          int index, io.github.aggarcia.messages.Generated.Platform.Builder builderForValue) {
+        if (platformsBuilder_ == null) {
+          ensurePlatformsIsMutable();
+          platforms_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          platformsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public Builder addAllPlatforms(
+          java.lang.Iterable<? extends io.github.aggarcia.messages.Generated.Platform> values) {
+        if (platformsBuilder_ == null) {
+          ensurePlatformsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, platforms_);
+          onChanged();
+        } else {
+          platformsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public Builder clearPlatforms() {
+        if (platformsBuilder_ == null) {
+          platforms_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          platformsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public Builder removePlatforms(int index) {
+        if (platformsBuilder_ == null) {
+          ensurePlatformsIsMutable();
+          platforms_.remove(index);
+          onChanged();
+        } else {
+          platformsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public io.github.aggarcia.messages.Generated.Platform.Builder getPlatformsBuilder(
+          int index) {
+        return getPlatformsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public io.github.aggarcia.messages.Generated.PlatformOrBuilder getPlatformsOrBuilder(
+          int index) {
+        if (platformsBuilder_ == null) {
+          return platforms_.get(index);  } else {
+          return platformsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public java.util.List<? extends io.github.aggarcia.messages.Generated.PlatformOrBuilder> 
+           getPlatformsOrBuilderList() {
+        if (platformsBuilder_ != null) {
+          return platformsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(platforms_);
+        }
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public io.github.aggarcia.messages.Generated.Platform.Builder addPlatformsBuilder() {
+        return getPlatformsFieldBuilder().addBuilder(
+            io.github.aggarcia.messages.Generated.Platform.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public io.github.aggarcia.messages.Generated.Platform.Builder addPlatformsBuilder(
+          int index) {
+        return getPlatformsFieldBuilder().addBuilder(
+            index, io.github.aggarcia.messages.Generated.Platform.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .Platform platforms = 3;</code>
+       */
+      public java.util.List<io.github.aggarcia.messages.Generated.Platform.Builder> 
+           getPlatformsBuilderList() {
+        return getPlatformsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.Platform, io.github.aggarcia.messages.Generated.Platform.Builder, io.github.aggarcia.messages.Generated.PlatformOrBuilder> 
+          getPlatformsFieldBuilder() {
+        if (platformsBuilder_ == null) {
+          platformsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              io.github.aggarcia.messages.Generated.Platform, io.github.aggarcia.messages.Generated.Platform.Builder, io.github.aggarcia.messages.Generated.PlatformOrBuilder>(
+                  platforms_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          platforms_ = null;
+        }
+        return platformsBuilder_;
+      }
+
+      private boolean isDelta_ ;
+      /**
+       * <pre>
+       * only the players that changed since the last ping, without their
+       * color and score, which only change in full pings
+       * </pre>
+       *
+       * <code>bool isDelta = 4;</code>
+       * @return The isDelta.
+       */
+      @java.lang.Override
+      public boolean getIsDelta() {
+        return isDelta_;
+      }
+      /**
+       * <pre>
+       * only the players that changed since the last ping, without their
+       * color and score, which only change in full pings
+       * </pre>
+       *
+       * <code>bool isDelta = 4;</code>
+       * @param value The isDelta to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsDelta(boolean value) {
+        
+        isDelta_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * only the players that changed since the last ping, without their
+       * color and score, which only change in full pings
+       * </pre>
+       *
+       * <code>bool isDelta = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsDelta() {
+        
+        isDelta_ = false;
+        onChanged();
+        return this;
+      }
+
+      private com.google.protobuf.LazyStringList removedPlayers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRemovedPlayersIsMutable() {
+        if (!((bitField0_ & 0x00000004) != 0)) {
+          removedPlayers_ = new com.google.protobuf.LazyStringArrayList(removedPlayers_);
+          bitField0_ |= 0x00000004;
+         }
+      }
+      /**
+       * <pre>
+       * names, only set in deltas
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 5;</code>
+       * @return A list containing the removedPlayers.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRemovedPlayersList() {
+        return removedPlayers_.getUnmodifiableView();
+      }
+      /**
+       * <pre>
+       * names, only set in deltas
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 5;</code>
+       * @return The count of removedPlayers.
+       */
+      public int getRemovedPlayersCount() {
+        return removedPlayers_.size();
+      }
+      /**
+       * <pre>
+       * names, only set in deltas
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 5;</code>
+       * @param index The index of the element to return.
+       * @return The removedPlayers at the given index.
+       */
+      public java.lang.String getRemovedPlayers(int index) {
+        return removedPlayers_.get(index);
+      }
+      /**
+       * <pre>
+       * names, only set in deltas
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 5;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the removedPlayers at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRemovedPlayersBytes(int index) {
+        return removedPlayers_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * names, only set in deltas
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 5;</code>
+       * @param index The index to set the value at.
+       * @param value The removedPlayers to set.
+       * @return This builder for chaining.
+       */
+      public Builder setRemovedPlayers(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedPlayersIsMutable();
+        removedPlayers_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * names, only set in deltas
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 5;</code>
+       * @param value The removedPlayers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedPlayers(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedPlayersIsMutable();
+        removedPlayers_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * names, only set in deltas
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 5;</code>
+       * @param values The removedPlayers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllRemovedPlayers(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedPlayersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedPlayers_);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * names, only set in deltas
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearRemovedPlayers() {
+        removedPlayers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000004);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * names, only set in deltas
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 5;</code>
+       * @param value The bytes of the removedPlayers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedPlayersBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        ensureRemovedPlayersIsMutable();
+        removedPlayers_.add(value);
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:GamePing)
+    }
+
+    // @@protoc_insertion_point(class_scope:GamePing)
+    private static final io.github.aggarcia.messages.Generated.GamePing DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.GamePing();
+    }
+
+    public static io.github.aggarcia.messages.Generated.GamePing getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GamePing>
+        PARSER = new com.google.protobuf.AbstractParser<GamePing>() {
+      @java.lang.Override
+      public GamePing parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<GamePing> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GamePing> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.GamePing getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PingOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Ping)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int64 serverTimeNanos = 1;</code>
+     * @return The serverTimeNanos.
+     */
+    long getServerTimeNanos();
+  }
+  /**
+   * <pre>
+   * server to client, used to measure round trip time. The timestamp is
+   * relative to the server start so that it fits in a JavaScript number
+   * </pre>
+   *
+   * Protobuf type {@code Ping}
+   */
+  public static final class Ping extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Ping)
+      PingOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Ping.newBuilder() to construct.
+    private Ping(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Ping() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Ping();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.aggarcia.messages.Generated.internal_static_Ping_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.aggarcia.messages.Generated.internal_static_Ping_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.aggarcia.messages.Generated.Ping.class, io.github.aggarcia.messages.Generated.Ping.Builder.class);
+    }
+
+    public static final int SERVERTIMENANOS_FIELD_NUMBER = 1;
+    private long serverTimeNanos_;
+    /**
+     * <code>int64 serverTimeNanos = 1;</code>
+     * @return The serverTimeNanos.
+     */
+    @java.lang.Override
+    public long getServerTimeNanos() {
+      return serverTimeNanos_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (serverTimeNanos_ != 0L) {
+        output.writeInt64(1, serverTimeNanos_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (serverTimeNanos_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, serverTimeNanos_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.Ping)) {
+        return super.equals(obj);
+      }
+      io.github.aggarcia.messages.Generated.Ping other = (io.github.aggarcia.messages.Generated.Ping) obj;
+
+      if (getServerTimeNanos()
+          != other.getServerTimeNanos()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SERVERTIMENANOS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getServerTimeNanos());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.aggarcia.messages.Generated.Ping parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.Ping parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.Ping prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * server to client, used to measure round trip time. The timestamp is
+     * relative to the server start so that it fits in a JavaScript number
+     * </pre>
+     *
+     * Protobuf type {@code Ping}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Ping)
+        io.github.aggarcia.messages.Generated.PingOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.aggarcia.messages.Generated.internal_static_Ping_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.aggarcia.messages.Generated.internal_static_Ping_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.aggarcia.messages.Generated.Ping.class, io.github.aggarcia.messages.Generated.Ping.Builder.class);
+      }
+
+      // Construct using io.github.aggarcia.messages.Generated.Ping.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        serverTimeNanos_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.aggarcia.messages.Generated.internal_static_Ping_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.Ping getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.Ping.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.Ping build() {
+        io.github.aggarcia.messages.Generated.Ping result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.Ping buildPartial() {
+        io.github.aggarcia.messages.Generated.Ping result = new io.github.aggarcia.messages.Generated.Ping(this);
+        result.serverTimeNanos_ = serverTimeNanos_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.aggarcia.messages.Generated.Ping) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.Ping)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.Ping other) {
+        if (other == io.github.aggarcia.messages.Generated.Ping.getDefaultInstance()) return this;
+        if (other.getServerTimeNanos() != 0L) {
+          setServerTimeNanos(other.getServerTimeNanos());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                serverTimeNanos_ = input.readInt64();
+
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private long serverTimeNanos_ ;
+      /**
+       * <code>int64 serverTimeNanos = 1;</code>
+       * @return The serverTimeNanos.
+       */
+      @java.lang.Override
+      public long getServerTimeNanos() {
+        return serverTimeNanos_;
+      }
+      /**
+       * <code>int64 serverTimeNanos = 1;</code>
+       * @param value The serverTimeNanos to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerTimeNanos(long value) {
+        
+        serverTimeNanos_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 serverTimeNanos = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearServerTimeNanos() {
+        
+        serverTimeNanos_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Ping)
+    }
+
+    // @@protoc_insertion_point(class_scope:Ping)
+    private static final io.github.aggarcia.messages.Generated.Ping DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.Ping();
+    }
+
+    public static io.github.aggarcia.messages.Generated.Ping getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Ping>
+        PARSER = new com.google.protobuf.AbstractParser<Ping>() {
+      @java.lang.Override
+      public Ping parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Ping> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Ping> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.Ping getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PongOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Pong)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * copied from the Ping
+     * </pre>
+     *
+     * <code>int64 serverTimeNanos = 1;</code>
+     * @return The serverTimeNanos.
+     */
+    long getServerTimeNanos();
+  }
+  /**
+   * <pre>
+   * client to server, sent as soon as a Ping is received
+   * </pre>
+   *
+   * Protobuf type {@code Pong}
+   */
+  public static final class Pong extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:Pong)
+      PongOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use Pong.newBuilder() to construct.
+    private Pong(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private Pong() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new Pong();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.aggarcia.messages.Generated.internal_static_Pong_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.aggarcia.messages.Generated.internal_static_Pong_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.aggarcia.messages.Generated.Pong.class, io.github.aggarcia.messages.Generated.Pong.Builder.class);
+    }
+
+    public static final int SERVERTIMENANOS_FIELD_NUMBER = 1;
+    private long serverTimeNanos_;
+    /**
+     * <pre>
+     * copied from the Ping
+     * </pre>
+     *
+     * <code>int64 serverTimeNanos = 1;</code>
+     * @return The serverTimeNanos.
+     */
+    @java.lang.Override
+    public long getServerTimeNanos() {
+      return serverTimeNanos_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (serverTimeNanos_ != 0L) {
+        output.writeInt64(1, serverTimeNanos_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (serverTimeNanos_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(1, serverTimeNanos_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.Pong)) {
+        return super.equals(obj);
+      }
+      io.github.aggarcia.messages.Generated.Pong other = (io.github.aggarcia.messages.Generated.Pong) obj;
+
+      if (getServerTimeNanos()
+          != other.getServerTimeNanos()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + SERVERTIMENANOS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getServerTimeNanos());
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.aggarcia.messages.Generated.Pong parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.Pong parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.Pong prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * client to server, sent as soon as a Ping is received
+     * </pre>
+     *
+     * Protobuf type {@code Pong}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:Pong)
+        io.github.aggarcia.messages.Generated.PongOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.aggarcia.messages.Generated.internal_static_Pong_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.aggarcia.messages.Generated.internal_static_Pong_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.aggarcia.messages.Generated.Pong.class, io.github.aggarcia.messages.Generated.Pong.Builder.class);
+      }
+
+      // Construct using io.github.aggarcia.messages.Generated.Pong.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        serverTimeNanos_ = 0L;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.aggarcia.messages.Generated.internal_static_Pong_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.Pong getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.Pong.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.Pong build() {
+        io.github.aggarcia.messages.Generated.Pong result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.Pong buildPartial() {
+        io.github.aggarcia.messages.Generated.Pong result = new io.github.aggarcia.messages.Generated.Pong(this);
+        result.serverTimeNanos_ = serverTimeNanos_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.aggarcia.messages.Generated.Pong) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.Pong)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.Pong other) {
+        if (other == io.github.aggarcia.messages.Generated.Pong.getDefaultInstance()) return this;
+        if (other.getServerTimeNanos() != 0L) {
+          setServerTimeNanos(other.getServerTimeNanos());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                serverTimeNanos_ = input.readInt64();
+
+                break;
+              } // case 8
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private long serverTimeNanos_ ;
+      /**
+       * <pre>
+       * copied from the Ping
+       * </pre>
+       *
+       * <code>int64 serverTimeNanos = 1;</code>
+       * @return The serverTimeNanos.
+       */
+      @java.lang.Override
+      public long getServerTimeNanos() {
+        return serverTimeNanos_;
+      }
+      /**
+       * <pre>
+       * copied from the Ping
+       * </pre>
+       *
+       * <code>int64 serverTimeNanos = 1;</code>
+       * @param value The serverTimeNanos to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerTimeNanos(long value) {
+        
+        serverTimeNanos_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * copied from the Ping
+       * </pre>
+       *
+       * <code>int64 serverTimeNanos = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearServerTimeNanos() {
+        
+        serverTimeNanos_ = 0L;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:Pong)
+    }
+
+    // @@protoc_insertion_point(class_scope:Pong)
+    private static final io.github.aggarcia.messages.Generated.Pong DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.Pong();
+    }
+
+    public static io.github.aggarcia.messages.Generated.Pong getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<Pong>
+        PARSER = new com.google.protobuf.AbstractParser<Pong>() {
+      @java.lang.Override
+      public Pong parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<Pong> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<Pong> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.Pong getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface ControlChangeEventOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ControlChangeEvent)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>repeated .PlayerControl pressedControls = 1;</code>
+     * @return A list containing the pressedControls.
+     */
+    java.util.List<io.github.aggarcia.messages.Generated.PlayerControl> getPressedControlsList();
+    /**
+     * <code>repeated .PlayerControl pressedControls = 1;</code>
+     * @return The count of pressedControls.
+     */
+    int getPressedControlsCount();
+    /**
+     * <code>repeated .PlayerControl pressedControls = 1;</code>
+     * @param index The index of the element to return.
+     * @return The pressedControls at the given index.
+     */
+    io.github.aggarcia.messages.Generated.PlayerControl getPressedControls(int index);
+    /**
+     * <code>repeated .PlayerControl pressedControls = 1;</code>
+     * @return A list containing the enum numeric values on the wire for pressedControls.
+     */
+    java.util.List<java.lang.Integer>
+    getPressedControlsValueList();
+    /**
+     * <code>repeated .PlayerControl pressedControls = 1;</code>
+     * @param index The index of the value to return.
+     * @return The enum numeric value on the wire of pressedControls at the given index.
+     */
+    int getPressedControlsValue(int index);
+
+    /**
+     * <pre>
+     * incremented by the client for every event sent
+     * </pre>
+     *
+     * <code>uint32 sequence = 2;</code>
+     * @return The sequence.
+     */
+    int getSequence();
+  }
+  /**
+   * <pre>
+   * client to server
+   * </pre>
+   *
+   * Protobuf type {@code ControlChangeEvent}
+   */
+  public static final class ControlChangeEvent extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:ControlChangeEvent)
+      ControlChangeEventOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use ControlChangeEvent.newBuilder() to construct.
+    private ControlChangeEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private ControlChangeEvent() {
+      pressedControls_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new ControlChangeEvent();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.aggarcia.messages.Generated.internal_static_ControlChangeEvent_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.aggarcia.messages.Generated.internal_static_ControlChangeEvent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.aggarcia.messages.Generated.ControlChangeEvent.class, io.github.aggarcia.messages.Generated.ControlChangeEvent.Builder.class);
+    }
+
+    public static final int PRESSEDCONTROLS_FIELD_NUMBER = 1;
+    private java.util.List<java.lang.Integer> pressedControls_;
+    private static final com.google.protobuf.Internal.ListAdapter.Converter<
+        java.lang.Integer, io.github.aggarcia.messages.Generated.PlayerControl> pressedControls_converter_ =
+            new com.google.protobuf.Internal.ListAdapter.Converter<
+                java.lang.Integer, io.github.aggarcia.messages.Generated.PlayerControl>() {
+              public io.github.aggarcia.messages.Generated.PlayerControl convert(java.lang.Integer from) {
+                @SuppressWarnings("deprecation")
+                io.github.aggarcia.messages.Generated.PlayerControl result = io.github.aggarcia.messages.Generated.PlayerControl.valueOf(from);
+                return result == null ? io.github.aggarcia.messages.Generated.PlayerControl.UNRECOGNIZED : result;
+              }
+            };
+    /**
+     * <code>repeated .PlayerControl pressedControls = 1;</code>
+     * @return A list containing the pressedControls.
+     */
+    @java.lang.Override
+    public java.util.List<io.github.aggarcia.messages.Generated.PlayerControl> getPressedControlsList() {
+      return new com.google.protobuf.Internal.ListAdapter<
+          java.lang.Integer, io.github.aggarcia.messages.Generated.PlayerControl>(pressedControls_, pressedControls_converter_);
+    }
+    /**
+     * <code>repeated .PlayerControl pressedControls = 1;</code>
+     * @return The count of pressedControls.
+     */
+    @java.lang.Override
+    public int getPressedControlsCount() {
+      return pressedControls_.size();
+    }
+    /**
+     * <code>repeated .PlayerControl pressedControls = 1;</code>
+     * @param index The index of the element to return.
+     * @return The pressedControls at the given index.
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.PlayerControl getPressedControls(int index) {
+      return pressedControls_converter_.convert(pressedControls_.get(index));
+    }
+    /**
+     * <code>repeated .PlayerControl pressedControls = 1;</code>
+     * @return A list containing the enum numeric values on the wire for pressedControls.
+     */
+    @java.lang.Override
+    public java.util.List<java.lang.Integer>
+    getPressedControlsValueList() {
+      return pressedControls_;
+    }
+    /**
+     * <code>repeated .PlayerControl pressedControls = 1;</code>
+     * @param index The index of the value to return.
+     * @return The enum numeric value on the wire of pressedControls at the given index.
+     */
+    @java.lang.Override
+    public int getPressedControlsValue(int index) {
+      return pressedControls_.get(index);
+    }
+    private int pressedControlsMemoizedSerializedSize;
+
+    public static final int SEQUENCE_FIELD_NUMBER = 2;
+    private int sequence_;
+    /**
+     * <pre>
+     * incremented by the client for every event sent
+     * </pre>
+     *
+     * <code>uint32 sequence = 2;</code>
+     * @return The sequence.
+     */
+    @java.lang.Override
+    public int getSequence() {
+      return sequence_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      getSerializedSize();
+      if (getPressedControlsList().size() > 0) {
+        output.writeUInt32NoTag(10);
+        output.writeUInt32NoTag(pressedControlsMemoizedSerializedSize);
+      }
+      for (int i = 0; i < pressedControls_.size(); i++) {
+        output.writeEnumNoTag(pressedControls_.get(i));
+      }
+      if (sequence_ != 0) {
+        output.writeUInt32(2, sequence_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      {
+        int dataSize = 0;
+        for (int i = 0; i < pressedControls_.size(); i++) {
+          dataSize += com.google.protobuf.CodedOutputStream
+            .computeEnumSizeNoTag(pressedControls_.get(i));
+        }
+        size += dataSize;
+        if (!getPressedControlsList().isEmpty()) {  size += 1;
+          size += com.google.protobuf.CodedOutputStream
+            .computeUInt32SizeNoTag(dataSize);
+        }pressedControlsMemoizedSerializedSize = dataSize;
+      }
+      if (sequence_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(2, sequence_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.ControlChangeEvent)) {
+        return super.equals(obj);
+      }
+      io.github.aggarcia.messages.Generated.ControlChangeEvent other = (io.github.aggarcia.messages.Generated.ControlChangeEvent) obj;
+
+      if (!pressedControls_.equals(other.pressedControls_)) return false;
+      if (getSequence()
+          != other.getSequence()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      if (getPressedControlsCount() > 0) {
+        hash = (37 * hash) + PRESSEDCONTROLS_FIELD_NUMBER;
+        hash = (53 * hash) + pressedControls_.hashCode();
+      }
+      hash = (37 * hash) + SEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + getSequence();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.ControlChangeEvent prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * client to server
+     * </pre>
+     *
+     * Protobuf type {@code ControlChangeEvent}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:ControlChangeEvent)
+        io.github.aggarcia.messages.Generated.ControlChangeEventOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.aggarcia.messages.Generated.internal_static_ControlChangeEvent_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.aggarcia.messages.Generated.internal_static_ControlChangeEvent_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.aggarcia.messages.Generated.ControlChangeEvent.class, io.github.aggarcia.messages.Generated.ControlChangeEvent.Builder.class);
+      }
+
+      // Construct using io.github.aggarcia.messages.Generated.ControlChangeEvent.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        pressedControls_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        sequence_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.aggarcia.messages.Generated.internal_static_ControlChangeEvent_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.ControlChangeEvent getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.ControlChangeEvent.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.ControlChangeEvent build() {
+        io.github.aggarcia.messages.Generated.ControlChangeEvent result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.ControlChangeEvent buildPartial() {
+        io.github.aggarcia.messages.Generated.ControlChangeEvent result = new io.github.aggarcia.messages.Generated.ControlChangeEvent(this);
+        int from_bitField0_ = bitField0_;
+        if (((bitField0_ & 0x00000001) != 0)) {
+          pressedControls_ = java.util.Collections.unmodifiableList(pressedControls_);
+          bitField0_ = (bitField0_ & ~0x00000001);
+        }
+        result.pressedControls_ = pressedControls_;
+        result.sequence_ = sequence_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.aggarcia.messages.Generated.ControlChangeEvent) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.ControlChangeEvent)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.ControlChangeEvent other) {
+        if (other == io.github.aggarcia.messages.Generated.ControlChangeEvent.getDefaultInstance()) return this;
+        if (!other.pressedControls_.isEmpty()) {
+          if (pressedControls_.isEmpty()) {
+            pressedControls_ = other.pressedControls_;
+            bitField0_ = (bitField0_ & ~0x00000001);
+          } else {
+            ensurePressedControlsIsMutable();
+            pressedControls_.addAll(other.pressedControls_);
+          }
+          onChanged();
+        }
+        if (other.getSequence() != 0) {
+          setSequence(other.getSequence());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                int tmpRaw = input.readEnum();
+                ensurePressedControlsIsMutable();
+                pressedControls_.add(tmpRaw);
+                break;
+              } // case 8
+              case 10: {
+                int length = input.readRawVarint32();
+                int oldLimit = input.pushLimit(length);
+                while(input.getBytesUntilLimit() > 0) {
+                  int tmpRaw = input.readEnum();
+                  ensurePressedControlsIsMutable();
+                  pressedControls_.add(tmpRaw);
+                }
+                input.popLimit(oldLimit);
+                break;
+              } // case 10
+              case 16: {
+                sequence_ = input.readUInt32();
+
+                break;
+              } // case 16
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private java.util.List<java.lang.Integer> pressedControls_ =
+        java.util.Collections.emptyList();
+      private void ensurePressedControlsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          pressedControls_ = new java.util.ArrayList<java.lang.Integer>(pressedControls_);
+          bitField0_ |= 0x00000001;
+        }
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @return A list containing the pressedControls.
+       */
+      public java.util.List<io.github.aggarcia.messages.Generated.PlayerControl> getPressedControlsList() {
+        return new com.google.protobuf.Internal.ListAdapter<
+            java.lang.Integer, io.github.aggarcia.messages.Generated.PlayerControl>(pressedControls_, pressedControls_converter_);
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @return The count of pressedControls.
+       */
+      public int getPressedControlsCount() {
+        return pressedControls_.size();
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @param index The index of the element to return.
+       * @return The pressedControls at the given index.
+       */
+      public io.github.aggarcia.messages.Generated.PlayerControl getPressedControls(int index) {
+        return pressedControls_converter_.convert(pressedControls_.get(index));
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @param index The index to set the value at.
+       * @param value The pressedControls to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPressedControls(
+          int index, io.github.aggarcia.messages.Generated.PlayerControl value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePressedControlsIsMutable();
+        pressedControls_.set(index, value.getNumber());
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @param value The pressedControls to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPressedControls(io.github.aggarcia.messages.Generated.PlayerControl value) {
+        if (value == null) {
+          throw new NullPointerException();
+        }
+        ensurePressedControlsIsMutable();
+        pressedControls_.add(value.getNumber());
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @param values The pressedControls to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPressedControls(
+          java.lang.Iterable<? extends io.github.aggarcia.messages.Generated.PlayerControl> values) {
+        ensurePressedControlsIsMutable();
+        for (io.github.aggarcia.messages.Generated.PlayerControl value : values) {
+          pressedControls_.add(value.getNumber());
+        }
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPressedControls() {
+        pressedControls_ = java.util.Collections.emptyList();
+        bitField0_ = (bitField0_ & ~0x00000001);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @return A list containing the enum numeric values on the wire for pressedControls.
+       */
+      public java.util.List<java.lang.Integer>
+      getPressedControlsValueList() {
+        return java.util.Collections.unmodifiableList(pressedControls_);
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @param index The index of the value to return.
+       * @return The enum numeric value on the wire of pressedControls at the given index.
+       */
+      public int getPressedControlsValue(int index) {
+        return pressedControls_.get(index);
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @param index The index of the value to return.
+       * @return The enum numeric value on the wire of pressedControls at the given index.
+       * @return This builder for chaining.
+       */
+      public Builder setPressedControlsValue(
+          int index, int value) {
+        ensurePressedControlsIsMutable();
+        pressedControls_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @param value The enum numeric value on the wire for pressedControls to add.
+       * @return This builder for chaining.
+       */
+      public Builder addPressedControlsValue(int value) {
+        ensurePressedControlsIsMutable();
+        pressedControls_.add(value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>repeated .PlayerControl pressedControls = 1;</code>
+       * @param values The enum numeric values on the wire for pressedControls to add.
+       * @return This builder for chaining.
+       */
+      public Builder addAllPressedControlsValue(
+          java.lang.Iterable<java.lang.Integer> values) {
+        ensurePressedControlsIsMutable();
+        for (int value : values) {
+          pressedControls_.add(value);
+        }
+        onChanged();
+        return this;
+      }
+
+      private int sequence_ ;
+      /**
+       * <pre>
+       * incremented by the client for every event sent
+       * </pre>
+       *
+       * <code>uint32 sequence = 2;</code>
+       * @return The sequence.
+       */
+      @java.lang.Override
+      public int getSequence() {
+        return sequence_;
+      }
+      /**
+       * <pre>
+       * incremented by the client for every event sent
+       * </pre>
+       *
+       * <code>uint32 sequence = 2;</code>
+       * @param value The sequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSequence(int value) {
+        
+        sequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * incremented by the client for every event sent
+       * </pre>
+       *
+       * <code>uint32 sequence = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSequence() {
+        
+        sequence_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:ControlChangeEvent)
+    }
+
+    // @@protoc_insertion_point(class_scope:ControlChangeEvent)
+    private static final io.github.aggarcia.messages.Generated.ControlChangeEvent DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.ControlChangeEvent();
+    }
+
+    public static io.github.aggarcia.messages.Generated.ControlChangeEvent getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<ControlChangeEvent>
+        PARSER = new com.google.protobuf.AbstractParser<ControlChangeEvent>() {
+      @java.lang.Override
+      public ControlChangeEvent parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<ControlChangeEvent> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<ControlChangeEvent> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.ControlChangeEvent getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface JoinEventOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:JoinEvent)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <pre>
+     * from a previous JoinReply, takes over the player left behind by a
+     * dropped connection instead of creating a new one
+     * </pre>
+     *
+     * <code>string resumeToken = 2;</code>
+     * @return The resumeToken.
+     */
+    java.lang.String getResumeToken();
+    /**
+     * <pre>
+     * from a previous JoinReply, takes over the player left behind by a
+     * dropped connection instead of creating a new one
+     * </pre>
+     *
+     * <code>string resumeToken = 2;</code>
+     * @return The bytes for resumeToken.
+     */
+    com.google.protobuf.ByteString
+        getResumeTokenBytes();
+  }
+  /**
+   * <pre>
+   * client to server
+   * </pre>
+   *
+   * Protobuf type {@code JoinEvent}
+   */
+  public static final class JoinEvent extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:JoinEvent)
+      JoinEventOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use JoinEvent.newBuilder() to construct.
+    private JoinEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private JoinEvent() {
+      name_ = "";
+      resumeToken_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new JoinEvent();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.aggarcia.messages.Generated.internal_static_JoinEvent_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.aggarcia.messages.Generated.internal_static_JoinEvent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.aggarcia.messages.Generated.JoinEvent.class, io.github.aggarcia.messages.Generated.JoinEvent.Builder.class);
+    }
+
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>string name = 1;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RESUMETOKEN_FIELD_NUMBER = 2;
+    private volatile java.lang.Object resumeToken_;
+    /**
+     * <pre>
+     * from a previous JoinReply, takes over the player left behind by a
+     * dropped connection instead of creating a new one
+     * </pre>
+     *
+     * <code>string resumeToken = 2;</code>
+     * @return The resumeToken.
+     */
+    @java.lang.Override
+    public java.lang.String getResumeToken() {
+      java.lang.Object ref = resumeToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        resumeToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * from a previous JoinReply, takes over the player left behind by a
+     * dropped connection instead of creating a new one
+     * </pre>
+     *
+     * <code>string resumeToken = 2;</code>
+     * @return The bytes for resumeToken.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getResumeTokenBytes() {
+      java.lang.Object ref = resumeToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        resumeToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(resumeToken_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, resumeToken_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(resumeToken_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, resumeToken_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.JoinEvent)) {
+        return super.equals(obj);
+      }
+      io.github.aggarcia.messages.Generated.JoinEvent other = (io.github.aggarcia.messages.Generated.JoinEvent) obj;
+
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getResumeToken()
+          .equals(other.getResumeToken())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + RESUMETOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getResumeToken().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.JoinEvent prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * client to server
+     * </pre>
+     *
+     * Protobuf type {@code JoinEvent}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:JoinEvent)
+        io.github.aggarcia.messages.Generated.JoinEventOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.aggarcia.messages.Generated.internal_static_JoinEvent_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.aggarcia.messages.Generated.internal_static_JoinEvent_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.aggarcia.messages.Generated.JoinEvent.class, io.github.aggarcia.messages.Generated.JoinEvent.Builder.class);
+      }
+
+      // Construct using io.github.aggarcia.messages.Generated.JoinEvent.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        name_ = "";
+
+        resumeToken_ = "";
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.aggarcia.messages.Generated.internal_static_JoinEvent_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.JoinEvent getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.JoinEvent.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.JoinEvent build() {
+        io.github.aggarcia.messages.Generated.JoinEvent result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.JoinEvent buildPartial() {
+        io.github.aggarcia.messages.Generated.JoinEvent result = new io.github.aggarcia.messages.Generated.JoinEvent(this);
+        result.name_ = name_;
+        result.resumeToken_ = resumeToken_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.aggarcia.messages.Generated.JoinEvent) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.JoinEvent)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.JoinEvent other) {
+        if (other == io.github.aggarcia.messages.Generated.JoinEvent.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (!other.getResumeToken().isEmpty()) {
+          resumeToken_ = other.resumeToken_;
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 10
+              case 18: {
+                resumeToken_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 18
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object resumeToken_ = "";
+      /**
+       * <pre>
+       * from a previous JoinReply, takes over the player left behind by a
+       * dropped connection instead of creating a new one
+       * </pre>
+       *
+       * <code>string resumeToken = 2;</code>
+       * @return The resumeToken.
+       */
+      public java.lang.String getResumeToken() {
+        java.lang.Object ref = resumeToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          resumeToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <pre>
+       * from a previous JoinReply, takes over the player left behind by a
+       * dropped connection instead of creating a new one
+       * </pre>
+       *
+       * <code>string resumeToken = 2;</code>
+       * @return The bytes for resumeToken.
+       */
+      public com.google.protobuf.ByteString
+          getResumeTokenBytes() {
+        java.lang.Object ref = resumeToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          resumeToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <pre>
+       * from a previous JoinReply, takes over the player left behind by a
+       * dropped connection instead of creating a new one
+       * </pre>
+       *
+       * <code>string resumeToken = 2;</code>
+       * @param value The resumeToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResumeToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resumeToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * from a previous JoinReply, takes over the player left behind by a
+       * dropped connection instead of creating a new one
+       * </pre>
+       *
+       * <code>string resumeToken = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResumeToken() {
+        
+        resumeToken_ = getDefaultInstance().getResumeToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * from a previous JoinReply, takes over the player left behind by a
+       * dropped connection instead of creating a new one
+       * </pre>
+       *
+       * <code>string resumeToken = 2;</code>
+       * @param value The bytes for resumeToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResumeTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        resumeToken_ = value;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:JoinEvent)
+    }
+
+    // @@protoc_insertion_point(class_scope:JoinEvent)
+    private static final io.github.aggarcia.messages.Generated.JoinEvent DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.JoinEvent();
+    }
+
+    public static io.github.aggarcia.messages.Generated.JoinEvent getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<JoinEvent>
+        PARSER = new com.google.protobuf.AbstractParser<JoinEvent>() {
+      @java.lang.Override
+      public JoinEvent parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<JoinEvent> parser() {
+      return PARSER;
+    }
 
-    /**
-     * <code>repeated .Player players = 2;</code>
-     */
-    java.util.List<io.github.aggarcia.messages.Generated.Player> 
-        getPlayersList();
-    /**
-     * <code>repeated .Player players = 2;</code>
-     */
-    io.github.aggarcia.messages.Generated.Player getPlayers(int index);
-    /**
-     * <code>repeated .Player players = 2;</code>
-     */
-    int getPlayersCount();
-    /**
-     * <code>repeated .Player players = 2;</code>
-     */
-    java.util.List<? extends io.github.aggarcia.messages.Generated.PlayerOrBuilder> 
-        getPlayersOrBuilderList();
-    /**
-     * <code>repeated .Player players = 2;</code>
-     */
-    io.github.aggarcia.messages.Generated.PlayerOrBuilder getPlayersOrBuilder(
-        int index);
+    @java.lang.Override
+    public com.google.protobuf.Parser<JoinEvent> getParserForType() {
+      return PARSER;
+    }
 
-    /**
-     * <code>repeated .Platform platforms = 3;</code>
-     */
-    java.util.List<io.github.aggarcia.messages.Generated.Platform> 
-        getPlatformsList();
-    /**
-     * <code>repeated .Platform platforms = 3;</code>
-     */
-    io.github.aggarcia.messages.Generated.Platform getPlatforms(int index);
-    /**
-     * <code>repeated .Platform platforms = 3;</code>
-     */
-    int getPlatformsCount();
-    /**
-     * <code>repeated .Platform platforms = 3;</code>
-     */
-    java.util.List<? extends io.github.aggarcia.messages.Generated.PlatformOrBuilder> 
-        getPlatformsOrBuilderList();
-    /**
-     * <code>repeated .Platform platforms = 3;</code>
-     */
-    io.github.aggarcia.messages.Generated.PlatformOrBuilder getPlatformsOrBuilder(
-        int index);
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.JoinEvent getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface LeaveEventOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:LeaveEvent)
+      com.google.protobuf.MessageOrBuilder {
   }
   /**
    * <pre>
-   * server to client
+   * client to server, leaves the current game but keeps the connection open
+   * so that the client can join the next one
    * </pre>
    *
-   * Protobuf type {@code GamePing}
+   * Protobuf type {@code LeaveEvent}
    */
-  public static final class GamePing extends
+  public static final class LeaveEvent extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:GamePing)
-      GamePingOrBuilder {
+      // @@protoc_insertion_point(message_implements:LeaveEvent)
+      LeaveEventOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GamePing.newBuilder() to construct.
-    private GamePing(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use LeaveEvent.newBuilder() to construct.
+    private LeaveEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GamePing() {
-      players_ = java.util.Collections.emptyList();
-      platforms_ = java.util.Collections.emptyList();
+    private LeaveEvent() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GamePing();
+      return new LeaveEvent();
     }
 
     @java.lang.Override
@@ -2060,106 +7254,15 @@ public final class Generated {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.aggarcia.messages.Generated.internal_static_GamePing_descriptor;
+      return io.github.aggarcia.messages.Generated.internal_static_LeaveEvent_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.aggarcia.messages.Generated.internal_static_GamePing_fieldAccessorTable
+      return io.github.aggarcia.messages.Generated.internal_static_LeaveEvent_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.aggarcia.messages.Generated.GamePing.class, io.github.aggarcia.messages.Generated.GamePing.Builder.class);
-    }
-
-    public static final int SERVERAGE_FIELD_NUMBER = 1;
-    private int serverAge_;
-    /**
-     * <code>uint32 serverAge = 1;</code>
-     * @return The serverAge.
-     */
-    @java.lang.Override
-    public int getServerAge() {
-      return serverAge_;
-    }
-
-    public static final int PLAYERS_FIELD_NUMBER = 2;
-    private java.util.List<io.github.aggarcia.messages.Generated.Player> players_;
-    /**
-     * <code>repeated .Player players = 2;</code>
-     */
-    @java.lang.Override
-    public java.util.List<io.github.aggarcia.messages.Generated.Player> getPlayersList() {
-      return players_;
-    }
-    /**
-     * <code>repeated .Player players = 2;</code>
-     */
-    @java.lang.Override
-    public java.util.List<? extends io.github.aggarcia.messages.Generated.PlayerOrBuilder> 
-        getPlayersOrBuilderList() {
-      return players_;
-    }
-    /**
-     * <code>repeated .Player players = 2;</code>
-     */
-    @java.lang.Override
-    public int getPlayersCount() {
-      return players_.size();
-    }
-    /**
-     * <code>repeated .Player players = 2;</code>
-     */
-    @java.lang.Override
-    public io.github.aggarcia.messages.Generated.Player getPlayers(int index) {
-      return players_.get(index);
-    }
-    /**
-     * <code>repeated .Player players = 2;</code>
-     */
-    @java.lang.Override
-    public io.github.aggarcia.messages.Generated.PlayerOrBuilder getPlayersOrBuilder(
-        int index) {
-      return players_.get(index);
-    }
-
-    public static final int PLATFORMS_FIELD_NUMBER = 3;
-    private java.util.List<io.github.aggarcia.messages.Generated.Platform> platforms_;
-    /**
-     * <code>repeated .Platform platforms = 3;</code>
-     */
-    @java.lang.Override
-    public java.util.List<io.github.aggarcia.messages.Generated.Platform> getPlatformsList() {
-      return platforms_;
-    }
-    /**
-     * <code>repeated .Platform platforms = 3;</code>
-     */
-    @java.lang.Override
-    public java.util.List<? extends io.github.aggarcia.messages.Generated.PlatformOrBuilder> 
-        getPlatformsOrBuilderList() {
-      return platforms_;
-    }
-    /**
-     * <code>repeated .Platform platforms = 3;</code>
-     */
-    @java.lang.Override
-    public int getPlatformsCount() {
-      return platforms_.size();
-    }
-    /**
-     * <code>repeated .Platform platforms = 3;</code>
-     */
-    @java.lang.Override
-    public io.github.aggarcia.messages.Generated.Platform getPlatforms(int index) {
-      return platforms_.get(index);
-    }
-    /**
-     * <code>repeated .Platform platforms = 3;</code>
-     */
-    @java.lang.Override
-    public io.github.aggarcia.messages.Generated.PlatformOrBuilder getPlatformsOrBuilder(
-        int index) {
-      return platforms_.get(index);
+              io.github.aggarcia.messages.Generated.LeaveEvent.class, io.github.aggarcia.messages.Generated.LeaveEvent.Builder.class);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -2176,15 +7279,6 @@ public final class Generated {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (serverAge_ != 0) {
-        output.writeUInt32(1, serverAge_);
-      }
-      for (int i = 0; i < players_.size(); i++) {
-        output.writeMessage(2, players_.get(i));
-      }
-      for (int i = 0; i < platforms_.size(); i++) {
-        output.writeMessage(3, platforms_.get(i));
-      }
       getUnknownFields().writeTo(output);
     }
 
@@ -2194,18 +7288,6 @@ public final class Generated {
       if (size != -1) return size;
 
       size = 0;
-      if (serverAge_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(1, serverAge_);
-      }
-      for (int i = 0; i < players_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(2, players_.get(i));
-      }
-      for (int i = 0; i < platforms_.size(); i++) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeMessageSize(3, platforms_.get(i));
-      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -2216,17 +7298,11 @@ public final class Generated {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.aggarcia.messages.Generated.GamePing)) {
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.LeaveEvent)) {
         return super.equals(obj);
       }
-      io.github.aggarcia.messages.Generated.GamePing other = (io.github.aggarcia.messages.Generated.GamePing) obj;
+      io.github.aggarcia.messages.Generated.LeaveEvent other = (io.github.aggarcia.messages.Generated.LeaveEvent) obj;
 
-      if (getServerAge()
-          != other.getServerAge()) return false;
-      if (!getPlayersList()
-          .equals(other.getPlayersList())) return false;
-      if (!getPlatformsList()
-          .equals(other.getPlatformsList())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -2238,84 +7314,74 @@ public final class Generated {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + SERVERAGE_FIELD_NUMBER;
-      hash = (53 * hash) + getServerAge();
-      if (getPlayersCount() > 0) {
-        hash = (37 * hash) + PLAYERS_FIELD_NUMBER;
-        hash = (53 * hash) + getPlayersList().hashCode();
-      }
-      if (getPlatformsCount() > 0) {
-        hash = (37 * hash) + PLATFORMS_FIELD_NUMBER;
-        hash = (53 * hash) + getPlatformsList().hashCode();
-      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(byte[] data)
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseDelimitedFrom(
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.GamePing parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaveEvent parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -2328,7 +7394,7 @@ public final class Generated {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.aggarcia.messages.Generated.GamePing prototype) {
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.LeaveEvent prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -2345,74 +7411,59 @@ public final class Generated {
     }
     /**
      * <pre>
-     * server to client
+     * client to server, leaves the current game but keeps the connection open
+     * so that the client can join the next one
      * </pre>
      *
-     * Protobuf type {@code GamePing}
+     * Protobuf type {@code LeaveEvent}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GamePing)
-        io.github.aggarcia.messages.Generated.GamePingOrBuilder {
+        // @@protoc_insertion_point(builder_implements:LeaveEvent)
+        io.github.aggarcia.messages.Generated.LeaveEventOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.aggarcia.messages.Generated.internal_static_GamePing_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_LeaveEvent_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.aggarcia.messages.Generated.internal_static_GamePing_fieldAccessorTable
-            .ensureFieldAccessorsInitialized(
-                io.github.aggarcia.messages.Generated.GamePing.class, io.github.aggarcia.messages.Generated.GamePing.Builder.class);
-      }
-
-      // Construct using io.github.aggarcia.messages.Generated.GamePing.newBuilder()
-      private Builder() {
-
-      }
-
-      private Builder(
-          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
-        super(parent);
-
-      }
-      @java.lang.Override
-      public Builder clear() {
-        super.clear();
-        serverAge_ = 0;
-
-        if (playersBuilder_ == null) {
-          players_ = java.util.Collections.emptyList();
-        } else {
-          players_ = null;
-          playersBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000001);
-        if (platformsBuilder_ == null) {
-          platforms_ = java.util.Collections.emptyList();
-        } else {
-          platforms_ = null;
-          platformsBuilder_.clear();
-        }
-        bitField0_ = (bitField0_ & ~0x00000002);
+        return io.github.aggarcia.messages.Generated.internal_static_LeaveEvent_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.aggarcia.messages.Generated.LeaveEvent.class, io.github.aggarcia.messages.Generated.LeaveEvent.Builder.class);
+      }
+
+      // Construct using io.github.aggarcia.messages.Generated.LeaveEvent.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.aggarcia.messages.Generated.internal_static_GamePing_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_LeaveEvent_descriptor;
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.GamePing getDefaultInstanceForType() {
-        return io.github.aggarcia.messages.Generated.GamePing.getDefaultInstance();
+      public io.github.aggarcia.messages.Generated.LeaveEvent getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.LeaveEvent.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.GamePing build() {
-        io.github.aggarcia.messages.Generated.GamePing result = buildPartial();
+      public io.github.aggarcia.messages.Generated.LeaveEvent build() {
+        io.github.aggarcia.messages.Generated.LeaveEvent result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -2420,28 +7471,8 @@ public final class Generated {
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.GamePing buildPartial() {
-        io.github.aggarcia.messages.Generated.GamePing result = new io.github.aggarcia.messages.Generated.GamePing(this);
-        int from_bitField0_ = bitField0_;
-        result.serverAge_ = serverAge_;
-        if (playersBuilder_ == null) {
-          if (((bitField0_ & 0x00000001) != 0)) {
-            players_ = java.util.Collections.unmodifiableList(players_);
-            bitField0_ = (bitField0_ & ~0x00000001);
-          }
-          result.players_ = players_;
-        } else {
-          result.players_ = playersBuilder_.build();
-        }
-        if (platformsBuilder_ == null) {
-          if (((bitField0_ & 0x00000002) != 0)) {
-            platforms_ = java.util.Collections.unmodifiableList(platforms_);
-            bitField0_ = (bitField0_ & ~0x00000002);
-          }
-          result.platforms_ = platforms_;
-        } else {
-          result.platforms_ = platformsBuilder_.build();
-        }
+      public io.github.aggarcia.messages.Generated.LeaveEvent buildPartial() {
+        io.github.aggarcia.messages.Generated.LeaveEvent result = new io.github.aggarcia.messages.Generated.LeaveEvent(this);
         onBuilt();
         return result;
       }
@@ -2478,656 +7509,615 @@ public final class Generated {
           java.lang.Object value) {
         return super.addRepeatedField(field, value);
       }
-      @java.lang.Override
-      public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.aggarcia.messages.Generated.GamePing) {
-          return mergeFrom((io.github.aggarcia.messages.Generated.GamePing)other);
-        } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(io.github.aggarcia.messages.Generated.GamePing other) {
-        if (other == io.github.aggarcia.messages.Generated.GamePing.getDefaultInstance()) return this;
-        if (other.getServerAge() != 0) {
-          setServerAge(other.getServerAge());
-        }
-        if (playersBuilder_ == null) {
-          if (!other.players_.isEmpty()) {
-            if (players_.isEmpty()) {
-              players_ = other.players_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-            } else {
-              ensurePlayersIsMutable();
-              players_.addAll(other.players_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.players_.isEmpty()) {
-            if (playersBuilder_.isEmpty()) {
-              playersBuilder_.dispose();
-              playersBuilder_ = null;
-              players_ = other.players_;
-              bitField0_ = (bitField0_ & ~0x00000001);
-              playersBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getPlayersFieldBuilder() : null;
-            } else {
-              playersBuilder_.addAllMessages(other.players_);
-            }
-          }
-        }
-        if (platformsBuilder_ == null) {
-          if (!other.platforms_.isEmpty()) {
-            if (platforms_.isEmpty()) {
-              platforms_ = other.platforms_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-            } else {
-              ensurePlatformsIsMutable();
-              platforms_.addAll(other.platforms_);
-            }
-            onChanged();
-          }
-        } else {
-          if (!other.platforms_.isEmpty()) {
-            if (platformsBuilder_.isEmpty()) {
-              platformsBuilder_.dispose();
-              platformsBuilder_ = null;
-              platforms_ = other.platforms_;
-              bitField0_ = (bitField0_ & ~0x00000002);
-              platformsBuilder_ = 
-                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
-                   getPlatformsFieldBuilder() : null;
-            } else {
-              platformsBuilder_.addAllMessages(other.platforms_);
-            }
-          }
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 8: {
-                serverAge_ = input.readUInt32();
-
-                break;
-              } // case 8
-              case 18: {
-                io.github.aggarcia.messages.Generated.Player m =
-                    input.readMessage(
-                        io.github.aggarcia.messages.Generated.Player.parser(),
-                        extensionRegistry);
-                if (playersBuilder_ == null) {
-                  ensurePlayersIsMutable();
-                  players_.add(m);
-                } else {
-                  playersBuilder_.addMessage(m);
-                }
-                break;
-              } // case 18
-              case 26: {
-                io.github.aggarcia.messages.Generated.Platform m =
-                    input.readMessage(
-                        io.github.aggarcia.messages.Generated.Platform.parser(),
-                        extensionRegistry);
-                if (platformsBuilder_ == null) {
-                  ensurePlatformsIsMutable();
-                  platforms_.add(m);
-                } else {
-                  platformsBuilder_.addMessage(m);
-                }
-                break;
-              } // case 26
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private int serverAge_ ;
-      /**
-       * <code>uint32 serverAge = 1;</code>
-       * @return The serverAge.
-       */
-      @java.lang.Override
-      public int getServerAge() {
-        return serverAge_;
-      }
-      /**
-       * <code>uint32 serverAge = 1;</code>
-       * @param value The serverAge to set.
-       * @return This builder for chaining.
-       */
-      public Builder setServerAge(int value) {
-        
-        serverAge_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>uint32 serverAge = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearServerAge() {
-        
-        serverAge_ = 0;
-        onChanged();
-        return this;
-      }
-
-      private java.util.List<io.github.aggarcia.messages.Generated.Player> players_ =
-        java.util.Collections.emptyList();
-      private void ensurePlayersIsMutable() {
-        if (!((bitField0_ & 0x00000001) != 0)) {
-          players_ = new java.util.ArrayList<io.github.aggarcia.messages.Generated.Player>(players_);
-          bitField0_ |= 0x00000001;
-         }
-      }
-
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          io.github.aggarcia.messages.Generated.Player, io.github.aggarcia.messages.Generated.Player.Builder, io.github.aggarcia.messages.Generated.PlayerOrBuilder> playersBuilder_;
-
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public java.util.List<io.github.aggarcia.messages.Generated.Player> getPlayersList() {
-        if (playersBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(players_);
-        } else {
-          return playersBuilder_.getMessageList();
-        }
-      }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public int getPlayersCount() {
-        if (playersBuilder_ == null) {
-          return players_.size();
-        } else {
-          return playersBuilder_.getCount();
-        }
-      }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public io.github.aggarcia.messages.Generated.Player getPlayers(int index) {
-        if (playersBuilder_ == null) {
-          return players_.get(index);
-        } else {
-          return playersBuilder_.getMessage(index);
-        }
-      }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public Builder setPlayers(
-          int index, io.github.aggarcia.messages.Generated.Player value) {
-        if (playersBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePlayersIsMutable();
-          players_.set(index, value);
-          onChanged();
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.aggarcia.messages.Generated.LeaveEvent) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.LeaveEvent)other);
         } else {
-          playersBuilder_.setMessage(index, value);
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public Builder setPlayers(
-          int index, io.github.aggarcia.messages.Generated.Player.Builder builderForValue) {
-        if (playersBuilder_ == null) {
-          ensurePlayersIsMutable();
-          players_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          playersBuilder_.setMessage(index, builderForValue.build());
-        }
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.LeaveEvent other) {
+        if (other == io.github.aggarcia.messages.Generated.LeaveEvent.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public Builder addPlayers(io.github.aggarcia.messages.Generated.Player value) {
-        if (playersBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePlayersIsMutable();
-          players_.add(value);
-          onChanged();
-        } else {
-          playersBuilder_.addMessage(value);
-        }
-        return this;
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public Builder addPlayers(
-          int index, io.github.aggarcia.messages.Generated.Player value) {
-        if (playersBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePlayersIsMutable();
-          players_.add(index, value);
-          onChanged();
-        } else {
-          playersBuilder_.addMessage(index, value);
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
         }
-        return this;
-      }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public Builder addPlayers(
-          io.github.aggarcia.messages.Generated.Player.Builder builderForValue) {
-        if (playersBuilder_ == null) {
-          ensurePlayersIsMutable();
-          players_.add(builderForValue.build());
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
           onChanged();
-        } else {
-          playersBuilder_.addMessage(builderForValue.build());
-        }
+        } // finally
         return this;
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public Builder addPlayers(
-          int index, io.github.aggarcia.messages.Generated.Player.Builder builderForValue) {
-        if (playersBuilder_ == null) {
-          ensurePlayersIsMutable();
-          players_.add(index, builderForValue.build());
-          onChanged();
-        } else {
-          playersBuilder_.addMessage(index, builderForValue.build());
-        }
-        return this;
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public Builder addAllPlayers(
-          java.lang.Iterable<? extends io.github.aggarcia.messages.Generated.Player> values) {
-        if (playersBuilder_ == null) {
-          ensurePlayersIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, players_);
-          onChanged();
-        } else {
-          playersBuilder_.addAllMessages(values);
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:LeaveEvent)
+    }
+
+    // @@protoc_insertion_point(class_scope:LeaveEvent)
+    private static final io.github.aggarcia.messages.Generated.LeaveEvent DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.LeaveEvent();
+    }
+
+    public static io.github.aggarcia.messages.Generated.LeaveEvent getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<LeaveEvent>
+        PARSER = new com.google.protobuf.AbstractParser<LeaveEvent>() {
+      @java.lang.Override
+      public LeaveEvent parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
         }
-        return this;
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<LeaveEvent> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<LeaveEvent> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.LeaveEvent getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface GameOverEventOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:GameOverEvent)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string reason = 1;</code>
+     * @return The reason.
+     */
+    java.lang.String getReason();
+    /**
+     * <code>string reason = 1;</code>
+     * @return The bytes for reason.
+     */
+    com.google.protobuf.ByteString
+        getReasonBytes();
+  }
+  /**
+   * <pre>
+   * server to client, the connection stays open after the game ends
+   * </pre>
+   *
+   * Protobuf type {@code GameOverEvent}
+   */
+  public static final class GameOverEvent extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:GameOverEvent)
+      GameOverEventOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GameOverEvent.newBuilder() to construct.
+    private GameOverEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GameOverEvent() {
+      reason_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GameOverEvent();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.aggarcia.messages.Generated.internal_static_GameOverEvent_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.aggarcia.messages.Generated.internal_static_GameOverEvent_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.aggarcia.messages.Generated.GameOverEvent.class, io.github.aggarcia.messages.Generated.GameOverEvent.Builder.class);
+    }
+
+    public static final int REASON_FIELD_NUMBER = 1;
+    private volatile java.lang.Object reason_;
+    /**
+     * <code>string reason = 1;</code>
+     * @return The reason.
+     */
+    @java.lang.Override
+    public java.lang.String getReason() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        reason_ = s;
+        return s;
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public Builder clearPlayers() {
-        if (playersBuilder_ == null) {
-          players_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000001);
-          onChanged();
-        } else {
-          playersBuilder_.clear();
-        }
-        return this;
+    }
+    /**
+     * <code>string reason = 1;</code>
+     * @return The bytes for reason.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getReasonBytes() {
+      java.lang.Object ref = reason_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        reason_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public Builder removePlayers(int index) {
-        if (playersBuilder_ == null) {
-          ensurePlayersIsMutable();
-          players_.remove(index);
-          onChanged();
-        } else {
-          playersBuilder_.remove(index);
-        }
-        return this;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(reason_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, reason_);
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public io.github.aggarcia.messages.Generated.Player.Builder getPlayersBuilder(
-          int index) {
-        return getPlayersFieldBuilder().getBuilder(index);
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(reason_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, reason_);
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public io.github.aggarcia.messages.Generated.PlayerOrBuilder getPlayersOrBuilder(
-          int index) {
-        if (playersBuilder_ == null) {
-          return players_.get(index);  } else {
-          return playersBuilder_.getMessageOrBuilder(index);
-        }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public java.util.List<? extends io.github.aggarcia.messages.Generated.PlayerOrBuilder> 
-           getPlayersOrBuilderList() {
-        if (playersBuilder_ != null) {
-          return playersBuilder_.getMessageOrBuilderList();
-        } else {
-          return java.util.Collections.unmodifiableList(players_);
-        }
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.GameOverEvent)) {
+        return super.equals(obj);
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public io.github.aggarcia.messages.Generated.Player.Builder addPlayersBuilder() {
-        return getPlayersFieldBuilder().addBuilder(
-            io.github.aggarcia.messages.Generated.Player.getDefaultInstance());
+      io.github.aggarcia.messages.Generated.GameOverEvent other = (io.github.aggarcia.messages.Generated.GameOverEvent) obj;
+
+      if (!getReason()
+          .equals(other.getReason())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public io.github.aggarcia.messages.Generated.Player.Builder addPlayersBuilder(
-          int index) {
-        return getPlayersFieldBuilder().addBuilder(
-            index, io.github.aggarcia.messages.Generated.Player.getDefaultInstance());
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + REASON_FIELD_NUMBER;
+      hash = (53 * hash) + getReason().hashCode();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.GameOverEvent prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * <pre>
+     * server to client, the connection stays open after the game ends
+     * </pre>
+     *
+     * Protobuf type {@code GameOverEvent}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:GameOverEvent)
+        io.github.aggarcia.messages.Generated.GameOverEventOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.aggarcia.messages.Generated.internal_static_GameOverEvent_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.aggarcia.messages.Generated.internal_static_GameOverEvent_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.aggarcia.messages.Generated.GameOverEvent.class, io.github.aggarcia.messages.Generated.GameOverEvent.Builder.class);
       }
-      /**
-       * <code>repeated .Player players = 2;</code>
-       */
-      public java.util.List<io.github.aggarcia.messages.Generated.Player.Builder> 
-           getPlayersBuilderList() {
-        return getPlayersFieldBuilder().getBuilderList();
+
+      // Construct using io.github.aggarcia.messages.Generated.GameOverEvent.newBuilder()
+      private Builder() {
+
       }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          io.github.aggarcia.messages.Generated.Player, io.github.aggarcia.messages.Generated.Player.Builder, io.github.aggarcia.messages.Generated.PlayerOrBuilder> 
-          getPlayersFieldBuilder() {
-        if (playersBuilder_ == null) {
-          playersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              io.github.aggarcia.messages.Generated.Player, io.github.aggarcia.messages.Generated.Player.Builder, io.github.aggarcia.messages.Generated.PlayerOrBuilder>(
-                  players_,
-                  ((bitField0_ & 0x00000001) != 0),
-                  getParentForChildren(),
-                  isClean());
-          players_ = null;
-        }
-        return playersBuilder_;
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
       }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        reason_ = "";
 
-      private java.util.List<io.github.aggarcia.messages.Generated.Platform> platforms_ =
-        java.util.Collections.emptyList();
-      private void ensurePlatformsIsMutable() {
-        if (!((bitField0_ & 0x00000002) != 0)) {
-          platforms_ = new java.util.ArrayList<io.github.aggarcia.messages.Generated.Platform>(platforms_);
-          bitField0_ |= 0x00000002;
-         }
+        return this;
       }
 
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          io.github.aggarcia.messages.Generated.Platform, io.github.aggarcia.messages.Generated.Platform.Builder, io.github.aggarcia.messages.Generated.PlatformOrBuilder> platformsBuilder_;
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.aggarcia.messages.Generated.internal_static_GameOverEvent_descriptor;
+      }
 
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public java.util.List<io.github.aggarcia.messages.Generated.Platform> getPlatformsList() {
-        if (platformsBuilder_ == null) {
-          return java.util.Collections.unmodifiableList(platforms_);
-        } else {
-          return platformsBuilder_.getMessageList();
-        }
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.GameOverEvent getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.GameOverEvent.getDefaultInstance();
       }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public int getPlatformsCount() {
-        if (platformsBuilder_ == null) {
-          return platforms_.size();
-        } else {
-          return platformsBuilder_.getCount();
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.GameOverEvent build() {
+        io.github.aggarcia.messages.Generated.GameOverEvent result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
         }
+        return result;
       }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public io.github.aggarcia.messages.Generated.Platform getPlatforms(int index) {
-        if (platformsBuilder_ == null) {
-          return platforms_.get(index);
-        } else {
-          return platformsBuilder_.getMessage(index);
-        }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Generated.GameOverEvent buildPartial() {
+        io.github.aggarcia.messages.Generated.GameOverEvent result = new io.github.aggarcia.messages.Generated.GameOverEvent(this);
+        result.reason_ = reason_;
+        onBuilt();
+        return result;
       }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public Builder setPlatforms(
-          int index, io.github.aggarcia.messages.Generated.Platform value) {
-        if (platformsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePlatformsIsMutable();
-          platforms_.set(index, value);
-          onChanged();
-        } else {
-          platformsBuilder_.setMessage(index, value);
-        }
-        return this;
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
       }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public Builder setPlatforms(
-          int index, io.github.aggarcia.messages.Generated.Platform.Builder builderForValue) {
-        if (platformsBuilder_ == null) {
-          ensurePlatformsIsMutable();
-          platforms_.set(index, builderForValue.build());
-          onChanged();
-        } else {
-          platformsBuilder_.setMessage(index, builderForValue.build());
-        }
-        return this;
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
       }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public Builder addPlatforms(io.github.aggarcia.messages.Generated.Platform value) {
-        if (platformsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePlatformsIsMutable();
-          platforms_.add(value);
-          onChanged();
-        } else {
-          platformsBuilder_.addMessage(value);
-        }
-        return this;
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
       }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public Builder addPlatforms(
-          int index, io.github.aggarcia.messages.Generated.Platform value) {
-        if (platformsBuilder_ == null) {
-          if (value == null) {
-            throw new NullPointerException();
-          }
-          ensurePlatformsIsMutable();
-          platforms_.add(index, value);
-          onChanged();
-        } else {
-          platformsBuilder_.addMessage(index, value);
-        }
-        return this;
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
       }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public Builder addPlatforms(
-          io.github.aggarcia.messages.Generated.Platform.Builder builderForValue) {
-        if (platformsBuilder_ == null) {
-          ensurePlatformsIsMutable();
-          platforms_.add(builderForValue.build());
-          onChanged();
-        } else {
-          platformsBuilder_.addMessage(builderForValue.build());
-        }
-        return this;
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
       }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public Builder addPlatforms(
-          int index, io.github.aggarcia.messages.Generated.Platform.Builder builderForValue) {
-        if (platformsBuilder_ == null) {
-          ensurePlatformsIsMutable();
-          platforms_.add(index, builderForValue.build());
-          onChanged();
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.aggarcia.messages.Generated.GameOverEvent) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.GameOverEvent)other);
         } else {
-          platformsBuilder_.addMessage(index, builderForValue.build());
+          super.mergeFrom(other);
+          return this;
         }
-        return this;
       }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public Builder addAllPlatforms(
-          java.lang.Iterable<? extends io.github.aggarcia.messages.Generated.Platform> values) {
-        if (platformsBuilder_ == null) {
-          ensurePlatformsIsMutable();
-          com.google.protobuf.AbstractMessageLite.Builder.addAll(
-              values, platforms_);
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.GameOverEvent other) {
+        if (other == io.github.aggarcia.messages.Generated.GameOverEvent.getDefaultInstance()) return this;
+        if (!other.getReason().isEmpty()) {
+          reason_ = other.reason_;
           onChanged();
-        } else {
-          platformsBuilder_.addAllMessages(values);
         }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
         return this;
       }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public Builder clearPlatforms() {
-        if (platformsBuilder_ == null) {
-          platforms_ = java.util.Collections.emptyList();
-          bitField0_ = (bitField0_ & ~0x00000002);
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                reason_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 10
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
           onChanged();
-        } else {
-          platformsBuilder_.clear();
-        }
+        } // finally
         return this;
       }
+
+      private java.lang.Object reason_ = "";
       /**
-       * <code>repeated .Platform platforms = 3;</code>
+       * <code>string reason = 1;</code>
+       * @return The reason.
        */
-      public Builder removePlatforms(int index) {
-        if (platformsBuilder_ == null) {
-          ensurePlatformsIsMutable();
-          platforms_.remove(index);
-          onChanged();
+      public java.lang.String getReason() {
+        java.lang.Object ref = reason_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          reason_ = s;
+          return s;
         } else {
-          platformsBuilder_.remove(index);
-        }
-        return this;
-      }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public io.github.aggarcia.messages.Generated.Platform.Builder getPlatformsBuilder(
-          int index) {
-        return getPlatformsFieldBuilder().getBuilder(index);
-      }
-      /**
-       * <code>repeated .Platform platforms = 3;</code>
-       */
-      public io.github.aggarcia.messages.Generated.PlatformOrBuilder getPlatformsOrBuilder(
-          int index) {
-        if (platformsBuilder_ == null) {
-          return platforms_.get(index);  } else {
-          return platformsBuilder_.getMessageOrBuilder(index);
+          return (java.lang.String) ref;
         }
       }
       /**
-       * <code>repeated .Platform platforms = 3;</code>
+       * <code>string reason = 1;</code>
+       * @return The bytes for reason.
        */
-      public java.util.List<? extends io.github.aggarcia.messages.Generated.PlatformOrBuilder> 
-           getPlatformsOrBuilderList() {
-        if (platformsBuilder_ != null) {
-          return platformsBuilder_.getMessageOrBuilderList();
+      public com.google.protobuf.ByteString
+          getReasonBytes() {
+        java.lang.Object ref = reason_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          reason_ = b;
+          return b;
         } else {
-          return java.util.Collections.unmodifiableList(platforms_);
+          return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>repeated .Platform platforms = 3;</code>
+       * <code>string reason = 1;</code>
+       * @param value The reason to set.
+       * @return This builder for chaining.
        */
-      public io.github.aggarcia.messages.Generated.Platform.Builder addPlatformsBuilder() {
-        return getPlatformsFieldBuilder().addBuilder(
-            io.github.aggarcia.messages.Generated.Platform.getDefaultInstance());
+      public Builder setReason(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        reason_ = value;
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .Platform platforms = 3;</code>
+       * <code>string reason = 1;</code>
+       * @return This builder for chaining.
        */
-      public io.github.aggarcia.messages.Generated.Platform.Builder addPlatformsBuilder(
-          int index) {
-        return getPlatformsFieldBuilder().addBuilder(
-            index, io.github.aggarcia.messages.Generated.Platform.getDefaultInstance());
+      public Builder clearReason() {
+        
+        reason_ = getDefaultInstance().getReason();
+        onChanged();
+        return this;
       }
       /**
-       * <code>repeated .Platform platforms = 3;</code>
+       * <code>string reason = 1;</code>
+       * @param value The bytes for reason to set.
+       * @return This builder for chaining.
        */
-      public java.util.List<io.github.aggarcia.messages.Generated.Platform.Builder> 
-           getPlatformsBuilderList() {
-        return getPlatformsFieldBuilder().getBuilderList();
-      }
-      private com.google.protobuf.RepeatedFieldBuilderV3<
-          io.github.aggarcia.messages.Generated.Platform, io.github.aggarcia.messages.Generated.Platform.Builder, io.github.aggarcia.messages.Generated.PlatformOrBuilder> 
-          getPlatformsFieldBuilder() {
-        if (platformsBuilder_ == null) {
-          platformsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
-              io.github.aggarcia.messages.Generated.Platform, io.github.aggarcia.messages.Generated.Platform.Builder, io.github.aggarcia.messages.Generated.PlatformOrBuilder>(
-                  platforms_,
-                  ((bitField0_ & 0x00000002) != 0),
-                  getParentForChildren(),
-                  isClean());
-          platforms_ = null;
-        }
-        return platformsBuilder_;
+      public Builder setReasonBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        reason_ = value;
+        onChanged();
+        return this;
       }
       @java.lang.Override
       public final Builder setUnknownFields(
@@ -3142,23 +8132,23 @@ public final class Generated {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:GamePing)
+      // @@protoc_insertion_point(builder_scope:GameOverEvent)
     }
 
-    // @@protoc_insertion_point(class_scope:GamePing)
-    private static final io.github.aggarcia.messages.Generated.GamePing DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:GameOverEvent)
+    private static final io.github.aggarcia.messages.Generated.GameOverEvent DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.GamePing();
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.GameOverEvent();
     }
 
-    public static io.github.aggarcia.messages.Generated.GamePing getDefaultInstance() {
+    public static io.github.aggarcia.messages.Generated.GameOverEvent getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GamePing>
-        PARSER = new com.google.protobuf.AbstractParser<GamePing>() {
+    private static final com.google.protobuf.Parser<GameOverEvent>
+        PARSER = new com.google.protobuf.AbstractParser<GameOverEvent>() {
       @java.lang.Override
-      public GamePing parsePartialFrom(
+      public GameOverEvent parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3177,80 +8167,51 @@ public final class Generated {
       }
     };
 
-    public static com.google.protobuf.Parser<GamePing> parser() {
+    public static com.google.protobuf.Parser<GameOverEvent> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GamePing> getParserForType() {
+    public com.google.protobuf.Parser<GameOverEvent> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.aggarcia.messages.Generated.GamePing getDefaultInstanceForType() {
+    public io.github.aggarcia.messages.Generated.GameOverEvent getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ControlChangeEventOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:ControlChangeEvent)
+  public interface LeaderboardSubscribeOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:LeaderboardSubscribe)
       com.google.protobuf.MessageOrBuilder {
-
-    /**
-     * <code>repeated .PlayerControl pressedControls = 1;</code>
-     * @return A list containing the pressedControls.
-     */
-    java.util.List<io.github.aggarcia.messages.Generated.PlayerControl> getPressedControlsList();
-    /**
-     * <code>repeated .PlayerControl pressedControls = 1;</code>
-     * @return The count of pressedControls.
-     */
-    int getPressedControlsCount();
-    /**
-     * <code>repeated .PlayerControl pressedControls = 1;</code>
-     * @param index The index of the element to return.
-     * @return The pressedControls at the given index.
-     */
-    io.github.aggarcia.messages.Generated.PlayerControl getPressedControls(int index);
-    /**
-     * <code>repeated .PlayerControl pressedControls = 1;</code>
-     * @return A list containing the enum numeric values on the wire for pressedControls.
-     */
-    java.util.List<java.lang.Integer>
-    getPressedControlsValueList();
-    /**
-     * <code>repeated .PlayerControl pressedControls = 1;</code>
-     * @param index The index of the value to return.
-     * @return The enum numeric value on the wire of pressedControls at the given index.
-     */
-    int getPressedControlsValue(int index);
   }
   /**
    * <pre>
-   * client to server
+   * client to server, asks for a LeaderboardUpdate whenever the top of the
+   * leaderboard changes, for as long as the connection is open
    * </pre>
    *
-   * Protobuf type {@code ControlChangeEvent}
+   * Protobuf type {@code LeaderboardSubscribe}
    */
-  public static final class ControlChangeEvent extends
+  public static final class LeaderboardSubscribe extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:ControlChangeEvent)
-      ControlChangeEventOrBuilder {
+      // @@protoc_insertion_point(message_implements:LeaderboardSubscribe)
+      LeaderboardSubscribeOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use ControlChangeEvent.newBuilder() to construct.
-    private ControlChangeEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use LeaderboardSubscribe.newBuilder() to construct.
+    private LeaderboardSubscribe(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private ControlChangeEvent() {
-      pressedControls_ = java.util.Collections.emptyList();
+    private LeaderboardSubscribe() {
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new ControlChangeEvent();
+      return new LeaderboardSubscribe();
     }
 
     @java.lang.Override
@@ -3258,76 +8219,18 @@ public final class Generated {
     getUnknownFields() {
       return this.unknownFields;
     }
-    public static final com.google.protobuf.Descriptors.Descriptor
-        getDescriptor() {
-      return io.github.aggarcia.messages.Generated.internal_static_ControlChangeEvent_descriptor;
-    }
-
-    @java.lang.Override
-    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
-        internalGetFieldAccessorTable() {
-      return io.github.aggarcia.messages.Generated.internal_static_ControlChangeEvent_fieldAccessorTable
-          .ensureFieldAccessorsInitialized(
-              io.github.aggarcia.messages.Generated.ControlChangeEvent.class, io.github.aggarcia.messages.Generated.ControlChangeEvent.Builder.class);
-    }
-
-    public static final int PRESSEDCONTROLS_FIELD_NUMBER = 1;
-    private java.util.List<java.lang.Integer> pressedControls_;
-    private static final com.google.protobuf.Internal.ListAdapter.Converter<
-        java.lang.Integer, io.github.aggarcia.messages.Generated.PlayerControl> pressedControls_converter_ =
-            new com.google.protobuf.Internal.ListAdapter.Converter<
-                java.lang.Integer, io.github.aggarcia.messages.Generated.PlayerControl>() {
-              public io.github.aggarcia.messages.Generated.PlayerControl convert(java.lang.Integer from) {
-                @SuppressWarnings("deprecation")
-                io.github.aggarcia.messages.Generated.PlayerControl result = io.github.aggarcia.messages.Generated.PlayerControl.valueOf(from);
-                return result == null ? io.github.aggarcia.messages.Generated.PlayerControl.UNRECOGNIZED : result;
-              }
-            };
-    /**
-     * <code>repeated .PlayerControl pressedControls = 1;</code>
-     * @return A list containing the pressedControls.
-     */
-    @java.lang.Override
-    public java.util.List<io.github.aggarcia.messages.Generated.PlayerControl> getPressedControlsList() {
-      return new com.google.protobuf.Internal.ListAdapter<
-          java.lang.Integer, io.github.aggarcia.messages.Generated.PlayerControl>(pressedControls_, pressedControls_converter_);
-    }
-    /**
-     * <code>repeated .PlayerControl pressedControls = 1;</code>
-     * @return The count of pressedControls.
-     */
-    @java.lang.Override
-    public int getPressedControlsCount() {
-      return pressedControls_.size();
-    }
-    /**
-     * <code>repeated .PlayerControl pressedControls = 1;</code>
-     * @param index The index of the element to return.
-     * @return The pressedControls at the given index.
-     */
-    @java.lang.Override
-    public io.github.aggarcia.messages.Generated.PlayerControl getPressedControls(int index) {
-      return pressedControls_converter_.convert(pressedControls_.get(index));
-    }
-    /**
-     * <code>repeated .PlayerControl pressedControls = 1;</code>
-     * @return A list containing the enum numeric values on the wire for pressedControls.
-     */
-    @java.lang.Override
-    public java.util.List<java.lang.Integer>
-    getPressedControlsValueList() {
-      return pressedControls_;
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.aggarcia.messages.Generated.internal_static_LeaderboardSubscribe_descriptor;
     }
-    /**
-     * <code>repeated .PlayerControl pressedControls = 1;</code>
-     * @param index The index of the value to return.
-     * @return The enum numeric value on the wire of pressedControls at the given index.
-     */
+
     @java.lang.Override
-    public int getPressedControlsValue(int index) {
-      return pressedControls_.get(index);
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.aggarcia.messages.Generated.internal_static_LeaderboardSubscribe_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.aggarcia.messages.Generated.LeaderboardSubscribe.class, io.github.aggarcia.messages.Generated.LeaderboardSubscribe.Builder.class);
     }
-    private int pressedControlsMemoizedSerializedSize;
 
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
@@ -3343,14 +8246,6 @@ public final class Generated {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      getSerializedSize();
-      if (getPressedControlsList().size() > 0) {
-        output.writeUInt32NoTag(10);
-        output.writeUInt32NoTag(pressedControlsMemoizedSerializedSize);
-      }
-      for (int i = 0; i < pressedControls_.size(); i++) {
-        output.writeEnumNoTag(pressedControls_.get(i));
-      }
       getUnknownFields().writeTo(output);
     }
 
@@ -3360,18 +8255,6 @@ public final class Generated {
       if (size != -1) return size;
 
       size = 0;
-      {
-        int dataSize = 0;
-        for (int i = 0; i < pressedControls_.size(); i++) {
-          dataSize += com.google.protobuf.CodedOutputStream
-            .computeEnumSizeNoTag(pressedControls_.get(i));
-        }
-        size += dataSize;
-        if (!getPressedControlsList().isEmpty()) {  size += 1;
-          size += com.google.protobuf.CodedOutputStream
-            .computeUInt32SizeNoTag(dataSize);
-        }pressedControlsMemoizedSerializedSize = dataSize;
-      }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
       return size;
@@ -3382,12 +8265,11 @@ public final class Generated {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.aggarcia.messages.Generated.ControlChangeEvent)) {
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.LeaderboardSubscribe)) {
         return super.equals(obj);
       }
-      io.github.aggarcia.messages.Generated.ControlChangeEvent other = (io.github.aggarcia.messages.Generated.ControlChangeEvent) obj;
+      io.github.aggarcia.messages.Generated.LeaderboardSubscribe other = (io.github.aggarcia.messages.Generated.LeaderboardSubscribe) obj;
 
-      if (!pressedControls_.equals(other.pressedControls_)) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -3399,78 +8281,74 @@ public final class Generated {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      if (getPressedControlsCount() > 0) {
-        hash = (37 * hash) + PRESSEDCONTROLS_FIELD_NUMBER;
-        hash = (53 * hash) + pressedControls_.hashCode();
-      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(byte[] data)
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseDelimitedFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -3483,7 +8361,7 @@ public final class Generated {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.aggarcia.messages.Generated.ControlChangeEvent prototype) {
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.LeaderboardSubscribe prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -3500,29 +8378,30 @@ public final class Generated {
     }
     /**
      * <pre>
-     * client to server
+     * client to server, asks for a LeaderboardUpdate whenever the top of the
+     * leaderboard changes, for as long as the connection is open
      * </pre>
      *
-     * Protobuf type {@code ControlChangeEvent}
+     * Protobuf type {@code LeaderboardSubscribe}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:ControlChangeEvent)
-        io.github.aggarcia.messages.Generated.ControlChangeEventOrBuilder {
+        // @@protoc_insertion_point(builder_implements:LeaderboardSubscribe)
+        io.github.aggarcia.messages.Generated.LeaderboardSubscribeOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.aggarcia.messages.Generated.internal_static_ControlChangeEvent_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_LeaderboardSubscribe_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.aggarcia.messages.Generated.internal_static_ControlChangeEvent_fieldAccessorTable
+        return io.github.aggarcia.messages.Generated.internal_static_LeaderboardSubscribe_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.aggarcia.messages.Generated.ControlChangeEvent.class, io.github.aggarcia.messages.Generated.ControlChangeEvent.Builder.class);
+                io.github.aggarcia.messages.Generated.LeaderboardSubscribe.class, io.github.aggarcia.messages.Generated.LeaderboardSubscribe.Builder.class);
       }
 
-      // Construct using io.github.aggarcia.messages.Generated.ControlChangeEvent.newBuilder()
+      // Construct using io.github.aggarcia.messages.Generated.LeaderboardSubscribe.newBuilder()
       private Builder() {
 
       }
@@ -3535,25 +8414,23 @@ public final class Generated {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        pressedControls_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000001);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.aggarcia.messages.Generated.internal_static_ControlChangeEvent_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_LeaderboardSubscribe_descriptor;
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.ControlChangeEvent getDefaultInstanceForType() {
-        return io.github.aggarcia.messages.Generated.ControlChangeEvent.getDefaultInstance();
+      public io.github.aggarcia.messages.Generated.LeaderboardSubscribe getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.LeaderboardSubscribe.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.ControlChangeEvent build() {
-        io.github.aggarcia.messages.Generated.ControlChangeEvent result = buildPartial();
+      public io.github.aggarcia.messages.Generated.LeaderboardSubscribe build() {
+        io.github.aggarcia.messages.Generated.LeaderboardSubscribe result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -3561,14 +8438,8 @@ public final class Generated {
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.ControlChangeEvent buildPartial() {
-        io.github.aggarcia.messages.Generated.ControlChangeEvent result = new io.github.aggarcia.messages.Generated.ControlChangeEvent(this);
-        int from_bitField0_ = bitField0_;
-        if (((bitField0_ & 0x00000001) != 0)) {
-          pressedControls_ = java.util.Collections.unmodifiableList(pressedControls_);
-          bitField0_ = (bitField0_ & ~0x00000001);
-        }
-        result.pressedControls_ = pressedControls_;
+      public io.github.aggarcia.messages.Generated.LeaderboardSubscribe buildPartial() {
+        io.github.aggarcia.messages.Generated.LeaderboardSubscribe result = new io.github.aggarcia.messages.Generated.LeaderboardSubscribe(this);
         onBuilt();
         return result;
       }
@@ -3607,223 +8478,55 @@ public final class Generated {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.aggarcia.messages.Generated.ControlChangeEvent) {
-          return mergeFrom((io.github.aggarcia.messages.Generated.ControlChangeEvent)other);
+        if (other instanceof io.github.aggarcia.messages.Generated.LeaderboardSubscribe) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.LeaderboardSubscribe)other);
         } else {
-          super.mergeFrom(other);
-          return this;
-        }
-      }
-
-      public Builder mergeFrom(io.github.aggarcia.messages.Generated.ControlChangeEvent other) {
-        if (other == io.github.aggarcia.messages.Generated.ControlChangeEvent.getDefaultInstance()) return this;
-        if (!other.pressedControls_.isEmpty()) {
-          if (pressedControls_.isEmpty()) {
-            pressedControls_ = other.pressedControls_;
-            bitField0_ = (bitField0_ & ~0x00000001);
-          } else {
-            ensurePressedControlsIsMutable();
-            pressedControls_.addAll(other.pressedControls_);
-          }
-          onChanged();
-        }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
-        return this;
-      }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 8: {
-                int tmpRaw = input.readEnum();
-                ensurePressedControlsIsMutable();
-                pressedControls_.add(tmpRaw);
-                break;
-              } // case 8
-              case 10: {
-                int length = input.readRawVarint32();
-                int oldLimit = input.pushLimit(length);
-                while(input.getBytesUntilLimit() > 0) {
-                  int tmpRaw = input.readEnum();
-                  ensurePressedControlsIsMutable();
-                  pressedControls_.add(tmpRaw);
-                }
-                input.popLimit(oldLimit);
-                break;
-              } // case 10
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
-        return this;
-      }
-      private int bitField0_;
-
-      private java.util.List<java.lang.Integer> pressedControls_ =
-        java.util.Collections.emptyList();
-      private void ensurePressedControlsIsMutable() {
-        if (!((bitField0_ & 0x00000001) != 0)) {
-          pressedControls_ = new java.util.ArrayList<java.lang.Integer>(pressedControls_);
-          bitField0_ |= 0x00000001;
-        }
-      }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @return A list containing the pressedControls.
-       */
-      public java.util.List<io.github.aggarcia.messages.Generated.PlayerControl> getPressedControlsList() {
-        return new com.google.protobuf.Internal.ListAdapter<
-            java.lang.Integer, io.github.aggarcia.messages.Generated.PlayerControl>(pressedControls_, pressedControls_converter_);
-      }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @return The count of pressedControls.
-       */
-      public int getPressedControlsCount() {
-        return pressedControls_.size();
-      }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @param index The index of the element to return.
-       * @return The pressedControls at the given index.
-       */
-      public io.github.aggarcia.messages.Generated.PlayerControl getPressedControls(int index) {
-        return pressedControls_converter_.convert(pressedControls_.get(index));
-      }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @param index The index to set the value at.
-       * @param value The pressedControls to set.
-       * @return This builder for chaining.
-       */
-      public Builder setPressedControls(
-          int index, io.github.aggarcia.messages.Generated.PlayerControl value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
-        ensurePressedControlsIsMutable();
-        pressedControls_.set(index, value.getNumber());
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @param value The pressedControls to add.
-       * @return This builder for chaining.
-       */
-      public Builder addPressedControls(io.github.aggarcia.messages.Generated.PlayerControl value) {
-        if (value == null) {
-          throw new NullPointerException();
-        }
-        ensurePressedControlsIsMutable();
-        pressedControls_.add(value.getNumber());
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @param values The pressedControls to add.
-       * @return This builder for chaining.
-       */
-      public Builder addAllPressedControls(
-          java.lang.Iterable<? extends io.github.aggarcia.messages.Generated.PlayerControl> values) {
-        ensurePressedControlsIsMutable();
-        for (io.github.aggarcia.messages.Generated.PlayerControl value : values) {
-          pressedControls_.add(value.getNumber());
-        }
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearPressedControls() {
-        pressedControls_ = java.util.Collections.emptyList();
-        bitField0_ = (bitField0_ & ~0x00000001);
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @return A list containing the enum numeric values on the wire for pressedControls.
-       */
-      public java.util.List<java.lang.Integer>
-      getPressedControlsValueList() {
-        return java.util.Collections.unmodifiableList(pressedControls_);
-      }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @param index The index of the value to return.
-       * @return The enum numeric value on the wire of pressedControls at the given index.
-       */
-      public int getPressedControlsValue(int index) {
-        return pressedControls_.get(index);
+          super.mergeFrom(other);
+          return this;
+        }
       }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @param index The index of the value to return.
-       * @return The enum numeric value on the wire of pressedControls at the given index.
-       * @return This builder for chaining.
-       */
-      public Builder setPressedControlsValue(
-          int index, int value) {
-        ensurePressedControlsIsMutable();
-        pressedControls_.set(index, value);
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.LeaderboardSubscribe other) {
+        if (other == io.github.aggarcia.messages.Generated.LeaderboardSubscribe.getDefaultInstance()) return this;
+        this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
       }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @param value The enum numeric value on the wire for pressedControls to add.
-       * @return This builder for chaining.
-       */
-      public Builder addPressedControlsValue(int value) {
-        ensurePressedControlsIsMutable();
-        pressedControls_.add(value);
-        onChanged();
-        return this;
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
       }
-      /**
-       * <code>repeated .PlayerControl pressedControls = 1;</code>
-       * @param values The enum numeric values on the wire for pressedControls to add.
-       * @return This builder for chaining.
-       */
-      public Builder addAllPressedControlsValue(
-          java.lang.Iterable<java.lang.Integer> values) {
-        ensurePressedControlsIsMutable();
-        for (int value : values) {
-          pressedControls_.add(value);
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
         }
-        onChanged();
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
         return this;
       }
       @java.lang.Override
@@ -3839,23 +8542,23 @@ public final class Generated {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:ControlChangeEvent)
+      // @@protoc_insertion_point(builder_scope:LeaderboardSubscribe)
     }
 
-    // @@protoc_insertion_point(class_scope:ControlChangeEvent)
-    private static final io.github.aggarcia.messages.Generated.ControlChangeEvent DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:LeaderboardSubscribe)
+    private static final io.github.aggarcia.messages.Generated.LeaderboardSubscribe DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.ControlChangeEvent();
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.LeaderboardSubscribe();
     }
 
-    public static io.github.aggarcia.messages.Generated.ControlChangeEvent getDefaultInstance() {
+    public static io.github.aggarcia.messages.Generated.LeaderboardSubscribe getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<ControlChangeEvent>
-        PARSER = new com.google.protobuf.AbstractParser<ControlChangeEvent>() {
+    private static final com.google.protobuf.Parser<LeaderboardSubscribe>
+        PARSER = new com.google.protobuf.AbstractParser<LeaderboardSubscribe>() {
       @java.lang.Override
-      public ControlChangeEvent parsePartialFrom(
+      public LeaderboardSubscribe parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -3874,63 +8577,148 @@ public final class Generated {
       }
     };
 
-    public static com.google.protobuf.Parser<ControlChangeEvent> parser() {
+    public static com.google.protobuf.Parser<LeaderboardSubscribe> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ControlChangeEvent> getParserForType() {
+    public com.google.protobuf.Parser<LeaderboardSubscribe> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.aggarcia.messages.Generated.ControlChangeEvent getDefaultInstanceForType() {
+    public io.github.aggarcia.messages.Generated.LeaderboardSubscribe getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface JoinEventOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:JoinEvent)
+  public interface LeaderboardUpdateOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:LeaderboardUpdate)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string name = 1;</code>
-     * @return The name.
+     * <pre>
+     * replaces the whole leaderboard
+     * </pre>
+     *
+     * <code>bool isFull = 1;</code>
+     * @return The isFull.
      */
-    java.lang.String getName();
+    boolean getIsFull();
+
     /**
-     * <code>string name = 1;</code>
-     * @return The bytes for name.
+     * <pre>
+     * new or changed rows
+     * </pre>
+     *
+     * <code>repeated .LeaderboardRow rows = 2;</code>
+     */
+    java.util.List<io.github.aggarcia.messages.Generated.LeaderboardRow> 
+        getRowsList();
+    /**
+     * <pre>
+     * new or changed rows
+     * </pre>
+     *
+     * <code>repeated .LeaderboardRow rows = 2;</code>
+     */
+    io.github.aggarcia.messages.Generated.LeaderboardRow getRows(int index);
+    /**
+     * <pre>
+     * new or changed rows
+     * </pre>
+     *
+     * <code>repeated .LeaderboardRow rows = 2;</code>
+     */
+    int getRowsCount();
+    /**
+     * <pre>
+     * new or changed rows
+     * </pre>
+     *
+     * <code>repeated .LeaderboardRow rows = 2;</code>
+     */
+    java.util.List<? extends io.github.aggarcia.messages.Generated.LeaderboardRowOrBuilder> 
+        getRowsOrBuilderList();
+    /**
+     * <pre>
+     * new or changed rows
+     * </pre>
+     *
+     * <code>repeated .LeaderboardRow rows = 2;</code>
+     */
+    io.github.aggarcia.messages.Generated.LeaderboardRowOrBuilder getRowsOrBuilder(
+        int index);
+
+    /**
+     * <pre>
+     * names, only set in diffs
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 3;</code>
+     * @return A list containing the removedPlayers.
+     */
+    java.util.List<java.lang.String>
+        getRemovedPlayersList();
+    /**
+     * <pre>
+     * names, only set in diffs
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 3;</code>
+     * @return The count of removedPlayers.
+     */
+    int getRemovedPlayersCount();
+    /**
+     * <pre>
+     * names, only set in diffs
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 3;</code>
+     * @param index The index of the element to return.
+     * @return The removedPlayers at the given index.
+     */
+    java.lang.String getRemovedPlayers(int index);
+    /**
+     * <pre>
+     * names, only set in diffs
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedPlayers at the given index.
      */
     com.google.protobuf.ByteString
-        getNameBytes();
+        getRemovedPlayersBytes(int index);
   }
   /**
    * <pre>
-   * client to server
+   * server to client, the full leaderboard in answer to a subscription, then
+   * only what changed
    * </pre>
    *
-   * Protobuf type {@code JoinEvent}
+   * Protobuf type {@code LeaderboardUpdate}
    */
-  public static final class JoinEvent extends
+  public static final class LeaderboardUpdate extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:JoinEvent)
-      JoinEventOrBuilder {
+      // @@protoc_insertion_point(message_implements:LeaderboardUpdate)
+      LeaderboardUpdateOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use JoinEvent.newBuilder() to construct.
-    private JoinEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use LeaderboardUpdate.newBuilder() to construct.
+    private LeaderboardUpdate(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private JoinEvent() {
-      name_ = "";
+    private LeaderboardUpdate() {
+      rows_ = java.util.Collections.emptyList();
+      removedPlayers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new JoinEvent();
+      return new LeaderboardUpdate();
     }
 
     @java.lang.Override
@@ -3940,53 +8728,141 @@ public final class Generated {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.aggarcia.messages.Generated.internal_static_JoinEvent_descriptor;
+      return io.github.aggarcia.messages.Generated.internal_static_LeaderboardUpdate_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.aggarcia.messages.Generated.internal_static_JoinEvent_fieldAccessorTable
+      return io.github.aggarcia.messages.Generated.internal_static_LeaderboardUpdate_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.aggarcia.messages.Generated.JoinEvent.class, io.github.aggarcia.messages.Generated.JoinEvent.Builder.class);
+              io.github.aggarcia.messages.Generated.LeaderboardUpdate.class, io.github.aggarcia.messages.Generated.LeaderboardUpdate.Builder.class);
     }
 
-    public static final int NAME_FIELD_NUMBER = 1;
-    private volatile java.lang.Object name_;
+    public static final int ISFULL_FIELD_NUMBER = 1;
+    private boolean isFull_;
     /**
-     * <code>string name = 1;</code>
-     * @return The name.
+     * <pre>
+     * replaces the whole leaderboard
+     * </pre>
+     *
+     * <code>bool isFull = 1;</code>
+     * @return The isFull.
      */
     @java.lang.Override
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        name_ = s;
-        return s;
-      }
+    public boolean getIsFull() {
+      return isFull_;
     }
+
+    public static final int ROWS_FIELD_NUMBER = 2;
+    private java.util.List<io.github.aggarcia.messages.Generated.LeaderboardRow> rows_;
     /**
-     * <code>string name = 1;</code>
-     * @return The bytes for name.
+     * <pre>
+     * new or changed rows
+     * </pre>
+     *
+     * <code>repeated .LeaderboardRow rows = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<io.github.aggarcia.messages.Generated.LeaderboardRow> getRowsList() {
+      return rows_;
+    }
+    /**
+     * <pre>
+     * new or changed rows
+     * </pre>
+     *
+     * <code>repeated .LeaderboardRow rows = 2;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends io.github.aggarcia.messages.Generated.LeaderboardRowOrBuilder> 
+        getRowsOrBuilderList() {
+      return rows_;
+    }
+    /**
+     * <pre>
+     * new or changed rows
+     * </pre>
+     *
+     * <code>repeated .LeaderboardRow rows = 2;</code>
+     */
+    @java.lang.Override
+    public int getRowsCount() {
+      return rows_.size();
+    }
+    /**
+     * <pre>
+     * new or changed rows
+     * </pre>
+     *
+     * <code>repeated .LeaderboardRow rows = 2;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Generated.LeaderboardRow getRows(int index) {
+      return rows_.get(index);
+    }
+    /**
+     * <pre>
+     * new or changed rows
+     * </pre>
+     *
+     * <code>repeated .LeaderboardRow rows = 2;</code>
      */
     @java.lang.Override
+    public io.github.aggarcia.messages.Generated.LeaderboardRowOrBuilder getRowsOrBuilder(
+        int index) {
+      return rows_.get(index);
+    }
+
+    public static final int REMOVEDPLAYERS_FIELD_NUMBER = 3;
+    private com.google.protobuf.LazyStringList removedPlayers_;
+    /**
+     * <pre>
+     * names, only set in diffs
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 3;</code>
+     * @return A list containing the removedPlayers.
+     */
+    public com.google.protobuf.ProtocolStringList
+        getRemovedPlayersList() {
+      return removedPlayers_;
+    }
+    /**
+     * <pre>
+     * names, only set in diffs
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 3;</code>
+     * @return The count of removedPlayers.
+     */
+    public int getRemovedPlayersCount() {
+      return removedPlayers_.size();
+    }
+    /**
+     * <pre>
+     * names, only set in diffs
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 3;</code>
+     * @param index The index of the element to return.
+     * @return The removedPlayers at the given index.
+     */
+    public java.lang.String getRemovedPlayers(int index) {
+      return removedPlayers_.get(index);
+    }
+    /**
+     * <pre>
+     * names, only set in diffs
+     * </pre>
+     *
+     * <code>repeated string removedPlayers = 3;</code>
+     * @param index The index of the value to return.
+     * @return The bytes of the removedPlayers at the given index.
+     */
     public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        name_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
+        getRemovedPlayersBytes(int index) {
+      return removedPlayers_.getByteString(index);
     }
 
     private byte memoizedIsInitialized = -1;
@@ -4003,8 +8879,14 @@ public final class Generated {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      if (isFull_ != false) {
+        output.writeBool(1, isFull_);
+      }
+      for (int i = 0; i < rows_.size(); i++) {
+        output.writeMessage(2, rows_.get(i));
+      }
+      for (int i = 0; i < removedPlayers_.size(); i++) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, removedPlayers_.getRaw(i));
       }
       getUnknownFields().writeTo(output);
     }
@@ -4015,8 +8897,21 @@ public final class Generated {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      if (isFull_ != false) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeBoolSize(1, isFull_);
+      }
+      for (int i = 0; i < rows_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(2, rows_.get(i));
+      }
+      {
+        int dataSize = 0;
+        for (int i = 0; i < removedPlayers_.size(); i++) {
+          dataSize += computeStringSizeNoTag(removedPlayers_.getRaw(i));
+        }
+        size += dataSize;
+        size += 1 * getRemovedPlayersList().size();
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -4028,13 +8923,17 @@ public final class Generated {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.aggarcia.messages.Generated.JoinEvent)) {
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.LeaderboardUpdate)) {
         return super.equals(obj);
       }
-      io.github.aggarcia.messages.Generated.JoinEvent other = (io.github.aggarcia.messages.Generated.JoinEvent) obj;
+      io.github.aggarcia.messages.Generated.LeaderboardUpdate other = (io.github.aggarcia.messages.Generated.LeaderboardUpdate) obj;
 
-      if (!getName()
-          .equals(other.getName())) return false;
+      if (getIsFull()
+          != other.getIsFull()) return false;
+      if (!getRowsList()
+          .equals(other.getRowsList())) return false;
+      if (!getRemovedPlayersList()
+          .equals(other.getRemovedPlayersList())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -4046,76 +8945,85 @@ public final class Generated {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + ISFULL_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashBoolean(
+          getIsFull());
+      if (getRowsCount() > 0) {
+        hash = (37 * hash) + ROWS_FIELD_NUMBER;
+        hash = (53 * hash) + getRowsList().hashCode();
+      }
+      if (getRemovedPlayersCount() > 0) {
+        hash = (37 * hash) + REMOVEDPLAYERS_FIELD_NUMBER;
+        hash = (53 * hash) + getRemovedPlayersList().hashCode();
+      }
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(byte[] data)
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseDelimitedFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.JoinEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4128,7 +9036,7 @@ public final class Generated {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.aggarcia.messages.Generated.JoinEvent prototype) {
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.LeaderboardUpdate prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4145,29 +9053,30 @@ public final class Generated {
     }
     /**
      * <pre>
-     * client to server
+     * server to client, the full leaderboard in answer to a subscription, then
+     * only what changed
      * </pre>
      *
-     * Protobuf type {@code JoinEvent}
+     * Protobuf type {@code LeaderboardUpdate}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:JoinEvent)
-        io.github.aggarcia.messages.Generated.JoinEventOrBuilder {
+        // @@protoc_insertion_point(builder_implements:LeaderboardUpdate)
+        io.github.aggarcia.messages.Generated.LeaderboardUpdateOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.aggarcia.messages.Generated.internal_static_JoinEvent_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_LeaderboardUpdate_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.aggarcia.messages.Generated.internal_static_JoinEvent_fieldAccessorTable
+        return io.github.aggarcia.messages.Generated.internal_static_LeaderboardUpdate_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.aggarcia.messages.Generated.JoinEvent.class, io.github.aggarcia.messages.Generated.JoinEvent.Builder.class);
+                io.github.aggarcia.messages.Generated.LeaderboardUpdate.class, io.github.aggarcia.messages.Generated.LeaderboardUpdate.Builder.class);
       }
 
-      // Construct using io.github.aggarcia.messages.Generated.JoinEvent.newBuilder()
+      // Construct using io.github.aggarcia.messages.Generated.LeaderboardUpdate.newBuilder()
       private Builder() {
 
       }
@@ -4180,25 +9089,34 @@ public final class Generated {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        name_ = "";
+        isFull_ = false;
 
+        if (rowsBuilder_ == null) {
+          rows_ = java.util.Collections.emptyList();
+        } else {
+          rows_ = null;
+          rowsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        removedPlayers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.aggarcia.messages.Generated.internal_static_JoinEvent_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_LeaderboardUpdate_descriptor;
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.JoinEvent getDefaultInstanceForType() {
-        return io.github.aggarcia.messages.Generated.JoinEvent.getDefaultInstance();
+      public io.github.aggarcia.messages.Generated.LeaderboardUpdate getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.LeaderboardUpdate.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.JoinEvent build() {
-        io.github.aggarcia.messages.Generated.JoinEvent result = buildPartial();
+      public io.github.aggarcia.messages.Generated.LeaderboardUpdate build() {
+        io.github.aggarcia.messages.Generated.LeaderboardUpdate result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4206,9 +9124,24 @@ public final class Generated {
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.JoinEvent buildPartial() {
-        io.github.aggarcia.messages.Generated.JoinEvent result = new io.github.aggarcia.messages.Generated.JoinEvent(this);
-        result.name_ = name_;
+      public io.github.aggarcia.messages.Generated.LeaderboardUpdate buildPartial() {
+        io.github.aggarcia.messages.Generated.LeaderboardUpdate result = new io.github.aggarcia.messages.Generated.LeaderboardUpdate(this);
+        int from_bitField0_ = bitField0_;
+        result.isFull_ = isFull_;
+        if (rowsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            rows_ = java.util.Collections.unmodifiableList(rows_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.rows_ = rows_;
+        } else {
+          result.rows_ = rowsBuilder_.build();
+        }
+        if (((bitField0_ & 0x00000002) != 0)) {
+          removedPlayers_ = removedPlayers_.getUnmodifiableView();
+          bitField0_ = (bitField0_ & ~0x00000002);
+        }
+        result.removedPlayers_ = removedPlayers_;
         onBuilt();
         return result;
       }
@@ -4247,139 +9180,619 @@ public final class Generated {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.aggarcia.messages.Generated.JoinEvent) {
-          return mergeFrom((io.github.aggarcia.messages.Generated.JoinEvent)other);
+        if (other instanceof io.github.aggarcia.messages.Generated.LeaderboardUpdate) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.LeaderboardUpdate)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.LeaderboardUpdate other) {
+        if (other == io.github.aggarcia.messages.Generated.LeaderboardUpdate.getDefaultInstance()) return this;
+        if (other.getIsFull() != false) {
+          setIsFull(other.getIsFull());
+        }
+        if (rowsBuilder_ == null) {
+          if (!other.rows_.isEmpty()) {
+            if (rows_.isEmpty()) {
+              rows_ = other.rows_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensureRowsIsMutable();
+              rows_.addAll(other.rows_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.rows_.isEmpty()) {
+            if (rowsBuilder_.isEmpty()) {
+              rowsBuilder_.dispose();
+              rowsBuilder_ = null;
+              rows_ = other.rows_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              rowsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getRowsFieldBuilder() : null;
+            } else {
+              rowsBuilder_.addAllMessages(other.rows_);
+            }
+          }
+        }
+        if (!other.removedPlayers_.isEmpty()) {
+          if (removedPlayers_.isEmpty()) {
+            removedPlayers_ = other.removedPlayers_;
+            bitField0_ = (bitField0_ & ~0x00000002);
+          } else {
+            ensureRemovedPlayersIsMutable();
+            removedPlayers_.addAll(other.removedPlayers_);
+          }
+          onChanged();
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                isFull_ = input.readBool();
+
+                break;
+              } // case 8
+              case 18: {
+                io.github.aggarcia.messages.Generated.LeaderboardRow m =
+                    input.readMessage(
+                        io.github.aggarcia.messages.Generated.LeaderboardRow.parser(),
+                        extensionRegistry);
+                if (rowsBuilder_ == null) {
+                  ensureRowsIsMutable();
+                  rows_.add(m);
+                } else {
+                  rowsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 18
+              case 26: {
+                java.lang.String s = input.readStringRequireUtf8();
+                ensureRemovedPlayersIsMutable();
+                removedPlayers_.add(s);
+                break;
+              } // case 26
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private boolean isFull_ ;
+      /**
+       * <pre>
+       * replaces the whole leaderboard
+       * </pre>
+       *
+       * <code>bool isFull = 1;</code>
+       * @return The isFull.
+       */
+      @java.lang.Override
+      public boolean getIsFull() {
+        return isFull_;
+      }
+      /**
+       * <pre>
+       * replaces the whole leaderboard
+       * </pre>
+       *
+       * <code>bool isFull = 1;</code>
+       * @param value The isFull to set.
+       * @return This builder for chaining.
+       */
+      public Builder setIsFull(boolean value) {
+        
+        isFull_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * replaces the whole leaderboard
+       * </pre>
+       *
+       * <code>bool isFull = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearIsFull() {
+        
+        isFull_ = false;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<io.github.aggarcia.messages.Generated.LeaderboardRow> rows_ =
+        java.util.Collections.emptyList();
+      private void ensureRowsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          rows_ = new java.util.ArrayList<io.github.aggarcia.messages.Generated.LeaderboardRow>(rows_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.LeaderboardRow, io.github.aggarcia.messages.Generated.LeaderboardRow.Builder, io.github.aggarcia.messages.Generated.LeaderboardRowOrBuilder> rowsBuilder_;
+
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public java.util.List<io.github.aggarcia.messages.Generated.LeaderboardRow> getRowsList() {
+        if (rowsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(rows_);
+        } else {
+          return rowsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public int getRowsCount() {
+        if (rowsBuilder_ == null) {
+          return rows_.size();
+        } else {
+          return rowsBuilder_.getCount();
+        }
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public io.github.aggarcia.messages.Generated.LeaderboardRow getRows(int index) {
+        if (rowsBuilder_ == null) {
+          return rows_.get(index);
+        } else {
+          return rowsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public Builder setRows(
+          int index, io.github.aggarcia.messages.Generated.LeaderboardRow value) {
+        if (rowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRowsIsMutable();
+          rows_.set(index, value);
+          onChanged();
+        } else {
+          rowsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public Builder setRows(
+          int index, io.github.aggarcia.messages.Generated.LeaderboardRow.Builder builderForValue) {
+        if (rowsBuilder_ == null) {
+          ensureRowsIsMutable();
+          rows_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          rowsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public Builder addRows(io.github.aggarcia.messages.Generated.LeaderboardRow value) {
+        if (rowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRowsIsMutable();
+          rows_.add(value);
+          onChanged();
+        } else {
+          rowsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public Builder addRows(
+          int index, io.github.aggarcia.messages.Generated.LeaderboardRow value) {
+        if (rowsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensureRowsIsMutable();
+          rows_.add(index, value);
+          onChanged();
+        } else {
+          rowsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public Builder addRows(
+          io.github.aggarcia.messages.Generated.LeaderboardRow.Builder builderForValue) {
+        if (rowsBuilder_ == null) {
+          ensureRowsIsMutable();
+          rows_.add(builderForValue.build());
+          onChanged();
+        } else {
+          rowsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public Builder addRows(
+          int index, io.github.aggarcia.messages.Generated.LeaderboardRow.Builder builderForValue) {
+        if (rowsBuilder_ == null) {
+          ensureRowsIsMutable();
+          rows_.add(index, builderForValue.build());
+          onChanged();
         } else {
-          super.mergeFrom(other);
-          return this;
+          rowsBuilder_.addMessage(index, builderForValue.build());
         }
+        return this;
       }
-
-      public Builder mergeFrom(io.github.aggarcia.messages.Generated.JoinEvent other) {
-        if (other == io.github.aggarcia.messages.Generated.JoinEvent.getDefaultInstance()) return this;
-        if (!other.getName().isEmpty()) {
-          name_ = other.name_;
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public Builder addAllRows(
+          java.lang.Iterable<? extends io.github.aggarcia.messages.Generated.LeaderboardRow> values) {
+        if (rowsBuilder_ == null) {
+          ensureRowsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, rows_);
           onChanged();
+        } else {
+          rowsBuilder_.addAllMessages(values);
         }
-        this.mergeUnknownFields(other.getUnknownFields());
-        onChanged();
         return this;
       }
-
-      @java.lang.Override
-      public final boolean isInitialized() {
-        return true;
-      }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                name_ = input.readStringRequireUtf8();
-
-                break;
-              } // case 10
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public Builder clearRows() {
+        if (rowsBuilder_ == null) {
+          rows_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
           onChanged();
-        } // finally
+        } else {
+          rowsBuilder_.clear();
+        }
         return this;
       }
-
-      private java.lang.Object name_ = "";
       /**
-       * <code>string name = 1;</code>
-       * @return The name.
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
        */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          name_ = s;
-          return s;
+      public Builder removeRows(int index) {
+        if (rowsBuilder_ == null) {
+          ensureRowsIsMutable();
+          rows_.remove(index);
+          onChanged();
         } else {
-          return (java.lang.String) ref;
+          rowsBuilder_.remove(index);
         }
+        return this;
       }
       /**
-       * <code>string name = 1;</code>
-       * @return The bytes for name.
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
        */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
+      public io.github.aggarcia.messages.Generated.LeaderboardRow.Builder getRowsBuilder(
+          int index) {
+        return getRowsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public io.github.aggarcia.messages.Generated.LeaderboardRowOrBuilder getRowsOrBuilder(
+          int index) {
+        if (rowsBuilder_ == null) {
+          return rows_.get(index);  } else {
+          return rowsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public java.util.List<? extends io.github.aggarcia.messages.Generated.LeaderboardRowOrBuilder> 
+           getRowsOrBuilderList() {
+        if (rowsBuilder_ != null) {
+          return rowsBuilder_.getMessageOrBuilderList();
         } else {
-          return (com.google.protobuf.ByteString) ref;
+          return java.util.Collections.unmodifiableList(rows_);
         }
       }
       /**
-       * <code>string name = 1;</code>
-       * @param value The name to set.
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public io.github.aggarcia.messages.Generated.LeaderboardRow.Builder addRowsBuilder() {
+        return getRowsFieldBuilder().addBuilder(
+            io.github.aggarcia.messages.Generated.LeaderboardRow.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public io.github.aggarcia.messages.Generated.LeaderboardRow.Builder addRowsBuilder(
+          int index) {
+        return getRowsFieldBuilder().addBuilder(
+            index, io.github.aggarcia.messages.Generated.LeaderboardRow.getDefaultInstance());
+      }
+      /**
+       * <pre>
+       * new or changed rows
+       * </pre>
+       *
+       * <code>repeated .LeaderboardRow rows = 2;</code>
+       */
+      public java.util.List<io.github.aggarcia.messages.Generated.LeaderboardRow.Builder> 
+           getRowsBuilderList() {
+        return getRowsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.aggarcia.messages.Generated.LeaderboardRow, io.github.aggarcia.messages.Generated.LeaderboardRow.Builder, io.github.aggarcia.messages.Generated.LeaderboardRowOrBuilder> 
+          getRowsFieldBuilder() {
+        if (rowsBuilder_ == null) {
+          rowsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              io.github.aggarcia.messages.Generated.LeaderboardRow, io.github.aggarcia.messages.Generated.LeaderboardRow.Builder, io.github.aggarcia.messages.Generated.LeaderboardRowOrBuilder>(
+                  rows_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          rows_ = null;
+        }
+        return rowsBuilder_;
+      }
+
+      private com.google.protobuf.LazyStringList removedPlayers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+      private void ensureRemovedPlayersIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          removedPlayers_ = new com.google.protobuf.LazyStringArrayList(removedPlayers_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+      /**
+       * <pre>
+       * names, only set in diffs
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 3;</code>
+       * @return A list containing the removedPlayers.
+       */
+      public com.google.protobuf.ProtocolStringList
+          getRemovedPlayersList() {
+        return removedPlayers_.getUnmodifiableView();
+      }
+      /**
+       * <pre>
+       * names, only set in diffs
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 3;</code>
+       * @return The count of removedPlayers.
+       */
+      public int getRemovedPlayersCount() {
+        return removedPlayers_.size();
+      }
+      /**
+       * <pre>
+       * names, only set in diffs
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 3;</code>
+       * @param index The index of the element to return.
+       * @return The removedPlayers at the given index.
+       */
+      public java.lang.String getRemovedPlayers(int index) {
+        return removedPlayers_.get(index);
+      }
+      /**
+       * <pre>
+       * names, only set in diffs
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 3;</code>
+       * @param index The index of the value to return.
+       * @return The bytes of the removedPlayers at the given index.
+       */
+      public com.google.protobuf.ByteString
+          getRemovedPlayersBytes(int index) {
+        return removedPlayers_.getByteString(index);
+      }
+      /**
+       * <pre>
+       * names, only set in diffs
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 3;</code>
+       * @param index The index to set the value at.
+       * @param value The removedPlayers to set.
        * @return This builder for chaining.
        */
-      public Builder setName(
+      public Builder setRemovedPlayers(
+          int index, java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  ensureRemovedPlayersIsMutable();
+        removedPlayers_.set(index, value);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * names, only set in diffs
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 3;</code>
+       * @param value The removedPlayers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedPlayers(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
-  
-        name_ = value;
+  ensureRemovedPlayersIsMutable();
+        removedPlayers_.add(value);
         onChanged();
         return this;
       }
       /**
-       * <code>string name = 1;</code>
+       * <pre>
+       * names, only set in diffs
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 3;</code>
+       * @param values The removedPlayers to add.
        * @return This builder for chaining.
        */
-      public Builder clearName() {
-        
-        name_ = getDefaultInstance().getName();
+      public Builder addAllRemovedPlayers(
+          java.lang.Iterable<java.lang.String> values) {
+        ensureRemovedPlayersIsMutable();
+        com.google.protobuf.AbstractMessageLite.Builder.addAll(
+            values, removedPlayers_);
         onChanged();
         return this;
       }
       /**
-       * <code>string name = 1;</code>
-       * @param value The bytes for name to set.
+       * <pre>
+       * names, only set in diffs
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder setNameBytes(
+      public Builder clearRemovedPlayers() {
+        removedPlayers_ = com.google.protobuf.LazyStringArrayList.EMPTY;
+        bitField0_ = (bitField0_ & ~0x00000002);
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * names, only set in diffs
+       * </pre>
+       *
+       * <code>repeated string removedPlayers = 3;</code>
+       * @param value The bytes of the removedPlayers to add.
+       * @return This builder for chaining.
+       */
+      public Builder addRemovedPlayersBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
-        
-        name_ = value;
+        ensureRemovedPlayersIsMutable();
+        removedPlayers_.add(value);
         onChanged();
         return this;
       }
@@ -4396,23 +9809,23 @@ public final class Generated {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:JoinEvent)
+      // @@protoc_insertion_point(builder_scope:LeaderboardUpdate)
     }
 
-    // @@protoc_insertion_point(class_scope:JoinEvent)
-    private static final io.github.aggarcia.messages.Generated.JoinEvent DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:LeaderboardUpdate)
+    private static final io.github.aggarcia.messages.Generated.LeaderboardUpdate DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.JoinEvent();
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.LeaderboardUpdate();
     }
 
-    public static io.github.aggarcia.messages.Generated.JoinEvent getDefaultInstance() {
+    public static io.github.aggarcia.messages.Generated.LeaderboardUpdate getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<JoinEvent>
-        PARSER = new com.google.protobuf.AbstractParser<JoinEvent>() {
+    private static final com.google.protobuf.Parser<LeaderboardUpdate>
+        PARSER = new com.google.protobuf.AbstractParser<LeaderboardUpdate>() {
       @java.lang.Override
-      public JoinEvent parsePartialFrom(
+      public LeaderboardUpdate parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4431,63 +9844,84 @@ public final class Generated {
       }
     };
 
-    public static com.google.protobuf.Parser<JoinEvent> parser() {
+    public static com.google.protobuf.Parser<LeaderboardUpdate> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<JoinEvent> getParserForType() {
+    public com.google.protobuf.Parser<LeaderboardUpdate> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.aggarcia.messages.Generated.JoinEvent getDefaultInstanceForType() {
+    public io.github.aggarcia.messages.Generated.LeaderboardUpdate getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface GameOverEventOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:GameOverEvent)
+  public interface JoinReplyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:JoinReply)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string reason = 1;</code>
-     * @return The reason.
+     * <code>string serverId = 1;</code>
+     * @return The serverId.
      */
-    java.lang.String getReason();
+    java.lang.String getServerId();
     /**
-     * <code>string reason = 1;</code>
-     * @return The bytes for reason.
+     * <code>string serverId = 1;</code>
+     * @return The bytes for serverId.
+     */
+    com.google.protobuf.ByteString
+        getServerIdBytes();
+
+    /**
+     * <pre>
+     * secret to present in a JoinEvent after reconnecting
+     * </pre>
+     *
+     * <code>string resumeToken = 2;</code>
+     * @return The resumeToken.
+     */
+    java.lang.String getResumeToken();
+    /**
+     * <pre>
+     * secret to present in a JoinEvent after reconnecting
+     * </pre>
+     *
+     * <code>string resumeToken = 2;</code>
+     * @return The bytes for resumeToken.
      */
     com.google.protobuf.ByteString
-        getReasonBytes();
+        getResumeTokenBytes();
   }
   /**
    * <pre>
    * server to client
    * </pre>
    *
-   * Protobuf type {@code GameOverEvent}
+   * Protobuf type {@code JoinReply}
    */
-  public static final class GameOverEvent extends
+  public static final class JoinReply extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:GameOverEvent)
-      GameOverEventOrBuilder {
+      // @@protoc_insertion_point(message_implements:JoinReply)
+      JoinReplyOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use GameOverEvent.newBuilder() to construct.
-    private GameOverEvent(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use JoinReply.newBuilder() to construct.
+    private JoinReply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private GameOverEvent() {
-      reason_ = "";
+    private JoinReply() {
+      serverId_ = "";
+      resumeToken_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new GameOverEvent();
+      return new JoinReply();
     }
 
     @java.lang.Override
@@ -4497,49 +9931,95 @@ public final class Generated {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.aggarcia.messages.Generated.internal_static_GameOverEvent_descriptor;
+      return io.github.aggarcia.messages.Generated.internal_static_JoinReply_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.aggarcia.messages.Generated.internal_static_GameOverEvent_fieldAccessorTable
+      return io.github.aggarcia.messages.Generated.internal_static_JoinReply_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.aggarcia.messages.Generated.GameOverEvent.class, io.github.aggarcia.messages.Generated.GameOverEvent.Builder.class);
+              io.github.aggarcia.messages.Generated.JoinReply.class, io.github.aggarcia.messages.Generated.JoinReply.Builder.class);
     }
 
-    public static final int REASON_FIELD_NUMBER = 1;
-    private volatile java.lang.Object reason_;
+    public static final int SERVERID_FIELD_NUMBER = 1;
+    private volatile java.lang.Object serverId_;
     /**
-     * <code>string reason = 1;</code>
-     * @return The reason.
+     * <code>string serverId = 1;</code>
+     * @return The serverId.
      */
     @java.lang.Override
-    public java.lang.String getReason() {
-      java.lang.Object ref = reason_;
+    public java.lang.String getServerId() {
+      java.lang.Object ref = serverId_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        reason_ = s;
+        serverId_ = s;
         return s;
       }
     }
     /**
-     * <code>string reason = 1;</code>
-     * @return The bytes for reason.
+     * <code>string serverId = 1;</code>
+     * @return The bytes for serverId.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getReasonBytes() {
-      java.lang.Object ref = reason_;
+        getServerIdBytes() {
+      java.lang.Object ref = serverId_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        reason_ = b;
+        serverId_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int RESUMETOKEN_FIELD_NUMBER = 2;
+    private volatile java.lang.Object resumeToken_;
+    /**
+     * <pre>
+     * secret to present in a JoinEvent after reconnecting
+     * </pre>
+     *
+     * <code>string resumeToken = 2;</code>
+     * @return The resumeToken.
+     */
+    @java.lang.Override
+    public java.lang.String getResumeToken() {
+      java.lang.Object ref = resumeToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        resumeToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * secret to present in a JoinEvent after reconnecting
+     * </pre>
+     *
+     * <code>string resumeToken = 2;</code>
+     * @return The bytes for resumeToken.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getResumeTokenBytes() {
+      java.lang.Object ref = resumeToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        resumeToken_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -4560,8 +10040,11 @@ public final class Generated {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(reason_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, reason_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(serverId_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, serverId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(resumeToken_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, resumeToken_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -4572,8 +10055,11 @@ public final class Generated {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(reason_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, reason_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(serverId_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, serverId_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(resumeToken_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, resumeToken_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -4585,13 +10071,15 @@ public final class Generated {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.aggarcia.messages.Generated.GameOverEvent)) {
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.JoinReply)) {
         return super.equals(obj);
       }
-      io.github.aggarcia.messages.Generated.GameOverEvent other = (io.github.aggarcia.messages.Generated.GameOverEvent) obj;
+      io.github.aggarcia.messages.Generated.JoinReply other = (io.github.aggarcia.messages.Generated.JoinReply) obj;
 
-      if (!getReason()
-          .equals(other.getReason())) return false;
+      if (!getServerId()
+          .equals(other.getServerId())) return false;
+      if (!getResumeToken()
+          .equals(other.getResumeToken())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -4603,76 +10091,78 @@ public final class Generated {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + REASON_FIELD_NUMBER;
-      hash = (53 * hash) + getReason().hashCode();
+      hash = (37 * hash) + SERVERID_FIELD_NUMBER;
+      hash = (53 * hash) + getServerId().hashCode();
+      hash = (37 * hash) + RESUMETOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getResumeToken().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(byte[] data)
+    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.JoinReply parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseDelimitedFrom(
+    public static io.github.aggarcia.messages.Generated.JoinReply parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.GameOverEvent parseFrom(
+    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -4685,7 +10175,7 @@ public final class Generated {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.aggarcia.messages.Generated.GameOverEvent prototype) {
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.JoinReply prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -4705,26 +10195,26 @@ public final class Generated {
      * server to client
      * </pre>
      *
-     * Protobuf type {@code GameOverEvent}
+     * Protobuf type {@code JoinReply}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:GameOverEvent)
-        io.github.aggarcia.messages.Generated.GameOverEventOrBuilder {
+        // @@protoc_insertion_point(builder_implements:JoinReply)
+        io.github.aggarcia.messages.Generated.JoinReplyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.aggarcia.messages.Generated.internal_static_GameOverEvent_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_JoinReply_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.aggarcia.messages.Generated.internal_static_GameOverEvent_fieldAccessorTable
+        return io.github.aggarcia.messages.Generated.internal_static_JoinReply_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.aggarcia.messages.Generated.GameOverEvent.class, io.github.aggarcia.messages.Generated.GameOverEvent.Builder.class);
+                io.github.aggarcia.messages.Generated.JoinReply.class, io.github.aggarcia.messages.Generated.JoinReply.Builder.class);
       }
 
-      // Construct using io.github.aggarcia.messages.Generated.GameOverEvent.newBuilder()
+      // Construct using io.github.aggarcia.messages.Generated.JoinReply.newBuilder()
       private Builder() {
 
       }
@@ -4737,7 +10227,9 @@ public final class Generated {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        reason_ = "";
+        serverId_ = "";
+
+        resumeToken_ = "";
 
         return this;
       }
@@ -4745,17 +10237,17 @@ public final class Generated {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.aggarcia.messages.Generated.internal_static_GameOverEvent_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_JoinReply_descriptor;
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.GameOverEvent getDefaultInstanceForType() {
-        return io.github.aggarcia.messages.Generated.GameOverEvent.getDefaultInstance();
+      public io.github.aggarcia.messages.Generated.JoinReply getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.JoinReply.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.GameOverEvent build() {
-        io.github.aggarcia.messages.Generated.GameOverEvent result = buildPartial();
+      public io.github.aggarcia.messages.Generated.JoinReply build() {
+        io.github.aggarcia.messages.Generated.JoinReply result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -4763,9 +10255,10 @@ public final class Generated {
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.GameOverEvent buildPartial() {
-        io.github.aggarcia.messages.Generated.GameOverEvent result = new io.github.aggarcia.messages.Generated.GameOverEvent(this);
-        result.reason_ = reason_;
+      public io.github.aggarcia.messages.Generated.JoinReply buildPartial() {
+        io.github.aggarcia.messages.Generated.JoinReply result = new io.github.aggarcia.messages.Generated.JoinReply(this);
+        result.serverId_ = serverId_;
+        result.resumeToken_ = resumeToken_;
         onBuilt();
         return result;
       }
@@ -4804,18 +10297,22 @@ public final class Generated {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.aggarcia.messages.Generated.GameOverEvent) {
-          return mergeFrom((io.github.aggarcia.messages.Generated.GameOverEvent)other);
+        if (other instanceof io.github.aggarcia.messages.Generated.JoinReply) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.JoinReply)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(io.github.aggarcia.messages.Generated.GameOverEvent other) {
-        if (other == io.github.aggarcia.messages.Generated.GameOverEvent.getDefaultInstance()) return this;
-        if (!other.getReason().isEmpty()) {
-          reason_ = other.reason_;
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.JoinReply other) {
+        if (other == io.github.aggarcia.messages.Generated.JoinReply.getDefaultInstance()) return this;
+        if (!other.getServerId().isEmpty()) {
+          serverId_ = other.serverId_;
+          onChanged();
+        }
+        if (!other.getResumeToken().isEmpty()) {
+          resumeToken_ = other.resumeToken_;
           onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
@@ -4845,10 +10342,15 @@ public final class Generated {
                 done = true;
                 break;
               case 10: {
-                reason_ = input.readStringRequireUtf8();
+                serverId_ = input.readStringRequireUtf8();
 
                 break;
               } // case 10
+              case 18: {
+                resumeToken_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 18
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -4865,78 +10367,174 @@ public final class Generated {
         return this;
       }
 
-      private java.lang.Object reason_ = "";
+      private java.lang.Object serverId_ = "";
+      /**
+       * <code>string serverId = 1;</code>
+       * @return The serverId.
+       */
+      public java.lang.String getServerId() {
+        java.lang.Object ref = serverId_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          serverId_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string serverId = 1;</code>
+       * @return The bytes for serverId.
+       */
+      public com.google.protobuf.ByteString
+          getServerIdBytes() {
+        java.lang.Object ref = serverId_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          serverId_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string serverId = 1;</code>
+       * @param value The serverId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerId(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        serverId_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string serverId = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearServerId() {
+        
+        serverId_ = getDefaultInstance().getServerId();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string serverId = 1;</code>
+       * @param value The bytes for serverId to set.
+       * @return This builder for chaining.
+       */
+      public Builder setServerIdBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        serverId_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object resumeToken_ = "";
       /**
-       * <code>string reason = 1;</code>
-       * @return The reason.
+       * <pre>
+       * secret to present in a JoinEvent after reconnecting
+       * </pre>
+       *
+       * <code>string resumeToken = 2;</code>
+       * @return The resumeToken.
        */
-      public java.lang.String getReason() {
-        java.lang.Object ref = reason_;
+      public java.lang.String getResumeToken() {
+        java.lang.Object ref = resumeToken_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          reason_ = s;
+          resumeToken_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string reason = 1;</code>
-       * @return The bytes for reason.
+       * <pre>
+       * secret to present in a JoinEvent after reconnecting
+       * </pre>
+       *
+       * <code>string resumeToken = 2;</code>
+       * @return The bytes for resumeToken.
        */
       public com.google.protobuf.ByteString
-          getReasonBytes() {
-        java.lang.Object ref = reason_;
+          getResumeTokenBytes() {
+        java.lang.Object ref = resumeToken_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          reason_ = b;
+          resumeToken_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string reason = 1;</code>
-       * @param value The reason to set.
+       * <pre>
+       * secret to present in a JoinEvent after reconnecting
+       * </pre>
+       *
+       * <code>string resumeToken = 2;</code>
+       * @param value The resumeToken to set.
        * @return This builder for chaining.
        */
-      public Builder setReason(
+      public Builder setResumeToken(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        reason_ = value;
+        resumeToken_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string reason = 1;</code>
+       * <pre>
+       * secret to present in a JoinEvent after reconnecting
+       * </pre>
+       *
+       * <code>string resumeToken = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearReason() {
+      public Builder clearResumeToken() {
         
-        reason_ = getDefaultInstance().getReason();
+        resumeToken_ = getDefaultInstance().getResumeToken();
         onChanged();
         return this;
       }
       /**
-       * <code>string reason = 1;</code>
-       * @param value The bytes for reason to set.
+       * <pre>
+       * secret to present in a JoinEvent after reconnecting
+       * </pre>
+       *
+       * <code>string resumeToken = 2;</code>
+       * @param value The bytes for resumeToken to set.
        * @return This builder for chaining.
        */
-      public Builder setReasonBytes(
+      public Builder setResumeTokenBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        reason_ = value;
+        resumeToken_ = value;
         onChanged();
         return this;
       }
@@ -4953,23 +10551,23 @@ public final class Generated {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:GameOverEvent)
+      // @@protoc_insertion_point(builder_scope:JoinReply)
     }
 
-    // @@protoc_insertion_point(class_scope:GameOverEvent)
-    private static final io.github.aggarcia.messages.Generated.GameOverEvent DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:JoinReply)
+    private static final io.github.aggarcia.messages.Generated.JoinReply DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.GameOverEvent();
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.JoinReply();
     }
 
-    public static io.github.aggarcia.messages.Generated.GameOverEvent getDefaultInstance() {
+    public static io.github.aggarcia.messages.Generated.JoinReply getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<GameOverEvent>
-        PARSER = new com.google.protobuf.AbstractParser<GameOverEvent>() {
+    private static final com.google.protobuf.Parser<JoinReply>
+        PARSER = new com.google.protobuf.AbstractParser<JoinReply>() {
       @java.lang.Override
-      public GameOverEvent parsePartialFrom(
+      public JoinReply parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -4988,63 +10586,63 @@ public final class Generated {
       }
     };
 
-    public static com.google.protobuf.Parser<GameOverEvent> parser() {
+    public static com.google.protobuf.Parser<JoinReply> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<GameOverEvent> getParserForType() {
+    public com.google.protobuf.Parser<JoinReply> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.aggarcia.messages.Generated.GameOverEvent getDefaultInstanceForType() {
+    public io.github.aggarcia.messages.Generated.JoinReply getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface JoinReplyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:JoinReply)
+  public interface ErrorReplyOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:ErrorReply)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string serverId = 1;</code>
-     * @return The serverId.
+     * <code>string message = 1;</code>
+     * @return The message.
      */
-    java.lang.String getServerId();
+    java.lang.String getMessage();
     /**
-     * <code>string serverId = 1;</code>
-     * @return The bytes for serverId.
+     * <code>string message = 1;</code>
+     * @return The bytes for message.
      */
     com.google.protobuf.ByteString
-        getServerIdBytes();
+        getMessageBytes();
   }
   /**
    * <pre>
    * server to client
    * </pre>
    *
-   * Protobuf type {@code JoinReply}
+   * Protobuf type {@code ErrorReply}
    */
-  public static final class JoinReply extends
+  public static final class ErrorReply extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:JoinReply)
-      JoinReplyOrBuilder {
+      // @@protoc_insertion_point(message_implements:ErrorReply)
+      ErrorReplyOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use JoinReply.newBuilder() to construct.
-    private JoinReply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use ErrorReply.newBuilder() to construct.
+    private ErrorReply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private JoinReply() {
-      serverId_ = "";
+    private ErrorReply() {
+      message_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new JoinReply();
+      return new ErrorReply();
     }
 
     @java.lang.Override
@@ -5054,49 +10652,49 @@ public final class Generated {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.aggarcia.messages.Generated.internal_static_JoinReply_descriptor;
+      return io.github.aggarcia.messages.Generated.internal_static_ErrorReply_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.aggarcia.messages.Generated.internal_static_JoinReply_fieldAccessorTable
+      return io.github.aggarcia.messages.Generated.internal_static_ErrorReply_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.aggarcia.messages.Generated.JoinReply.class, io.github.aggarcia.messages.Generated.JoinReply.Builder.class);
+              io.github.aggarcia.messages.Generated.ErrorReply.class, io.github.aggarcia.messages.Generated.ErrorReply.Builder.class);
     }
 
-    public static final int SERVERID_FIELD_NUMBER = 1;
-    private volatile java.lang.Object serverId_;
+    public static final int MESSAGE_FIELD_NUMBER = 1;
+    private volatile java.lang.Object message_;
     /**
-     * <code>string serverId = 1;</code>
-     * @return The serverId.
+     * <code>string message = 1;</code>
+     * @return The message.
      */
     @java.lang.Override
-    public java.lang.String getServerId() {
-      java.lang.Object ref = serverId_;
+    public java.lang.String getMessage() {
+      java.lang.Object ref = message_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        serverId_ = s;
+        message_ = s;
         return s;
       }
     }
     /**
-     * <code>string serverId = 1;</code>
-     * @return The bytes for serverId.
+     * <code>string message = 1;</code>
+     * @return The bytes for message.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getServerIdBytes() {
-      java.lang.Object ref = serverId_;
+        getMessageBytes() {
+      java.lang.Object ref = message_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        serverId_ = b;
+        message_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
@@ -5117,8 +10715,8 @@ public final class Generated {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(serverId_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, serverId_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(message_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, message_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -5129,8 +10727,8 @@ public final class Generated {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(serverId_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, serverId_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(message_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, message_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -5142,13 +10740,13 @@ public final class Generated {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.aggarcia.messages.Generated.JoinReply)) {
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.ErrorReply)) {
         return super.equals(obj);
       }
-      io.github.aggarcia.messages.Generated.JoinReply other = (io.github.aggarcia.messages.Generated.JoinReply) obj;
+      io.github.aggarcia.messages.Generated.ErrorReply other = (io.github.aggarcia.messages.Generated.ErrorReply) obj;
 
-      if (!getServerId()
-          .equals(other.getServerId())) return false;
+      if (!getMessage()
+          .equals(other.getMessage())) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -5160,76 +10758,76 @@ public final class Generated {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + SERVERID_FIELD_NUMBER;
-      hash = (53 * hash) + getServerId().hashCode();
+      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
+      hash = (53 * hash) + getMessage().hashCode();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(byte[] data)
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseDelimitedFrom(
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.JoinReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5242,7 +10840,7 @@ public final class Generated {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.aggarcia.messages.Generated.JoinReply prototype) {
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.ErrorReply prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -5262,26 +10860,26 @@ public final class Generated {
      * server to client
      * </pre>
      *
-     * Protobuf type {@code JoinReply}
+     * Protobuf type {@code ErrorReply}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:JoinReply)
-        io.github.aggarcia.messages.Generated.JoinReplyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:ErrorReply)
+        io.github.aggarcia.messages.Generated.ErrorReplyOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.aggarcia.messages.Generated.internal_static_JoinReply_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_ErrorReply_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.aggarcia.messages.Generated.internal_static_JoinReply_fieldAccessorTable
+        return io.github.aggarcia.messages.Generated.internal_static_ErrorReply_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.aggarcia.messages.Generated.JoinReply.class, io.github.aggarcia.messages.Generated.JoinReply.Builder.class);
+                io.github.aggarcia.messages.Generated.ErrorReply.class, io.github.aggarcia.messages.Generated.ErrorReply.Builder.class);
       }
 
-      // Construct using io.github.aggarcia.messages.Generated.JoinReply.newBuilder()
+      // Construct using io.github.aggarcia.messages.Generated.ErrorReply.newBuilder()
       private Builder() {
 
       }
@@ -5294,7 +10892,7 @@ public final class Generated {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        serverId_ = "";
+        message_ = "";
 
         return this;
       }
@@ -5302,17 +10900,17 @@ public final class Generated {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.aggarcia.messages.Generated.internal_static_JoinReply_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_ErrorReply_descriptor;
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.JoinReply getDefaultInstanceForType() {
-        return io.github.aggarcia.messages.Generated.JoinReply.getDefaultInstance();
+      public io.github.aggarcia.messages.Generated.ErrorReply getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.ErrorReply.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.JoinReply build() {
-        io.github.aggarcia.messages.Generated.JoinReply result = buildPartial();
+      public io.github.aggarcia.messages.Generated.ErrorReply build() {
+        io.github.aggarcia.messages.Generated.ErrorReply result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -5320,9 +10918,9 @@ public final class Generated {
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.JoinReply buildPartial() {
-        io.github.aggarcia.messages.Generated.JoinReply result = new io.github.aggarcia.messages.Generated.JoinReply(this);
-        result.serverId_ = serverId_;
+      public io.github.aggarcia.messages.Generated.ErrorReply buildPartial() {
+        io.github.aggarcia.messages.Generated.ErrorReply result = new io.github.aggarcia.messages.Generated.ErrorReply(this);
+        result.message_ = message_;
         onBuilt();
         return result;
       }
@@ -5361,18 +10959,18 @@ public final class Generated {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.aggarcia.messages.Generated.JoinReply) {
-          return mergeFrom((io.github.aggarcia.messages.Generated.JoinReply)other);
+        if (other instanceof io.github.aggarcia.messages.Generated.ErrorReply) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.ErrorReply)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(io.github.aggarcia.messages.Generated.JoinReply other) {
-        if (other == io.github.aggarcia.messages.Generated.JoinReply.getDefaultInstance()) return this;
-        if (!other.getServerId().isEmpty()) {
-          serverId_ = other.serverId_;
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.ErrorReply other) {
+        if (other == io.github.aggarcia.messages.Generated.ErrorReply.getDefaultInstance()) return this;
+        if (!other.getMessage().isEmpty()) {
+          message_ = other.message_;
           onChanged();
         }
         this.mergeUnknownFields(other.getUnknownFields());
@@ -5402,7 +11000,7 @@ public final class Generated {
                 done = true;
                 break;
               case 10: {
-                serverId_ = input.readStringRequireUtf8();
+                message_ = input.readStringRequireUtf8();
 
                 break;
               } // case 10
@@ -5422,78 +11020,78 @@ public final class Generated {
         return this;
       }
 
-      private java.lang.Object serverId_ = "";
+      private java.lang.Object message_ = "";
       /**
-       * <code>string serverId = 1;</code>
-       * @return The serverId.
+       * <code>string message = 1;</code>
+       * @return The message.
        */
-      public java.lang.String getServerId() {
-        java.lang.Object ref = serverId_;
+      public java.lang.String getMessage() {
+        java.lang.Object ref = message_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          serverId_ = s;
+          message_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string serverId = 1;</code>
-       * @return The bytes for serverId.
+       * <code>string message = 1;</code>
+       * @return The bytes for message.
        */
       public com.google.protobuf.ByteString
-          getServerIdBytes() {
-        java.lang.Object ref = serverId_;
+          getMessageBytes() {
+        java.lang.Object ref = message_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          serverId_ = b;
+          message_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string serverId = 1;</code>
-       * @param value The serverId to set.
+       * <code>string message = 1;</code>
+       * @param value The message to set.
        * @return This builder for chaining.
        */
-      public Builder setServerId(
+      public Builder setMessage(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        serverId_ = value;
+        message_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string serverId = 1;</code>
+       * <code>string message = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearServerId() {
+      public Builder clearMessage() {
         
-        serverId_ = getDefaultInstance().getServerId();
+        message_ = getDefaultInstance().getMessage();
         onChanged();
         return this;
       }
       /**
-       * <code>string serverId = 1;</code>
-       * @param value The bytes for serverId to set.
+       * <code>string message = 1;</code>
+       * @param value The bytes for message to set.
        * @return This builder for chaining.
        */
-      public Builder setServerIdBytes(
+      public Builder setMessageBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        serverId_ = value;
+        message_ = value;
         onChanged();
         return this;
       }
@@ -5510,23 +11108,23 @@ public final class Generated {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:JoinReply)
+      // @@protoc_insertion_point(builder_scope:ErrorReply)
     }
 
-    // @@protoc_insertion_point(class_scope:JoinReply)
-    private static final io.github.aggarcia.messages.Generated.JoinReply DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:ErrorReply)
+    private static final io.github.aggarcia.messages.Generated.ErrorReply DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.JoinReply();
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.ErrorReply();
     }
 
-    public static io.github.aggarcia.messages.Generated.JoinReply getDefaultInstance() {
+    public static io.github.aggarcia.messages.Generated.ErrorReply getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<JoinReply>
-        PARSER = new com.google.protobuf.AbstractParser<JoinReply>() {
+    private static final com.google.protobuf.Parser<ErrorReply>
+        PARSER = new com.google.protobuf.AbstractParser<ErrorReply>() {
       @java.lang.Override
-      public JoinReply parsePartialFrom(
+      public ErrorReply parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -5545,63 +11143,108 @@ public final class Generated {
       }
     };
 
-    public static com.google.protobuf.Parser<JoinReply> parser() {
+    public static com.google.protobuf.Parser<ErrorReply> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<JoinReply> getParserForType() {
+    public com.google.protobuf.Parser<ErrorReply> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.aggarcia.messages.Generated.JoinReply getDefaultInstanceForType() {
+    public io.github.aggarcia.messages.Generated.ErrorReply getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface ErrorReplyOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:ErrorReply)
+  public interface PlayerOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:Player)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string message = 1;</code>
-     * @return The message.
+     * <code>string name = 1;</code>
+     * @return The name.
      */
-    java.lang.String getMessage();
+    java.lang.String getName();
     /**
-     * <code>string message = 1;</code>
-     * @return The bytes for message.
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
      */
     com.google.protobuf.ByteString
-        getMessageBytes();
+        getNameBytes();
+
+    /**
+     * <pre>
+     * CSS compatible string
+     * </pre>
+     *
+     * <code>string color = 2;</code>
+     * @return The color.
+     */
+    java.lang.String getColor();
+    /**
+     * <pre>
+     * CSS compatible string
+     * </pre>
+     *
+     * <code>string color = 2;</code>
+     * @return The bytes for color.
+     */
+    com.google.protobuf.ByteString
+        getColorBytes();
+
+    /**
+     * <code>int32 x = 3;</code>
+     * @return The x.
+     */
+    int getX();
+
+    /**
+     * <code>int32 y = 4;</code>
+     * @return The y.
+     */
+    int getY();
+
+    /**
+     * <code>uint32 score = 5;</code>
+     * @return The score.
+     */
+    int getScore();
+
+    /**
+     * <pre>
+     * last ControlChangeEvent applied
+     * </pre>
+     *
+     * <code>uint32 lastInputSequence = 6;</code>
+     * @return The lastInputSequence.
+     */
+    int getLastInputSequence();
   }
   /**
-   * <pre>
-   * server to client
-   * </pre>
-   *
-   * Protobuf type {@code ErrorReply}
+   * Protobuf type {@code Player}
    */
-  public static final class ErrorReply extends
+  public static final class Player extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:ErrorReply)
-      ErrorReplyOrBuilder {
+      // @@protoc_insertion_point(message_implements:Player)
+      PlayerOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use ErrorReply.newBuilder() to construct.
-    private ErrorReply(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use Player.newBuilder() to construct.
+    private Player(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private ErrorReply() {
-      message_ = "";
+    private Player() {
+      name_ = "";
+      color_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new ErrorReply();
+      return new Player();
     }
 
     @java.lang.Override
@@ -5611,55 +11254,149 @@ public final class Generated {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.aggarcia.messages.Generated.internal_static_ErrorReply_descriptor;
+      return io.github.aggarcia.messages.Generated.internal_static_Player_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.aggarcia.messages.Generated.internal_static_ErrorReply_fieldAccessorTable
+      return io.github.aggarcia.messages.Generated.internal_static_Player_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.aggarcia.messages.Generated.ErrorReply.class, io.github.aggarcia.messages.Generated.ErrorReply.Builder.class);
+              io.github.aggarcia.messages.Generated.Player.class, io.github.aggarcia.messages.Generated.Player.Builder.class);
     }
 
-    public static final int MESSAGE_FIELD_NUMBER = 1;
-    private volatile java.lang.Object message_;
+    public static final int NAME_FIELD_NUMBER = 1;
+    private volatile java.lang.Object name_;
     /**
-     * <code>string message = 1;</code>
-     * @return The message.
+     * <code>string name = 1;</code>
+     * @return The name.
      */
     @java.lang.Override
-    public java.lang.String getMessage() {
-      java.lang.Object ref = message_;
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        message_ = s;
+        name_ = s;
         return s;
       }
     }
     /**
-     * <code>string message = 1;</code>
-     * @return The bytes for message.
+     * <code>string name = 1;</code>
+     * @return The bytes for name.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getMessageBytes() {
-      java.lang.Object ref = message_;
+        getNameBytes() {
+      java.lang.Object ref = name_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        message_ = b;
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COLOR_FIELD_NUMBER = 2;
+    private volatile java.lang.Object color_;
+    /**
+     * <pre>
+     * CSS compatible string
+     * </pre>
+     *
+     * <code>string color = 2;</code>
+     * @return The color.
+     */
+    @java.lang.Override
+    public java.lang.String getColor() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        color_ = s;
+        return s;
+      }
+    }
+    /**
+     * <pre>
+     * CSS compatible string
+     * </pre>
+     *
+     * <code>string color = 2;</code>
+     * @return The bytes for color.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getColorBytes() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        color_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
+    public static final int X_FIELD_NUMBER = 3;
+    private int x_;
+    /**
+     * <code>int32 x = 3;</code>
+     * @return The x.
+     */
+    @java.lang.Override
+    public int getX() {
+      return x_;
+    }
+
+    public static final int Y_FIELD_NUMBER = 4;
+    private int y_;
+    /**
+     * <code>int32 y = 4;</code>
+     * @return The y.
+     */
+    @java.lang.Override
+    public int getY() {
+      return y_;
+    }
+
+    public static final int SCORE_FIELD_NUMBER = 5;
+    private int score_;
+    /**
+     * <code>uint32 score = 5;</code>
+     * @return The score.
+     */
+    @java.lang.Override
+    public int getScore() {
+      return score_;
+    }
+
+    public static final int LASTINPUTSEQUENCE_FIELD_NUMBER = 6;
+    private int lastInputSequence_;
+    /**
+     * <pre>
+     * last ControlChangeEvent applied
+     * </pre>
+     *
+     * <code>uint32 lastInputSequence = 6;</code>
+     * @return The lastInputSequence.
+     */
+    @java.lang.Override
+    public int getLastInputSequence() {
+      return lastInputSequence_;
+    }
+
     private byte memoizedIsInitialized = -1;
     @java.lang.Override
     public final boolean isInitialized() {
@@ -5674,8 +11411,23 @@ public final class Generated {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(message_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, message_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(color_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, color_);
+      }
+      if (x_ != 0) {
+        output.writeInt32(3, x_);
+      }
+      if (y_ != 0) {
+        output.writeInt32(4, y_);
+      }
+      if (score_ != 0) {
+        output.writeUInt32(5, score_);
+      }
+      if (lastInputSequence_ != 0) {
+        output.writeUInt32(6, lastInputSequence_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -5686,8 +11438,27 @@ public final class Generated {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(message_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, message_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(color_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, color_);
+      }
+      if (x_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, x_);
+      }
+      if (y_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, y_);
+      }
+      if (score_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(5, score_);
+      }
+      if (lastInputSequence_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(6, lastInputSequence_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -5699,13 +11470,23 @@ public final class Generated {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.aggarcia.messages.Generated.ErrorReply)) {
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.Player)) {
         return super.equals(obj);
       }
-      io.github.aggarcia.messages.Generated.ErrorReply other = (io.github.aggarcia.messages.Generated.ErrorReply) obj;
+      io.github.aggarcia.messages.Generated.Player other = (io.github.aggarcia.messages.Generated.Player) obj;
 
-      if (!getMessage()
-          .equals(other.getMessage())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getColor()
+          .equals(other.getColor())) return false;
+      if (getX()
+          != other.getX()) return false;
+      if (getY()
+          != other.getY()) return false;
+      if (getScore()
+          != other.getScore()) return false;
+      if (getLastInputSequence()
+          != other.getLastInputSequence()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -5717,76 +11498,86 @@ public final class Generated {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + MESSAGE_FIELD_NUMBER;
-      hash = (53 * hash) + getMessage().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + COLOR_FIELD_NUMBER;
+      hash = (53 * hash) + getColor().hashCode();
+      hash = (37 * hash) + X_FIELD_NUMBER;
+      hash = (53 * hash) + getX();
+      hash = (37 * hash) + Y_FIELD_NUMBER;
+      hash = (53 * hash) + getY();
+      hash = (37 * hash) + SCORE_FIELD_NUMBER;
+      hash = (53 * hash) + getScore();
+      hash = (37 * hash) + LASTINPUTSEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + getLastInputSequence();
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.Player parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.Player parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.Player parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.Player parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(byte[] data)
+    public static io.github.aggarcia.messages.Generated.Player parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.Player parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.Player parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.Player parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.Player parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseDelimitedFrom(
+    public static io.github.aggarcia.messages.Generated.Player parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.Player parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.ErrorReply parseFrom(
+    public static io.github.aggarcia.messages.Generated.Player parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -5799,7 +11590,7 @@ public final class Generated {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.aggarcia.messages.Generated.ErrorReply prototype) {
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.Player prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -5815,30 +11606,26 @@ public final class Generated {
       return builder;
     }
     /**
-     * <pre>
-     * server to client
-     * </pre>
-     *
-     * Protobuf type {@code ErrorReply}
+     * Protobuf type {@code Player}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:ErrorReply)
-        io.github.aggarcia.messages.Generated.ErrorReplyOrBuilder {
+        // @@protoc_insertion_point(builder_implements:Player)
+        io.github.aggarcia.messages.Generated.PlayerOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.aggarcia.messages.Generated.internal_static_ErrorReply_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_Player_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.aggarcia.messages.Generated.internal_static_ErrorReply_fieldAccessorTable
+        return io.github.aggarcia.messages.Generated.internal_static_Player_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.aggarcia.messages.Generated.ErrorReply.class, io.github.aggarcia.messages.Generated.ErrorReply.Builder.class);
+                io.github.aggarcia.messages.Generated.Player.class, io.github.aggarcia.messages.Generated.Player.Builder.class);
       }
 
-      // Construct using io.github.aggarcia.messages.Generated.ErrorReply.newBuilder()
+      // Construct using io.github.aggarcia.messages.Generated.Player.newBuilder()
       private Builder() {
 
       }
@@ -5851,7 +11638,17 @@ public final class Generated {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        message_ = "";
+        name_ = "";
+
+        color_ = "";
+
+        x_ = 0;
+
+        y_ = 0;
+
+        score_ = 0;
+
+        lastInputSequence_ = 0;
 
         return this;
       }
@@ -5859,17 +11656,17 @@ public final class Generated {
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.aggarcia.messages.Generated.internal_static_ErrorReply_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_Player_descriptor;
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.ErrorReply getDefaultInstanceForType() {
-        return io.github.aggarcia.messages.Generated.ErrorReply.getDefaultInstance();
+      public io.github.aggarcia.messages.Generated.Player getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.Player.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.ErrorReply build() {
-        io.github.aggarcia.messages.Generated.ErrorReply result = buildPartial();
+      public io.github.aggarcia.messages.Generated.Player build() {
+        io.github.aggarcia.messages.Generated.Player result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -5877,9 +11674,14 @@ public final class Generated {
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.ErrorReply buildPartial() {
-        io.github.aggarcia.messages.Generated.ErrorReply result = new io.github.aggarcia.messages.Generated.ErrorReply(this);
-        result.message_ = message_;
+      public io.github.aggarcia.messages.Generated.Player buildPartial() {
+        io.github.aggarcia.messages.Generated.Player result = new io.github.aggarcia.messages.Generated.Player(this);
+        result.name_ = name_;
+        result.color_ = color_;
+        result.x_ = x_;
+        result.y_ = y_;
+        result.score_ = score_;
+        result.lastInputSequence_ = lastInputSequence_;
         onBuilt();
         return result;
       }
@@ -5918,20 +11720,36 @@ public final class Generated {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.aggarcia.messages.Generated.ErrorReply) {
-          return mergeFrom((io.github.aggarcia.messages.Generated.ErrorReply)other);
+        if (other instanceof io.github.aggarcia.messages.Generated.Player) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.Player)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(io.github.aggarcia.messages.Generated.ErrorReply other) {
-        if (other == io.github.aggarcia.messages.Generated.ErrorReply.getDefaultInstance()) return this;
-        if (!other.getMessage().isEmpty()) {
-          message_ = other.message_;
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.Player other) {
+        if (other == io.github.aggarcia.messages.Generated.Player.getDefaultInstance()) return this;
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (!other.getColor().isEmpty()) {
+          color_ = other.color_;
           onChanged();
         }
+        if (other.getX() != 0) {
+          setX(other.getX());
+        }
+        if (other.getY() != 0) {
+          setY(other.getY());
+        }
+        if (other.getScore() != 0) {
+          setScore(other.getScore());
+        }
+        if (other.getLastInputSequence() != 0) {
+          setLastInputSequence(other.getLastInputSequence());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -5941,116 +11759,373 @@ public final class Generated {
       public final boolean isInitialized() {
         return true;
       }
-
-      @java.lang.Override
-      public Builder mergeFrom(
-          com.google.protobuf.CodedInputStream input,
-          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
-          throws java.io.IOException {
-        if (extensionRegistry == null) {
-          throw new java.lang.NullPointerException();
-        }
-        try {
-          boolean done = false;
-          while (!done) {
-            int tag = input.readTag();
-            switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                message_ = input.readStringRequireUtf8();
-
-                break;
-              } // case 10
-              default: {
-                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
-                  done = true; // was an endgroup tag
-                }
-                break;
-              } // default:
-            } // switch (tag)
-          } // while (!done)
-        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
-          throw e.unwrapIOException();
-        } finally {
-          onChanged();
-        } // finally
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                name_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 10
+              case 18: {
+                color_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 18
+              case 24: {
+                x_ = input.readInt32();
+
+                break;
+              } // case 24
+              case 32: {
+                y_ = input.readInt32();
+
+                break;
+              } // case 32
+              case 40: {
+                score_ = input.readUInt32();
+
+                break;
+              } // case 40
+              case 48: {
+                lastInputSequence_ = input.readUInt32();
+
+                break;
+              } // case 48
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 1;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 1;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
         return this;
       }
 
-      private java.lang.Object message_ = "";
+      private java.lang.Object color_ = "";
       /**
-       * <code>string message = 1;</code>
-       * @return The message.
+       * <pre>
+       * CSS compatible string
+       * </pre>
+       *
+       * <code>string color = 2;</code>
+       * @return The color.
        */
-      public java.lang.String getMessage() {
-        java.lang.Object ref = message_;
+      public java.lang.String getColor() {
+        java.lang.Object ref = color_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          message_ = s;
+          color_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <code>string message = 1;</code>
-       * @return The bytes for message.
+       * <pre>
+       * CSS compatible string
+       * </pre>
+       *
+       * <code>string color = 2;</code>
+       * @return The bytes for color.
        */
       public com.google.protobuf.ByteString
-          getMessageBytes() {
-        java.lang.Object ref = message_;
+          getColorBytes() {
+        java.lang.Object ref = color_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          message_ = b;
+          color_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <code>string message = 1;</code>
-       * @param value The message to set.
+       * <pre>
+       * CSS compatible string
+       * </pre>
+       *
+       * <code>string color = 2;</code>
+       * @param value The color to set.
        * @return This builder for chaining.
        */
-      public Builder setMessage(
+      public Builder setColor(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        message_ = value;
+        color_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>string message = 1;</code>
+       * <pre>
+       * CSS compatible string
+       * </pre>
+       *
+       * <code>string color = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearMessage() {
+      public Builder clearColor() {
         
-        message_ = getDefaultInstance().getMessage();
+        color_ = getDefaultInstance().getColor();
         onChanged();
         return this;
       }
       /**
-       * <code>string message = 1;</code>
-       * @param value The bytes for message to set.
+       * <pre>
+       * CSS compatible string
+       * </pre>
+       *
+       * <code>string color = 2;</code>
+       * @param value The bytes for color to set.
        * @return This builder for chaining.
        */
-      public Builder setMessageBytes(
+      public Builder setColorBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        message_ = value;
+        color_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int x_ ;
+      /**
+       * <code>int32 x = 3;</code>
+       * @return The x.
+       */
+      @java.lang.Override
+      public int getX() {
+        return x_;
+      }
+      /**
+       * <code>int32 x = 3;</code>
+       * @param value The x to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX(int value) {
+        
+        x_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 x = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearX() {
+        
+        x_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int y_ ;
+      /**
+       * <code>int32 y = 4;</code>
+       * @return The y.
+       */
+      @java.lang.Override
+      public int getY() {
+        return y_;
+      }
+      /**
+       * <code>int32 y = 4;</code>
+       * @param value The y to set.
+       * @return This builder for chaining.
+       */
+      public Builder setY(int value) {
+        
+        y_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 y = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearY() {
+        
+        y_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int score_ ;
+      /**
+       * <code>uint32 score = 5;</code>
+       * @return The score.
+       */
+      @java.lang.Override
+      public int getScore() {
+        return score_;
+      }
+      /**
+       * <code>uint32 score = 5;</code>
+       * @param value The score to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScore(int value) {
+        
+        score_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 score = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearScore() {
+        
+        score_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int lastInputSequence_ ;
+      /**
+       * <pre>
+       * last ControlChangeEvent applied
+       * </pre>
+       *
+       * <code>uint32 lastInputSequence = 6;</code>
+       * @return The lastInputSequence.
+       */
+      @java.lang.Override
+      public int getLastInputSequence() {
+        return lastInputSequence_;
+      }
+      /**
+       * <pre>
+       * last ControlChangeEvent applied
+       * </pre>
+       *
+       * <code>uint32 lastInputSequence = 6;</code>
+       * @param value The lastInputSequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastInputSequence(int value) {
+        
+        lastInputSequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * last ControlChangeEvent applied
+       * </pre>
+       *
+       * <code>uint32 lastInputSequence = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastInputSequence() {
+        
+        lastInputSequence_ = 0;
         onChanged();
         return this;
       }
@@ -6067,23 +12142,23 @@ public final class Generated {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:ErrorReply)
+      // @@protoc_insertion_point(builder_scope:Player)
     }
 
-    // @@protoc_insertion_point(class_scope:ErrorReply)
-    private static final io.github.aggarcia.messages.Generated.ErrorReply DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:Player)
+    private static final io.github.aggarcia.messages.Generated.Player DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.ErrorReply();
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.Player();
     }
 
-    public static io.github.aggarcia.messages.Generated.ErrorReply getDefaultInstance() {
+    public static io.github.aggarcia.messages.Generated.Player getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<ErrorReply>
-        PARSER = new com.google.protobuf.AbstractParser<ErrorReply>() {
+    private static final com.google.protobuf.Parser<Player>
+        PARSER = new com.google.protobuf.AbstractParser<Player>() {
       @java.lang.Override
-      public ErrorReply parsePartialFrom(
+      public Player parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -6102,98 +12177,75 @@ public final class Generated {
       }
     };
 
-    public static com.google.protobuf.Parser<ErrorReply> parser() {
+    public static com.google.protobuf.Parser<Player> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<ErrorReply> getParserForType() {
+    public com.google.protobuf.Parser<Player> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.aggarcia.messages.Generated.ErrorReply getDefaultInstanceForType() {
+    public io.github.aggarcia.messages.Generated.Player getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
   }
 
-  public interface PlayerOrBuilder extends
-      // @@protoc_insertion_point(interface_extends:Player)
+  public interface LeaderboardRowOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:LeaderboardRow)
       com.google.protobuf.MessageOrBuilder {
 
     /**
-     * <code>string name = 1;</code>
-     * @return The name.
+     * <code>string player = 1;</code>
+     * @return The player.
      */
-    java.lang.String getName();
+    java.lang.String getPlayer();
     /**
-     * <code>string name = 1;</code>
-     * @return The bytes for name.
+     * <code>string player = 1;</code>
+     * @return The bytes for player.
      */
     com.google.protobuf.ByteString
-        getNameBytes();
+        getPlayerBytes();
 
     /**
-     * <pre>
-     * CSS compatible string
-     * </pre>
-     *
-     * <code>string color = 2;</code>
-     * @return The color.
+     * <code>uint32 score = 2;</code>
+     * @return The score.
      */
-    java.lang.String getColor();
+    int getScore();
+
     /**
      * <pre>
-     * CSS compatible string
+     * when the score was set
      * </pre>
      *
-     * <code>string color = 2;</code>
-     * @return The bytes for color.
-     */
-    com.google.protobuf.ByteString
-        getColorBytes();
-
-    /**
-     * <code>int32 x = 3;</code>
-     * @return The x.
-     */
-    int getX();
-
-    /**
-     * <code>int32 y = 4;</code>
-     * @return The y.
-     */
-    int getY();
-
-    /**
-     * <code>uint32 score = 5;</code>
-     * @return The score.
+     * <code>int64 timestampMillis = 3;</code>
+     * @return The timestampMillis.
      */
-    int getScore();
+    long getTimestampMillis();
   }
   /**
-   * Protobuf type {@code Player}
+   * Protobuf type {@code LeaderboardRow}
    */
-  public static final class Player extends
+  public static final class LeaderboardRow extends
       com.google.protobuf.GeneratedMessageV3 implements
-      // @@protoc_insertion_point(message_implements:Player)
-      PlayerOrBuilder {
+      // @@protoc_insertion_point(message_implements:LeaderboardRow)
+      LeaderboardRowOrBuilder {
   private static final long serialVersionUID = 0L;
-    // Use Player.newBuilder() to construct.
-    private Player(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+    // Use LeaderboardRow.newBuilder() to construct.
+    private LeaderboardRow(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
       super(builder);
     }
-    private Player() {
-      name_ = "";
-      color_ = "";
+    private LeaderboardRow() {
+      player_ = "";
     }
 
     @java.lang.Override
     @SuppressWarnings({"unused"})
     protected java.lang.Object newInstance(
         UnusedPrivateParameter unused) {
-      return new Player();
+      return new LeaderboardRow();
     }
 
     @java.lang.Override
@@ -6203,132 +12255,79 @@ public final class Generated {
     }
     public static final com.google.protobuf.Descriptors.Descriptor
         getDescriptor() {
-      return io.github.aggarcia.messages.Generated.internal_static_Player_descriptor;
+      return io.github.aggarcia.messages.Generated.internal_static_LeaderboardRow_descriptor;
     }
 
     @java.lang.Override
     protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
         internalGetFieldAccessorTable() {
-      return io.github.aggarcia.messages.Generated.internal_static_Player_fieldAccessorTable
+      return io.github.aggarcia.messages.Generated.internal_static_LeaderboardRow_fieldAccessorTable
           .ensureFieldAccessorsInitialized(
-              io.github.aggarcia.messages.Generated.Player.class, io.github.aggarcia.messages.Generated.Player.Builder.class);
+              io.github.aggarcia.messages.Generated.LeaderboardRow.class, io.github.aggarcia.messages.Generated.LeaderboardRow.Builder.class);
     }
 
-    public static final int NAME_FIELD_NUMBER = 1;
-    private volatile java.lang.Object name_;
+    public static final int PLAYER_FIELD_NUMBER = 1;
+    private volatile java.lang.Object player_;
     /**
-     * <code>string name = 1;</code>
-     * @return The name.
+     * <code>string player = 1;</code>
+     * @return The player.
      */
     @java.lang.Override
-    public java.lang.String getName() {
-      java.lang.Object ref = name_;
+    public java.lang.String getPlayer() {
+      java.lang.Object ref = player_;
       if (ref instanceof java.lang.String) {
         return (java.lang.String) ref;
       } else {
         com.google.protobuf.ByteString bs = 
             (com.google.protobuf.ByteString) ref;
         java.lang.String s = bs.toStringUtf8();
-        name_ = s;
+        player_ = s;
         return s;
       }
     }
     /**
-     * <code>string name = 1;</code>
-     * @return The bytes for name.
+     * <code>string player = 1;</code>
+     * @return The bytes for player.
      */
     @java.lang.Override
     public com.google.protobuf.ByteString
-        getNameBytes() {
-      java.lang.Object ref = name_;
+        getPlayerBytes() {
+      java.lang.Object ref = player_;
       if (ref instanceof java.lang.String) {
         com.google.protobuf.ByteString b = 
             com.google.protobuf.ByteString.copyFromUtf8(
                 (java.lang.String) ref);
-        name_ = b;
+        player_ = b;
         return b;
       } else {
         return (com.google.protobuf.ByteString) ref;
       }
     }
 
-    public static final int COLOR_FIELD_NUMBER = 2;
-    private volatile java.lang.Object color_;
+    public static final int SCORE_FIELD_NUMBER = 2;
+    private int score_;
     /**
-     * <pre>
-     * CSS compatible string
-     * </pre>
-     *
-     * <code>string color = 2;</code>
-     * @return The color.
+     * <code>uint32 score = 2;</code>
+     * @return The score.
      */
     @java.lang.Override
-    public java.lang.String getColor() {
-      java.lang.Object ref = color_;
-      if (ref instanceof java.lang.String) {
-        return (java.lang.String) ref;
-      } else {
-        com.google.protobuf.ByteString bs = 
-            (com.google.protobuf.ByteString) ref;
-        java.lang.String s = bs.toStringUtf8();
-        color_ = s;
-        return s;
-      }
+    public int getScore() {
+      return score_;
     }
+
+    public static final int TIMESTAMPMILLIS_FIELD_NUMBER = 3;
+    private long timestampMillis_;
     /**
      * <pre>
-     * CSS compatible string
+     * when the score was set
      * </pre>
      *
-     * <code>string color = 2;</code>
-     * @return The bytes for color.
-     */
-    @java.lang.Override
-    public com.google.protobuf.ByteString
-        getColorBytes() {
-      java.lang.Object ref = color_;
-      if (ref instanceof java.lang.String) {
-        com.google.protobuf.ByteString b = 
-            com.google.protobuf.ByteString.copyFromUtf8(
-                (java.lang.String) ref);
-        color_ = b;
-        return b;
-      } else {
-        return (com.google.protobuf.ByteString) ref;
-      }
-    }
-
-    public static final int X_FIELD_NUMBER = 3;
-    private int x_;
-    /**
-     * <code>int32 x = 3;</code>
-     * @return The x.
-     */
-    @java.lang.Override
-    public int getX() {
-      return x_;
-    }
-
-    public static final int Y_FIELD_NUMBER = 4;
-    private int y_;
-    /**
-     * <code>int32 y = 4;</code>
-     * @return The y.
-     */
-    @java.lang.Override
-    public int getY() {
-      return y_;
-    }
-
-    public static final int SCORE_FIELD_NUMBER = 5;
-    private int score_;
-    /**
-     * <code>uint32 score = 5;</code>
-     * @return The score.
+     * <code>int64 timestampMillis = 3;</code>
+     * @return The timestampMillis.
      */
     @java.lang.Override
-    public int getScore() {
-      return score_;
+    public long getTimestampMillis() {
+      return timestampMillis_;
     }
 
     private byte memoizedIsInitialized = -1;
@@ -6345,20 +12344,14 @@ public final class Generated {
     @java.lang.Override
     public void writeTo(com.google.protobuf.CodedOutputStream output)
                         throws java.io.IOException {
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, name_);
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(color_)) {
-        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, color_);
-      }
-      if (x_ != 0) {
-        output.writeInt32(3, x_);
-      }
-      if (y_ != 0) {
-        output.writeInt32(4, y_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(player_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, player_);
       }
       if (score_ != 0) {
-        output.writeUInt32(5, score_);
+        output.writeUInt32(2, score_);
+      }
+      if (timestampMillis_ != 0L) {
+        output.writeInt64(3, timestampMillis_);
       }
       getUnknownFields().writeTo(output);
     }
@@ -6369,23 +12362,16 @@ public final class Generated {
       if (size != -1) return size;
 
       size = 0;
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, name_);
-      }
-      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(color_)) {
-        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, color_);
-      }
-      if (x_ != 0) {
-        size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(3, x_);
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(player_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, player_);
       }
-      if (y_ != 0) {
+      if (score_ != 0) {
         size += com.google.protobuf.CodedOutputStream
-          .computeInt32Size(4, y_);
+          .computeUInt32Size(2, score_);
       }
-      if (score_ != 0) {
+      if (timestampMillis_ != 0L) {
         size += com.google.protobuf.CodedOutputStream
-          .computeUInt32Size(5, score_);
+          .computeInt64Size(3, timestampMillis_);
       }
       size += getUnknownFields().getSerializedSize();
       memoizedSize = size;
@@ -6397,21 +12383,17 @@ public final class Generated {
       if (obj == this) {
        return true;
       }
-      if (!(obj instanceof io.github.aggarcia.messages.Generated.Player)) {
+      if (!(obj instanceof io.github.aggarcia.messages.Generated.LeaderboardRow)) {
         return super.equals(obj);
       }
-      io.github.aggarcia.messages.Generated.Player other = (io.github.aggarcia.messages.Generated.Player) obj;
+      io.github.aggarcia.messages.Generated.LeaderboardRow other = (io.github.aggarcia.messages.Generated.LeaderboardRow) obj;
 
-      if (!getName()
-          .equals(other.getName())) return false;
-      if (!getColor()
-          .equals(other.getColor())) return false;
-      if (getX()
-          != other.getX()) return false;
-      if (getY()
-          != other.getY()) return false;
+      if (!getPlayer()
+          .equals(other.getPlayer())) return false;
       if (getScore()
           != other.getScore()) return false;
+      if (getTimestampMillis()
+          != other.getTimestampMillis()) return false;
       if (!getUnknownFields().equals(other.getUnknownFields())) return false;
       return true;
     }
@@ -6423,84 +12405,81 @@ public final class Generated {
       }
       int hash = 41;
       hash = (19 * hash) + getDescriptor().hashCode();
-      hash = (37 * hash) + NAME_FIELD_NUMBER;
-      hash = (53 * hash) + getName().hashCode();
-      hash = (37 * hash) + COLOR_FIELD_NUMBER;
-      hash = (53 * hash) + getColor().hashCode();
-      hash = (37 * hash) + X_FIELD_NUMBER;
-      hash = (53 * hash) + getX();
-      hash = (37 * hash) + Y_FIELD_NUMBER;
-      hash = (53 * hash) + getY();
+      hash = (37 * hash) + PLAYER_FIELD_NUMBER;
+      hash = (53 * hash) + getPlayer().hashCode();
       hash = (37 * hash) + SCORE_FIELD_NUMBER;
       hash = (53 * hash) + getScore();
+      hash = (37 * hash) + TIMESTAMPMILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getTimestampMillis());
       hash = (29 * hash) + getUnknownFields().hashCode();
       memoizedHashCode = hash;
       return hash;
     }
 
-    public static io.github.aggarcia.messages.Generated.Player parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseFrom(
         java.nio.ByteBuffer data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseFrom(
         java.nio.ByteBuffer data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseFrom(
         com.google.protobuf.ByteString data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseFrom(
         com.google.protobuf.ByteString data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseFrom(byte[] data)
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseFrom(byte[] data)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseFrom(
         byte[] data,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws com.google.protobuf.InvalidProtocolBufferException {
       return PARSER.parseFrom(data, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseDelimitedFrom(java.io.InputStream input)
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseDelimitedFrom(java.io.InputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseDelimitedFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseDelimitedFrom(
         java.io.InputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseFrom(
         com.google.protobuf.CodedInputStream input)
         throws java.io.IOException {
       return com.google.protobuf.GeneratedMessageV3
           .parseWithIOException(PARSER, input);
     }
-    public static io.github.aggarcia.messages.Generated.Player parseFrom(
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow parseFrom(
         com.google.protobuf.CodedInputStream input,
         com.google.protobuf.ExtensionRegistryLite extensionRegistry)
         throws java.io.IOException {
@@ -6513,7 +12492,7 @@ public final class Generated {
     public static Builder newBuilder() {
       return DEFAULT_INSTANCE.toBuilder();
     }
-    public static Builder newBuilder(io.github.aggarcia.messages.Generated.Player prototype) {
+    public static Builder newBuilder(io.github.aggarcia.messages.Generated.LeaderboardRow prototype) {
       return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
     }
     @java.lang.Override
@@ -6529,26 +12508,26 @@ public final class Generated {
       return builder;
     }
     /**
-     * Protobuf type {@code Player}
+     * Protobuf type {@code LeaderboardRow}
      */
     public static final class Builder extends
         com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
-        // @@protoc_insertion_point(builder_implements:Player)
-        io.github.aggarcia.messages.Generated.PlayerOrBuilder {
+        // @@protoc_insertion_point(builder_implements:LeaderboardRow)
+        io.github.aggarcia.messages.Generated.LeaderboardRowOrBuilder {
       public static final com.google.protobuf.Descriptors.Descriptor
           getDescriptor() {
-        return io.github.aggarcia.messages.Generated.internal_static_Player_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_LeaderboardRow_descriptor;
       }
 
       @java.lang.Override
       protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
           internalGetFieldAccessorTable() {
-        return io.github.aggarcia.messages.Generated.internal_static_Player_fieldAccessorTable
+        return io.github.aggarcia.messages.Generated.internal_static_LeaderboardRow_fieldAccessorTable
             .ensureFieldAccessorsInitialized(
-                io.github.aggarcia.messages.Generated.Player.class, io.github.aggarcia.messages.Generated.Player.Builder.class);
+                io.github.aggarcia.messages.Generated.LeaderboardRow.class, io.github.aggarcia.messages.Generated.LeaderboardRow.Builder.class);
       }
 
-      // Construct using io.github.aggarcia.messages.Generated.Player.newBuilder()
+      // Construct using io.github.aggarcia.messages.Generated.LeaderboardRow.newBuilder()
       private Builder() {
 
       }
@@ -6561,33 +12540,29 @@ public final class Generated {
       @java.lang.Override
       public Builder clear() {
         super.clear();
-        name_ = "";
-
-        color_ = "";
-
-        x_ = 0;
-
-        y_ = 0;
+        player_ = "";
 
         score_ = 0;
 
+        timestampMillis_ = 0L;
+
         return this;
       }
 
       @java.lang.Override
       public com.google.protobuf.Descriptors.Descriptor
           getDescriptorForType() {
-        return io.github.aggarcia.messages.Generated.internal_static_Player_descriptor;
+        return io.github.aggarcia.messages.Generated.internal_static_LeaderboardRow_descriptor;
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.Player getDefaultInstanceForType() {
-        return io.github.aggarcia.messages.Generated.Player.getDefaultInstance();
+      public io.github.aggarcia.messages.Generated.LeaderboardRow getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Generated.LeaderboardRow.getDefaultInstance();
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.Player build() {
-        io.github.aggarcia.messages.Generated.Player result = buildPartial();
+      public io.github.aggarcia.messages.Generated.LeaderboardRow build() {
+        io.github.aggarcia.messages.Generated.LeaderboardRow result = buildPartial();
         if (!result.isInitialized()) {
           throw newUninitializedMessageException(result);
         }
@@ -6595,13 +12570,11 @@ public final class Generated {
       }
 
       @java.lang.Override
-      public io.github.aggarcia.messages.Generated.Player buildPartial() {
-        io.github.aggarcia.messages.Generated.Player result = new io.github.aggarcia.messages.Generated.Player(this);
-        result.name_ = name_;
-        result.color_ = color_;
-        result.x_ = x_;
-        result.y_ = y_;
+      public io.github.aggarcia.messages.Generated.LeaderboardRow buildPartial() {
+        io.github.aggarcia.messages.Generated.LeaderboardRow result = new io.github.aggarcia.messages.Generated.LeaderboardRow(this);
+        result.player_ = player_;
         result.score_ = score_;
+        result.timestampMillis_ = timestampMillis_;
         onBuilt();
         return result;
       }
@@ -6640,33 +12613,26 @@ public final class Generated {
       }
       @java.lang.Override
       public Builder mergeFrom(com.google.protobuf.Message other) {
-        if (other instanceof io.github.aggarcia.messages.Generated.Player) {
-          return mergeFrom((io.github.aggarcia.messages.Generated.Player)other);
+        if (other instanceof io.github.aggarcia.messages.Generated.LeaderboardRow) {
+          return mergeFrom((io.github.aggarcia.messages.Generated.LeaderboardRow)other);
         } else {
           super.mergeFrom(other);
           return this;
         }
       }
 
-      public Builder mergeFrom(io.github.aggarcia.messages.Generated.Player other) {
-        if (other == io.github.aggarcia.messages.Generated.Player.getDefaultInstance()) return this;
-        if (!other.getName().isEmpty()) {
-          name_ = other.name_;
-          onChanged();
-        }
-        if (!other.getColor().isEmpty()) {
-          color_ = other.color_;
+      public Builder mergeFrom(io.github.aggarcia.messages.Generated.LeaderboardRow other) {
+        if (other == io.github.aggarcia.messages.Generated.LeaderboardRow.getDefaultInstance()) return this;
+        if (!other.getPlayer().isEmpty()) {
+          player_ = other.player_;
           onChanged();
         }
-        if (other.getX() != 0) {
-          setX(other.getX());
-        }
-        if (other.getY() != 0) {
-          setY(other.getY());
-        }
         if (other.getScore() != 0) {
           setScore(other.getScore());
         }
+        if (other.getTimestampMillis() != 0L) {
+          setTimestampMillis(other.getTimestampMillis());
+        }
         this.mergeUnknownFields(other.getUnknownFields());
         onChanged();
         return this;
@@ -6690,34 +12656,24 @@ public final class Generated {
           while (!done) {
             int tag = input.readTag();
             switch (tag) {
-              case 0:
-                done = true;
-                break;
-              case 10: {
-                name_ = input.readStringRequireUtf8();
-
-                break;
-              } // case 10
-              case 18: {
-                color_ = input.readStringRequireUtf8();
-
-                break;
-              } // case 18
-              case 24: {
-                x_ = input.readInt32();
-
+              case 0:
+                done = true;
                 break;
-              } // case 24
-              case 32: {
-                y_ = input.readInt32();
+              case 10: {
+                player_ = input.readStringRequireUtf8();
 
                 break;
-              } // case 32
-              case 40: {
+              } // case 10
+              case 16: {
                 score_ = input.readUInt32();
 
                 break;
-              } // case 40
+              } // case 16
+              case 24: {
+                timestampMillis_ = input.readInt64();
+
+                break;
+              } // case 24
               default: {
                 if (!super.parseUnknownField(input, extensionRegistry, tag)) {
                   done = true; // was an endgroup tag
@@ -6734,267 +12690,152 @@ public final class Generated {
         return this;
       }
 
-      private java.lang.Object name_ = "";
-      /**
-       * <code>string name = 1;</code>
-       * @return The name.
-       */
-      public java.lang.String getName() {
-        java.lang.Object ref = name_;
-        if (!(ref instanceof java.lang.String)) {
-          com.google.protobuf.ByteString bs =
-              (com.google.protobuf.ByteString) ref;
-          java.lang.String s = bs.toStringUtf8();
-          name_ = s;
-          return s;
-        } else {
-          return (java.lang.String) ref;
-        }
-      }
-      /**
-       * <code>string name = 1;</code>
-       * @return The bytes for name.
-       */
-      public com.google.protobuf.ByteString
-          getNameBytes() {
-        java.lang.Object ref = name_;
-        if (ref instanceof String) {
-          com.google.protobuf.ByteString b = 
-              com.google.protobuf.ByteString.copyFromUtf8(
-                  (java.lang.String) ref);
-          name_ = b;
-          return b;
-        } else {
-          return (com.google.protobuf.ByteString) ref;
-        }
-      }
-      /**
-       * <code>string name = 1;</code>
-       * @param value The name to set.
-       * @return This builder for chaining.
-       */
-      public Builder setName(
-          java.lang.String value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  
-        name_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string name = 1;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearName() {
-        
-        name_ = getDefaultInstance().getName();
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>string name = 1;</code>
-       * @param value The bytes for name to set.
-       * @return This builder for chaining.
-       */
-      public Builder setNameBytes(
-          com.google.protobuf.ByteString value) {
-        if (value == null) {
-    throw new NullPointerException();
-  }
-  checkByteStringIsUtf8(value);
-        
-        name_ = value;
-        onChanged();
-        return this;
-      }
-
-      private java.lang.Object color_ = "";
+      private java.lang.Object player_ = "";
       /**
-       * <pre>
-       * CSS compatible string
-       * </pre>
-       *
-       * <code>string color = 2;</code>
-       * @return The color.
+       * <code>string player = 1;</code>
+       * @return The player.
        */
-      public java.lang.String getColor() {
-        java.lang.Object ref = color_;
+      public java.lang.String getPlayer() {
+        java.lang.Object ref = player_;
         if (!(ref instanceof java.lang.String)) {
           com.google.protobuf.ByteString bs =
               (com.google.protobuf.ByteString) ref;
           java.lang.String s = bs.toStringUtf8();
-          color_ = s;
+          player_ = s;
           return s;
         } else {
           return (java.lang.String) ref;
         }
       }
       /**
-       * <pre>
-       * CSS compatible string
-       * </pre>
-       *
-       * <code>string color = 2;</code>
-       * @return The bytes for color.
+       * <code>string player = 1;</code>
+       * @return The bytes for player.
        */
       public com.google.protobuf.ByteString
-          getColorBytes() {
-        java.lang.Object ref = color_;
+          getPlayerBytes() {
+        java.lang.Object ref = player_;
         if (ref instanceof String) {
           com.google.protobuf.ByteString b = 
               com.google.protobuf.ByteString.copyFromUtf8(
                   (java.lang.String) ref);
-          color_ = b;
+          player_ = b;
           return b;
         } else {
           return (com.google.protobuf.ByteString) ref;
         }
       }
       /**
-       * <pre>
-       * CSS compatible string
-       * </pre>
-       *
-       * <code>string color = 2;</code>
-       * @param value The color to set.
+       * <code>string player = 1;</code>
+       * @param value The player to set.
        * @return This builder for chaining.
        */
-      public Builder setColor(
+      public Builder setPlayer(
           java.lang.String value) {
         if (value == null) {
     throw new NullPointerException();
   }
   
-        color_ = value;
+        player_ = value;
         onChanged();
         return this;
       }
       /**
-       * <pre>
-       * CSS compatible string
-       * </pre>
-       *
-       * <code>string color = 2;</code>
+       * <code>string player = 1;</code>
        * @return This builder for chaining.
        */
-      public Builder clearColor() {
+      public Builder clearPlayer() {
         
-        color_ = getDefaultInstance().getColor();
+        player_ = getDefaultInstance().getPlayer();
         onChanged();
         return this;
       }
       /**
-       * <pre>
-       * CSS compatible string
-       * </pre>
-       *
-       * <code>string color = 2;</code>
-       * @param value The bytes for color to set.
+       * <code>string player = 1;</code>
+       * @param value The bytes for player to set.
        * @return This builder for chaining.
        */
-      public Builder setColorBytes(
+      public Builder setPlayerBytes(
           com.google.protobuf.ByteString value) {
         if (value == null) {
     throw new NullPointerException();
   }
   checkByteStringIsUtf8(value);
         
-        color_ = value;
-        onChanged();
-        return this;
-      }
-
-      private int x_ ;
-      /**
-       * <code>int32 x = 3;</code>
-       * @return The x.
-       */
-      @java.lang.Override
-      public int getX() {
-        return x_;
-      }
-      /**
-       * <code>int32 x = 3;</code>
-       * @param value The x to set.
-       * @return This builder for chaining.
-       */
-      public Builder setX(int value) {
-        
-        x_ = value;
-        onChanged();
-        return this;
-      }
-      /**
-       * <code>int32 x = 3;</code>
-       * @return This builder for chaining.
-       */
-      public Builder clearX() {
-        
-        x_ = 0;
+        player_ = value;
         onChanged();
         return this;
       }
 
-      private int y_ ;
+      private int score_ ;
       /**
-       * <code>int32 y = 4;</code>
-       * @return The y.
+       * <code>uint32 score = 2;</code>
+       * @return The score.
        */
       @java.lang.Override
-      public int getY() {
-        return y_;
+      public int getScore() {
+        return score_;
       }
       /**
-       * <code>int32 y = 4;</code>
-       * @param value The y to set.
+       * <code>uint32 score = 2;</code>
+       * @param value The score to set.
        * @return This builder for chaining.
        */
-      public Builder setY(int value) {
+      public Builder setScore(int value) {
         
-        y_ = value;
+        score_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>int32 y = 4;</code>
+       * <code>uint32 score = 2;</code>
        * @return This builder for chaining.
        */
-      public Builder clearY() {
+      public Builder clearScore() {
         
-        y_ = 0;
+        score_ = 0;
         onChanged();
         return this;
       }
 
-      private int score_ ;
+      private long timestampMillis_ ;
       /**
-       * <code>uint32 score = 5;</code>
-       * @return The score.
+       * <pre>
+       * when the score was set
+       * </pre>
+       *
+       * <code>int64 timestampMillis = 3;</code>
+       * @return The timestampMillis.
        */
       @java.lang.Override
-      public int getScore() {
-        return score_;
+      public long getTimestampMillis() {
+        return timestampMillis_;
       }
       /**
-       * <code>uint32 score = 5;</code>
-       * @param value The score to set.
+       * <pre>
+       * when the score was set
+       * </pre>
+       *
+       * <code>int64 timestampMillis = 3;</code>
+       * @param value The timestampMillis to set.
        * @return This builder for chaining.
        */
-      public Builder setScore(int value) {
+      public Builder setTimestampMillis(long value) {
         
-        score_ = value;
+        timestampMillis_ = value;
         onChanged();
         return this;
       }
       /**
-       * <code>uint32 score = 5;</code>
+       * <pre>
+       * when the score was set
+       * </pre>
+       *
+       * <code>int64 timestampMillis = 3;</code>
        * @return This builder for chaining.
        */
-      public Builder clearScore() {
+      public Builder clearTimestampMillis() {
         
-        score_ = 0;
+        timestampMillis_ = 0L;
         onChanged();
         return this;
       }
@@ -7011,23 +12852,23 @@ public final class Generated {
       }
 
 
-      // @@protoc_insertion_point(builder_scope:Player)
+      // @@protoc_insertion_point(builder_scope:LeaderboardRow)
     }
 
-    // @@protoc_insertion_point(class_scope:Player)
-    private static final io.github.aggarcia.messages.Generated.Player DEFAULT_INSTANCE;
+    // @@protoc_insertion_point(class_scope:LeaderboardRow)
+    private static final io.github.aggarcia.messages.Generated.LeaderboardRow DEFAULT_INSTANCE;
     static {
-      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.Player();
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Generated.LeaderboardRow();
     }
 
-    public static io.github.aggarcia.messages.Generated.Player getDefaultInstance() {
+    public static io.github.aggarcia.messages.Generated.LeaderboardRow getDefaultInstance() {
       return DEFAULT_INSTANCE;
     }
 
-    private static final com.google.protobuf.Parser<Player>
-        PARSER = new com.google.protobuf.AbstractParser<Player>() {
+    private static final com.google.protobuf.Parser<LeaderboardRow>
+        PARSER = new com.google.protobuf.AbstractParser<LeaderboardRow>() {
       @java.lang.Override
-      public Player parsePartialFrom(
+      public LeaderboardRow parsePartialFrom(
           com.google.protobuf.CodedInputStream input,
           com.google.protobuf.ExtensionRegistryLite extensionRegistry)
           throws com.google.protobuf.InvalidProtocolBufferException {
@@ -7046,17 +12887,17 @@ public final class Generated {
       }
     };
 
-    public static com.google.protobuf.Parser<Player> parser() {
+    public static com.google.protobuf.Parser<LeaderboardRow> parser() {
       return PARSER;
     }
 
     @java.lang.Override
-    public com.google.protobuf.Parser<Player> getParserForType() {
+    public com.google.protobuf.Parser<LeaderboardRow> getParserForType() {
       return PARSER;
     }
 
     @java.lang.Override
-    public io.github.aggarcia.messages.Generated.Player getDefaultInstanceForType() {
+    public io.github.aggarcia.messages.Generated.LeaderboardRow getDefaultInstanceForType() {
       return DEFAULT_INSTANCE;
     }
 
@@ -7682,6 +13523,16 @@ public final class Generated {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_GamePing_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Ping_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Ping_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_Pong_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_Pong_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_ControlChangeEvent_descriptor;
   private static final 
@@ -7692,11 +13543,26 @@ public final class Generated {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_JoinEvent_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LeaveEvent_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LeaveEvent_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_GameOverEvent_descriptor;
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_GameOverEvent_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LeaderboardSubscribe_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LeaderboardSubscribe_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LeaderboardUpdate_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LeaderboardUpdate_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_JoinReply_descriptor;
   private static final 
@@ -7712,6 +13578,11 @@ public final class Generated {
   private static final 
     com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
       internal_static_Player_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_LeaderboardRow_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_LeaderboardRow_fieldAccessorTable;
   private static final com.google.protobuf.Descriptors.Descriptor
     internal_static_Platform_descriptor;
   private static final 
@@ -7726,26 +13597,40 @@ public final class Generated {
       descriptor;
   static {
     java.lang.String[] descriptorData = {
-      "\n\023socketMessage.proto\"\372\001\n\rSocketMessage\022" +
+      "\n\023socketMessage.proto\"\263\003\n\rSocketMessage\022" +
       "\035\n\010gamePing\030\001 \001(\0132\t.GamePingH\000\0221\n\022contro" +
       "lChangeEvent\030\002 \001(\0132\023.ControlChangeEventH" +
       "\000\022\037\n\tjoinEvent\030\003 \001(\0132\n.JoinEventH\000\022\'\n\rga" +
       "meOverEvent\030\004 \001(\0132\016.GameOverEventH\000\022!\n\ne" +
       "rrorReply\030\005 \001(\0132\013.ErrorReplyH\000\022\037\n\tjoinRe" +
-      "ply\030\006 \001(\0132\n.JoinReplyH\000B\t\n\007payload\"U\n\010Ga" +
-      "mePing\022\021\n\tserverAge\030\001 \001(\r\022\030\n\007players\030\002 \003" +
-      "(\0132\007.Player\022\034\n\tplatforms\030\003 \003(\0132\t.Platfor" +
-      "m\"=\n\022ControlChangeEvent\022\'\n\017pressedContro" +
-      "ls\030\001 \003(\0162\016.PlayerControl\"\031\n\tJoinEvent\022\014\n" +
-      "\004name\030\001 \001(\t\"\037\n\rGameOverEvent\022\016\n\006reason\030\001" +
-      " \001(\t\"\035\n\tJoinReply\022\020\n\010serverId\030\001 \001(\t\"\035\n\nE" +
-      "rrorReply\022\017\n\007message\030\001 \001(\t\"J\n\006Player\022\014\n\004" +
-      "name\030\001 \001(\t\022\r\n\005color\030\002 \001(\t\022\t\n\001x\030\003 \001(\005\022\t\n\001" +
-      "y\030\004 \001(\005\022\r\n\005score\030\005 \001(\r\"/\n\010Platform\022\t\n\001x\030" +
-      "\001 \001(\005\022\t\n\001y\030\002 \001(\005\022\r\n\005width\030\003 \001(\r*6\n\rPlaye" +
-      "rControl\022\006\n\002UP\020\000\022\010\n\004DOWN\020\001\022\010\n\004LEFT\020\002\022\t\n\005" +
-      "RIGHT\020\003B(\n\033io.github.aggarcia.messagesB\t" +
-      "Generatedb\006proto3"
+      "ply\030\006 \001(\0132\n.JoinReplyH\000\022\025\n\004ping\030\007 \001(\0132\005." +
+      "PingH\000\022\025\n\004pong\030\010 \001(\0132\005.PongH\000\022!\n\nleaveEv" +
+      "ent\030\t \001(\0132\013.LeaveEventH\000\0225\n\024leaderboardS" +
+      "ubscribe\030\n \001(\0132\025.LeaderboardSubscribeH\000\022" +
+      "/\n\021leaderboardUpdate\030\013 \001(\0132\022.Leaderboard" +
+      "UpdateH\000B\t\n\007payload\"~\n\010GamePing\022\021\n\tserve" +
+      "rAge\030\001 \001(\r\022\030\n\007players\030\002 \003(\0132\007.Player\022\034\n\t" +
+      "platforms\030\003 \003(\0132\t.Platform\022\017\n\007isDelta\030\004 " +
+      "\001(\010\022\026\n\016removedPlayers\030\005 \003(\t\"\037\n\004Ping\022\027\n\017s" +
+      "erverTimeNanos\030\001 \001(\003\"\037\n\004Pong\022\027\n\017serverTi" +
+      "meNanos\030\001 \001(\003\"O\n\022ControlChangeEvent\022\'\n\017p" +
+      "ressedControls\030\001 \003(\0162\016.PlayerControl\022\020\n\010" +
+      "sequence\030\002 \001(\r\".\n\tJoinEvent\022\014\n\004name\030\001 \001(" +
+      "\t\022\023\n\013resumeToken\030\002 \001(\t\"\014\n\nLeaveEvent\"\037\n\r" +
+      "GameOverEvent\022\016\n\006reason\030\001 \001(\t\"\026\n\024Leaderb" +
+      "oardSubscribe\"Z\n\021LeaderboardUpdate\022\016\n\006is" +
+      "Full\030\001 \001(\010\022\035\n\004rows\030\002 \003(\0132\017.LeaderboardRo" +
+      "w\022\026\n\016removedPlayers\030\003 \003(\t\"2\n\tJoinReply\022\020" +
+      "\n\010serverId\030\001 \001(\t\022\023\n\013resumeToken\030\002 \001(\t\"\035\n" +
+      "\nErrorReply\022\017\n\007message\030\001 \001(\t\"e\n\006Player\022\014" +
+      "\n\004name\030\001 \001(\t\022\r\n\005color\030\002 \001(\t\022\t\n\001x\030\003 \001(\005\022\t" +
+      "\n\001y\030\004 \001(\005\022\r\n\005score\030\005 \001(\r\022\031\n\021lastInputSeq" +
+      "uence\030\006 \001(\r\"H\n\016LeaderboardRow\022\016\n\006player\030" +
+      "\001 \001(\t\022\r\n\005score\030\002 \001(\r\022\027\n\017timestampMillis\030" +
+      "\003 \001(\003\"/\n\010Platform\022\t\n\001x\030\001 \001(\005\022\t\n\001y\030\002 \001(\005\022" +
+      "\r\n\005width\030\003 \001(\r*6\n\rPlayerControl\022\006\n\002UP\020\000\022" +
+      "\010\n\004DOWN\020\001\022\010\n\004LEFT\020\002\022\t\n\005RIGHT\020\003B(\n\033io.git" +
+      "hub.aggarcia.messagesB\tGeneratedb\006proto3"
     };
     descriptor = com.google.protobuf.Descriptors.FileDescriptor
       .internalBuildGeneratedFileFrom(descriptorData,
@@ -7756,51 +13641,87 @@ public final class Generated {
     internal_static_SocketMessage_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_SocketMessage_descriptor,
-        new java.lang.String[] { "GamePing", "ControlChangeEvent", "JoinEvent", "GameOverEvent", "ErrorReply", "JoinReply", "Payload", });
+        new java.lang.String[] { "GamePing", "ControlChangeEvent", "JoinEvent", "GameOverEvent", "ErrorReply", "JoinReply", "Ping", "Pong", "LeaveEvent", "LeaderboardSubscribe", "LeaderboardUpdate", "Payload", });
     internal_static_GamePing_descriptor =
       getDescriptor().getMessageTypes().get(1);
     internal_static_GamePing_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GamePing_descriptor,
-        new java.lang.String[] { "ServerAge", "Players", "Platforms", });
-    internal_static_ControlChangeEvent_descriptor =
+        new java.lang.String[] { "ServerAge", "Players", "Platforms", "IsDelta", "RemovedPlayers", });
+    internal_static_Ping_descriptor =
       getDescriptor().getMessageTypes().get(2);
+    internal_static_Ping_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Ping_descriptor,
+        new java.lang.String[] { "ServerTimeNanos", });
+    internal_static_Pong_descriptor =
+      getDescriptor().getMessageTypes().get(3);
+    internal_static_Pong_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_Pong_descriptor,
+        new java.lang.String[] { "ServerTimeNanos", });
+    internal_static_ControlChangeEvent_descriptor =
+      getDescriptor().getMessageTypes().get(4);
     internal_static_ControlChangeEvent_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ControlChangeEvent_descriptor,
-        new java.lang.String[] { "PressedControls", });
+        new java.lang.String[] { "PressedControls", "Sequence", });
     internal_static_JoinEvent_descriptor =
-      getDescriptor().getMessageTypes().get(3);
+      getDescriptor().getMessageTypes().get(5);
     internal_static_JoinEvent_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_JoinEvent_descriptor,
-        new java.lang.String[] { "Name", });
+        new java.lang.String[] { "Name", "ResumeToken", });
+    internal_static_LeaveEvent_descriptor =
+      getDescriptor().getMessageTypes().get(6);
+    internal_static_LeaveEvent_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LeaveEvent_descriptor,
+        new java.lang.String[] { });
     internal_static_GameOverEvent_descriptor =
-      getDescriptor().getMessageTypes().get(4);
+      getDescriptor().getMessageTypes().get(7);
     internal_static_GameOverEvent_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_GameOverEvent_descriptor,
         new java.lang.String[] { "Reason", });
+    internal_static_LeaderboardSubscribe_descriptor =
+      getDescriptor().getMessageTypes().get(8);
+    internal_static_LeaderboardSubscribe_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LeaderboardSubscribe_descriptor,
+        new java.lang.String[] { });
+    internal_static_LeaderboardUpdate_descriptor =
+      getDescriptor().getMessageTypes().get(9);
+    internal_static_LeaderboardUpdate_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LeaderboardUpdate_descriptor,
+        new java.lang.String[] { "IsFull", "Rows", "RemovedPlayers", });
     internal_static_JoinReply_descriptor =
-      getDescriptor().getMessageTypes().get(5);
+      getDescriptor().getMessageTypes().get(10);
     internal_static_JoinReply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_JoinReply_descriptor,
-        new java.lang.String[] { "ServerId", });
+        new java.lang.String[] { "ServerId", "ResumeToken", });
     internal_static_ErrorReply_descriptor =
-      getDescriptor().getMessageTypes().get(6);
+      getDescriptor().getMessageTypes().get(11);
     internal_static_ErrorReply_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_ErrorReply_descriptor,
         new java.lang.String[] { "Message", });
     internal_static_Player_descriptor =
-      getDescriptor().getMessageTypes().get(7);
+      getDescriptor().getMessageTypes().get(12);
     internal_static_Player_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Player_descriptor,
-        new java.lang.String[] { "Name", "Color", "X", "Y", "Score", });
+        new java.lang.String[] { "Name", "Color", "X", "Y", "Score", "LastInputSequence", });
+    internal_static_LeaderboardRow_descriptor =
+      getDescriptor().getMessageTypes().get(13);
+    internal_static_LeaderboardRow_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_LeaderboardRow_descriptor,
+        new java.lang.String[] { "Player", "Score", "TimestampMillis", });
     internal_static_Platform_descriptor =
-      getDescriptor().getMessageTypes().get(8);
+      getDescriptor().getMessageTypes().get(14);
     internal_static_Platform_fieldAccessorTable = new
       com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
         internal_static_Platform_descriptor,
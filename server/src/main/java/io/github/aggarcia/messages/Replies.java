@@ -0,0 +1,139 @@
+package io.github.aggarcia.messages;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+
+import io.github.aggarcia.messages.Generated.ErrorReply;
+import io.github.aggarcia.messages.Generated.GameOverEvent;
+import io.github.aggarcia.messages.Generated.JoinReply;
+import io.github.aggarcia.messages.Generated.SocketMessage;
+
+/**
+ * Encodes the replies sent back to a single client. The parts that never
+ * change are encoded once and copied into each frame, and the rest is
+ * written straight into an array of the exact size, so a join storm does
+ * not build and throw away a tree of protobuf builders per join.
+ *
+ * Produces the same bytes as {@link Serializer#serialize}.
+ */
+public final class Replies {
+    private Replies() {}
+
+    /** Encoded `serverId` field of JoinReply, by server id. */
+    private static final Map<String, byte[]> SERVER_ID_FIELDS =
+        new ConcurrentHashMap<>();
+
+    /** The same for every player that leaves, so it is encoded once. */
+    private static final byte[] LEFT_GAME = gameOver("You left the game");
+
+    /**
+     * @param serverId id of this server instance
+     * @param resumeToken token of the player that joined
+     * @return serialized SocketMessage holding a JoinReply
+     */
+    public static byte[] joinReply(String serverId, String resumeToken) {
+        byte[] serverIdField = SERVER_ID_FIELDS.computeIfAbsent(
+            serverId, Replies::encodeServerIdField);
+        int size = serverIdField.length + (resumeToken.isEmpty()
+            ? 0
+            : CodedOutputStream.computeStringSize(
+                JoinReply.RESUMETOKEN_FIELD_NUMBER, resumeToken));
+        return encode(SocketMessage.JOINREPLY_FIELD_NUMBER, size, output -> {
+            output.writeRawBytes(serverIdField);
+            if (!resumeToken.isEmpty()) {
+                output.writeString(
+                    JoinReply.RESUMETOKEN_FIELD_NUMBER, resumeToken);
+            }
+        });
+    }
+
+    /**
+     * @param message text shown to the client
+     * @return serialized SocketMessage holding an ErrorReply
+     */
+    public static byte[] error(String message) {
+        int size = message.isEmpty()
+            ? 0
+            : CodedOutputStream.computeStringSize(
+                ErrorReply.MESSAGE_FIELD_NUMBER, message);
+        return encode(SocketMessage.ERRORREPLY_FIELD_NUMBER, size, output -> {
+            if (!message.isEmpty()) {
+                output.writeString(ErrorReply.MESSAGE_FIELD_NUMBER, message);
+            }
+        });
+    }
+
+    /**
+     * @param reason why the game ended for the client
+     * @return serialized SocketMessage holding a GameOverEvent
+     */
+    public static byte[] gameOver(String reason) {
+        int size = reason.isEmpty()
+            ? 0
+            : CodedOutputStream.computeStringSize(
+                GameOverEvent.REASON_FIELD_NUMBER, reason);
+        int field = SocketMessage.GAMEOVEREVENT_FIELD_NUMBER;
+        return encode(field, size, output -> {
+            if (!reason.isEmpty()) {
+                output.writeString(GameOverEvent.REASON_FIELD_NUMBER, reason);
+            }
+        });
+    }
+
+    /**
+     * @return serialized SocketMessage holding the GameOverEvent sent to a
+     *  player that left. Shared by every call, so it must not be changed.
+     */
+    public static byte[] leftGame() {
+        return LEFT_GAME;
+    }
+
+    private static byte[] encodeServerIdField(String serverId) {
+        if (serverId.isEmpty()) {
+            return new byte[0];
+        }
+        var field = new byte[CodedOutputStream.computeStringSize(
+            JoinReply.SERVERID_FIELD_NUMBER, serverId)];
+        var output = CodedOutputStream.newInstance(field);
+        try {
+            output.writeString(JoinReply.SERVERID_FIELD_NUMBER, serverId);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return field;
+    }
+
+    /**
+     * Write a SocketMessage with a single payload field.
+     * @param field number of the payload field in SocketMessage
+     * @param size encoded size of the payload
+     * @param body writes the payload
+     * @return the encoded message
+     */
+    private static byte[] encode(int field, int size, Body body) {
+        int total = CodedOutputStream.computeTagSize(field)
+            + CodedOutputStream.computeUInt32SizeNoTag(size)
+            + size;
+        byte[] frame = new byte[total];
+        var output = CodedOutputStream.newInstance(frame);
+        try {
+            output.writeTag(field, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(size);
+            body.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return frame;
+    }
+
+    @FunctionalInterface
+    private interface Body {
+        void writeTo(CodedOutputStream output) throws IOException;
+    }
+}
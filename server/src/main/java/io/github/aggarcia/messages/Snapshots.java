@@ -0,0 +1,3619 @@
+// Generated by the protocol buffer compiler.  DO NOT EDIT!
+// source: gameSnapshot.proto
+
+package io.github.aggarcia.messages;
+
+public final class Snapshots {
+  private Snapshots() {}
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistryLite registry) {
+  }
+
+  public static void registerAllExtensions(
+      com.google.protobuf.ExtensionRegistry registry) {
+    registerAllExtensions(
+        (com.google.protobuf.ExtensionRegistryLite) registry);
+  }
+  public interface GameSnapshotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:snapshot.GameSnapshot)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <pre>
+     * incremented whenever a field changes meaning
+     * </pre>
+     *
+     * <code>uint32 version = 1;</code>
+     * @return The version.
+     */
+    int getVersion();
+
+    /**
+     * <code>int64 savedAtMillis = 2;</code>
+     * @return The savedAtMillis.
+     */
+    long getSavedAtMillis();
+
+    /**
+     * <code>int32 tickCount = 3;</code>
+     * @return The tickCount.
+     */
+    int getTickCount();
+
+    /**
+     * <code>int32 gameAgeSeconds = 4;</code>
+     * @return The gameAgeSeconds.
+     */
+    int getGameAgeSeconds();
+
+    /**
+     * <code>int32 platformGravity = 5;</code>
+     * @return The platformGravity.
+     */
+    int getPlatformGravity();
+
+    /**
+     * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+     */
+    java.util.List<io.github.aggarcia.messages.Snapshots.PlatformSnapshot> 
+        getPlatformsList();
+    /**
+     * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+     */
+    io.github.aggarcia.messages.Snapshots.PlatformSnapshot getPlatforms(int index);
+    /**
+     * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+     */
+    int getPlatformsCount();
+    /**
+     * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+     */
+    java.util.List<? extends io.github.aggarcia.messages.Snapshots.PlatformSnapshotOrBuilder> 
+        getPlatformsOrBuilderList();
+    /**
+     * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+     */
+    io.github.aggarcia.messages.Snapshots.PlatformSnapshotOrBuilder getPlatformsOrBuilder(
+        int index);
+
+    /**
+     * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+     */
+    java.util.List<io.github.aggarcia.messages.Snapshots.PlayerSnapshot> 
+        getPlayersList();
+    /**
+     * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+     */
+    io.github.aggarcia.messages.Snapshots.PlayerSnapshot getPlayers(int index);
+    /**
+     * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+     */
+    int getPlayersCount();
+    /**
+     * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+     */
+    java.util.List<? extends io.github.aggarcia.messages.Snapshots.PlayerSnapshotOrBuilder> 
+        getPlayersOrBuilderList();
+    /**
+     * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+     */
+    io.github.aggarcia.messages.Snapshots.PlayerSnapshotOrBuilder getPlayersOrBuilder(
+        int index);
+  }
+  /**
+   * Protobuf type {@code snapshot.GameSnapshot}
+   */
+  public static final class GameSnapshot extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:snapshot.GameSnapshot)
+      GameSnapshotOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use GameSnapshot.newBuilder() to construct.
+    private GameSnapshot(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private GameSnapshot() {
+      platforms_ = java.util.Collections.emptyList();
+      players_ = java.util.Collections.emptyList();
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new GameSnapshot();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_GameSnapshot_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_GameSnapshot_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.aggarcia.messages.Snapshots.GameSnapshot.class, io.github.aggarcia.messages.Snapshots.GameSnapshot.Builder.class);
+    }
+
+    public static final int VERSION_FIELD_NUMBER = 1;
+    private int version_;
+    /**
+     * <pre>
+     * incremented whenever a field changes meaning
+     * </pre>
+     *
+     * <code>uint32 version = 1;</code>
+     * @return The version.
+     */
+    @java.lang.Override
+    public int getVersion() {
+      return version_;
+    }
+
+    public static final int SAVEDATMILLIS_FIELD_NUMBER = 2;
+    private long savedAtMillis_;
+    /**
+     * <code>int64 savedAtMillis = 2;</code>
+     * @return The savedAtMillis.
+     */
+    @java.lang.Override
+    public long getSavedAtMillis() {
+      return savedAtMillis_;
+    }
+
+    public static final int TICKCOUNT_FIELD_NUMBER = 3;
+    private int tickCount_;
+    /**
+     * <code>int32 tickCount = 3;</code>
+     * @return The tickCount.
+     */
+    @java.lang.Override
+    public int getTickCount() {
+      return tickCount_;
+    }
+
+    public static final int GAMEAGESECONDS_FIELD_NUMBER = 4;
+    private int gameAgeSeconds_;
+    /**
+     * <code>int32 gameAgeSeconds = 4;</code>
+     * @return The gameAgeSeconds.
+     */
+    @java.lang.Override
+    public int getGameAgeSeconds() {
+      return gameAgeSeconds_;
+    }
+
+    public static final int PLATFORMGRAVITY_FIELD_NUMBER = 5;
+    private int platformGravity_;
+    /**
+     * <code>int32 platformGravity = 5;</code>
+     * @return The platformGravity.
+     */
+    @java.lang.Override
+    public int getPlatformGravity() {
+      return platformGravity_;
+    }
+
+    public static final int PLATFORMS_FIELD_NUMBER = 6;
+    private java.util.List<io.github.aggarcia.messages.Snapshots.PlatformSnapshot> platforms_;
+    /**
+     * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<io.github.aggarcia.messages.Snapshots.PlatformSnapshot> getPlatformsList() {
+      return platforms_;
+    }
+    /**
+     * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends io.github.aggarcia.messages.Snapshots.PlatformSnapshotOrBuilder> 
+        getPlatformsOrBuilderList() {
+      return platforms_;
+    }
+    /**
+     * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+     */
+    @java.lang.Override
+    public int getPlatformsCount() {
+      return platforms_.size();
+    }
+    /**
+     * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Snapshots.PlatformSnapshot getPlatforms(int index) {
+      return platforms_.get(index);
+    }
+    /**
+     * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Snapshots.PlatformSnapshotOrBuilder getPlatformsOrBuilder(
+        int index) {
+      return platforms_.get(index);
+    }
+
+    public static final int PLAYERS_FIELD_NUMBER = 7;
+    private java.util.List<io.github.aggarcia.messages.Snapshots.PlayerSnapshot> players_;
+    /**
+     * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<io.github.aggarcia.messages.Snapshots.PlayerSnapshot> getPlayersList() {
+      return players_;
+    }
+    /**
+     * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+     */
+    @java.lang.Override
+    public java.util.List<? extends io.github.aggarcia.messages.Snapshots.PlayerSnapshotOrBuilder> 
+        getPlayersOrBuilderList() {
+      return players_;
+    }
+    /**
+     * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+     */
+    @java.lang.Override
+    public int getPlayersCount() {
+      return players_.size();
+    }
+    /**
+     * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Snapshots.PlayerSnapshot getPlayers(int index) {
+      return players_.get(index);
+    }
+    /**
+     * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+     */
+    @java.lang.Override
+    public io.github.aggarcia.messages.Snapshots.PlayerSnapshotOrBuilder getPlayersOrBuilder(
+        int index) {
+      return players_.get(index);
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (version_ != 0) {
+        output.writeUInt32(1, version_);
+      }
+      if (savedAtMillis_ != 0L) {
+        output.writeInt64(2, savedAtMillis_);
+      }
+      if (tickCount_ != 0) {
+        output.writeInt32(3, tickCount_);
+      }
+      if (gameAgeSeconds_ != 0) {
+        output.writeInt32(4, gameAgeSeconds_);
+      }
+      if (platformGravity_ != 0) {
+        output.writeInt32(5, platformGravity_);
+      }
+      for (int i = 0; i < platforms_.size(); i++) {
+        output.writeMessage(6, platforms_.get(i));
+      }
+      for (int i = 0; i < players_.size(); i++) {
+        output.writeMessage(7, players_.get(i));
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (version_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(1, version_);
+      }
+      if (savedAtMillis_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(2, savedAtMillis_);
+      }
+      if (tickCount_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, tickCount_);
+      }
+      if (gameAgeSeconds_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, gameAgeSeconds_);
+      }
+      if (platformGravity_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, platformGravity_);
+      }
+      for (int i = 0; i < platforms_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(6, platforms_.get(i));
+      }
+      for (int i = 0; i < players_.size(); i++) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeMessageSize(7, players_.get(i));
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.aggarcia.messages.Snapshots.GameSnapshot)) {
+        return super.equals(obj);
+      }
+      io.github.aggarcia.messages.Snapshots.GameSnapshot other = (io.github.aggarcia.messages.Snapshots.GameSnapshot) obj;
+
+      if (getVersion()
+          != other.getVersion()) return false;
+      if (getSavedAtMillis()
+          != other.getSavedAtMillis()) return false;
+      if (getTickCount()
+          != other.getTickCount()) return false;
+      if (getGameAgeSeconds()
+          != other.getGameAgeSeconds()) return false;
+      if (getPlatformGravity()
+          != other.getPlatformGravity()) return false;
+      if (!getPlatformsList()
+          .equals(other.getPlatformsList())) return false;
+      if (!getPlayersList()
+          .equals(other.getPlayersList())) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + VERSION_FIELD_NUMBER;
+      hash = (53 * hash) + getVersion();
+      hash = (37 * hash) + SAVEDATMILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getSavedAtMillis());
+      hash = (37 * hash) + TICKCOUNT_FIELD_NUMBER;
+      hash = (53 * hash) + getTickCount();
+      hash = (37 * hash) + GAMEAGESECONDS_FIELD_NUMBER;
+      hash = (53 * hash) + getGameAgeSeconds();
+      hash = (37 * hash) + PLATFORMGRAVITY_FIELD_NUMBER;
+      hash = (53 * hash) + getPlatformGravity();
+      if (getPlatformsCount() > 0) {
+        hash = (37 * hash) + PLATFORMS_FIELD_NUMBER;
+        hash = (53 * hash) + getPlatformsList().hashCode();
+      }
+      if (getPlayersCount() > 0) {
+        hash = (37 * hash) + PLAYERS_FIELD_NUMBER;
+        hash = (53 * hash) + getPlayersList().hashCode();
+      }
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.aggarcia.messages.Snapshots.GameSnapshot prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code snapshot.GameSnapshot}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:snapshot.GameSnapshot)
+        io.github.aggarcia.messages.Snapshots.GameSnapshotOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_GameSnapshot_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_GameSnapshot_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.aggarcia.messages.Snapshots.GameSnapshot.class, io.github.aggarcia.messages.Snapshots.GameSnapshot.Builder.class);
+      }
+
+      // Construct using io.github.aggarcia.messages.Snapshots.GameSnapshot.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        version_ = 0;
+
+        savedAtMillis_ = 0L;
+
+        tickCount_ = 0;
+
+        gameAgeSeconds_ = 0;
+
+        platformGravity_ = 0;
+
+        if (platformsBuilder_ == null) {
+          platforms_ = java.util.Collections.emptyList();
+        } else {
+          platforms_ = null;
+          platformsBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000001);
+        if (playersBuilder_ == null) {
+          players_ = java.util.Collections.emptyList();
+        } else {
+          players_ = null;
+          playersBuilder_.clear();
+        }
+        bitField0_ = (bitField0_ & ~0x00000002);
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_GameSnapshot_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Snapshots.GameSnapshot getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Snapshots.GameSnapshot.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Snapshots.GameSnapshot build() {
+        io.github.aggarcia.messages.Snapshots.GameSnapshot result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Snapshots.GameSnapshot buildPartial() {
+        io.github.aggarcia.messages.Snapshots.GameSnapshot result = new io.github.aggarcia.messages.Snapshots.GameSnapshot(this);
+        int from_bitField0_ = bitField0_;
+        result.version_ = version_;
+        result.savedAtMillis_ = savedAtMillis_;
+        result.tickCount_ = tickCount_;
+        result.gameAgeSeconds_ = gameAgeSeconds_;
+        result.platformGravity_ = platformGravity_;
+        if (platformsBuilder_ == null) {
+          if (((bitField0_ & 0x00000001) != 0)) {
+            platforms_ = java.util.Collections.unmodifiableList(platforms_);
+            bitField0_ = (bitField0_ & ~0x00000001);
+          }
+          result.platforms_ = platforms_;
+        } else {
+          result.platforms_ = platformsBuilder_.build();
+        }
+        if (playersBuilder_ == null) {
+          if (((bitField0_ & 0x00000002) != 0)) {
+            players_ = java.util.Collections.unmodifiableList(players_);
+            bitField0_ = (bitField0_ & ~0x00000002);
+          }
+          result.players_ = players_;
+        } else {
+          result.players_ = playersBuilder_.build();
+        }
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.aggarcia.messages.Snapshots.GameSnapshot) {
+          return mergeFrom((io.github.aggarcia.messages.Snapshots.GameSnapshot)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Snapshots.GameSnapshot other) {
+        if (other == io.github.aggarcia.messages.Snapshots.GameSnapshot.getDefaultInstance()) return this;
+        if (other.getVersion() != 0) {
+          setVersion(other.getVersion());
+        }
+        if (other.getSavedAtMillis() != 0L) {
+          setSavedAtMillis(other.getSavedAtMillis());
+        }
+        if (other.getTickCount() != 0) {
+          setTickCount(other.getTickCount());
+        }
+        if (other.getGameAgeSeconds() != 0) {
+          setGameAgeSeconds(other.getGameAgeSeconds());
+        }
+        if (other.getPlatformGravity() != 0) {
+          setPlatformGravity(other.getPlatformGravity());
+        }
+        if (platformsBuilder_ == null) {
+          if (!other.platforms_.isEmpty()) {
+            if (platforms_.isEmpty()) {
+              platforms_ = other.platforms_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+            } else {
+              ensurePlatformsIsMutable();
+              platforms_.addAll(other.platforms_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.platforms_.isEmpty()) {
+            if (platformsBuilder_.isEmpty()) {
+              platformsBuilder_.dispose();
+              platformsBuilder_ = null;
+              platforms_ = other.platforms_;
+              bitField0_ = (bitField0_ & ~0x00000001);
+              platformsBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPlatformsFieldBuilder() : null;
+            } else {
+              platformsBuilder_.addAllMessages(other.platforms_);
+            }
+          }
+        }
+        if (playersBuilder_ == null) {
+          if (!other.players_.isEmpty()) {
+            if (players_.isEmpty()) {
+              players_ = other.players_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+            } else {
+              ensurePlayersIsMutable();
+              players_.addAll(other.players_);
+            }
+            onChanged();
+          }
+        } else {
+          if (!other.players_.isEmpty()) {
+            if (playersBuilder_.isEmpty()) {
+              playersBuilder_.dispose();
+              playersBuilder_ = null;
+              players_ = other.players_;
+              bitField0_ = (bitField0_ & ~0x00000002);
+              playersBuilder_ = 
+                com.google.protobuf.GeneratedMessageV3.alwaysUseFieldBuilders ?
+                   getPlayersFieldBuilder() : null;
+            } else {
+              playersBuilder_.addAllMessages(other.players_);
+            }
+          }
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                version_ = input.readUInt32();
+
+                break;
+              } // case 8
+              case 16: {
+                savedAtMillis_ = input.readInt64();
+
+                break;
+              } // case 16
+              case 24: {
+                tickCount_ = input.readInt32();
+
+                break;
+              } // case 24
+              case 32: {
+                gameAgeSeconds_ = input.readInt32();
+
+                break;
+              } // case 32
+              case 40: {
+                platformGravity_ = input.readInt32();
+
+                break;
+              } // case 40
+              case 50: {
+                io.github.aggarcia.messages.Snapshots.PlatformSnapshot m =
+                    input.readMessage(
+                        io.github.aggarcia.messages.Snapshots.PlatformSnapshot.parser(),
+                        extensionRegistry);
+                if (platformsBuilder_ == null) {
+                  ensurePlatformsIsMutable();
+                  platforms_.add(m);
+                } else {
+                  platformsBuilder_.addMessage(m);
+                }
+                break;
+              } // case 50
+              case 58: {
+                io.github.aggarcia.messages.Snapshots.PlayerSnapshot m =
+                    input.readMessage(
+                        io.github.aggarcia.messages.Snapshots.PlayerSnapshot.parser(),
+                        extensionRegistry);
+                if (playersBuilder_ == null) {
+                  ensurePlayersIsMutable();
+                  players_.add(m);
+                } else {
+                  playersBuilder_.addMessage(m);
+                }
+                break;
+              } // case 58
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+      private int bitField0_;
+
+      private int version_ ;
+      /**
+       * <pre>
+       * incremented whenever a field changes meaning
+       * </pre>
+       *
+       * <code>uint32 version = 1;</code>
+       * @return The version.
+       */
+      @java.lang.Override
+      public int getVersion() {
+        return version_;
+      }
+      /**
+       * <pre>
+       * incremented whenever a field changes meaning
+       * </pre>
+       *
+       * <code>uint32 version = 1;</code>
+       * @param value The version to set.
+       * @return This builder for chaining.
+       */
+      public Builder setVersion(int value) {
+        
+        version_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <pre>
+       * incremented whenever a field changes meaning
+       * </pre>
+       *
+       * <code>uint32 version = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearVersion() {
+        
+        version_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long savedAtMillis_ ;
+      /**
+       * <code>int64 savedAtMillis = 2;</code>
+       * @return The savedAtMillis.
+       */
+      @java.lang.Override
+      public long getSavedAtMillis() {
+        return savedAtMillis_;
+      }
+      /**
+       * <code>int64 savedAtMillis = 2;</code>
+       * @param value The savedAtMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setSavedAtMillis(long value) {
+        
+        savedAtMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 savedAtMillis = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearSavedAtMillis() {
+        
+        savedAtMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int tickCount_ ;
+      /**
+       * <code>int32 tickCount = 3;</code>
+       * @return The tickCount.
+       */
+      @java.lang.Override
+      public int getTickCount() {
+        return tickCount_;
+      }
+      /**
+       * <code>int32 tickCount = 3;</code>
+       * @param value The tickCount to set.
+       * @return This builder for chaining.
+       */
+      public Builder setTickCount(int value) {
+        
+        tickCount_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 tickCount = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearTickCount() {
+        
+        tickCount_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int gameAgeSeconds_ ;
+      /**
+       * <code>int32 gameAgeSeconds = 4;</code>
+       * @return The gameAgeSeconds.
+       */
+      @java.lang.Override
+      public int getGameAgeSeconds() {
+        return gameAgeSeconds_;
+      }
+      /**
+       * <code>int32 gameAgeSeconds = 4;</code>
+       * @param value The gameAgeSeconds to set.
+       * @return This builder for chaining.
+       */
+      public Builder setGameAgeSeconds(int value) {
+        
+        gameAgeSeconds_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 gameAgeSeconds = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearGameAgeSeconds() {
+        
+        gameAgeSeconds_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int platformGravity_ ;
+      /**
+       * <code>int32 platformGravity = 5;</code>
+       * @return The platformGravity.
+       */
+      @java.lang.Override
+      public int getPlatformGravity() {
+        return platformGravity_;
+      }
+      /**
+       * <code>int32 platformGravity = 5;</code>
+       * @param value The platformGravity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPlatformGravity(int value) {
+        
+        platformGravity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 platformGravity = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPlatformGravity() {
+        
+        platformGravity_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private java.util.List<io.github.aggarcia.messages.Snapshots.PlatformSnapshot> platforms_ =
+        java.util.Collections.emptyList();
+      private void ensurePlatformsIsMutable() {
+        if (!((bitField0_ & 0x00000001) != 0)) {
+          platforms_ = new java.util.ArrayList<io.github.aggarcia.messages.Snapshots.PlatformSnapshot>(platforms_);
+          bitField0_ |= 0x00000001;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.aggarcia.messages.Snapshots.PlatformSnapshot, io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder, io.github.aggarcia.messages.Snapshots.PlatformSnapshotOrBuilder> platformsBuilder_;
+
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public java.util.List<io.github.aggarcia.messages.Snapshots.PlatformSnapshot> getPlatformsList() {
+        if (platformsBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(platforms_);
+        } else {
+          return platformsBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public int getPlatformsCount() {
+        if (platformsBuilder_ == null) {
+          return platforms_.size();
+        } else {
+          return platformsBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public io.github.aggarcia.messages.Snapshots.PlatformSnapshot getPlatforms(int index) {
+        if (platformsBuilder_ == null) {
+          return platforms_.get(index);
+        } else {
+          return platformsBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public Builder setPlatforms(
+          int index, io.github.aggarcia.messages.Snapshots.PlatformSnapshot value) {
+        if (platformsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlatformsIsMutable();
+          platforms_.set(index, value);
+          onChanged();
+        } else {
+          platformsBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public Builder setPlatforms(
+          int index, io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder builderForValue) {
+        if (platformsBuilder_ == null) {
+          ensurePlatformsIsMutable();
+          platforms_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          platformsBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public Builder addPlatforms(io.github.aggarcia.messages.Snapshots.PlatformSnapshot value) {
+        if (platformsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlatformsIsMutable();
+          platforms_.add(value);
+          onChanged();
+        } else {
+          platformsBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public Builder addPlatforms(
+          int index, io.github.aggarcia.messages.Snapshots.PlatformSnapshot value) {
+        if (platformsBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlatformsIsMutable();
+          platforms_.add(index, value);
+          onChanged();
+        } else {
+          platformsBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public Builder addPlatforms(
+          io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder builderForValue) {
+        if (platformsBuilder_ == null) {
+          ensurePlatformsIsMutable();
+          platforms_.add(builderForValue.build());
+          onChanged();
+        } else {
+          platformsBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public Builder addPlatforms(
+          int index, io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder builderForValue) {
+        if (platformsBuilder_ == null) {
+          ensurePlatformsIsMutable();
+          platforms_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          platformsBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public Builder addAllPlatforms(
+          java.lang.Iterable<? extends io.github.aggarcia.messages.Snapshots.PlatformSnapshot> values) {
+        if (platformsBuilder_ == null) {
+          ensurePlatformsIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, platforms_);
+          onChanged();
+        } else {
+          platformsBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public Builder clearPlatforms() {
+        if (platformsBuilder_ == null) {
+          platforms_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000001);
+          onChanged();
+        } else {
+          platformsBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public Builder removePlatforms(int index) {
+        if (platformsBuilder_ == null) {
+          ensurePlatformsIsMutable();
+          platforms_.remove(index);
+          onChanged();
+        } else {
+          platformsBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder getPlatformsBuilder(
+          int index) {
+        return getPlatformsFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public io.github.aggarcia.messages.Snapshots.PlatformSnapshotOrBuilder getPlatformsOrBuilder(
+          int index) {
+        if (platformsBuilder_ == null) {
+          return platforms_.get(index);  } else {
+          return platformsBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public java.util.List<? extends io.github.aggarcia.messages.Snapshots.PlatformSnapshotOrBuilder> 
+           getPlatformsOrBuilderList() {
+        if (platformsBuilder_ != null) {
+          return platformsBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(platforms_);
+        }
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder addPlatformsBuilder() {
+        return getPlatformsFieldBuilder().addBuilder(
+            io.github.aggarcia.messages.Snapshots.PlatformSnapshot.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder addPlatformsBuilder(
+          int index) {
+        return getPlatformsFieldBuilder().addBuilder(
+            index, io.github.aggarcia.messages.Snapshots.PlatformSnapshot.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .snapshot.PlatformSnapshot platforms = 6;</code>
+       */
+      public java.util.List<io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder> 
+           getPlatformsBuilderList() {
+        return getPlatformsFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.aggarcia.messages.Snapshots.PlatformSnapshot, io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder, io.github.aggarcia.messages.Snapshots.PlatformSnapshotOrBuilder> 
+          getPlatformsFieldBuilder() {
+        if (platformsBuilder_ == null) {
+          platformsBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              io.github.aggarcia.messages.Snapshots.PlatformSnapshot, io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder, io.github.aggarcia.messages.Snapshots.PlatformSnapshotOrBuilder>(
+                  platforms_,
+                  ((bitField0_ & 0x00000001) != 0),
+                  getParentForChildren(),
+                  isClean());
+          platforms_ = null;
+        }
+        return platformsBuilder_;
+      }
+
+      private java.util.List<io.github.aggarcia.messages.Snapshots.PlayerSnapshot> players_ =
+        java.util.Collections.emptyList();
+      private void ensurePlayersIsMutable() {
+        if (!((bitField0_ & 0x00000002) != 0)) {
+          players_ = new java.util.ArrayList<io.github.aggarcia.messages.Snapshots.PlayerSnapshot>(players_);
+          bitField0_ |= 0x00000002;
+         }
+      }
+
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.aggarcia.messages.Snapshots.PlayerSnapshot, io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder, io.github.aggarcia.messages.Snapshots.PlayerSnapshotOrBuilder> playersBuilder_;
+
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public java.util.List<io.github.aggarcia.messages.Snapshots.PlayerSnapshot> getPlayersList() {
+        if (playersBuilder_ == null) {
+          return java.util.Collections.unmodifiableList(players_);
+        } else {
+          return playersBuilder_.getMessageList();
+        }
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public int getPlayersCount() {
+        if (playersBuilder_ == null) {
+          return players_.size();
+        } else {
+          return playersBuilder_.getCount();
+        }
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public io.github.aggarcia.messages.Snapshots.PlayerSnapshot getPlayers(int index) {
+        if (playersBuilder_ == null) {
+          return players_.get(index);
+        } else {
+          return playersBuilder_.getMessage(index);
+        }
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public Builder setPlayers(
+          int index, io.github.aggarcia.messages.Snapshots.PlayerSnapshot value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.set(index, value);
+          onChanged();
+        } else {
+          playersBuilder_.setMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public Builder setPlayers(
+          int index, io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.set(index, builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.setMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public Builder addPlayers(io.github.aggarcia.messages.Snapshots.PlayerSnapshot value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.add(value);
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public Builder addPlayers(
+          int index, io.github.aggarcia.messages.Snapshots.PlayerSnapshot value) {
+        if (playersBuilder_ == null) {
+          if (value == null) {
+            throw new NullPointerException();
+          }
+          ensurePlayersIsMutable();
+          players_.add(index, value);
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(index, value);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public Builder addPlayers(
+          io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.add(builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public Builder addPlayers(
+          int index, io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder builderForValue) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.add(index, builderForValue.build());
+          onChanged();
+        } else {
+          playersBuilder_.addMessage(index, builderForValue.build());
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public Builder addAllPlayers(
+          java.lang.Iterable<? extends io.github.aggarcia.messages.Snapshots.PlayerSnapshot> values) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          com.google.protobuf.AbstractMessageLite.Builder.addAll(
+              values, players_);
+          onChanged();
+        } else {
+          playersBuilder_.addAllMessages(values);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public Builder clearPlayers() {
+        if (playersBuilder_ == null) {
+          players_ = java.util.Collections.emptyList();
+          bitField0_ = (bitField0_ & ~0x00000002);
+          onChanged();
+        } else {
+          playersBuilder_.clear();
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public Builder removePlayers(int index) {
+        if (playersBuilder_ == null) {
+          ensurePlayersIsMutable();
+          players_.remove(index);
+          onChanged();
+        } else {
+          playersBuilder_.remove(index);
+        }
+        return this;
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder getPlayersBuilder(
+          int index) {
+        return getPlayersFieldBuilder().getBuilder(index);
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public io.github.aggarcia.messages.Snapshots.PlayerSnapshotOrBuilder getPlayersOrBuilder(
+          int index) {
+        if (playersBuilder_ == null) {
+          return players_.get(index);  } else {
+          return playersBuilder_.getMessageOrBuilder(index);
+        }
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public java.util.List<? extends io.github.aggarcia.messages.Snapshots.PlayerSnapshotOrBuilder> 
+           getPlayersOrBuilderList() {
+        if (playersBuilder_ != null) {
+          return playersBuilder_.getMessageOrBuilderList();
+        } else {
+          return java.util.Collections.unmodifiableList(players_);
+        }
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder addPlayersBuilder() {
+        return getPlayersFieldBuilder().addBuilder(
+            io.github.aggarcia.messages.Snapshots.PlayerSnapshot.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder addPlayersBuilder(
+          int index) {
+        return getPlayersFieldBuilder().addBuilder(
+            index, io.github.aggarcia.messages.Snapshots.PlayerSnapshot.getDefaultInstance());
+      }
+      /**
+       * <code>repeated .snapshot.PlayerSnapshot players = 7;</code>
+       */
+      public java.util.List<io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder> 
+           getPlayersBuilderList() {
+        return getPlayersFieldBuilder().getBuilderList();
+      }
+      private com.google.protobuf.RepeatedFieldBuilderV3<
+          io.github.aggarcia.messages.Snapshots.PlayerSnapshot, io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder, io.github.aggarcia.messages.Snapshots.PlayerSnapshotOrBuilder> 
+          getPlayersFieldBuilder() {
+        if (playersBuilder_ == null) {
+          playersBuilder_ = new com.google.protobuf.RepeatedFieldBuilderV3<
+              io.github.aggarcia.messages.Snapshots.PlayerSnapshot, io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder, io.github.aggarcia.messages.Snapshots.PlayerSnapshotOrBuilder>(
+                  players_,
+                  ((bitField0_ & 0x00000002) != 0),
+                  getParentForChildren(),
+                  isClean());
+          players_ = null;
+        }
+        return playersBuilder_;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:snapshot.GameSnapshot)
+    }
+
+    // @@protoc_insertion_point(class_scope:snapshot.GameSnapshot)
+    private static final io.github.aggarcia.messages.Snapshots.GameSnapshot DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Snapshots.GameSnapshot();
+    }
+
+    public static io.github.aggarcia.messages.Snapshots.GameSnapshot getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<GameSnapshot>
+        PARSER = new com.google.protobuf.AbstractParser<GameSnapshot>() {
+      @java.lang.Override
+      public GameSnapshot parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<GameSnapshot> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<GameSnapshot> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.aggarcia.messages.Snapshots.GameSnapshot getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PlatformSnapshotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:snapshot.PlatformSnapshot)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>int32 width = 1;</code>
+     * @return The width.
+     */
+    int getWidth();
+
+    /**
+     * <code>int32 x = 2;</code>
+     * @return The x.
+     */
+    int getX();
+
+    /**
+     * <code>int32 y = 3;</code>
+     * @return The y.
+     */
+    int getY();
+  }
+  /**
+   * Protobuf type {@code snapshot.PlatformSnapshot}
+   */
+  public static final class PlatformSnapshot extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:snapshot.PlatformSnapshot)
+      PlatformSnapshotOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PlatformSnapshot.newBuilder() to construct.
+    private PlatformSnapshot(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PlatformSnapshot() {
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PlatformSnapshot();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_PlatformSnapshot_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_PlatformSnapshot_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.aggarcia.messages.Snapshots.PlatformSnapshot.class, io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder.class);
+    }
+
+    public static final int WIDTH_FIELD_NUMBER = 1;
+    private int width_;
+    /**
+     * <code>int32 width = 1;</code>
+     * @return The width.
+     */
+    @java.lang.Override
+    public int getWidth() {
+      return width_;
+    }
+
+    public static final int X_FIELD_NUMBER = 2;
+    private int x_;
+    /**
+     * <code>int32 x = 2;</code>
+     * @return The x.
+     */
+    @java.lang.Override
+    public int getX() {
+      return x_;
+    }
+
+    public static final int Y_FIELD_NUMBER = 3;
+    private int y_;
+    /**
+     * <code>int32 y = 3;</code>
+     * @return The y.
+     */
+    @java.lang.Override
+    public int getY() {
+      return y_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (width_ != 0) {
+        output.writeInt32(1, width_);
+      }
+      if (x_ != 0) {
+        output.writeInt32(2, x_);
+      }
+      if (y_ != 0) {
+        output.writeInt32(3, y_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (width_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(1, width_);
+      }
+      if (x_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(2, x_);
+      }
+      if (y_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(3, y_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.aggarcia.messages.Snapshots.PlatformSnapshot)) {
+        return super.equals(obj);
+      }
+      io.github.aggarcia.messages.Snapshots.PlatformSnapshot other = (io.github.aggarcia.messages.Snapshots.PlatformSnapshot) obj;
+
+      if (getWidth()
+          != other.getWidth()) return false;
+      if (getX()
+          != other.getX()) return false;
+      if (getY()
+          != other.getY()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + WIDTH_FIELD_NUMBER;
+      hash = (53 * hash) + getWidth();
+      hash = (37 * hash) + X_FIELD_NUMBER;
+      hash = (53 * hash) + getX();
+      hash = (37 * hash) + Y_FIELD_NUMBER;
+      hash = (53 * hash) + getY();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.aggarcia.messages.Snapshots.PlatformSnapshot prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code snapshot.PlatformSnapshot}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:snapshot.PlatformSnapshot)
+        io.github.aggarcia.messages.Snapshots.PlatformSnapshotOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_PlatformSnapshot_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_PlatformSnapshot_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.aggarcia.messages.Snapshots.PlatformSnapshot.class, io.github.aggarcia.messages.Snapshots.PlatformSnapshot.Builder.class);
+      }
+
+      // Construct using io.github.aggarcia.messages.Snapshots.PlatformSnapshot.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        width_ = 0;
+
+        x_ = 0;
+
+        y_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_PlatformSnapshot_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Snapshots.PlatformSnapshot getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Snapshots.PlatformSnapshot.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Snapshots.PlatformSnapshot build() {
+        io.github.aggarcia.messages.Snapshots.PlatformSnapshot result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Snapshots.PlatformSnapshot buildPartial() {
+        io.github.aggarcia.messages.Snapshots.PlatformSnapshot result = new io.github.aggarcia.messages.Snapshots.PlatformSnapshot(this);
+        result.width_ = width_;
+        result.x_ = x_;
+        result.y_ = y_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.aggarcia.messages.Snapshots.PlatformSnapshot) {
+          return mergeFrom((io.github.aggarcia.messages.Snapshots.PlatformSnapshot)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Snapshots.PlatformSnapshot other) {
+        if (other == io.github.aggarcia.messages.Snapshots.PlatformSnapshot.getDefaultInstance()) return this;
+        if (other.getWidth() != 0) {
+          setWidth(other.getWidth());
+        }
+        if (other.getX() != 0) {
+          setX(other.getX());
+        }
+        if (other.getY() != 0) {
+          setY(other.getY());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 8: {
+                width_ = input.readInt32();
+
+                break;
+              } // case 8
+              case 16: {
+                x_ = input.readInt32();
+
+                break;
+              } // case 16
+              case 24: {
+                y_ = input.readInt32();
+
+                break;
+              } // case 24
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private int width_ ;
+      /**
+       * <code>int32 width = 1;</code>
+       * @return The width.
+       */
+      @java.lang.Override
+      public int getWidth() {
+        return width_;
+      }
+      /**
+       * <code>int32 width = 1;</code>
+       * @param value The width to set.
+       * @return This builder for chaining.
+       */
+      public Builder setWidth(int value) {
+        
+        width_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 width = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearWidth() {
+        
+        width_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int x_ ;
+      /**
+       * <code>int32 x = 2;</code>
+       * @return The x.
+       */
+      @java.lang.Override
+      public int getX() {
+        return x_;
+      }
+      /**
+       * <code>int32 x = 2;</code>
+       * @param value The x to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX(int value) {
+        
+        x_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 x = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearX() {
+        
+        x_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int y_ ;
+      /**
+       * <code>int32 y = 3;</code>
+       * @return The y.
+       */
+      @java.lang.Override
+      public int getY() {
+        return y_;
+      }
+      /**
+       * <code>int32 y = 3;</code>
+       * @param value The y to set.
+       * @return This builder for chaining.
+       */
+      public Builder setY(int value) {
+        
+        y_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 y = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearY() {
+        
+        y_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:snapshot.PlatformSnapshot)
+    }
+
+    // @@protoc_insertion_point(class_scope:snapshot.PlatformSnapshot)
+    private static final io.github.aggarcia.messages.Snapshots.PlatformSnapshot DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Snapshots.PlatformSnapshot();
+    }
+
+    public static io.github.aggarcia.messages.Snapshots.PlatformSnapshot getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PlatformSnapshot>
+        PARSER = new com.google.protobuf.AbstractParser<PlatformSnapshot>() {
+      @java.lang.Override
+      public PlatformSnapshot parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PlatformSnapshot> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PlatformSnapshot> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.aggarcia.messages.Snapshots.PlatformSnapshot getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  public interface PlayerSnapshotOrBuilder extends
+      // @@protoc_insertion_point(interface_extends:snapshot.PlayerSnapshot)
+      com.google.protobuf.MessageOrBuilder {
+
+    /**
+     * <code>string resumeToken = 1;</code>
+     * @return The resumeToken.
+     */
+    java.lang.String getResumeToken();
+    /**
+     * <code>string resumeToken = 1;</code>
+     * @return The bytes for resumeToken.
+     */
+    com.google.protobuf.ByteString
+        getResumeTokenBytes();
+
+    /**
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    java.lang.String getName();
+    /**
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    com.google.protobuf.ByteString
+        getNameBytes();
+
+    /**
+     * <code>string color = 3;</code>
+     * @return The color.
+     */
+    java.lang.String getColor();
+    /**
+     * <code>string color = 3;</code>
+     * @return The bytes for color.
+     */
+    com.google.protobuf.ByteString
+        getColorBytes();
+
+    /**
+     * <code>int32 x = 4;</code>
+     * @return The x.
+     */
+    int getX();
+
+    /**
+     * <code>int32 y = 5;</code>
+     * @return The y.
+     */
+    int getY();
+
+    /**
+     * <code>int32 xVelocity = 6;</code>
+     * @return The xVelocity.
+     */
+    int getXVelocity();
+
+    /**
+     * <code>int32 yVelocity = 7;</code>
+     * @return The yVelocity.
+     */
+    int getYVelocity();
+
+    /**
+     * <code>int32 score = 8;</code>
+     * @return The score.
+     */
+    int getScore();
+
+    /**
+     * <code>uint32 lastInputSequence = 9;</code>
+     * @return The lastInputSequence.
+     */
+    int getLastInputSequence();
+
+    /**
+     * <code>int64 joinedAtMillis = 10;</code>
+     * @return The joinedAtMillis.
+     */
+    long getJoinedAtMillis();
+
+    /**
+     * <code>int32 peakPlatformGravity = 11;</code>
+     * @return The peakPlatformGravity.
+     */
+    int getPeakPlatformGravity();
+  }
+  /**
+   * Protobuf type {@code snapshot.PlayerSnapshot}
+   */
+  public static final class PlayerSnapshot extends
+      com.google.protobuf.GeneratedMessageV3 implements
+      // @@protoc_insertion_point(message_implements:snapshot.PlayerSnapshot)
+      PlayerSnapshotOrBuilder {
+  private static final long serialVersionUID = 0L;
+    // Use PlayerSnapshot.newBuilder() to construct.
+    private PlayerSnapshot(com.google.protobuf.GeneratedMessageV3.Builder<?> builder) {
+      super(builder);
+    }
+    private PlayerSnapshot() {
+      resumeToken_ = "";
+      name_ = "";
+      color_ = "";
+    }
+
+    @java.lang.Override
+    @SuppressWarnings({"unused"})
+    protected java.lang.Object newInstance(
+        UnusedPrivateParameter unused) {
+      return new PlayerSnapshot();
+    }
+
+    @java.lang.Override
+    public final com.google.protobuf.UnknownFieldSet
+    getUnknownFields() {
+      return this.unknownFields;
+    }
+    public static final com.google.protobuf.Descriptors.Descriptor
+        getDescriptor() {
+      return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_PlayerSnapshot_descriptor;
+    }
+
+    @java.lang.Override
+    protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+        internalGetFieldAccessorTable() {
+      return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_PlayerSnapshot_fieldAccessorTable
+          .ensureFieldAccessorsInitialized(
+              io.github.aggarcia.messages.Snapshots.PlayerSnapshot.class, io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder.class);
+    }
+
+    public static final int RESUMETOKEN_FIELD_NUMBER = 1;
+    private volatile java.lang.Object resumeToken_;
+    /**
+     * <code>string resumeToken = 1;</code>
+     * @return The resumeToken.
+     */
+    @java.lang.Override
+    public java.lang.String getResumeToken() {
+      java.lang.Object ref = resumeToken_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        resumeToken_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string resumeToken = 1;</code>
+     * @return The bytes for resumeToken.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getResumeTokenBytes() {
+      java.lang.Object ref = resumeToken_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        resumeToken_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int NAME_FIELD_NUMBER = 2;
+    private volatile java.lang.Object name_;
+    /**
+     * <code>string name = 2;</code>
+     * @return The name.
+     */
+    @java.lang.Override
+    public java.lang.String getName() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        name_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string name = 2;</code>
+     * @return The bytes for name.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getNameBytes() {
+      java.lang.Object ref = name_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        name_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int COLOR_FIELD_NUMBER = 3;
+    private volatile java.lang.Object color_;
+    /**
+     * <code>string color = 3;</code>
+     * @return The color.
+     */
+    @java.lang.Override
+    public java.lang.String getColor() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        return (java.lang.String) ref;
+      } else {
+        com.google.protobuf.ByteString bs = 
+            (com.google.protobuf.ByteString) ref;
+        java.lang.String s = bs.toStringUtf8();
+        color_ = s;
+        return s;
+      }
+    }
+    /**
+     * <code>string color = 3;</code>
+     * @return The bytes for color.
+     */
+    @java.lang.Override
+    public com.google.protobuf.ByteString
+        getColorBytes() {
+      java.lang.Object ref = color_;
+      if (ref instanceof java.lang.String) {
+        com.google.protobuf.ByteString b = 
+            com.google.protobuf.ByteString.copyFromUtf8(
+                (java.lang.String) ref);
+        color_ = b;
+        return b;
+      } else {
+        return (com.google.protobuf.ByteString) ref;
+      }
+    }
+
+    public static final int X_FIELD_NUMBER = 4;
+    private int x_;
+    /**
+     * <code>int32 x = 4;</code>
+     * @return The x.
+     */
+    @java.lang.Override
+    public int getX() {
+      return x_;
+    }
+
+    public static final int Y_FIELD_NUMBER = 5;
+    private int y_;
+    /**
+     * <code>int32 y = 5;</code>
+     * @return The y.
+     */
+    @java.lang.Override
+    public int getY() {
+      return y_;
+    }
+
+    public static final int XVELOCITY_FIELD_NUMBER = 6;
+    private int xVelocity_;
+    /**
+     * <code>int32 xVelocity = 6;</code>
+     * @return The xVelocity.
+     */
+    @java.lang.Override
+    public int getXVelocity() {
+      return xVelocity_;
+    }
+
+    public static final int YVELOCITY_FIELD_NUMBER = 7;
+    private int yVelocity_;
+    /**
+     * <code>int32 yVelocity = 7;</code>
+     * @return The yVelocity.
+     */
+    @java.lang.Override
+    public int getYVelocity() {
+      return yVelocity_;
+    }
+
+    public static final int SCORE_FIELD_NUMBER = 8;
+    private int score_;
+    /**
+     * <code>int32 score = 8;</code>
+     * @return The score.
+     */
+    @java.lang.Override
+    public int getScore() {
+      return score_;
+    }
+
+    public static final int LASTINPUTSEQUENCE_FIELD_NUMBER = 9;
+    private int lastInputSequence_;
+    /**
+     * <code>uint32 lastInputSequence = 9;</code>
+     * @return The lastInputSequence.
+     */
+    @java.lang.Override
+    public int getLastInputSequence() {
+      return lastInputSequence_;
+    }
+
+    public static final int JOINEDATMILLIS_FIELD_NUMBER = 10;
+    private long joinedAtMillis_;
+    /**
+     * <code>int64 joinedAtMillis = 10;</code>
+     * @return The joinedAtMillis.
+     */
+    @java.lang.Override
+    public long getJoinedAtMillis() {
+      return joinedAtMillis_;
+    }
+
+    public static final int PEAKPLATFORMGRAVITY_FIELD_NUMBER = 11;
+    private int peakPlatformGravity_;
+    /**
+     * <code>int32 peakPlatformGravity = 11;</code>
+     * @return The peakPlatformGravity.
+     */
+    @java.lang.Override
+    public int getPeakPlatformGravity() {
+      return peakPlatformGravity_;
+    }
+
+    private byte memoizedIsInitialized = -1;
+    @java.lang.Override
+    public final boolean isInitialized() {
+      byte isInitialized = memoizedIsInitialized;
+      if (isInitialized == 1) return true;
+      if (isInitialized == 0) return false;
+
+      memoizedIsInitialized = 1;
+      return true;
+    }
+
+    @java.lang.Override
+    public void writeTo(com.google.protobuf.CodedOutputStream output)
+                        throws java.io.IOException {
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(resumeToken_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 1, resumeToken_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(color_)) {
+        com.google.protobuf.GeneratedMessageV3.writeString(output, 3, color_);
+      }
+      if (x_ != 0) {
+        output.writeInt32(4, x_);
+      }
+      if (y_ != 0) {
+        output.writeInt32(5, y_);
+      }
+      if (xVelocity_ != 0) {
+        output.writeInt32(6, xVelocity_);
+      }
+      if (yVelocity_ != 0) {
+        output.writeInt32(7, yVelocity_);
+      }
+      if (score_ != 0) {
+        output.writeInt32(8, score_);
+      }
+      if (lastInputSequence_ != 0) {
+        output.writeUInt32(9, lastInputSequence_);
+      }
+      if (joinedAtMillis_ != 0L) {
+        output.writeInt64(10, joinedAtMillis_);
+      }
+      if (peakPlatformGravity_ != 0) {
+        output.writeInt32(11, peakPlatformGravity_);
+      }
+      getUnknownFields().writeTo(output);
+    }
+
+    @java.lang.Override
+    public int getSerializedSize() {
+      int size = memoizedSize;
+      if (size != -1) return size;
+
+      size = 0;
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(resumeToken_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(1, resumeToken_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(name_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(2, name_);
+      }
+      if (!com.google.protobuf.GeneratedMessageV3.isStringEmpty(color_)) {
+        size += com.google.protobuf.GeneratedMessageV3.computeStringSize(3, color_);
+      }
+      if (x_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(4, x_);
+      }
+      if (y_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(5, y_);
+      }
+      if (xVelocity_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(6, xVelocity_);
+      }
+      if (yVelocity_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(7, yVelocity_);
+      }
+      if (score_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(8, score_);
+      }
+      if (lastInputSequence_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeUInt32Size(9, lastInputSequence_);
+      }
+      if (joinedAtMillis_ != 0L) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt64Size(10, joinedAtMillis_);
+      }
+      if (peakPlatformGravity_ != 0) {
+        size += com.google.protobuf.CodedOutputStream
+          .computeInt32Size(11, peakPlatformGravity_);
+      }
+      size += getUnknownFields().getSerializedSize();
+      memoizedSize = size;
+      return size;
+    }
+
+    @java.lang.Override
+    public boolean equals(final java.lang.Object obj) {
+      if (obj == this) {
+       return true;
+      }
+      if (!(obj instanceof io.github.aggarcia.messages.Snapshots.PlayerSnapshot)) {
+        return super.equals(obj);
+      }
+      io.github.aggarcia.messages.Snapshots.PlayerSnapshot other = (io.github.aggarcia.messages.Snapshots.PlayerSnapshot) obj;
+
+      if (!getResumeToken()
+          .equals(other.getResumeToken())) return false;
+      if (!getName()
+          .equals(other.getName())) return false;
+      if (!getColor()
+          .equals(other.getColor())) return false;
+      if (getX()
+          != other.getX()) return false;
+      if (getY()
+          != other.getY()) return false;
+      if (getXVelocity()
+          != other.getXVelocity()) return false;
+      if (getYVelocity()
+          != other.getYVelocity()) return false;
+      if (getScore()
+          != other.getScore()) return false;
+      if (getLastInputSequence()
+          != other.getLastInputSequence()) return false;
+      if (getJoinedAtMillis()
+          != other.getJoinedAtMillis()) return false;
+      if (getPeakPlatformGravity()
+          != other.getPeakPlatformGravity()) return false;
+      if (!getUnknownFields().equals(other.getUnknownFields())) return false;
+      return true;
+    }
+
+    @java.lang.Override
+    public int hashCode() {
+      if (memoizedHashCode != 0) {
+        return memoizedHashCode;
+      }
+      int hash = 41;
+      hash = (19 * hash) + getDescriptor().hashCode();
+      hash = (37 * hash) + RESUMETOKEN_FIELD_NUMBER;
+      hash = (53 * hash) + getResumeToken().hashCode();
+      hash = (37 * hash) + NAME_FIELD_NUMBER;
+      hash = (53 * hash) + getName().hashCode();
+      hash = (37 * hash) + COLOR_FIELD_NUMBER;
+      hash = (53 * hash) + getColor().hashCode();
+      hash = (37 * hash) + X_FIELD_NUMBER;
+      hash = (53 * hash) + getX();
+      hash = (37 * hash) + Y_FIELD_NUMBER;
+      hash = (53 * hash) + getY();
+      hash = (37 * hash) + XVELOCITY_FIELD_NUMBER;
+      hash = (53 * hash) + getXVelocity();
+      hash = (37 * hash) + YVELOCITY_FIELD_NUMBER;
+      hash = (53 * hash) + getYVelocity();
+      hash = (37 * hash) + SCORE_FIELD_NUMBER;
+      hash = (53 * hash) + getScore();
+      hash = (37 * hash) + LASTINPUTSEQUENCE_FIELD_NUMBER;
+      hash = (53 * hash) + getLastInputSequence();
+      hash = (37 * hash) + JOINEDATMILLIS_FIELD_NUMBER;
+      hash = (53 * hash) + com.google.protobuf.Internal.hashLong(
+          getJoinedAtMillis());
+      hash = (37 * hash) + PEAKPLATFORMGRAVITY_FIELD_NUMBER;
+      hash = (53 * hash) + getPeakPlatformGravity();
+      hash = (29 * hash) + getUnknownFields().hashCode();
+      memoizedHashCode = hash;
+      return hash;
+    }
+
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseFrom(
+        java.nio.ByteBuffer data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseFrom(
+        java.nio.ByteBuffer data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseFrom(
+        com.google.protobuf.ByteString data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseFrom(
+        com.google.protobuf.ByteString data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseFrom(byte[] data)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseFrom(
+        byte[] data,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws com.google.protobuf.InvalidProtocolBufferException {
+      return PARSER.parseFrom(data, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseDelimitedFrom(java.io.InputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseDelimitedFrom(
+        java.io.InputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseDelimitedWithIOException(PARSER, input, extensionRegistry);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input);
+    }
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot parseFrom(
+        com.google.protobuf.CodedInputStream input,
+        com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+        throws java.io.IOException {
+      return com.google.protobuf.GeneratedMessageV3
+          .parseWithIOException(PARSER, input, extensionRegistry);
+    }
+
+    @java.lang.Override
+    public Builder newBuilderForType() { return newBuilder(); }
+    public static Builder newBuilder() {
+      return DEFAULT_INSTANCE.toBuilder();
+    }
+    public static Builder newBuilder(io.github.aggarcia.messages.Snapshots.PlayerSnapshot prototype) {
+      return DEFAULT_INSTANCE.toBuilder().mergeFrom(prototype);
+    }
+    @java.lang.Override
+    public Builder toBuilder() {
+      return this == DEFAULT_INSTANCE
+          ? new Builder() : new Builder().mergeFrom(this);
+    }
+
+    @java.lang.Override
+    protected Builder newBuilderForType(
+        com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+      Builder builder = new Builder(parent);
+      return builder;
+    }
+    /**
+     * Protobuf type {@code snapshot.PlayerSnapshot}
+     */
+    public static final class Builder extends
+        com.google.protobuf.GeneratedMessageV3.Builder<Builder> implements
+        // @@protoc_insertion_point(builder_implements:snapshot.PlayerSnapshot)
+        io.github.aggarcia.messages.Snapshots.PlayerSnapshotOrBuilder {
+      public static final com.google.protobuf.Descriptors.Descriptor
+          getDescriptor() {
+        return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_PlayerSnapshot_descriptor;
+      }
+
+      @java.lang.Override
+      protected com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+          internalGetFieldAccessorTable() {
+        return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_PlayerSnapshot_fieldAccessorTable
+            .ensureFieldAccessorsInitialized(
+                io.github.aggarcia.messages.Snapshots.PlayerSnapshot.class, io.github.aggarcia.messages.Snapshots.PlayerSnapshot.Builder.class);
+      }
+
+      // Construct using io.github.aggarcia.messages.Snapshots.PlayerSnapshot.newBuilder()
+      private Builder() {
+
+      }
+
+      private Builder(
+          com.google.protobuf.GeneratedMessageV3.BuilderParent parent) {
+        super(parent);
+
+      }
+      @java.lang.Override
+      public Builder clear() {
+        super.clear();
+        resumeToken_ = "";
+
+        name_ = "";
+
+        color_ = "";
+
+        x_ = 0;
+
+        y_ = 0;
+
+        xVelocity_ = 0;
+
+        yVelocity_ = 0;
+
+        score_ = 0;
+
+        lastInputSequence_ = 0;
+
+        joinedAtMillis_ = 0L;
+
+        peakPlatformGravity_ = 0;
+
+        return this;
+      }
+
+      @java.lang.Override
+      public com.google.protobuf.Descriptors.Descriptor
+          getDescriptorForType() {
+        return io.github.aggarcia.messages.Snapshots.internal_static_snapshot_PlayerSnapshot_descriptor;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Snapshots.PlayerSnapshot getDefaultInstanceForType() {
+        return io.github.aggarcia.messages.Snapshots.PlayerSnapshot.getDefaultInstance();
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Snapshots.PlayerSnapshot build() {
+        io.github.aggarcia.messages.Snapshots.PlayerSnapshot result = buildPartial();
+        if (!result.isInitialized()) {
+          throw newUninitializedMessageException(result);
+        }
+        return result;
+      }
+
+      @java.lang.Override
+      public io.github.aggarcia.messages.Snapshots.PlayerSnapshot buildPartial() {
+        io.github.aggarcia.messages.Snapshots.PlayerSnapshot result = new io.github.aggarcia.messages.Snapshots.PlayerSnapshot(this);
+        result.resumeToken_ = resumeToken_;
+        result.name_ = name_;
+        result.color_ = color_;
+        result.x_ = x_;
+        result.y_ = y_;
+        result.xVelocity_ = xVelocity_;
+        result.yVelocity_ = yVelocity_;
+        result.score_ = score_;
+        result.lastInputSequence_ = lastInputSequence_;
+        result.joinedAtMillis_ = joinedAtMillis_;
+        result.peakPlatformGravity_ = peakPlatformGravity_;
+        onBuilt();
+        return result;
+      }
+
+      @java.lang.Override
+      public Builder clone() {
+        return super.clone();
+      }
+      @java.lang.Override
+      public Builder setField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.setField(field, value);
+      }
+      @java.lang.Override
+      public Builder clearField(
+          com.google.protobuf.Descriptors.FieldDescriptor field) {
+        return super.clearField(field);
+      }
+      @java.lang.Override
+      public Builder clearOneof(
+          com.google.protobuf.Descriptors.OneofDescriptor oneof) {
+        return super.clearOneof(oneof);
+      }
+      @java.lang.Override
+      public Builder setRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          int index, java.lang.Object value) {
+        return super.setRepeatedField(field, index, value);
+      }
+      @java.lang.Override
+      public Builder addRepeatedField(
+          com.google.protobuf.Descriptors.FieldDescriptor field,
+          java.lang.Object value) {
+        return super.addRepeatedField(field, value);
+      }
+      @java.lang.Override
+      public Builder mergeFrom(com.google.protobuf.Message other) {
+        if (other instanceof io.github.aggarcia.messages.Snapshots.PlayerSnapshot) {
+          return mergeFrom((io.github.aggarcia.messages.Snapshots.PlayerSnapshot)other);
+        } else {
+          super.mergeFrom(other);
+          return this;
+        }
+      }
+
+      public Builder mergeFrom(io.github.aggarcia.messages.Snapshots.PlayerSnapshot other) {
+        if (other == io.github.aggarcia.messages.Snapshots.PlayerSnapshot.getDefaultInstance()) return this;
+        if (!other.getResumeToken().isEmpty()) {
+          resumeToken_ = other.resumeToken_;
+          onChanged();
+        }
+        if (!other.getName().isEmpty()) {
+          name_ = other.name_;
+          onChanged();
+        }
+        if (!other.getColor().isEmpty()) {
+          color_ = other.color_;
+          onChanged();
+        }
+        if (other.getX() != 0) {
+          setX(other.getX());
+        }
+        if (other.getY() != 0) {
+          setY(other.getY());
+        }
+        if (other.getXVelocity() != 0) {
+          setXVelocity(other.getXVelocity());
+        }
+        if (other.getYVelocity() != 0) {
+          setYVelocity(other.getYVelocity());
+        }
+        if (other.getScore() != 0) {
+          setScore(other.getScore());
+        }
+        if (other.getLastInputSequence() != 0) {
+          setLastInputSequence(other.getLastInputSequence());
+        }
+        if (other.getJoinedAtMillis() != 0L) {
+          setJoinedAtMillis(other.getJoinedAtMillis());
+        }
+        if (other.getPeakPlatformGravity() != 0) {
+          setPeakPlatformGravity(other.getPeakPlatformGravity());
+        }
+        this.mergeUnknownFields(other.getUnknownFields());
+        onChanged();
+        return this;
+      }
+
+      @java.lang.Override
+      public final boolean isInitialized() {
+        return true;
+      }
+
+      @java.lang.Override
+      public Builder mergeFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws java.io.IOException {
+        if (extensionRegistry == null) {
+          throw new java.lang.NullPointerException();
+        }
+        try {
+          boolean done = false;
+          while (!done) {
+            int tag = input.readTag();
+            switch (tag) {
+              case 0:
+                done = true;
+                break;
+              case 10: {
+                resumeToken_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 10
+              case 18: {
+                name_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 18
+              case 26: {
+                color_ = input.readStringRequireUtf8();
+
+                break;
+              } // case 26
+              case 32: {
+                x_ = input.readInt32();
+
+                break;
+              } // case 32
+              case 40: {
+                y_ = input.readInt32();
+
+                break;
+              } // case 40
+              case 48: {
+                xVelocity_ = input.readInt32();
+
+                break;
+              } // case 48
+              case 56: {
+                yVelocity_ = input.readInt32();
+
+                break;
+              } // case 56
+              case 64: {
+                score_ = input.readInt32();
+
+                break;
+              } // case 64
+              case 72: {
+                lastInputSequence_ = input.readUInt32();
+
+                break;
+              } // case 72
+              case 80: {
+                joinedAtMillis_ = input.readInt64();
+
+                break;
+              } // case 80
+              case 88: {
+                peakPlatformGravity_ = input.readInt32();
+
+                break;
+              } // case 88
+              default: {
+                if (!super.parseUnknownField(input, extensionRegistry, tag)) {
+                  done = true; // was an endgroup tag
+                }
+                break;
+              } // default:
+            } // switch (tag)
+          } // while (!done)
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.unwrapIOException();
+        } finally {
+          onChanged();
+        } // finally
+        return this;
+      }
+
+      private java.lang.Object resumeToken_ = "";
+      /**
+       * <code>string resumeToken = 1;</code>
+       * @return The resumeToken.
+       */
+      public java.lang.String getResumeToken() {
+        java.lang.Object ref = resumeToken_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          resumeToken_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string resumeToken = 1;</code>
+       * @return The bytes for resumeToken.
+       */
+      public com.google.protobuf.ByteString
+          getResumeTokenBytes() {
+        java.lang.Object ref = resumeToken_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          resumeToken_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string resumeToken = 1;</code>
+       * @param value The resumeToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResumeToken(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        resumeToken_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string resumeToken = 1;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearResumeToken() {
+        
+        resumeToken_ = getDefaultInstance().getResumeToken();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string resumeToken = 1;</code>
+       * @param value The bytes for resumeToken to set.
+       * @return This builder for chaining.
+       */
+      public Builder setResumeTokenBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        resumeToken_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object name_ = "";
+      /**
+       * <code>string name = 2;</code>
+       * @return The name.
+       */
+      public java.lang.String getName() {
+        java.lang.Object ref = name_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          name_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @return The bytes for name.
+       */
+      public com.google.protobuf.ByteString
+          getNameBytes() {
+        java.lang.Object ref = name_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          name_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @param value The name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setName(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        name_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearName() {
+        
+        name_ = getDefaultInstance().getName();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string name = 2;</code>
+       * @param value The bytes for name to set.
+       * @return This builder for chaining.
+       */
+      public Builder setNameBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        name_ = value;
+        onChanged();
+        return this;
+      }
+
+      private java.lang.Object color_ = "";
+      /**
+       * <code>string color = 3;</code>
+       * @return The color.
+       */
+      public java.lang.String getColor() {
+        java.lang.Object ref = color_;
+        if (!(ref instanceof java.lang.String)) {
+          com.google.protobuf.ByteString bs =
+              (com.google.protobuf.ByteString) ref;
+          java.lang.String s = bs.toStringUtf8();
+          color_ = s;
+          return s;
+        } else {
+          return (java.lang.String) ref;
+        }
+      }
+      /**
+       * <code>string color = 3;</code>
+       * @return The bytes for color.
+       */
+      public com.google.protobuf.ByteString
+          getColorBytes() {
+        java.lang.Object ref = color_;
+        if (ref instanceof String) {
+          com.google.protobuf.ByteString b = 
+              com.google.protobuf.ByteString.copyFromUtf8(
+                  (java.lang.String) ref);
+          color_ = b;
+          return b;
+        } else {
+          return (com.google.protobuf.ByteString) ref;
+        }
+      }
+      /**
+       * <code>string color = 3;</code>
+       * @param value The color to set.
+       * @return This builder for chaining.
+       */
+      public Builder setColor(
+          java.lang.String value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  
+        color_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string color = 3;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearColor() {
+        
+        color_ = getDefaultInstance().getColor();
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>string color = 3;</code>
+       * @param value The bytes for color to set.
+       * @return This builder for chaining.
+       */
+      public Builder setColorBytes(
+          com.google.protobuf.ByteString value) {
+        if (value == null) {
+    throw new NullPointerException();
+  }
+  checkByteStringIsUtf8(value);
+        
+        color_ = value;
+        onChanged();
+        return this;
+      }
+
+      private int x_ ;
+      /**
+       * <code>int32 x = 4;</code>
+       * @return The x.
+       */
+      @java.lang.Override
+      public int getX() {
+        return x_;
+      }
+      /**
+       * <code>int32 x = 4;</code>
+       * @param value The x to set.
+       * @return This builder for chaining.
+       */
+      public Builder setX(int value) {
+        
+        x_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 x = 4;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearX() {
+        
+        x_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int y_ ;
+      /**
+       * <code>int32 y = 5;</code>
+       * @return The y.
+       */
+      @java.lang.Override
+      public int getY() {
+        return y_;
+      }
+      /**
+       * <code>int32 y = 5;</code>
+       * @param value The y to set.
+       * @return This builder for chaining.
+       */
+      public Builder setY(int value) {
+        
+        y_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 y = 5;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearY() {
+        
+        y_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int xVelocity_ ;
+      /**
+       * <code>int32 xVelocity = 6;</code>
+       * @return The xVelocity.
+       */
+      @java.lang.Override
+      public int getXVelocity() {
+        return xVelocity_;
+      }
+      /**
+       * <code>int32 xVelocity = 6;</code>
+       * @param value The xVelocity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setXVelocity(int value) {
+        
+        xVelocity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 xVelocity = 6;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearXVelocity() {
+        
+        xVelocity_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int yVelocity_ ;
+      /**
+       * <code>int32 yVelocity = 7;</code>
+       * @return The yVelocity.
+       */
+      @java.lang.Override
+      public int getYVelocity() {
+        return yVelocity_;
+      }
+      /**
+       * <code>int32 yVelocity = 7;</code>
+       * @param value The yVelocity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setYVelocity(int value) {
+        
+        yVelocity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 yVelocity = 7;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearYVelocity() {
+        
+        yVelocity_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int score_ ;
+      /**
+       * <code>int32 score = 8;</code>
+       * @return The score.
+       */
+      @java.lang.Override
+      public int getScore() {
+        return score_;
+      }
+      /**
+       * <code>int32 score = 8;</code>
+       * @param value The score to set.
+       * @return This builder for chaining.
+       */
+      public Builder setScore(int value) {
+        
+        score_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 score = 8;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearScore() {
+        
+        score_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private int lastInputSequence_ ;
+      /**
+       * <code>uint32 lastInputSequence = 9;</code>
+       * @return The lastInputSequence.
+       */
+      @java.lang.Override
+      public int getLastInputSequence() {
+        return lastInputSequence_;
+      }
+      /**
+       * <code>uint32 lastInputSequence = 9;</code>
+       * @param value The lastInputSequence to set.
+       * @return This builder for chaining.
+       */
+      public Builder setLastInputSequence(int value) {
+        
+        lastInputSequence_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>uint32 lastInputSequence = 9;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearLastInputSequence() {
+        
+        lastInputSequence_ = 0;
+        onChanged();
+        return this;
+      }
+
+      private long joinedAtMillis_ ;
+      /**
+       * <code>int64 joinedAtMillis = 10;</code>
+       * @return The joinedAtMillis.
+       */
+      @java.lang.Override
+      public long getJoinedAtMillis() {
+        return joinedAtMillis_;
+      }
+      /**
+       * <code>int64 joinedAtMillis = 10;</code>
+       * @param value The joinedAtMillis to set.
+       * @return This builder for chaining.
+       */
+      public Builder setJoinedAtMillis(long value) {
+        
+        joinedAtMillis_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int64 joinedAtMillis = 10;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearJoinedAtMillis() {
+        
+        joinedAtMillis_ = 0L;
+        onChanged();
+        return this;
+      }
+
+      private int peakPlatformGravity_ ;
+      /**
+       * <code>int32 peakPlatformGravity = 11;</code>
+       * @return The peakPlatformGravity.
+       */
+      @java.lang.Override
+      public int getPeakPlatformGravity() {
+        return peakPlatformGravity_;
+      }
+      /**
+       * <code>int32 peakPlatformGravity = 11;</code>
+       * @param value The peakPlatformGravity to set.
+       * @return This builder for chaining.
+       */
+      public Builder setPeakPlatformGravity(int value) {
+        
+        peakPlatformGravity_ = value;
+        onChanged();
+        return this;
+      }
+      /**
+       * <code>int32 peakPlatformGravity = 11;</code>
+       * @return This builder for chaining.
+       */
+      public Builder clearPeakPlatformGravity() {
+        
+        peakPlatformGravity_ = 0;
+        onChanged();
+        return this;
+      }
+      @java.lang.Override
+      public final Builder setUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.setUnknownFields(unknownFields);
+      }
+
+      @java.lang.Override
+      public final Builder mergeUnknownFields(
+          final com.google.protobuf.UnknownFieldSet unknownFields) {
+        return super.mergeUnknownFields(unknownFields);
+      }
+
+
+      // @@protoc_insertion_point(builder_scope:snapshot.PlayerSnapshot)
+    }
+
+    // @@protoc_insertion_point(class_scope:snapshot.PlayerSnapshot)
+    private static final io.github.aggarcia.messages.Snapshots.PlayerSnapshot DEFAULT_INSTANCE;
+    static {
+      DEFAULT_INSTANCE = new io.github.aggarcia.messages.Snapshots.PlayerSnapshot();
+    }
+
+    public static io.github.aggarcia.messages.Snapshots.PlayerSnapshot getDefaultInstance() {
+      return DEFAULT_INSTANCE;
+    }
+
+    private static final com.google.protobuf.Parser<PlayerSnapshot>
+        PARSER = new com.google.protobuf.AbstractParser<PlayerSnapshot>() {
+      @java.lang.Override
+      public PlayerSnapshot parsePartialFrom(
+          com.google.protobuf.CodedInputStream input,
+          com.google.protobuf.ExtensionRegistryLite extensionRegistry)
+          throws com.google.protobuf.InvalidProtocolBufferException {
+        Builder builder = newBuilder();
+        try {
+          builder.mergeFrom(input, extensionRegistry);
+        } catch (com.google.protobuf.InvalidProtocolBufferException e) {
+          throw e.setUnfinishedMessage(builder.buildPartial());
+        } catch (com.google.protobuf.UninitializedMessageException e) {
+          throw e.asInvalidProtocolBufferException().setUnfinishedMessage(builder.buildPartial());
+        } catch (java.io.IOException e) {
+          throw new com.google.protobuf.InvalidProtocolBufferException(e)
+              .setUnfinishedMessage(builder.buildPartial());
+        }
+        return builder.buildPartial();
+      }
+    };
+
+    public static com.google.protobuf.Parser<PlayerSnapshot> parser() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public com.google.protobuf.Parser<PlayerSnapshot> getParserForType() {
+      return PARSER;
+    }
+
+    @java.lang.Override
+    public io.github.aggarcia.messages.Snapshots.PlayerSnapshot getDefaultInstanceForType() {
+      return DEFAULT_INSTANCE;
+    }
+
+  }
+
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_snapshot_GameSnapshot_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_snapshot_GameSnapshot_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_snapshot_PlatformSnapshot_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_snapshot_PlatformSnapshot_fieldAccessorTable;
+  private static final com.google.protobuf.Descriptors.Descriptor
+    internal_static_snapshot_PlayerSnapshot_descriptor;
+  private static final 
+    com.google.protobuf.GeneratedMessageV3.FieldAccessorTable
+      internal_static_snapshot_PlayerSnapshot_fieldAccessorTable;
+
+  public static com.google.protobuf.Descriptors.FileDescriptor
+      getDescriptor() {
+    return descriptor;
+  }
+  private static  com.google.protobuf.Descriptors.FileDescriptor
+      descriptor;
+  static {
+    java.lang.String[] descriptorData = {
+      "\n\022gameSnapshot.proto\022\010snapshot\"\324\001\n\014GameS" +
+      "napshot\022\017\n\007version\030\001 \001(\r\022\025\n\rsavedAtMilli" +
+      "s\030\002 \001(\003\022\021\n\ttickCount\030\003 \001(\005\022\026\n\016gameAgeSec" +
+      "onds\030\004 \001(\005\022\027\n\017platformGravity\030\005 \001(\005\022-\n\tp" +
+      "latforms\030\006 \003(\0132\032.snapshot.PlatformSnapsh" +
+      "ot\022)\n\007players\030\007 \003(\0132\030.snapshot.PlayerSna" +
+      "pshot\"7\n\020PlatformSnapshot\022\r\n\005width\030\001 \001(\005" +
+      "\022\t\n\001x\030\002 \001(\005\022\t\n\001y\030\003 \001(\005\"\335\001\n\016PlayerSnapsho" +
+      "t\022\023\n\013resumeToken\030\001 \001(\t\022\014\n\004name\030\002 \001(\t\022\r\n\005" +
+      "color\030\003 \001(\t\022\t\n\001x\030\004 \001(\005\022\t\n\001y\030\005 \001(\005\022\021\n\txVe" +
+      "locity\030\006 \001(\005\022\021\n\tyVelocity\030\007 \001(\005\022\r\n\005score" +
+      "\030\010 \001(\005\022\031\n\021lastInputSequence\030\t \001(\r\022\026\n\016joi" +
+      "nedAtMillis\030\n \001(\003\022\033\n\023peakPlatformGravity" +
+      "\030\013 \001(\005B(\n\033io.github.aggarcia.messagesB\tS" +
+      "napshotsb\006proto3"
+    };
+    descriptor = com.google.protobuf.Descriptors.FileDescriptor
+      .internalBuildGeneratedFileFrom(descriptorData,
+        new com.google.protobuf.Descriptors.FileDescriptor[] {
+        });
+    internal_static_snapshot_GameSnapshot_descriptor =
+      getDescriptor().getMessageTypes().get(0);
+    internal_static_snapshot_GameSnapshot_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_snapshot_GameSnapshot_descriptor,
+        new java.lang.String[] { "Version", "SavedAtMillis", "TickCount", "GameAgeSeconds", "PlatformGravity", "Platforms", "Players", });
+    internal_static_snapshot_PlatformSnapshot_descriptor =
+      getDescriptor().getMessageTypes().get(1);
+    internal_static_snapshot_PlatformSnapshot_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_snapshot_PlatformSnapshot_descriptor,
+        new java.lang.String[] { "Width", "X", "Y", });
+    internal_static_snapshot_PlayerSnapshot_descriptor =
+      getDescriptor().getMessageTypes().get(2);
+    internal_static_snapshot_PlayerSnapshot_fieldAccessorTable = new
+      com.google.protobuf.GeneratedMessageV3.FieldAccessorTable(
+        internal_static_snapshot_PlayerSnapshot_descriptor,
+        new java.lang.String[] { "ResumeToken", "Name", "Color", "X", "Y", "XVelocity", "YVelocity", "Score", "LastInputSequence", "JoinedAtMillis", "PeakPlatformGravity", });
+  }
+
+  // @@protoc_insertion_point(outer_class_scope)
+}
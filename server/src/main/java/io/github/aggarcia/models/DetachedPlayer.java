@@ -0,0 +1,21 @@
+package io.github.aggarcia.models;
+
+/**
+ * Player whose session is gone, waiting for a new session to present its
+ * resume token.
+ * @param player state of the player when it was detached
+ * @param expiresAtMillis wall clock time after which the player is removed
+ *  from the game
+ */
+public record DetachedPlayer(
+    PlayerStore player,
+    long expiresAtMillis
+) {
+    /**
+     * @param nowMillis current wall clock time
+     * @return true if it is too late to resume the player
+     */
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
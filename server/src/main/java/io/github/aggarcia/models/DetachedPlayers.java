@@ -0,0 +1,117 @@
+package io.github.aggarcia.models;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Map of resume tokens to detached players, that also indexes them by
+ * name, so a join can check whether a detached player holds its name in
+ * constant time, however many players dropped at once. Names are compared
+ * the way {@link PlayerRegistry} compares them.
+ *
+ * Not thread safe, only the room actor touches it.
+ */
+public final class DetachedPlayers
+extends AbstractMap<String, DetachedPlayer> {
+    private final Map<String, DetachedPlayer> byToken = new HashMap<>();
+
+    /** Resume token of each player, by normalized name. */
+    private final Map<String, String> tokensByName = new HashMap<>();
+
+    /**
+     * @param name player name, in any case
+     * @return true if a detached player has the name
+     */
+    public boolean containsName(String name) {
+        return tokensByName.containsKey(PlayerRegistry.normalize(name));
+    }
+
+    @Override
+    public DetachedPlayer get(Object token) {
+        return byToken.get(token);
+    }
+
+    @Override
+    public boolean containsKey(Object token) {
+        return byToken.containsKey(token);
+    }
+
+    @Override
+    public int size() {
+        return byToken.size();
+    }
+
+    @Override
+    public DetachedPlayer put(String token, DetachedPlayer detached) {
+        var previous = byToken.put(token, detached);
+        if (previous != null) {
+            unindex(token, previous);
+        }
+        tokensByName.put(
+            PlayerRegistry.normalize(detached.player().name()), token);
+        return previous;
+    }
+
+    @Override
+    public DetachedPlayer remove(Object token) {
+        var removed = byToken.remove(token);
+        if (removed != null) {
+            unindex(token, removed);
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        byToken.clear();
+        tokensByName.clear();
+    }
+
+    /**
+     * Entries are read only, and removing through the iterator keeps the
+     * names indexed.
+     */
+    @Override
+    public Set<Entry<String, DetachedPlayer>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, DetachedPlayer>> iterator() {
+                var entries = byToken.entrySet().iterator();
+                return new Iterator<>() {
+                    private Entry<String, DetachedPlayer> last;
+
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, DetachedPlayer> next() {
+                        last = entries.next();
+                        return new SimpleImmutableEntry<>(last);
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                        unindex(last.getKey(), last.getValue());
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return byToken.size();
+            }
+        };
+    }
+
+    private void unindex(Object token, DetachedPlayer detached) {
+        tokensByName.remove(
+            PlayerRegistry.normalize(detached.player().name()), token);
+    }
+}
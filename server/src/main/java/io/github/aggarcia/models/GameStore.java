@@ -1,19 +1,21 @@
 package io.github.aggarcia.models;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
-
-import org.springframework.web.socket.WebSocketSession;
+import java.util.concurrent.atomic.LongAdder;
 
 import ch.qos.logback.core.testUtil.RandomUtil;
+import io.github.aggarcia.clients.AsyncSession;
+import io.github.aggarcia.clients.InboundLimiter;
+import io.github.aggarcia.clients.SessionLatency;
 import io.github.aggarcia.engine.GameConstants;
+import io.github.aggarcia.engine.RoomActor;
+import io.github.aggarcia.engine.RoomProfile;
+import io.github.aggarcia.leaderboard.LeaderboardFeed;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -41,17 +43,97 @@ public class GameStore {
     private final BlockingQueue<PlayerStore> unprocessedLosers =
         new LinkedBlockingQueue<>();
 
+    /**
+     * Round trip time statistics by session ID, read by the admin API.
+     */
+    private final Map<String, SessionLatency> latencies =
+        new ConcurrentHashMap<>();
+
+    /**
+     * Inbound rate limits by session ID, read by the WebSocket threads.
+     */
+    private final Map<String, InboundLimiter> inboundLimiters =
+        new ConcurrentHashMap<>();
+
+    /** Client messages dropped by the rate limiter, read by metrics. */
+    private final LongAdder droppedEvents = new LongAdder();
+
+    /**
+     * Control changes replaced by a newer one before they were applied,
+     * read by metrics.
+     */
+    private final LongAdder coalescedEvents = new LongAdder();
+
+    /**
+     * Runs every change to this store, one at a time. The rest of the state
+     * should only be modified from inside a message posted here.
+     */
+    @Builder.Default
+    private final RoomActor actor = RoomActor.inline();
+
+    /**
+     * How the room scales, does not change after construction.
+     */
+    @Builder.Default
+    private final RoomProfile profile = RoomProfile.STANDARD;
+
+    /**
+     * Open sessions, rebuilt only when a client connects or disconnects.
+     */
+    @Builder.Default
+    private final SessionRegistry sessions = new SessionRegistry();
+
+    /**
+     * Players by client ID. Safe to iterate while other threads add and
+     * remove players.
+     */
     @Builder.Default
-    private final Set<WebSocketSession> sessions =
-        Collections.synchronizedSet(new HashSet<>());
+    private final PlayerRegistry players = new PlayerRegistry();
+
+    /**
+     * Players without a session, by resume token. They keep their place
+     * and their name until a client presents the token or they expire.
+     * Only touched by the room actor.
+     */
+    private final DetachedPlayers detachedPlayers = new DetachedPlayers();
+
+    /**
+     * Clients that asked for leaderboard updates, by session ID. Only
+     * touched by the room actor.
+     */
+    private final Set<String> leaderboardSubscribers = new HashSet<>();
+
+    /**
+     * Top of the leaderboard as last pushed to subscribers.
+     */
+    private final LeaderboardFeed leaderboardFeed = new LeaderboardFeed();
 
+    /**
+     * true if the state was restored from a snapshot, so the next game
+     * continues it instead of starting over.
+     */
+    @Builder.Default
+    private boolean isRestored = false;
+
+    /**
+     * How far above and below its interest band a client can see, in
+     * pixels. Clients are sent the whole game if this is 0.
+     */
     @Builder.Default
-    private final Map<String, PlayerStore> players =
-        Collections.synchronizedMap(new HashMap<>());
+    private int interestRadius = 0;
 
+    /**
+     * Messages a client of a room with async sends can fall behind by
+     * before it is closed.
+     */
+    @Builder.Default
+    private final int maxPendingMessages = AsyncSession.DEFAULT_MAX_PENDING;
+
+    /**
+     * Sorted by height. Only touched by the room actor.
+     */
     @Builder.Default
-    private List<GamePlatform> platforms =
-        Collections.synchronizedList(new ArrayList<>());
+    private PlatformList platforms = new PlatformList();
 
     @Builder.Default
     private int gameAgeSeconds = 0;
@@ -0,0 +1,127 @@
+package io.github.aggarcia.models;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Platforms kept sorted by Y, so the topmost platform is always first and
+ * the bottommost always last. Every platform falls at the same speed, so
+ * the order survives a tick, and new platforms spawn at the top. Keeping
+ * the order costs almost nothing, and turns the per tick and per join
+ * searches into constant or logarithmic time.
+ *
+ * Not thread safe, like the rest of the store it is only used by the room
+ * actor.
+ */
+public final class PlatformList extends AbstractList<GamePlatform> {
+    private static final Comparator<GamePlatform> BY_HEIGHT =
+        Comparator.comparingInt(GamePlatform::y);
+
+    private final List<GamePlatform> platforms;
+
+    public PlatformList() {
+        this.platforms = new ArrayList<>();
+    }
+
+    /**
+     * @param platforms initial contents, in any order
+     */
+    public PlatformList(Collection<GamePlatform> platforms) {
+        this.platforms = new ArrayList<>(platforms);
+        this.platforms.sort(BY_HEIGHT);
+    }
+
+    /**
+     * @return platform with the smallest Y, or null if there are none
+     */
+    public GamePlatform topmost() {
+        return platforms.isEmpty() ? null : platforms.get(0);
+    }
+
+    /**
+     * @return platform with the largest Y, or null if there are none
+     */
+    public GamePlatform bottommost() {
+        return platforms.isEmpty() ? null : platforms.get(size() - 1);
+    }
+
+    /**
+     * @param y vertical position
+     * @return first platform at or below y, or null if every platform is
+     *  above it
+     */
+    public GamePlatform nearestBelow(int y) {
+        int index = indexAtOrBelow(y);
+        return index < size() ? platforms.get(index) : null;
+    }
+
+    /**
+     * @param minY top of the range, inclusive
+     * @param maxY bottom of the range, inclusive
+     * @return view of the platforms with a Y in the range, top first
+     */
+    public List<GamePlatform> between(int minY, int maxY) {
+        if (maxY < minY) {
+            return List.of();
+        }
+        return platforms.subList(indexAtOrBelow(minY), indexBelow(maxY));
+    }
+
+    /**
+     * Insert a platform where it belongs, so the list stays sorted.
+     * @return true
+     */
+    @Override
+    public boolean add(GamePlatform platform) {
+        platforms.add(indexAtOrBelow(platform.y()), platform);
+        return true;
+    }
+
+    @Override
+    public GamePlatform get(int index) {
+        return platforms.get(index);
+    }
+
+    @Override
+    public GamePlatform remove(int index) {
+        return platforms.remove(index);
+    }
+
+    @Override
+    public void clear() {
+        platforms.clear();
+    }
+
+    @Override
+    public int size() {
+        return platforms.size();
+    }
+
+    /**
+     * @return index of the first platform with a Y of at least y, or the
+     *  size of the list if there is none
+     */
+    private int indexAtOrBelow(int y) {
+        int low = 0;
+        int high = size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (platforms.get(middle).y() < y) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return index of the first platform with a Y greater than y
+     */
+    private int indexBelow(int y) {
+        return y == Integer.MAX_VALUE ? size() : indexAtOrBelow(y + 1);
+    }
+}
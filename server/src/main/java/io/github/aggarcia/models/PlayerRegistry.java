@@ -0,0 +1,192 @@
+package io.github.aggarcia.models;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Thread safe map of client IDs to players. Reads never block, and
+ * iterating never throws, no matter how many players join or leave at the
+ * same time. A join or a leave takes expected constant time, whatever the
+ * size of the room, so join bursts at the start of a large game stay cheap.
+ *
+ * Names are unique, ignoring case. A name is reserved atomically before
+ * its player is added, so of two clients joining with the same name,
+ * exactly one succeeds. Writes for one client are expected to come from
+ * one thread at a time, the room actor.
+ */
+public final class PlayerRegistry extends AbstractMap<String, PlayerStore> {
+    private final Map<String, PlayerStore> players = new ConcurrentHashMap<>();
+
+    /** Client ID of each player, by normalized name. */
+    private final Map<String, String> clientsByName =
+        new ConcurrentHashMap<>();
+
+    private final Map<String, PlayerStore> view =
+        Collections.unmodifiableMap(players);
+
+    public PlayerRegistry() {}
+
+    /**
+     * @param players initial contents, copied
+     * @throws IllegalArgumentException if two players share a name
+     */
+    public PlayerRegistry(Map<String, PlayerStore> players) {
+        players.forEach(this::put);
+    }
+
+    /**
+     * Not a snapshot, the view is live and weakly consistent. Callers that
+     * need a stable set of players, like the room actor during a tick,
+     * must not let players join or leave while they iterate.
+     * @return read only view of the players. Iterating it while players
+     *  join or leave never throws, and sees each player at most once, but
+     *  may or may not see the changes made since it started.
+     */
+    public Map<String, PlayerStore> view() {
+        return view;
+    }
+
+    /**
+     * @param name player name, in any case
+     * @return true if a player in the registry has the name
+     */
+    public boolean containsName(String name) {
+        return clientsByName.containsKey(normalize(name));
+    }
+
+    /**
+     * Remove every player.
+     * @return the players that were removed, none of which can be returned
+     *  by another call to this method or to {@link #remove(Object)}
+     */
+    public Map<String, PlayerStore> removeAll() {
+        var removed = new HashMap<String, PlayerStore>();
+        for (var client : players.keySet()) {
+            var player = remove(client);
+            if (player != null) {
+                removed.put(client, player);
+            }
+        }
+        return removed;
+    }
+
+    @Override
+    public PlayerStore get(Object client) {
+        return players.get(client);
+    }
+
+    @Override
+    public boolean containsKey(Object client) {
+        return players.containsKey(client);
+    }
+
+    @Override
+    public int size() {
+        return players.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return players.isEmpty();
+    }
+
+    @Override
+    public Set<Entry<String, PlayerStore>> entrySet() {
+        return view.entrySet();
+    }
+
+    @Override
+    public Collection<PlayerStore> values() {
+        return view.values();
+    }
+
+    /**
+     * @throws IllegalArgumentException if another client has a player with
+     *  the same name. Of two clients adding the same name at the same time,
+     *  exactly one succeeds.
+     */
+    @Override
+    public PlayerStore put(String client, PlayerStore player) {
+        var name = reserveName(client, player);
+        var previous = players.put(client, player);
+        releaseOldName(client, previous, name);
+        return previous;
+    }
+
+    /**
+     * @throws IllegalArgumentException if another client has a player with
+     *  the same name
+     */
+    @Override
+    public PlayerStore putIfAbsent(String client, PlayerStore player) {
+        var name = reserveName(client, player);
+        var previous = players.putIfAbsent(client, player);
+        if (previous != null && !normalize(previous.name()).equals(name)) {
+            // the player was not added, so neither is its name
+            clientsByName.remove(name, client);
+        }
+        return previous;
+    }
+
+    /**
+     * Remove a player and release its name. If two threads remove the same
+     * client at the same time, only one of them gets the player back.
+     */
+    @Override
+    public PlayerStore remove(Object client) {
+        var player = players.remove(client);
+        if (player != null) {
+            clientsByName.remove(normalize(player.name()), client);
+        }
+        return player;
+    }
+
+    @Override
+    public void clear() {
+        removeAll();
+    }
+
+    /**
+     * @return the normalized name, now owned by the client
+     * @throws IllegalArgumentException if another client owns the name
+     */
+    private String reserveName(String client, PlayerStore player) {
+        var name = normalize(player.name());
+        var owner = clientsByName.putIfAbsent(name, client);
+        if (owner != null && !owner.equals(client)) {
+            throw new IllegalArgumentException(
+                "Username already in use: " + player.name());
+        }
+        return name;
+    }
+
+    /**
+     * Release the name of the player a client had before, if it changed.
+     */
+    private void
+    releaseOldName(String client, PlayerStore previous, String name) {
+        if (previous == null) {
+            return;
+        }
+        var oldName = normalize(previous.name());
+        if (!oldName.equals(name)) {
+            clientsByName.remove(oldName, client);
+        }
+    }
+
+    /**
+     * @param name player name, in any case
+     * @return the key a name is indexed under, so that names that only
+     *  differ in case collide. Anything else that compares player names
+     *  must use it too.
+     */
+    public static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
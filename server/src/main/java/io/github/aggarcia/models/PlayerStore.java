@@ -4,8 +4,10 @@ import java.sql.Timestamp;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Random;
+import java.util.UUID;
 
 import io.github.aggarcia.engine.GameConstants;
+import io.github.aggarcia.history.GameRecord;
 import io.github.aggarcia.leaderboard.LeaderboardEntry;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -41,6 +43,17 @@ public final class PlayerStore {
     private final String color;
     private final String name;
 
+    /**
+     * Secret that lets a new session take over this player, e.g. after the
+     * server restarts from a snapshot.
+     */
+    @Builder.Default
+    private final String resumeToken = createResumeToken();
+
+    /** When the player joined the game, in epoch milliseconds. */
+    @Builder.Default
+    private final long joinedAtMillis = System.currentTimeMillis();
+
     // we don't want setters on position
     @Getter
     private int xPosition;
@@ -56,12 +69,28 @@ public final class PlayerStore {
 
     private int score;
 
+    /**
+     * Sequence number of the last ControlChangeEvent applied to this player,
+     * echoed back to the client so it can reconcile predicted movement.
+     */
+    private int lastInputSequence;
+
+    /** Highest platform gravity the player has played through. */
+    private int peakPlatformGravity;
+
     /**
      * true if the player state has changes since the last tick,
      * false otherwise.
      */
     private boolean hasChanged;
 
+    /**
+     * @return new random token, impossible to guess
+     */
+    public static String createResumeToken() {
+        return UUID.randomUUID().toString();
+    }
+
     // TODO: only used by tests, try to remove
     /**
      * Factory function to create a new player with a random color and position.
@@ -146,10 +175,14 @@ public final class PlayerStore {
      * @param platformGravity gravity to apply to the platforms
      * @return reference to the same object
      */
-    public synchronized PlayerStore moveToNextTick(
+    public PlayerStore moveToNextTick(
         Collection<GamePlatform> platforms,
         int platformGravity
     ) {
+        if (platformGravity > this.peakPlatformGravity) {
+            this.peakPlatformGravity = platformGravity;
+        }
+
         // bounds checking with sides
         int newX = this.xPosition + this.xVelocity;
         if (newX > MAX_PLAYER_X) {
@@ -219,7 +252,7 @@ public final class PlayerStore {
      * @return true if the player rectangle makes contact with the platform,
      *  false otherwise
      */
-    private synchronized boolean isTouchingPlatform(GamePlatform platform) {
+    private boolean isTouchingPlatform(GamePlatform platform) {
         int minY = this.yPosition;
         int maxY = this.yPosition + PLAYER_HEIGHT;
 
@@ -248,25 +281,43 @@ public final class PlayerStore {
      * @param points number of points to add
      * @return reference to the same object
      */
-    public synchronized PlayerStore addToScore(int points) {
+    public PlayerStore addToScore(int points) {
         this.score += points;
         return this;
     }
 
-    public synchronized PlayerStore clone() {
+    public PlayerStore clone() {
         return PlayerStore.builder()
             .color(this.color())
             .name(this.name())
+            .resumeToken(this.resumeToken())
+            .joinedAtMillis(this.joinedAtMillis())
             .xPosition(this.xPosition())
             .yPosition(this.yPosition())
             .yVelocity(this.yVelocity())
             .score(this.score)
+            .lastInputSequence(this.lastInputSequence)
+            .peakPlatformGravity(this.peakPlatformGravity)
             .hasChanged(this.hasChanged())
             .build();
     }
 
-    public synchronized LeaderboardEntry createLeaderboardEntry() {
+    public LeaderboardEntry createLeaderboardEntry() {
         var now = new Timestamp(System.currentTimeMillis());
         return new LeaderboardEntry(this.name(), this.score(), now);
     }
+
+    /**
+     * @param endedAtMillis when the player lost, in epoch milliseconds
+     * @return history row for the game this player just finished
+     */
+    public GameRecord createGameRecord(long endedAtMillis) {
+        return new GameRecord(
+            this.name(),
+            this.score(),
+            Math.max(0, endedAtMillis - this.joinedAtMillis()),
+            this.peakPlatformGravity(),
+            this.joinedAtMillis()
+        );
+    }
 }
@@ -0,0 +1,102 @@
+package io.github.aggarcia.models;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * Set of the open sessions in a room, kept as an immutable array that is
+ * rebuilt only when a session connects or disconnects. Broadcasting to every
+ * session is then a plain loop over {@link #snapshot()}, with no lock and no
+ * iterator.
+ */
+public final class SessionRegistry extends AbstractSet<WebSocketSession> {
+    private static final WebSocketSession[] EMPTY = new WebSocketSession[0];
+
+    private volatile WebSocketSession[] snapshot = EMPTY;
+
+    public SessionRegistry() {}
+
+    /**
+     * @param sessions initial contents, copied
+     */
+    public SessionRegistry(Collection<WebSocketSession> sessions) {
+        this.addAll(sessions);
+    }
+
+    /**
+     * @return every session at this instant. Shared between callers, so it
+     *  must not be modified.
+     */
+    public WebSocketSession[] snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @param id session ID
+     * @return the session with the ID, or null if it is not open
+     */
+    public WebSocketSession find(String id) {
+        for (var session : snapshot) {
+            if (id.equals(session.getId())) {
+                return session;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized boolean add(WebSocketSession session) {
+        if (contains(session)) {
+            return false;
+        }
+        var next = Arrays.copyOf(snapshot, snapshot.length + 1);
+        next[next.length - 1] = session;
+        snapshot = next;
+        return true;
+    }
+
+    @Override
+    public synchronized boolean remove(Object session) {
+        var current = snapshot;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] != session) {
+                continue;
+            }
+            var next = new WebSocketSession[current.length - 1];
+            System.arraycopy(current, 0, next, 0, i);
+            System.arraycopy(current, i + 1, next, i, next.length - i);
+            snapshot = next;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public synchronized void clear() {
+        snapshot = EMPTY;
+    }
+
+    @Override
+    public boolean contains(Object session) {
+        for (var current : snapshot) {
+            if (current == session) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Iterator<WebSocketSession> iterator() {
+        return Arrays.asList(snapshot).iterator();
+    }
+
+    @Override
+    public int size() {
+        return snapshot.length;
+    }
+}
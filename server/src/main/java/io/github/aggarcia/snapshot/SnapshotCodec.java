@@ -0,0 +1,119 @@
+package io.github.aggarcia.snapshot;
+
+import io.github.aggarcia.messages.Snapshots.GameSnapshot;
+import io.github.aggarcia.messages.Snapshots.PlatformSnapshot;
+import io.github.aggarcia.messages.Snapshots.PlayerSnapshot;
+import io.github.aggarcia.models.DetachedPlayer;
+import io.github.aggarcia.models.GamePlatform;
+import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlayerStore;
+
+/**
+ * Pure functions to convert between a game store and its snapshot.
+ */
+public final class SnapshotCodec {
+    /** Written to every snapshot, older versions cannot be restored. */
+    public static final int VERSION = 1;
+
+    private SnapshotCodec() {}
+
+    /**
+     * Copy the state of the store into an immutable snapshot. Must run on
+     * the room actor, but is only a copy so it is cheap enough to do there.
+     * Encoding and writing the snapshot can then happen on any thread.
+     * @param store game state
+     * @return snapshot of the store, both players with a session and
+     *  detached players are included
+     */
+    public static GameSnapshot capture(GameStore store) {
+        var snapshot = GameSnapshot.newBuilder()
+            .setVersion(VERSION)
+            .setTickCount(store.tickCount())
+            .setGameAgeSeconds(store.gameAgeSeconds())
+            .setPlatformGravity(store.platformGravity());
+
+        for (var platform : store.platforms()) {
+            snapshot.addPlatforms(PlatformSnapshot.newBuilder()
+                .setWidth(platform.width())
+                .setX(platform.x())
+                .setY(platform.y()));
+        }
+        for (var player : store.players().view().values()) {
+            snapshot.addPlayers(capturePlayer(player));
+        }
+        for (var detached : store.detachedPlayers().values()) {
+            snapshot.addPlayers(capturePlayer(detached.player()));
+        }
+        return snapshot.build();
+    }
+
+    /**
+     * Load a snapshot into an empty store. Must run on the room actor.
+     * Players are restored as detached players, since their sessions did
+     * not survive the restart.
+     * @param snapshot state to restore
+     * @param store store to load it into
+     * @param expiresAtMillis time at which restored players that have not
+     *  been resumed are removed from the game
+     * @throws IllegalArgumentException if the snapshot version is not
+     *  supported
+     */
+    public static void restore(
+        GameSnapshot snapshot,
+        GameStore store,
+        long expiresAtMillis
+    ) {
+        if (snapshot.getVersion() != VERSION) {
+            throw new IllegalArgumentException(
+                "Unsupported snapshot version: " + snapshot.getVersion());
+        }
+        store.tickCount(snapshot.getTickCount());
+        store.gameAgeSeconds(snapshot.getGameAgeSeconds());
+        store.platformGravity(snapshot.getPlatformGravity());
+
+        store.platforms().clear();
+        for (var platform : snapshot.getPlatformsList()) {
+            store.platforms().add(new GamePlatform(
+                platform.getWidth(), platform.getX(), platform.getY()));
+        }
+        for (var player : snapshot.getPlayersList()) {
+            var detached =
+                new DetachedPlayer(restorePlayer(player), expiresAtMillis);
+            store.detachedPlayers().put(player.getResumeToken(), detached);
+        }
+        store.isRestored(snapshot.getPlayersCount() > 0);
+    }
+
+    private static PlayerSnapshot capturePlayer(PlayerStore player) {
+        return PlayerSnapshot.newBuilder()
+            .setResumeToken(player.resumeToken())
+            .setName(player.name())
+            .setColor(player.color())
+            .setX(player.xPosition())
+            .setY(player.yPosition())
+            .setXVelocity(player.xVelocity())
+            .setYVelocity(player.yVelocity())
+            .setScore(player.score())
+            .setLastInputSequence(player.lastInputSequence())
+            .setJoinedAtMillis(player.joinedAtMillis())
+            .setPeakPlatformGravity(player.peakPlatformGravity())
+            .build();
+    }
+
+    private static PlayerStore restorePlayer(PlayerSnapshot player) {
+        return PlayerStore.builder()
+            .resumeToken(player.getResumeToken())
+            .name(player.getName())
+            .color(player.getColor())
+            .xPosition(player.getX())
+            .yPosition(player.getY())
+            .xVelocity(player.getXVelocity())
+            .yVelocity(player.getYVelocity())
+            .score(player.getScore())
+            .lastInputSequence(player.getLastInputSequence())
+            .joinedAtMillis(player.getJoinedAtMillis())
+            .peakPlatformGravity(player.getPeakPlatformGravity())
+            .hasChanged(true)
+            .build();
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.aggarcia.snapshot;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+import io.github.aggarcia.messages.Snapshots.GameSnapshot;
+import io.github.aggarcia.models.GameStore;
+
+/**
+ * Saves snapshots of one game store to a file on local disk, and loads
+ * them back on boot. The file is replaced atomically, so a crash during a
+ * write leaves the previous snapshot intact.
+ *
+ * Saving captures the store on its room actor, but encodes and writes the
+ * file on the calling thread, so it should not be called by the actor.
+ */
+public final class SnapshotStore {
+    private final GameStore store;
+    private final Path path;
+
+    /**
+     * Last state written, without its timestamp. Only accessed while
+     * holding the lock on this object.
+     */
+    private GameSnapshot lastSaved = null;
+
+    /**
+     * @param store game state to save and restore
+     * @param path file to write the snapshots to
+     */
+    public SnapshotStore(GameStore store, Path path) {
+        this.store = store;
+        this.path = path;
+    }
+
+    /**
+     * Write a snapshot of the store, unless nothing has changed since the
+     * last one.
+     * @return true if the file was written, false otherwise
+     * @throws IOException if the file could not be written
+     */
+    public synchronized boolean save() throws IOException {
+        var snapshot = store.actor()
+            .submit(() -> SnapshotCodec.capture(store))
+            .join();
+        if (snapshot.equals(lastSaved)) {
+            return false;
+        }
+        var data = snapshot.toBuilder()
+            .setSavedAtMillis(System.currentTimeMillis())
+            .build()
+            .toByteArray();
+
+        var temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.write(temp, data);
+        try {
+            Files.move(temp, path,
+                StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        }
+        lastSaved = snapshot;
+        return true;
+    }
+
+    /**
+     * Load the last snapshot into the store, if there is one.
+     * @param graceMillis how long restored players have to be resumed
+     * @return number of players restored, all of them detached
+     * @throws IOException if the file exists but could not be read
+     * @throws IllegalArgumentException if the snapshot is not supported
+     */
+    public synchronized int restore(long graceMillis) throws IOException {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        var snapshot = GameSnapshot.parseFrom(Files.readAllBytes(path));
+        long expiresAtMillis = System.currentTimeMillis() + graceMillis;
+        store.actor()
+            .submit(() -> {
+                SnapshotCodec.restore(snapshot, store, expiresAtMillis);
+                return null;
+            })
+            .join();
+        lastSaved = snapshot.toBuilder().clearSavedAtMillis().build();
+        return snapshot.getPlayersCount();
+    }
+
+    /**
+     * @return file the snapshots are written to
+     */
+    public Path path() {
+        return path;
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.aggarcia;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import io.github.aggarcia.engine.GameLoop;
+import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlayerStore;
+import io.github.aggarcia.snapshot.SnapshotStore;
+
+@SpringBootTest
+class AppSnapshotTest {
+    @Autowired
+    private GameLoop gameLoop;
+
+    /** Boots the app from a snapshot of a game with one player. */
+    @DynamicPropertySource
+    static void snapshotWithPlayer(DynamicPropertyRegistry registry)
+    throws IOException {
+        Path path = Files.createTempDirectory("snapshot").resolve("game");
+        var store = new GameStore();
+        store.players().put("client", PlayerStore.createRandomPlayer("a"));
+        new SnapshotStore(store, path).save();
+
+        registry.add("game.snapshot.path", path::toString);
+        registry.add("game.snapshot.resumeGraceSeconds", () -> "60");
+    }
+
+    @Test
+    void test_boot_snapshotWithPlayers_startsGameLoop() {
+        assertTrue(gameLoop.isRunning());
+        gameLoop.forceQuit();
+    }
+}
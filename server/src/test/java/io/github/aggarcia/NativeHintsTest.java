@@ -0,0 +1,55 @@
+package io.github.aggarcia;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import io.github.aggarcia.leaderboard.LeaderboardRank;
+import io.github.aggarcia.messages.Generated.LeaderboardUpdate;
+import io.github.aggarcia.messages.Generated.SocketMessage;
+import io.github.aggarcia.messages.Snapshots.GameSnapshot;
+
+public class NativeHintsTest {
+    @Test
+    void test_registerHints_protobufMessages_areReflective() {
+        var hints = registerHints();
+        var reflection = RuntimeHintsPredicates.reflection();
+
+        assertTrue(reflection.onType(SocketMessage.class).test(hints));
+        assertTrue(reflection.onType(SocketMessage.Builder.class).test(hints));
+        assertTrue(reflection.onType(LeaderboardUpdate.class).test(hints));
+        assertTrue(reflection.onType(GameSnapshot.Builder.class).test(hints));
+        assertTrue(reflection
+            .onMethod(SocketMessage.class, "getDefaultInstance")
+            .test(hints));
+    }
+
+    @Test
+    void test_registerHints_restResponses_areSerializable() throws Exception {
+        var hints = registerHints();
+        var reflection = RuntimeHintsPredicates.reflection();
+
+        assertTrue(reflection.onType(LeaderboardRank.class).test(hints));
+        assertTrue(reflection
+            .onMethod(LeaderboardRank.class.getMethod("score"))
+            .test(hints));
+    }
+
+    @Test
+    void test_registerHints_jdbcDriverOnClasspath_isRegistered() {
+        var hints = registerHints();
+        assertTrue(RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of("org.postgresql.Driver"))
+            .test(hints));
+    }
+
+    private static RuntimeHints registerHints() {
+        var hints = new RuntimeHints();
+        new NativeHints().registerHints(
+            hints, NativeHintsTest.class.getClassLoader());
+        return hints;
+    }
+}
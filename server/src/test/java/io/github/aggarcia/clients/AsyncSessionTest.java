@@ -0,0 +1,79 @@
+package io.github.aggarcia.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+
+@DisabledInNativeImage
+public class AsyncSessionTest {
+    @Test
+    void test_sendMessage_manyMessages_writesInOrder() throws Exception {
+        var session = Mockito.mock(WebSocketSession.class);
+        var tasks = new ArrayList<Runnable>();
+        var async = new AsyncSession(session, tasks::add, 10);
+
+        var first = new BinaryMessage(new byte[] {1});
+        var second = new BinaryMessage(new byte[] {2});
+        async.sendMessage(first);
+        async.sendMessage(second);
+        Mockito.verify(session, Mockito.never()).sendMessage(Mockito.any());
+
+        runAll(tasks);
+        InOrder inOrder = Mockito.inOrder(session);
+        inOrder.verify(session).sendMessage(first);
+        inOrder.verify(session).sendMessage(second);
+        assertEquals(0, async.pending());
+    }
+
+    @Test
+    void test_sendMessage_tooManyPending_dropsQueueAndCloses()
+    throws Exception {
+        var session = Mockito.mock(WebSocketSession.class);
+        var tasks = new ArrayList<Runnable>();
+        var async = new AsyncSession(session, tasks::add, 2);
+
+        for (int i = 0; i < 3; i++) {
+            async.sendMessage(new BinaryMessage(new byte[] {(byte) i}));
+        }
+        runAll(tasks);
+
+        Mockito.verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        Mockito.verify(session, Mockito.never()).sendMessage(Mockito.any());
+        assertEquals(0, async.pending());
+    }
+
+    @Test
+    void test_sendMessage_afterClosing_isNotQueued() throws Exception {
+        var session = Mockito.mock(WebSocketSession.class);
+        var tasks = new ArrayList<Runnable>();
+        var async = new AsyncSession(session, tasks::add, 1);
+        for (int i = 0; i < 2; i++) {
+            async.sendMessage(new BinaryMessage(new byte[] {(byte) i}));
+        }
+        runAll(tasks);
+
+        async.sendMessage(new BinaryMessage(new byte[] {2}));
+        assertEquals(0, async.pending());
+        assertTrue(tasks.isEmpty());
+    }
+
+    /**
+     * Stands in for the pool, runs every task including the ones posted
+     * while running.
+     */
+    private void runAll(List<Runnable> tasks) {
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+}
@@ -4,22 +4,33 @@ import static io.github.aggarcia.messages.Serializer.serialize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
 
+import io.github.aggarcia.engine.RoomActor;
+import io.github.aggarcia.messages.Generated.ControlChangeEvent;
 import io.github.aggarcia.messages.Generated.JoinEvent;
+import io.github.aggarcia.messages.Generated.LeaderboardUpdate;
+import io.github.aggarcia.messages.Generated.PlayerControl;
+import io.github.aggarcia.messages.Generated.Pong;
 import io.github.aggarcia.messages.Generated.SocketMessage;
 import io.github.aggarcia.models.GameStore;
 import io.github.aggarcia.models.PlayerStore;
 
 // naming convention: test_<unit>_<state>_<expected behavior>
 @SpringBootTest
+@DisabledInNativeImage
 public class ClientHandlerTest {
     private GameStore gameStore;
     private ClientHandler connectionHandler;
@@ -31,6 +42,7 @@ public class ClientHandlerTest {
     void resetState() {
         gameStore = new GameStore();
         connectionHandler = new ClientHandler(gameStore);
+        Mockito.when(mockSession.getId()).thenReturn("test session");
     }
 
     @Test
@@ -62,14 +74,30 @@ public class ClientHandlerTest {
     }
 
     @Test
-    void test_afterConnectionClosed_oneSession_addsPlayerToLoserQueue()
-    throws Exception {
+    void test_afterConnectionClosed_connectionDropped_detachesPlayer() {
+        var testPlayer = PlayerStore.createRandomPlayer("test");
+        gameStore.players().put(mockSession.getId(), testPlayer);
+
+        connectionHandler.afterConnectionClosed(
+            mockSession, CloseStatus.NO_CLOSE_FRAME);
+        assertNull(gameStore.players().get(mockSession.getId()));
+        // not a loser until the resume token expires
+        assertEquals(gameStore.unprocessedLosers().size(), 0);
+        assertEquals(
+            testPlayer,
+            gameStore.detachedPlayers().get(testPlayer.resumeToken()).player()
+        );
+    }
+
+    @Test
+    void test_afterConnectionClosed_normalClosure_addsPlayerToLosers() {
         var testPlayer = PlayerStore.createRandomPlayer("test");
         gameStore.players().put(mockSession.getId(), testPlayer);
 
         connectionHandler.afterConnectionClosed(mockSession, CloseStatus.NORMAL);
-        assertEquals(gameStore.unprocessedLosers().size(), 1);
-        assertEquals(gameStore.unprocessedLosers().take(), testPlayer);
+        assertNull(gameStore.players().get(mockSession.getId()));
+        assertTrue(gameStore.detachedPlayers().isEmpty());
+        assertEquals(testPlayer, gameStore.unprocessedLosers().peek());
     }
 
     @Test
@@ -94,4 +122,82 @@ public class ClientHandlerTest {
         connectionHandler.handleBinaryMessage(mockSession, message);
         assertNotNull(gameStore.players().get(mockSession.getId()));
     }
+
+    @Test
+    void test_handleBinaryMessage_flood_dropsMessagesOverLimit() {
+        var message = new BinaryMessage(serialize(pong()));
+
+        for (int i = 0; i < 100; i++) {
+            connectionHandler.handleBinaryMessage(mockSession, message);
+        }
+        // the bucket cannot refill 50 tokens in the time the loop takes
+        assertTrue(gameStore.droppedEvents().sum() >= 50);
+    }
+
+    @Test
+    void test_handleBinaryMessage_controlsAfterFlood_areApplied() {
+        var testPlayer = PlayerStore.createRandomPlayer("test");
+        gameStore.players().put(mockSession.getId(), testPlayer);
+        var message = new BinaryMessage(serialize(pong()));
+        for (int i = 0; i < 100; i++) {
+            connectionHandler.handleBinaryMessage(mockSession, message);
+        }
+
+        connectionHandler.handleBinaryMessage(
+            mockSession, new BinaryMessage(serialize(controlChange(7))));
+        assertEquals(7, testPlayer.lastInputSequence());
+    }
+
+    @Test
+    void test_handleBinaryMessage_controlsWhileActorBusy_appliesNewest() {
+        var pending = new ArrayList<Runnable>();
+        gameStore = GameStore.builder()
+            .actor(new RoomActor(pending::add))
+            .build();
+        connectionHandler = new ClientHandler(gameStore);
+        var testPlayer = PlayerStore.createRandomPlayer("test");
+        gameStore.players().put(mockSession.getId(), testPlayer);
+
+        for (int i = 1; i <= 3; i++) {
+            connectionHandler.handleBinaryMessage(
+                mockSession,
+                new BinaryMessage(serialize(controlChange(i))));
+        }
+        assertEquals(2, gameStore.coalescedEvents().sum());
+
+        // the one posted message drains the mailbox
+        assertEquals(1, pending.size());
+        pending.get(0).run();
+        assertEquals(3, testPlayer.lastInputSequence());
+    }
+
+    @Test
+    void test_pushLeaderboard_twoSessions_onlySendsToSubscriber()
+    throws Exception {
+        var otherSession = Mockito.mock(WebSocketSession.class);
+        Mockito.when(otherSession.getId()).thenReturn("other session");
+        connectionHandler.afterConnectionEstablished(mockSession);
+        connectionHandler.afterConnectionEstablished(otherSession);
+        gameStore.leaderboardSubscribers().add(mockSession.getId());
+
+        connectionHandler.pushLeaderboard(
+            LeaderboardUpdate.getDefaultInstance());
+        Mockito.verify(mockSession).sendMessage(Mockito.any());
+        Mockito.verify(otherSession, Mockito.never())
+            .sendMessage(Mockito.any());
+    }
+
+    private static SocketMessage pong() {
+        return SocketMessage.newBuilder()
+            .setPong(Pong.getDefaultInstance())
+            .build();
+    }
+
+    private static SocketMessage controlChange(int sequence) {
+        return SocketMessage.newBuilder()
+            .setControlChangeEvent(ControlChangeEvent.newBuilder()
+                .addPressedControls(PlayerControl.RIGHT)
+                .setSequence(sequence))
+            .build();
+    }
 }
@@ -12,19 +12,31 @@ import org.junit.jupiter.api.Test;
 import io.github.aggarcia.clients.updates.CreateFirstPlayer;
 import io.github.aggarcia.clients.updates.CreatePlayer;
 import io.github.aggarcia.clients.updates.ErrorUpdate;
+import io.github.aggarcia.clients.updates.RecordRoundTrip;
+import io.github.aggarcia.clients.updates.RemovePlayer;
+import io.github.aggarcia.clients.updates.ResumePlayer;
+import io.github.aggarcia.clients.updates.SubscribeLeaderboard;
 import io.github.aggarcia.clients.updates.UpdateVelocity;
+import io.github.aggarcia.engine.RoomProfile;
+import io.github.aggarcia.leaderboard.LeaderboardEntry;
 import io.github.aggarcia.messages.Generated.ControlChangeEvent;
 import io.github.aggarcia.messages.Generated.JoinEvent;
+import io.github.aggarcia.messages.Generated.LeaderboardSubscribe;
 import io.github.aggarcia.messages.Generated.PlayerControl;
+import io.github.aggarcia.messages.Generated.Pong;
 import io.github.aggarcia.messages.Generated.SocketMessage;
+import io.github.aggarcia.models.DetachedPlayer;
 import io.github.aggarcia.models.GamePlatform;
 import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlatformList;
+import io.github.aggarcia.models.PlayerRegistry;
 import io.github.aggarcia.models.PlayerStore;
 
 import static io.github.aggarcia.clients.EventProcessor.MAX_NAME_LENGTH;
 import static io.github.aggarcia.clients.EventProcessor.processControlChange;
 import static io.github.aggarcia.clients.EventProcessor.processEvent;
 import static io.github.aggarcia.clients.EventProcessor.processJoin;
+import static io.github.aggarcia.clients.EventProcessor.processLeave;
 import static io.github.aggarcia.engine.GameConstants.INIT_PLATFORM_GRAVITY;
 import static io.github.aggarcia.messages.Serializer.deserialize;
 import static io.github.aggarcia.models.PlayerStore.SPAWN_HEIGHT;;
@@ -56,7 +68,8 @@ public class EventProcessorTest {
         var wrappedEvent = SocketMessage.newBuilder()
             .setControlChangeEvent(event).build();
         var store = GameStore.builder()
-            .players(Map.of("client1", PlayerStore.createRandomPlayer("")))
+            .players(new PlayerRegistry(
+                Map.of("client1", PlayerStore.createRandomPlayer(""))))
             .build();
 
         assertEquals(
@@ -65,6 +78,42 @@ public class EventProcessorTest {
         );
     }
 
+    @Test
+    void test_processEvent_pong_recordsRoundTripForClient() {
+        var sentAt = SessionLatency.now();
+        var pong = Pong.newBuilder().setServerTimeNanos(sentAt);
+        var wrappedEvent = SocketMessage.newBuilder().setPong(pong).build();
+        var store = new GameStore();
+
+        var update = processEvent("client1", wrappedEvent, store);
+        assertTrue(update instanceof RecordRoundTrip);
+        assertTrue(update.reply().isEmpty());
+
+        update.applyTo(store);
+        assertEquals(1, store.latencies().get("client1").stats().samples());
+    }
+
+    @Test
+    void test_processEvent_leaderboardSubscribe_repliesWithFullBoard() {
+        var store = new GameStore();
+        store.leaderboardFeed().diff(List.of(
+            new LeaderboardEntry("a", 10, null)));
+        var wrappedEvent = SocketMessage.newBuilder()
+            .setLeaderboardSubscribe(LeaderboardSubscribe.getDefaultInstance())
+            .build();
+
+        var update = processEvent("client1", wrappedEvent, store);
+        assertTrue(update instanceof SubscribeLeaderboard);
+        var board = deserialize(update.reply().get())
+            .get()
+            .getLeaderboardUpdate();
+        assertTrue(board.getIsFull());
+        assertEquals("a", board.getRows(0).getPlayer());
+
+        update.applyTo(store);
+        assertTrue(store.leaderboardSubscribers().contains("client1"));
+    }
+
     @Test
     void test_processControlChange_missingPlayer_returnsError() {
         var event = controlChangeEvent();
@@ -191,6 +240,25 @@ public class EventProcessorTest {
         assertEquals(1000, velocity.yVelocity());
     }
 
+    @Test
+    void test_processControlChange_eventWithSequence_returnsSameSequence() {
+        var event = controlChangeEvent(PlayerControl.RIGHT)
+            .toBuilder()
+            .setSequence(42)
+            .build();
+        var velocity = processControlWithValidPlayer(event);
+        assertEquals(42, velocity.inputSequence());
+    }
+
+    @Test
+    void test_applyTo_updateVelocity_setsLastInputSequence() {
+        var player = PlayerStore.createRandomPlayer("player1");
+        var store = testStateWithPlayer(player);
+
+        new UpdateVelocity("player1", 0, 0, 7).applyTo(store);
+        assertEquals(7, player.lastInputSequence());
+    }
+
     @Test
     void test_processJoin_firstPlayer_returnsCreateFirstPlayerWithCorrectPlayer() {
         var event = joinEvent("player1");
@@ -214,12 +282,14 @@ public class EventProcessorTest {
 
         Map<String, PlayerStore> players = new HashMap<>();
         // create one less than the limit, so there's room for one more player
-        for (int i = 0; i < EventProcessor.MAX_PLAYER_COUNT - 1; i++) {
+        for (int i = 0; i < RoomProfile.STANDARD.maxPlayers() - 1; i++) {
             var stringI = Integer.toString(i);
             players.put(stringI, PlayerStore.createRandomPlayer(stringI));
         }
 
-        var store = GameStore.builder().players(players).build();
+        var store = GameStore.builder()
+            .players(new PlayerRegistry(players))
+            .build();
         var createUpdate =
             (CreatePlayer) processJoin("unique client", event, store);
         assertEquals("unique client", createUpdate.client());
@@ -231,16 +301,34 @@ public class EventProcessorTest {
         var event = joinEvent("");
 
         Map<String, PlayerStore> players = new HashMap<>();
-        for (int i = 0; i < EventProcessor.MAX_PLAYER_COUNT; i++) {
+        for (int i = 0; i < RoomProfile.STANDARD.maxPlayers(); i++) {
             var stringI = Integer.toString(i);
             players.put(stringI, PlayerStore.createRandomPlayer(stringI));
         }
 
-        var store = GameStore.builder().players(players).build();
+        var store = GameStore.builder()
+            .players(new PlayerRegistry(players))
+            .build();
         var update = processJoin("", event, store);
         assertTrue(update instanceof ErrorUpdate);
     }
 
+    @Test
+    void test_processJoin_largeRoomPastStandardLimit_returnsCreatePlayer() {
+        Map<String, PlayerStore> players = new HashMap<>();
+        for (int i = 0; i < RoomProfile.STANDARD.maxPlayers(); i++) {
+            var stringI = Integer.toString(i);
+            players.put(stringI, PlayerStore.createRandomPlayer(stringI));
+        }
+
+        var store = GameStore.builder()
+            .profile(RoomProfile.LARGE)
+            .players(new PlayerRegistry(players))
+            .build();
+        var update = processJoin("client", joinEvent("unique"), store);
+        assertEquals(CreatePlayer.class, update.getClass());
+    }
+
     @Test
     void test_processJoin_duplicateClient_returnsError() {
         var event = joinEvent("");
@@ -311,6 +399,104 @@ public class EventProcessorTest {
         assertEquals("" + store.instanceId(), reply.getServerId());
     }
 
+    @Test
+    void test_processJoin_newPlayer_returnsJoinReplyWithResumeToken() {
+        var update = (CreateFirstPlayer) processJoin(
+            "client", joinEvent("a"), new GameStore());
+
+        var reply = deserialize(update.reply().get()).get().getJoinReply();
+        assertEquals(update.player().resumeToken(), reply.getResumeToken());
+    }
+
+    @Test
+    void test_processJoin_detachedPlayerHasName_returnsError() {
+        var store = new GameStore();
+        var player = PlayerStore.createRandomPlayer("taken");
+        store.detachedPlayers().put(
+            player.resumeToken(), new DetachedPlayer(player, Long.MAX_VALUE));
+
+        var update = processJoin("client", joinEvent("taken"), store);
+        assertEquals(ErrorUpdate.class, update.getClass());
+    }
+
+    @Test
+    void test_processJoin_detachedNameNormalizesSame_returnsError() {
+        var store = new GameStore();
+        // equalsIgnoreCase tells these apart, the registry does not
+        var player = PlayerStore.createRandomPlayer("\u0130");
+        store.detachedPlayers().put(
+            player.resumeToken(), new DetachedPlayer(player, Long.MAX_VALUE));
+
+        var update = processJoin("client", joinEvent("i\u0307"), store);
+        assertEquals(ErrorUpdate.class, update.getClass());
+    }
+
+    @Test
+    void test_processJoin_unknownResumeToken_returnsError() {
+        var event = JoinEvent.newBuilder()
+            .setName("a")
+            .setResumeToken("expired")
+            .build();
+
+        var update = processJoin("client", event, new GameStore());
+        assertEquals(ErrorUpdate.class, update.getClass());
+    }
+
+    @Test
+    void test_processLeave_missingPlayer_returnsError() {
+        var update = processLeave("client", new GameStore());
+        assertEquals(ErrorUpdate.class, update.getClass());
+    }
+
+    @Test
+    void test_applyTo_removePlayer_sendsPlayerToLosersAndRepliesGameOver() {
+        var store = new GameStore();
+        var player = PlayerStore.createRandomPlayer("a");
+        store.players().put("client", player);
+
+        var update = processLeave("client", store);
+        assertEquals(RemovePlayer.class, update.getClass());
+        update.applyTo(store);
+
+        assertTrue(store.players().isEmpty());
+        assertEquals(player, store.unprocessedLosers().peek());
+        var reply = deserialize(update.reply().get()).get();
+        assertTrue(reply.hasGameOverEvent());
+    }
+
+    @Test
+    void test_applyTo_resumePlayer_movesPlayerToNewClient() {
+        var store = new GameStore();
+        var player = PlayerStore.createRandomPlayer("a").score(10);
+        store.detachedPlayers().put(
+            player.resumeToken(), new DetachedPlayer(player, Long.MAX_VALUE));
+        var event = JoinEvent.newBuilder()
+            .setResumeToken(player.resumeToken())
+            .build();
+
+        var update = processJoin("new client", event, store);
+        assertEquals(ResumePlayer.class, update.getClass());
+        update.applyTo(store);
+
+        assertEquals(player, store.players().get("new client"));
+        assertEquals(10, store.players().get("new client").score());
+        assertTrue(store.detachedPlayers().isEmpty());
+    }
+
+    @Test
+    void test_applyTo_resumeOnlyPlayer_triggersStartEvent() {
+        var store = new GameStore();
+        var hasStarted = new boolean[1];
+        store.onStartEvent(() -> hasStarted[0] = true);
+        var player = PlayerStore.createRandomPlayer("a");
+        store.detachedPlayers().put(
+            player.resumeToken(), new DetachedPlayer(player, Long.MAX_VALUE));
+
+        new ResumePlayer("client", player.resumeToken(), "")
+            .applyTo(store);
+        assertTrue(hasStarted[0]);
+    }
+
     /** 
      * helper for next 3 tests.
      * target should be a reference to one of the options
@@ -322,7 +508,7 @@ public class EventProcessorTest {
             throw new IllegalArgumentException(
                 "options list does not contain target");
         }
-        var store = new GameStore().platforms(options);
+        var store = new GameStore().platforms(new PlatformList(options));
         var update = processJoin("", joinEvent("~"), store);
         var player = ((CreateFirstPlayer) update).player();
 
@@ -375,7 +561,7 @@ public class EventProcessorTest {
         players.put(player.name(), player);
 
         return GameStore.builder()
-            .players(players)
+            .players(new PlayerRegistry(players))
             .platformGravity(INIT_PLATFORM_GRAVITY)
             .build();
     }
@@ -400,7 +586,8 @@ public class EventProcessorTest {
     private UpdateVelocity
     processControlWithValidPlayer(ControlChangeEvent event) {
         var state = GameStore.builder()
-            .players(Map.of("client1", PlayerStore.createRandomPlayer("player1")))
+            .players(new PlayerRegistry(
+                Map.of("client1", PlayerStore.createRandomPlayer("player1"))))
             .build();
         return (UpdateVelocity) processControlChange("client1", event, state);
     }
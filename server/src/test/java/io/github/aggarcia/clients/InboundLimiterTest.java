@@ -0,0 +1,55 @@
+package io.github.aggarcia.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.aggarcia.messages.Generated.ControlChangeEvent;
+
+public class InboundLimiterTest {
+    static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void test_tryAcquire_fullBucket_allowsBurstThenDrops() {
+        var limiter = new InboundLimiter(3, 1, 0);
+
+        assertTrue(limiter.tryAcquire(0));
+        assertTrue(limiter.tryAcquire(0));
+        assertTrue(limiter.tryAcquire(0));
+        assertFalse(limiter.tryAcquire(0));
+    }
+
+    @Test
+    void test_tryAcquire_afterWaiting_refillsAtRate() {
+        var limiter = new InboundLimiter(1, 2, 0);
+        assertTrue(limiter.tryAcquire(0));
+
+        assertFalse(limiter.tryAcquire(SECOND / 4));
+        assertTrue(limiter.tryAcquire(SECOND / 2));
+    }
+
+    @Test
+    void test_tryAcquire_longIdle_refillsOnlyToBurst() {
+        var limiter = new InboundLimiter(2, 10, 0);
+
+        assertTrue(limiter.tryAcquire(100 * SECOND));
+        assertTrue(limiter.tryAcquire(100 * SECOND));
+        assertFalse(limiter.tryAcquire(100 * SECOND));
+    }
+
+    @Test
+    void test_offerControls_pendingChange_replacesIt() {
+        var limiter = new InboundLimiter();
+        var older = ControlChangeEvent.newBuilder().setSequence(1).build();
+        var newer = ControlChangeEvent.newBuilder().setSequence(2).build();
+
+        assertTrue(limiter.offerControls(older));
+        assertFalse(limiter.offerControls(newer));
+        assertEquals(newer, limiter.takeControls());
+        assertNull(limiter.takeControls());
+        assertTrue(limiter.offerControls(older));
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.aggarcia.clients;
+
+import static io.github.aggarcia.clients.EventProcessor.processEvent;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.github.aggarcia.engine.RoomActor;
+import io.github.aggarcia.engine.RoomProfile;
+import io.github.aggarcia.messages.Generated.JoinEvent;
+import io.github.aggarcia.messages.Generated.SocketMessage;
+import io.github.aggarcia.models.DetachedPlayer;
+import io.github.aggarcia.models.GamePlatform;
+import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlayerStore;
+
+/**
+ * Time for one player to join a room that already has 10, 100 and 999
+ * players, a tenth of them detached, posted to the room actor like a real
+ * join. Joins must not slow down as the room grows. Excluded from the
+ * default build, run with
+ * {@code mvn test -DexcludedGroups= -Dgroups=benchmark}.
+ */
+@Tag("benchmark")
+public class JoinLatencyTest {
+    static final int[] ROOM_SIZES = {10, 100, 999};
+    static final int JOINS = 50_000;
+
+    /** Most a join into the largest room may take, over the smallest. */
+    static final double MAX_RATIO = 2.0;
+
+    private static final SocketMessage JOIN = SocketMessage.newBuilder()
+        .setJoinEvent(JoinEvent.newBuilder().setName("joiner"))
+        .build();
+
+    @Test
+    void benchmark_join_growingRoom() {
+        ExecutorService thread = Executors.newSingleThreadExecutor();
+        try {
+            var actor = new RoomActor(thread);
+            // warm up at the largest size, so the first size is not penalized
+            timeJoins(createRoom(ROOM_SIZES[ROOM_SIZES.length - 1], actor));
+
+            var nanosPerJoin = new double[ROOM_SIZES.length];
+            for (int i = 0; i < ROOM_SIZES.length; i++) {
+                nanosPerJoin[i] = timeJoins(createRoom(ROOM_SIZES[i], actor));
+                System.out.printf("join with %d players: %.0f ns%n",
+                    ROOM_SIZES[i], nanosPerJoin[i]);
+            }
+
+            double ratio =
+                nanosPerJoin[ROOM_SIZES.length - 1] / nanosPerJoin[0];
+            assertTrue(ratio <= MAX_RATIO,
+                "joins got " + ratio + " times slower as the room grew");
+        } finally {
+            thread.shutdownNow();
+        }
+    }
+
+    /**
+     * Join and leave the room again, so every join sees the same size.
+     * Each join waits for the actor, so the mailbox hop is timed too.
+     * @return mean nanoseconds per join, leave included
+     */
+    private double timeJoins(GameStore store) {
+        long start = System.nanoTime();
+        for (int i = 0; i < JOINS; i++) {
+            boolean hasJoined = store.actor().submit(() -> {
+                processEvent("joiner", JOIN, store).applyTo(store);
+                return store.players().remove("joiner") != null;
+            }).join();
+            assertTrue(hasJoined);
+        }
+        return (System.nanoTime() - start) / (double) JOINS;
+    }
+
+    private GameStore createRoom(int size, RoomActor actor) {
+        var store = GameStore.builder()
+            .profile(RoomProfile.LARGE)
+            .actor(actor)
+            .build();
+        store.platforms().add(GamePlatform.generateAtHeight(0));
+        for (int i = 0; i < size; i++) {
+            var name = "player" + i;
+            var player = PlayerStore.createRandomPlayer(name);
+            if (i % 10 == 0) {
+                store.detachedPlayers().put(
+                    player.resumeToken(),
+                    new DetachedPlayer(player, Long.MAX_VALUE));
+            } else {
+                store.players().put(name, player);
+            }
+        }
+        return store;
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.aggarcia.clients;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.aggarcia.models.GameStore;
+
+public class SessionLatencyTest {
+    static final long MILLI = 1_000_000;
+
+    @Test
+    void test_stats_noSamples_returnsZero() {
+        var stats = new SessionLatency().stats();
+        assertEquals(0, stats.rttMillis());
+        assertEquals(0, stats.jitterMillis());
+        assertEquals(0, stats.samples());
+    }
+
+    @Test
+    void test_record_firstSample_setsRttWithoutJitter() {
+        var latency = new SessionLatency();
+        latency.record(40 * MILLI);
+
+        var stats = latency.stats();
+        assertEquals(40, stats.rttMillis());
+        assertEquals(0, stats.jitterMillis());
+        assertEquals(1, stats.samples());
+    }
+
+    @Test
+    void test_record_slowSample_movesAveragePartially() {
+        var latency = new SessionLatency();
+        latency.record(40 * MILLI);
+        latency.record(120 * MILLI);
+
+        var stats = latency.stats();
+        assertEquals(50, stats.rttMillis());  // 40 + (120 - 40) / 8
+        assertEquals(5, stats.jitterMillis());  // (120 - 40) / 16
+    }
+
+    @Test
+    void test_record_steadySamples_hasNoJitter() {
+        var latency = new SessionLatency();
+        for (int i = 0; i < 10; i++) {
+            latency.record(25 * MILLI);
+        }
+        assertEquals(25, latency.stats().rttMillis());
+        assertEquals(0, latency.stats().jitterMillis());
+    }
+
+    @Test
+    void test_record_negativeSample_isIgnored() {
+        var latency = new SessionLatency();
+        latency.record(-1);
+        assertEquals(0, latency.stats().samples());
+    }
+
+    @Test
+    void test_record_sampleOverMax_isIgnored() {
+        var latency = new SessionLatency();
+        latency.record(40 * MILLI);
+        // Pongs echoing timestamps from long before any Ping was sent
+        latency.record(SessionLatency.MAX_SAMPLE_NANOS + 1);
+        latency.record(Long.MAX_VALUE);
+
+        assertEquals(40, latency.stats().rttMillis());
+        assertEquals(1, latency.stats().samples());
+    }
+
+    @Test
+    void test_latencies_endpoint_reportsStatsBySession() {
+        var store = new GameStore();
+        var latency = new SessionLatency();
+        latency.record(40 * MILLI);
+        store.latencies().put("session", latency);
+
+        var stats = new SessionLatencyEndpoint(store).latencies();
+        assertEquals(Map.of("session", latency.stats()), stats);
+    }
+
+    @Test
+    void test_now_isPositiveAndIncreasing() {
+        long first = SessionLatency.now();
+        long second = SessionLatency.now();
+        assertTrue(first >= 0);
+        assertTrue(second >= first);
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.aggarcia.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.aggarcia.messages.Generated.GamePing;
+import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlayerStore;
+
+public class DeltaPingsTest {
+    @Test
+    void test_next_firstPing_isFullPing() {
+        var store = testStore();
+        GamePing ping = new DeltaPings().next(store).getGamePing();
+
+        assertFalse(ping.getIsDelta());
+        assertEquals(2, ping.getPlayersCount());
+    }
+
+    @Test
+    void test_next_onePlayerMoved_sendsOnlyThatPlayer() {
+        var store = testStore();
+        var deltas = new DeltaPings();
+        deltas.next(store);
+
+        store.players().get("a").xVelocity(10).moveToNextTick();
+        GamePing ping = deltas.next(store).getGamePing();
+
+        assertTrue(ping.getIsDelta());
+        assertEquals(1, ping.getPlayersCount());
+        assertEquals("a", ping.getPlayers(0).getName());
+        // left out, the client keeps them from the last full ping
+        assertEquals("", ping.getPlayers(0).getColor());
+    }
+
+    @Test
+    void test_next_playerLeft_listsRemovedPlayer() {
+        var store = testStore();
+        var deltas = new DeltaPings();
+        deltas.next(store);
+
+        store.players().remove("b");
+        GamePing ping = deltas.next(store).getGamePing();
+
+        assertTrue(ping.getIsDelta());
+        assertEquals(List.of("b"), ping.getRemovedPlayersList());
+    }
+
+    @Test
+    void test_next_firstTickOfSecond_isFullPing() {
+        var store = testStore();
+        var deltas = new DeltaPings();
+        deltas.next(store);
+
+        store.tickCount(0);
+        GamePing ping = deltas.next(store).getGamePing();
+
+        assertFalse(ping.getIsDelta());
+        assertEquals(2, ping.getPlayersCount());
+    }
+
+    private GameStore testStore() {
+        var store = new GameStore().tickCount(1);
+        store.players().put("a", PlayerStore.createRandomPlayer("a"));
+        store.players().put("b", PlayerStore.createRandomPlayer("b"));
+        return store;
+    }
+}
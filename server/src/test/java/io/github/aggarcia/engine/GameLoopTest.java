@@ -1,6 +1,7 @@
 package io.github.aggarcia.engine;
 
 import static io.github.aggarcia.engine.GameConstants.INIT_PLATFORM_GRAVITY;
+import static io.github.aggarcia.messages.Serializer.deserialize;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
@@ -8,21 +9,36 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.WebSocketSession;
 
 import ch.qos.logback.core.testUtil.RandomUtil;
+import io.github.aggarcia.models.DetachedPlayer;
 import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlayerRegistry;
 import io.github.aggarcia.models.PlayerStore;
+import io.github.aggarcia.models.SessionRegistry;
 
 import java.util.Map;
 import java.util.Set;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Queue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @SpringBootTest
+@DisabledInNativeImage
 public class GameLoopTest {
     @Mock
     private WebSocketSession mockSession;
@@ -35,38 +51,41 @@ public class GameLoopTest {
     @Test
     void test_isRunning_loopStartedWithOnePlayer_returnsTrue()
     throws Exception {
-        var gameLoop = testLoop().withTickDelay(0);
+        var ticks = new ArrayDeque<Runnable>();
+        var gameLoop = testLoop(ticks);
         gameLoop.start();
         assertTrue(gameLoop.isRunning());
-        gameLoop.forceQuit();
     }
 
     @Test
     void test_isRunning_afterPlayersCleared_returnsFalse() throws Exception {
-        var store = new GameStore();
+        var store = GameStore.builder()
+            .sessions(new SessionRegistry(getSessions()))
+            .build();
         store.players().put("", PlayerStore.createRandomPlayer(""));
+        var ticks = new ArrayDeque<Runnable>();
 
-        var loop = new GameLoop(store).withTickDelay(0);
+        var loop = new GameLoop(store, steppedScheduler(ticks));
         loop.start();
+        // no tick has run yet, so the player cannot have fallen off
         assertTrue(loop.isRunning());
         store.players().clear();
 
-        // gives the loop thread time to notice the change and stop execution
-        Thread.sleep(10);
+        ticks.poll().run();
         assertFalse(loop.isRunning());
     }
 
     @Test
     void test_isRunning_afterSessionsCleared_returnsFalse() throws Exception {
         var store = GameStore.builder()
-            .sessions(getSessions())
+            .sessions(new SessionRegistry(getSessions()))
             .build();
-        var gameLoop = new GameLoop(store).withTickDelay(0);
+        var ticks = new ArrayDeque<Runnable>();
+        var gameLoop = new GameLoop(store, steppedScheduler(ticks));
         gameLoop.start();
 
         store.sessions().clear();
-        // gives the loop thread time to notice the change and stop execution
-        Thread.sleep(10);
+        ticks.poll().run();
         assertFalse(gameLoop.isRunning());
     }
 
@@ -129,8 +148,9 @@ public class GameLoopTest {
     @Test
     void test_start_whileTimeoutActionWaiting_cancelsAction() throws Exception {
         var store = GameStore.builder()
-            .players(Map.of("", PlayerStore.createRandomPlayer("")))
-            .sessions(Set.of(mockSession))
+            .players(new PlayerRegistry(
+                Map.of("", PlayerStore.createRandomPlayer(""))))
+            .sessions(new SessionRegistry(Set.of(mockSession)))
             .build();
 
         var gameLoop = new GameLoop(store); 
@@ -144,11 +164,14 @@ public class GameLoopTest {
         gameLoop.forceQuit();
 
         // need to fill the game store so the thread doesnt immediately stop
+        store.players().put("", PlayerStore.createRandomPlayer(""));
+        store.sessions().add(mockSession);
         gameLoop.start();
 
         // gives enough time for the timeout action to execute, but it shouldn't
         Thread.sleep(100);
         assertEquals(0, sharedList.size());
+        gameLoop.forceQuit();
     }
 
     @Test
@@ -186,16 +209,33 @@ public class GameLoopTest {
     }
 
     @Test
-    void test_start_afterLoopCloses_clearsSessions() throws Exception {
+    void test_start_afterLoopCloses_keepsSessionsOpen() throws Exception {
         var store = GameStore.builder()
-            .sessions(getSessions())
+            .sessions(new SessionRegistry(getSessions()))
             .build();
         var gameLoop = new GameLoop(store);
 
         assertNotEquals(0, store.sessions().size());
         gameLoop.start();
         gameLoop.forceQuit();
-        assertEquals(0, store.sessions().size());
+        assertEquals(1, store.sessions().size());
+        Mockito.verify(mockSession, Mockito.never()).close();
+    }
+
+    @Test
+    void test_start_afterLoopCloses_sendsGameOverToPlayers()
+    throws Exception {
+        Mockito.when(mockSession.getId()).thenReturn("player1");
+        var gameLoop = testLoop();
+
+        gameLoop.start();
+        gameLoop.forceQuit();
+
+        var captor = ArgumentCaptor.forClass(BinaryMessage.class);
+        Mockito.verify(mockSession, Mockito.atLeastOnce())
+            .sendMessage(captor.capture());
+        var lastMessage = captor.getValue().getPayload().array();
+        assertTrue(deserialize(lastMessage).get().hasGameOverEvent());
     }
 
     @Test
@@ -237,6 +277,29 @@ public class GameLoopTest {
         assertEquals(store.unprocessedLosers().take(), testPlayer);
     }
 
+    @Test
+    void test_start_detachedPlayerExpires_addsPlayerToLoserQueue()
+    throws Exception {
+        var testPlayer = PlayerStore.createRandomPlayer("test");
+        var store = new GameStore();
+        long expiresAtMillis = System.currentTimeMillis() + 30;
+        store.detachedPlayers().put(
+            testPlayer.resumeToken(),
+            new DetachedPlayer(testPlayer, expiresAtMillis)
+        );
+        var gameLoop = new GameLoop(store).withTickDelay(1);
+
+        gameLoop.start();
+        Thread.sleep(10);
+        // still waiting for the player to resume
+        assertTrue(gameLoop.isRunning());
+        assertEquals(0, store.unprocessedLosers().size());
+
+        Thread.sleep(100);
+        assertFalse(gameLoop.isRunning());
+        assertEquals(testPlayer, store.unprocessedLosers().take());
+    }
+
     @Test
     void test_start_secondTime_resetsTimeAndPlatformGravity() throws Exception {
         var store = new GameStore();
@@ -260,6 +323,53 @@ public class GameLoopTest {
 
     }
 
+    @Test
+    void test_start_manyGamesOnSharedScheduler_createsNoNewThreads()
+    throws Exception {
+        var threadsCreated = new AtomicInteger();
+        var scheduler = Executors.newScheduledThreadPool(1, runnable -> {
+            threadsCreated.incrementAndGet();
+            return new Thread(runnable);
+        });
+        var store = new GameStore();
+        var loop = new GameLoop(store, scheduler).withTickDelay(0);
+        loop.onIdleTimeout(() -> {}, 60_000);
+
+        for (int i = 0; i < 200; i++) {
+            store.players().put("", PlayerStore.createRandomPlayer(""));
+            store.sessions().add(mockSession);
+            assertTrue(loop.start());
+            loop.forceQuit();
+        }
+        scheduler.shutdownNow();
+        assertEquals(1, threadsCreated.get());
+    }
+
+    @Test
+    void test_start_withInterestRadius_sendsOnlyNearbyPlayers()
+    throws Exception {
+        Mockito.when(mockSession.getId()).thenReturn("near");
+        var near = PlayerStore.createRandomPlayer("near").yPosition(100);
+        var far = PlayerStore.createRandomPlayer("far").yPosition(900);
+        var store = GameStore.builder()
+            .interestRadius(50)
+            .sessions(new SessionRegistry(getSessions()))
+            .players(new PlayerRegistry(Map.of("near", near, "far", far)))
+            .build();
+        var gameLoop = new GameLoop(store);
+
+        gameLoop.start();
+        var captor = ArgumentCaptor.forClass(BinaryMessage.class);
+        Mockito.verify(mockSession, Mockito.timeout(1000).atLeastOnce())
+            .sendMessage(captor.capture());
+        gameLoop.forceQuit();
+
+        var ping = deserialize(captor.getAllValues().get(0).getPayload()
+            .array()).get().getGamePing();
+        assertEquals(1, ping.getPlayersCount());
+        assertEquals("near", ping.getPlayers(0).getName());
+    }
+
     private Set<WebSocketSession> getSessions() {
         var set = new HashSet<WebSocketSession>();
         set.add(mockSession);
@@ -273,10 +383,36 @@ public class GameLoopTest {
         return map;
     }
 
+    /**
+     * @param tasks filled with the tasks the loop schedules, which only run
+     *  when the test runs them. With the default inline actor, running a
+     *  tick also runs the cleanup of a loop it stops.
+     */
+    private ScheduledExecutorService steppedScheduler(Queue<Runnable> tasks) {
+        var scheduler = Mockito.mock(ScheduledExecutorService.class);
+        Mockito.when(scheduler.schedule(
+            Mockito.any(Runnable.class),
+            Mockito.anyLong(),
+            Mockito.any(TimeUnit.class)
+        )).thenAnswer(invocation -> {
+            tasks.add(invocation.getArgument(0));
+            return Mockito.mock(ScheduledFuture.class);
+        });
+        return scheduler;
+    }
+
+    private GameLoop testLoop(Queue<Runnable> ticks) {
+        var store = GameStore.builder()
+            .sessions(new SessionRegistry(getSessions()))
+            .players(new PlayerRegistry(getPlayers()))
+            .build();
+        return new GameLoop(store, steppedScheduler(ticks));
+    }
+
     private GameLoop testLoop() {
         var store = GameStore.builder()
-            .sessions(getSessions())
-            .players(getPlayers())
+            .sessions(new SessionRegistry(getSessions()))
+            .players(new PlayerRegistry(getPlayers()))
             .build();
         return new GameLoop(store);
     }
@@ -0,0 +1,240 @@
+package io.github.aggarcia.engine;
+
+import static io.github.aggarcia.clients.EventProcessor.processEvent;
+import static io.github.aggarcia.engine.TickProcessor.createGamePing;
+import static io.github.aggarcia.messages.Serializer.serialize;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.lang.NonNull;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import io.github.aggarcia.clients.AsyncSession;
+import io.github.aggarcia.messages.Generated.ControlChangeEvent;
+import io.github.aggarcia.messages.Generated.JoinEvent;
+import io.github.aggarcia.messages.Generated.PlayerControl;
+import io.github.aggarcia.messages.Generated.SocketMessage;
+import io.github.aggarcia.models.GamePlatform;
+import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlayerStore;
+
+/**
+ * One LARGE room full of simulated players, run by a real game loop at the
+ * real tick rate on a 4 thread pool. Checks that ticks fit in their budget
+ * and that the loop keeps its rate, and reports how many bytes are sent.
+ * Excluded from the default build, run with
+ * {@code mvn test -DexcludedGroups= -Dgroups=benchmark}.
+ */
+@Tag("benchmark")
+public class LargeRoomLoadTest {
+    static final int PLAYERS = 1000;
+    static final int THREADS = 4;
+    static final int SECONDS = 10;
+
+    /** Slowest rate the loop may run at, as a share of the tick rate. */
+    static final double MIN_RATE = 0.95;
+
+    /** Every player changes its controls about once per second. */
+    static final int INPUTS_PER_TICK =
+        PLAYERS * GameConstants.TICK_DELAY_MS / 1000;
+
+    @Test
+    void benchmark_largeRoom_tickTimeAndBandwidth() throws Exception {
+        var pool = Executors.newFixedThreadPool(THREADS);
+        var inputs = Executors.newSingleThreadScheduledExecutor();
+        var scheduler = new TimingScheduler();
+        var bytesSent = new LongAdder();
+        var store = GameStore.builder()
+            .profile(RoomProfile.LARGE)
+            .actor(new RoomActor(pool))
+            .build();
+        for (int i = 0; i < GameConstants.HEIGHT; i += 200) {
+            store.platforms().add(GamePlatform.generateAtHeight(i));
+        }
+        for (int i = 0; i < PLAYERS; i++) {
+            var client = "client" + i;
+            store.players().put(client, spawn(store, client));
+            store.sessions().add(new AsyncSession(
+                new CountingSession(client, bytesSent),
+                pool,
+                AsyncSession.DEFAULT_MAX_PENDING));
+        }
+
+        var fullPingBytes = new LongAdder();
+        var ticks = new AtomicInteger();
+        var loop = new GameLoop(store, scheduler);
+
+        long start = System.nanoTime();
+        assertTrue(loop.start());
+        var posting = inputs.scheduleAtFixedRate(() -> {
+            int tick = ticks.getAndIncrement();
+            postInputs(store, tick);
+            store.actor().execute(() -> fullPingBytes.add(
+                serialize(createGamePing(store)).length));
+        }, 0, GameConstants.TICK_DELAY_MS, TimeUnit.MILLISECONDS);
+
+        Thread.sleep(SECONDS * 1000L);
+        assertTrue(loop.isRunning(), "the room emptied before the end");
+        long[] tickNanos = scheduler.tickNanos();
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        posting.cancel(false);
+        loop.forceQuit();
+        inputs.shutdown();
+        scheduler.shutdown();
+        pool.shutdown();
+        pool.awaitTermination(5, TimeUnit.SECONDS);
+
+        assertTrue(tickNanos.length > 0);
+        Arrays.sort(tickNanos);
+        double tickRate = tickNanos.length / elapsedSeconds;
+        System.out.printf(
+            "%d players, %d threads on %d cores, %d ticks in %.1fs"
+            + " (%.1f Hz)%n"
+            + "tick p50 %.2fms, p99 %.2fms, max %.2fms (budget %dms)%n"
+            + "sent %.0f kB/s total, %.2f kB/s per client%n"
+            + "full pings would have been %.0f kB/s total%n",
+            PLAYERS,
+            THREADS,
+            Runtime.getRuntime().availableProcessors(),
+            tickNanos.length,
+            elapsedSeconds,
+            tickRate,
+            percentile(tickNanos, 0.50) / 1e6,
+            percentile(tickNanos, 0.99) / 1e6,
+            tickNanos[tickNanos.length - 1] / 1e6,
+            GameConstants.TICK_DELAY_MS,
+            bytesSent.sum() / elapsedSeconds / 1000,
+            bytesSent.sum() / elapsedSeconds / 1000 / PLAYERS,
+            fullPingBytes.sum() * PLAYERS / elapsedSeconds / 1000
+        );
+
+        long p99Nanos = percentile(tickNanos, 0.99);
+        assertTrue(
+            p99Nanos <= TimeUnit.MILLISECONDS.toNanos(
+                GameConstants.TICK_DELAY_MS),
+            "p99 tick over budget: " + p99Nanos / 1e6 + "ms");
+        double targetRate = 1000.0 / GameConstants.TICK_DELAY_MS;
+        assertTrue(
+            tickRate >= MIN_RATE * targetRate,
+            "loop ran at " + tickRate + " Hz, target " + targetRate + " Hz");
+    }
+
+    /**
+     * Post control changes for a slice of the players. Players that fell
+     * off the screen join again, so the room stays full for the whole run.
+     */
+    private void postInputs(GameStore store, int tick) {
+        var controls = tick % 2 == 0 ? PlayerControl.LEFT : PlayerControl.UP;
+        for (int i = 0; i < INPUTS_PER_TICK; i++) {
+            var client = "client" + (tick * INPUTS_PER_TICK + i) % PLAYERS;
+            var event = SocketMessage.newBuilder()
+                .setControlChangeEvent(ControlChangeEvent.newBuilder()
+                    .addPressedControls(controls)
+                    .setSequence(tick))
+                .build();
+            store.actor().execute(() ->
+                processEvent(client, event, store).applyTo(store));
+        }
+        store.actor().execute(() -> {
+            for (int i = 0; i < PLAYERS; i++) {
+                var client = "client" + i;
+                if (!store.players().containsKey(client)) {
+                    var join = SocketMessage.newBuilder()
+                        .setJoinEvent(JoinEvent.newBuilder().setName(client))
+                        .build();
+                    processEvent(client, join, store).applyTo(store);
+                }
+            }
+        });
+    }
+
+    private PlayerStore spawn(GameStore store, String client) {
+        List<GamePlatform> platforms = new ArrayList<>(store.platforms());
+        if (platforms.isEmpty()) {
+            platforms.add(GamePlatform.generateAtHeight(0));
+        }
+        int index = Math.floorMod(client.hashCode(), platforms.size());
+        return PlayerStore.createAbovePlatform(client, platforms.get(index));
+    }
+
+    private static long percentile(long[] sorted, double fraction) {
+        return sorted[(int) Math.ceil(fraction * sorted.length) - 1];
+    }
+
+    /**
+     * Scheduler for the game loop that times its ticks. The loop schedules
+     * the next tick once the last one has run on the room actor, so the
+     * time from a tick starting to the next one being scheduled is how long
+     * the tick took, including the time it waited in the mailbox. Stopping
+     * the loop schedules its idle timeout, so the times must be read while
+     * it still runs.
+     */
+    private static final class TimingScheduler
+    extends ScheduledThreadPoolExecutor {
+        private final List<Long> tickNanos = new ArrayList<>();
+        private long tickStart = -1;
+
+        TimingScheduler() {
+            super(1);
+        }
+
+        @Override
+        public synchronized ScheduledFuture<?>
+        schedule(Runnable command, long delay, TimeUnit unit) {
+            if (tickStart >= 0) {
+                tickNanos.add(System.nanoTime() - tickStart);
+                tickStart = -1;
+            }
+            return super.schedule(() -> {
+                synchronized (this) {
+                    tickStart = System.nanoTime();
+                }
+                command.run();
+            }, delay, unit);
+        }
+
+        synchronized long[] tickNanos() {
+            return tickNanos.stream().mapToLong(Long::longValue).toArray();
+        }
+    }
+
+    /**
+     * Stands in for a client's connection, only counts the bytes written.
+     */
+    private static final class CountingSession
+    extends WebSocketSessionDecorator {
+        private final String id;
+        private final LongAdder bytesSent;
+
+        CountingSession(String id, LongAdder bytesSent) {
+            super(Mockito.mock(
+                WebSocketSession.class, Mockito.withSettings().stubOnly()));
+            this.id = id;
+            this.bytesSent = bytesSent;
+        }
+
+        @Override
+        public @NonNull String getId() {
+            return id;
+        }
+
+        @Override
+        public void sendMessage(@NonNull WebSocketMessage<?> message) {
+            bytesSent.add(message.getPayloadLength());
+        }
+    }
+}
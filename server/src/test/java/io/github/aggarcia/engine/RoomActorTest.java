@@ -0,0 +1,121 @@
+package io.github.aggarcia.engine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class RoomActorTest {
+    static final int POSTING_THREADS = 8;
+    static final int MESSAGES_PER_THREAD = 2000;
+
+    @Test
+    void test_execute_inlineActor_runsBeforeReturning() {
+        var actor = RoomActor.inline();
+        var hasRun = new AtomicBoolean(false);
+
+        actor.execute(() -> hasRun.set(true));
+        assertEquals(true, hasRun.get());
+    }
+
+    @Test
+    void test_execute_fromInsideMessage_runsAfterCurrentMessage() {
+        var actor = RoomActor.inline();
+        List<String> order = new ArrayList<>();
+
+        actor.execute(() -> {
+            actor.execute(() -> order.add("inner"));
+            order.add("outer");
+        });
+        assertEquals(List.of("outer", "inner"), order);
+    }
+
+    @Test
+    void test_submit_messageThrows_laterMessagesStillRun() {
+        var actor = RoomActor.inline();
+
+        var failed = actor.<Integer>submit(() -> {
+            throw new IllegalStateException("test");
+        });
+        assertThrows(CompletionException.class, failed::join);
+        assertEquals(1, actor.submit(() -> 1).join());
+    }
+
+    @Test
+    void test_submit_messageThrowsError_completesFutureAndRethrows() {
+        var drains = new ArrayList<Runnable>();
+        var actor = new RoomActor(drains::add);
+
+        var failed = actor.<Integer>submit(() -> {
+            throw new AssertionError("test");
+        });
+        assertThrows(AssertionError.class, drains.remove(0)::run);
+        var e = assertThrows(CompletionException.class, failed::join);
+        assertInstanceOf(AssertionError.class, e.getCause());
+    }
+
+    @Test
+    void test_execute_messageThrowsError_rethrowsAndDrainsTheRest() {
+        var drains = new ArrayList<Runnable>();
+        var actor = new RoomActor(drains::add);
+        var hasRun = new AtomicBoolean(false);
+
+        actor.execute(() -> {
+            throw new StackOverflowError("test");
+        });
+        actor.execute(() -> hasRun.set(true));
+        assertThrows(StackOverflowError.class, drains.remove(0)::run);
+
+        // the message left behind gets a drain of its own
+        assertEquals(1, drains.size());
+        drains.remove(0).run();
+        assertTrue(hasRun.get());
+    }
+
+    @Test
+    void test_execute_manyPostingThreads_runsOneMessageAtATime()
+    throws Exception {
+        var pool = Executors.newFixedThreadPool(4);
+        var actor = new RoomActor(pool);
+        var running = new AtomicInteger();
+        var hasOverlapped = new AtomicBoolean(false);
+        // deliberately not atomic, the actor is the only guard
+        var counter = new int[1];
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < POSTING_THREADS; i++) {
+            threads.add(new Thread(() -> {
+                for (int j = 0; j < MESSAGES_PER_THREAD; j++) {
+                    actor.execute(() -> {
+                        if (running.incrementAndGet() > 1) {
+                            hasOverlapped.set(true);
+                        }
+                        counter[0]++;
+                        running.decrementAndGet();
+                    });
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        for (var thread : threads) {
+            thread.join();
+        }
+        int total = actor.submit(() -> counter[0]).join();
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.SECONDS);
+
+        assertFalse(hasOverlapped.get());
+        assertEquals(POSTING_THREADS * MESSAGES_PER_THREAD, total);
+    }
+}
@@ -0,0 +1,103 @@
+package io.github.aggarcia.engine;
+
+import static io.github.aggarcia.clients.EventProcessor.processEvent;
+import static io.github.aggarcia.engine.TickProcessor.advanceToNextTick;
+import static io.github.aggarcia.engine.TickProcessor.createGamePing;
+import static io.github.aggarcia.messages.Serializer.serialize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import io.github.aggarcia.messages.Generated.ControlChangeEvent;
+import io.github.aggarcia.messages.Generated.PlayerControl;
+import io.github.aggarcia.messages.Generated.SocketMessage;
+import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlayerStore;
+
+/**
+ * Messages per second that many rooms can process while sharing one thread
+ * pool. Excluded from the default build, run with
+ * {@code mvn test -DexcludedGroups= -Dgroups=benchmark}.
+ */
+@Tag("benchmark")
+public class RoomThroughputTest {
+    static final int ROOMS = 500;
+    static final int PLAYERS_PER_ROOM = 8;
+    static final int TICKS = 200;
+
+    @Test
+    void benchmark_manyRooms_inputsAndTicks() throws Exception {
+        int threads = Runtime.getRuntime().availableProcessors();
+        var pool = Executors.newFixedThreadPool(threads);
+        var processed = new AtomicLong();
+
+        List<GameStore> rooms = new ArrayList<>();
+        for (int i = 0; i < ROOMS; i++) {
+            var store = GameStore.builder()
+                .actor(new RoomActor(pool))
+                .build();
+            for (int j = 0; j < PLAYERS_PER_ROOM; j++) {
+                var name = "player" + j;
+                store.players().put(name, PlayerStore.createRandomPlayer(name));
+            }
+            rooms.add(store);
+        }
+
+        long start = System.nanoTime();
+        List<CompletableFuture<Integer>> lastTicks = new ArrayList<>();
+        for (int tick = 0; tick < TICKS; tick++) {
+            for (var store : rooms) {
+                postInputs(store, tick, processed);
+                var result = store.actor().submit(() -> {
+                    advanceToNextTick(store);
+                    processed.incrementAndGet();
+                    return serialize(createGamePing(store)).length;
+                });
+                if (tick == TICKS - 1) {
+                    lastTicks.add(result);
+                }
+            }
+        }
+        CompletableFuture.allOf(lastTicks.toArray(CompletableFuture[]::new))
+            .join();
+        long elapsedNanos = System.nanoTime() - start;
+        pool.shutdown();
+        pool.awaitTermination(1, TimeUnit.SECONDS);
+
+        long expected = (long) ROOMS * TICKS * (PLAYERS_PER_ROOM + 1);
+        assertEquals(expected, processed.get());
+        System.out.printf(
+            "%d rooms on %d threads: %.0f messages/s%n",
+            ROOMS,
+            threads,
+            processed.get() / (elapsedNanos / 1e9)
+        );
+    }
+
+    /**
+     * Post one control change for every player in the room.
+     */
+    private void postInputs(GameStore store, int tick, AtomicLong processed) {
+        var controls = tick % 2 == 0 ? PlayerControl.LEFT : PlayerControl.RIGHT;
+        for (int j = 0; j < PLAYERS_PER_ROOM; j++) {
+            var client = "player" + j;
+            var event = SocketMessage.newBuilder()
+                .setControlChangeEvent(ControlChangeEvent.newBuilder()
+                    .addPressedControls(controls)
+                    .setSequence(tick))
+                .build();
+            store.actor().execute(() -> {
+                processEvent(client, event, store).applyTo(store);
+                processed.incrementAndGet();
+            });
+        }
+    }
+}
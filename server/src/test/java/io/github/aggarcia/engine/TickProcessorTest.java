@@ -1,6 +1,8 @@
 package io.github.aggarcia.engine;
 
+import static io.github.aggarcia.engine.TickProcessor.createBandPing;
 import static io.github.aggarcia.engine.TickProcessor.createGamePing;
+import static io.github.aggarcia.engine.TickProcessor.interestBand;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -21,6 +23,8 @@ import io.github.aggarcia.messages.Generated.SocketMessage;
 import io.github.aggarcia.messages.Generated.SocketMessage.PayloadCase;
 import io.github.aggarcia.models.GamePlatform;
 import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlatformList;
+import io.github.aggarcia.models.PlayerRegistry;
 import io.github.aggarcia.models.PlayerStore;
 import static io.github.aggarcia.engine.GameConstants.INIT_PLATFORM_GRAVITY;
 import static io.github.aggarcia.engine.GameConstants.LEVELUP_PLATFORM_GRAVITY;
@@ -135,6 +139,7 @@ public class TickProcessorTest {
         var player = PlayerStore.createRandomPlayer("");
         var expected = player.clone()
             .moveToNextTick()
+            .peakPlatformGravity(INIT_PLATFORM_GRAVITY)
             .hasChanged(false);
         advanceTickWithPlayers(Map.of("1", player));
         assertEquals(expected, player);
@@ -143,8 +148,9 @@ public class TickProcessorTest {
     @Test
     void test_advanceToNextTick_multiplePlayers_advancesEachPlayer() {
         // player 1 should not move
-        PlayerStore player1 = PlayerStore.createRandomPlayer("");
+        PlayerStore player1 = PlayerStore.createRandomPlayer("1");
         PlayerStore player2 = PlayerStore.builder()
+            .name("2")
             .xPosition(0)
             .yPosition(0)
             .xPosition(0)
@@ -159,10 +165,12 @@ public class TickProcessorTest {
         var expected1 = players.get("1")
             .clone()
             .moveToNextTick()
+            .peakPlatformGravity(INIT_PLATFORM_GRAVITY)
             .hasChanged(false);
         var expected2 = players.get("2")
             .clone()
             .moveToNextTick()
+            .peakPlatformGravity(INIT_PLATFORM_GRAVITY)
             .hasChanged(false);
 
         var response = advanceTickWithPlayers(players);
@@ -209,7 +217,7 @@ public class TickProcessorTest {
         assertEquals(0, players.get("2").score());
 
         var store = GameStore.builder()
-            .players(players)
+            .players(new PlayerRegistry(players))
             .tickCount(-1)
             .build();
 
@@ -228,7 +236,7 @@ public class TickProcessorTest {
         assertEquals(0, players.get("2").score());
 
         var store = GameStore.builder()
-            .players(players)
+            .players(new PlayerRegistry(players))
             .tickCount(0)
             .build();
 
@@ -241,6 +249,7 @@ public class TickProcessorTest {
     @Test
     void test_advanceToNextTick_playerOnPlatform_playerFallsWithPlatform() {
         PlayerStore testPlayer = PlayerStore.builder()
+            .name("")
             .xPosition(50)
             .yPosition(50)
             .xVelocity(50)
@@ -249,8 +258,8 @@ public class TickProcessorTest {
         var testPlatform = new GamePlatform(200, 0, 50 + PlayerStore.PLAYER_HEIGHT);
 
         var store = GameStore.builder()
-            .players(Map.of("", testPlayer))
-            .platforms(List.of(testPlatform))
+            .players(new PlayerRegistry(Map.of("", testPlayer)))
+            .platforms(new PlatformList(List.of(testPlatform)))
             .build();
 
         // modifies player
@@ -286,8 +295,8 @@ public class TickProcessorTest {
         int age = RandomUtil.getPositiveInt();
         var store = GameStore.builder()
             .gameAgeSeconds(age)
-            .players(players)
-            .platforms(List.of(platform))
+            .players(new PlayerRegistry(players))
+            .platforms(new PlatformList(List.of(platform)))
             .build();
         
         GamePing ping = createGamePing(store).getGamePing();
@@ -315,6 +324,80 @@ public class TickProcessorTest {
         assertEquals(platformsList, ping.getPlatformsList());
     }
 
+    @Test
+    void test_createGamePing_playerWithInputSequence_echoesSequence() {
+        var player = PlayerStore.createRandomPlayer("").lastInputSequence(9);
+        var store = GameStore.builder()
+            .players(new PlayerRegistry(Map.of("", player)))
+            .build();
+
+        GamePing ping = createGamePing(store).getGamePing();
+        assertEquals(9, ping.getPlayers(0).getLastInputSequence());
+    }
+
+    @Test
+    void test_platformsInPath_fallingPlayer_returnsOnlyPlatformsBelow() {
+        var player = PlayerStore.createRandomPlayer("").yPosition(500)
+            .yVelocity(20);
+        var above = new GamePlatform(300, 0, 400);
+        var inPath = new GamePlatform(300, 0, 550);
+        var below = new GamePlatform(300, 0, 800);
+
+        var platforms = TickProcessor.platformsInPath(
+            new PlatformList(List.of(above, inPath, below)), player);
+        assertEquals(List.of(inPath), platforms);
+    }
+
+    @Test
+    void test_advanceToNextTick_broadphase_landsOnSamePlatform() {
+        var platforms = List.of(
+            new GamePlatform(GameConstants.WIDTH, 0, 900),
+            new GamePlatform(GameConstants.WIDTH, 0, 300),
+            new GamePlatform(GameConstants.WIDTH, 0, 600));
+        for (var profile : RoomProfile.values()) {
+            var player = PlayerStore.createRandomPlayer("").yPosition(250);
+            var store = GameStore.builder()
+                .profile(profile)
+                .players(new PlayerRegistry(Map.of("", player)))
+                .platforms(new PlatformList(platforms))
+                .build();
+
+            for (int i = 0; i < 10; i++) {
+                store.platforms(advanceToNextTick(store).nextPlatformsState());
+            }
+            int platformY = 300 + 10 * INIT_PLATFORM_GRAVITY;
+            assertEquals(platformY - PlayerStore.PLAYER_HEIGHT,
+                player.yPosition(), profile.toString());
+        }
+    }
+
+    @Test
+    void test_interestBand_negativePosition_roundsDown() {
+        assertEquals(0, interestBand(0));
+        assertEquals(0, interestBand(GameConstants.INTEREST_BAND_HEIGHT - 1));
+        assertEquals(-1, interestBand(-1));
+    }
+
+    @Test
+    void test_createBandPing_farObjects_areNotIncluded() {
+        var near = PlayerStore.createRandomPlayer("near").yPosition(500);
+        var far = PlayerStore.createRandomPlayer("far").yPosition(-400);
+        var store = GameStore.builder()
+            .interestRadius(100)
+            .players(new PlayerRegistry(Map.of("a", near, "b", far)))
+            .platforms(new PlatformList(List.of(
+                new GamePlatform(300, 0, 550),
+                new GamePlatform(300, 0, 10))))
+            .build();
+
+        GamePing ping = createBandPing(store, interestBand(500))
+            .getGamePing();
+        assertEquals(1, ping.getPlayersCount());
+        assertEquals("near", ping.getPlayers(0).getName());
+        assertEquals(1, ping.getPlatformsCount());
+        assertEquals(550, ping.getPlatforms(0).getY());
+    }
+
     @Test
     void test_shouldSpawnPlatform_platformCloseToTop_returnsFalse() {
         for (int i = 0; i < RANDOM_TRIALS; i++) {
@@ -322,8 +405,8 @@ public class TickProcessorTest {
             var maxPlatform = GamePlatform
                 .generateAtHeight(TickProcessor.MIN_PLATFORM_SPACING - 1);
 
-            assertFalse(TickProcessor.shouldSpawnPlatform(List.of(minPlatform)));
-            assertFalse(TickProcessor.shouldSpawnPlatform(List.of(maxPlatform)));
+            assertFalse(shouldSpawn(minPlatform));
+            assertFalse(shouldSpawn(maxPlatform));
         }
     }
 
@@ -332,7 +415,7 @@ public class TickProcessorTest {
         for (int i = 0; i < RANDOM_TRIALS; i++) {
             var platform = GamePlatform
                 .generateAtHeight(TickProcessor.MAX_PLATFORM_SPACING + 1);
-            assertTrue(TickProcessor.shouldSpawnPlatform(List.of(platform)));
+            assertTrue(shouldSpawn(platform));
         }
     }
 
@@ -341,11 +424,11 @@ public class TickProcessorTest {
      *  Players are on the ground and are motionless
      */
     private Map<String, PlayerStore> createTestPlayers() {
-        var player1 = PlayerStore.createRandomPlayer("")
+        var player1 = PlayerStore.createRandomPlayer("1")
             .yPosition(0)
             .hasChanged(false);
 
-        var player2 = PlayerStore.createRandomPlayer("")
+        var player2 = PlayerStore.createRandomPlayer("2")
             .yPosition(0)
             .hasChanged(false);
 
@@ -359,14 +442,21 @@ public class TickProcessorTest {
 
 
     // Helpers for common test patterns
+    private boolean shouldSpawn(GamePlatform platform) {
+        return TickProcessor.shouldSpawnPlatform(
+            new PlatformList(List.of(platform)));
+    }
+
     private TickResponse advanceTickWithPlayers(Map<String, PlayerStore> players) {
-        var store = GameStore.builder().players(players).build();
+        var store = GameStore.builder()
+            .players(new PlayerRegistry(players))
+            .build();
         return advanceToNextTick(store);
     }
 
     private TickResponse advanceTickWithPlatforms(List<GamePlatform> platforms) {
         var store = new GameStore()
-            .platforms(platforms)
+            .platforms(new PlatformList(platforms))
             .platformGravity(GameConstants.INIT_PLATFORM_GRAVITY);
         return advanceToNextTick(store);
     }
@@ -0,0 +1,165 @@
+package io.github.aggarcia.history;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.aggarcia.history.HistorySegment.Column;
+
+public class HistoryStoreTest {
+    static final long HOUR_MS = 3_600_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void test_flush_gamesInTwoHours_writesTwoSegments() throws IOException {
+        var history = new HistoryStore(directory);
+        history.append(new GameRecord("a", 1, 1000, 7, 0));
+        history.append(new GameRecord("b", 2, 1000, 7, HOUR_MS));
+        history.append(new GameRecord("c", 3, 1000, 7, HOUR_MS + 1));
+
+        assertEquals(3, history.flush());
+        assertEquals(0, history.unflushed());
+        assertEquals(List.of(
+            directory.resolve("games-19700101-00.seg"),
+            directory.resolve("games-19700101-01.seg")
+        ), history.segments());
+    }
+
+    @Test
+    void test_scan_allColumns_readsBackRows() throws IOException {
+        var history = new HistoryStore(directory);
+        history.append(new GameRecord("été", 10, 2000, 9, 5));
+        history.append(new GameRecord("b", 20, 3000, 11, 6));
+        history.flush();
+        history.append(new GameRecord("c", 30, 4000, 13, 7));
+        history.flush();
+
+        var blocks = new ArrayList<HistorySegment.Block>();
+        HistorySegment.scan(history.segments().get(0),
+            EnumSet.allOf(Column.class), blocks::add);
+
+        assertEquals(2, blocks.size());
+        var first = blocks.get(0);
+        assertArrayEquals(new String[] {"été", "b"}, first.players());
+        assertArrayEquals(new int[] {10, 20}, first.scores());
+        assertArrayEquals(new long[] {2000, 3000}, first.durations());
+        assertArrayEquals(new int[] {9, 11}, first.peakGravities());
+        assertArrayEquals(new long[] {5, 6}, first.joinedAt());
+        assertEquals(1, blocks.get(1).rowCount());
+    }
+
+    @Test
+    void test_scan_someColumns_skipsTheOthers() throws IOException {
+        var history = new HistoryStore(directory);
+        history.append(new GameRecord("a", 10, 2000, 9, 5));
+        history.flush();
+
+        var blocks = new ArrayList<HistorySegment.Block>();
+        HistorySegment.scan(history.segments().get(0),
+            EnumSet.of(Column.SCORE), blocks::add);
+
+        assertArrayEquals(new int[] {10}, blocks.get(0).scores());
+        assertNull(blocks.get(0).players());
+        assertNull(blocks.get(0).durations());
+    }
+
+    @Test
+    void test_averageSurvivalByLevel_groupsByPeakLevel() throws IOException {
+        var history = new HistoryStore(directory);
+        // gravity 7 is level 1, 9 is level 2
+        history.append(new GameRecord("a", 0, 10_000, 7, 0));
+        history.append(new GameRecord("b", 0, 20_000, 7, 0));
+        history.append(new GameRecord("c", 0, 40_000, 9, 0));
+        history.append(new GameRecord("d", 0, 50_000, 10, HOUR_MS));
+        history.flush();
+        // not flushed yet, so not counted
+        history.append(new GameRecord("e", 0, 1_000_000, 7, 0));
+
+        assertEquals(Map.of(1, 15.0, 2, 45.0),
+            history.averageSurvivalByLevel());
+    }
+
+    @Test
+    void test_averageSurvivalByLevel_noSegments_isEmpty() throws IOException {
+        var history = new HistoryStore(directory.resolve("missing"));
+        assertTrue(history.averageSurvivalByLevel().isEmpty());
+    }
+
+    @Test
+    void test_scan_truncatedLastBlock_isIgnored() throws IOException {
+        var history = new HistoryStore(directory);
+        history.append(new GameRecord("a", 0, 10_000, 7, 0));
+        history.flush();
+        var segment = history.segments().get(0);
+        var block = HistorySegment.encode(
+            List.of(new GameRecord("b", 0, 30_000, 7, 0)));
+        Files.write(segment, Arrays.copyOf(block, block.length / 2),
+            StandardOpenOption.APPEND);
+
+        assertEquals(Map.of(1, 10.0), history.averageSurvivalByLevel());
+    }
+
+    @Test
+    void test_flush_afterTruncatedBlock_appendsReadableBlock()
+    throws IOException {
+        var history = new HistoryStore(directory);
+        history.append(new GameRecord("a", 0, 10_000, 7, 0));
+        history.flush();
+        var segment = history.segments().get(0);
+        long complete = Files.size(segment);
+        var block = HistorySegment.encode(
+            List.of(new GameRecord("b", 0, 30_000, 7, 0)));
+        Files.write(segment, Arrays.copyOf(block, block.length / 2),
+            StandardOpenOption.APPEND);
+
+        // a new process appends to the same hour
+        var restarted = new HistoryStore(directory);
+        restarted.append(new GameRecord("c", 0, 20_000, 7, 1));
+        assertEquals(1, restarted.flush());
+
+        assertEquals(Map.of(1, 15.0), restarted.averageSurvivalByLevel());
+        try (var channel = FileChannel.open(segment)) {
+            assertEquals(Files.size(segment),
+                HistorySegment.completeLength(channel));
+        }
+        assertTrue(Files.size(segment) > complete);
+    }
+
+    @Test
+    void test_scan_notASegment_throwsException() throws IOException {
+        var segment = directory.resolve("games-19700101-00.seg");
+        Files.write(segment, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        var history = new HistoryStore(directory);
+
+        assertThrows(IOException.class, history::averageSurvivalByLevel);
+    }
+
+    @Test
+    void test_flush_diskFails_keepsGames() throws IOException {
+        var file = directory.resolve("file");
+        Files.write(file, new byte[0]);
+        var history = new HistoryStore(file);
+        history.append(new GameRecord("a", 0, 10_000, 7, 0));
+
+        assertThrows(IOException.class, history::flush);
+        assertEquals(1, history.unflushed());
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.aggarcia.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+public class BestScoresTest {
+    @Test
+    void test_rank_tiedScores_shareRank() {
+        var scores = new BestScores();
+        scores.add("a", 10);
+        scores.add("b", 10);
+        scores.add("c", 5);
+
+        assertEquals(OptionalInt.of(1), scores.rank("a"));
+        assertEquals(OptionalInt.of(1), scores.rank("b"));
+        assertEquals(OptionalInt.of(3), scores.rank("c"));
+    }
+
+    @Test
+    void test_add_lowerScore_keepsBest() {
+        var scores = new BestScores();
+        scores.add("a", 30);
+        scores.add("b", 20);
+        scores.add("a", 10);
+
+        assertEquals(OptionalInt.of(30), scores.score("a"));
+        assertEquals(OptionalInt.of(1), scores.rank("a"));
+        assertEquals(OptionalInt.of(2), scores.rank("b"));
+    }
+
+    @Test
+    void test_add_scoreAboveTree_grows() {
+        var scores = new BestScores();
+        scores.add("a", 5);
+        scores.add("b", 100_000);
+        scores.add("c", 3_000);
+
+        assertEquals(OptionalInt.of(1), scores.rank("b"));
+        assertEquals(OptionalInt.of(2), scores.rank("c"));
+        assertEquals(OptionalInt.of(3), scores.rank("a"));
+    }
+
+    @Test
+    void test_rank_unknownPlayer_returnsEmpty() {
+        assertEquals(OptionalInt.empty(), new BestScores().rank("nobody"));
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.aggarcia.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.aggarcia.leaderboard.CircuitBreaker.State;
+
+public class CircuitBreakerTest {
+    static final long MILLI = 1_000_000;
+
+    @Test
+    void test_recordFailure_belowThreshold_staysClosed() {
+        var breaker = new CircuitBreaker(3, 100, () -> 0);
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        assertEquals(State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    void test_recordSuccess_resetsFailureCount() {
+        var breaker = new CircuitBreaker(2, 100, () -> 0);
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void test_tryAcquire_openUntilPauseIsOver_thenOneTestCall() {
+        var now = new AtomicLong();
+        var breaker = new CircuitBreaker(1, 100, now::get);
+        breaker.recordFailure();
+
+        assertFalse(breaker.tryAcquire());
+        now.set(100 * MILLI);
+        assertTrue(breaker.isReady());
+        assertTrue(breaker.tryAcquire());
+        assertEquals(State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+        assertFalse(breaker.isReady());
+    }
+
+    @Test
+    void test_recordFailure_halfOpen_opensAgain() {
+        var now = new AtomicLong();
+        var breaker = new CircuitBreaker(5, 100, now::get);
+        for (int i = 0; i < 5; i++) {
+            breaker.recordFailure();
+        }
+        now.set(100 * MILLI);
+        breaker.tryAcquire();
+
+        breaker.recordFailure();
+        assertEquals(State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    void test_recordSuccess_halfOpen_closes() {
+        var now = new AtomicLong();
+        var breaker = new CircuitBreaker(1, 100, now::get);
+        breaker.recordFailure();
+        now.set(100 * MILLI);
+        breaker.tryAcquire();
+
+        breaker.recordSuccess();
+        assertEquals(State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+}
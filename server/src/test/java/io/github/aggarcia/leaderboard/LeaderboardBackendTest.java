@@ -0,0 +1,151 @@
+package io.github.aggarcia.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Leaderboard write throughput and read latency, through the same
+ * LeaderboardService the server uses, on the embedded and the remote
+ * database. Excluded from the default build, run with
+ * {@code mvn -Plocal test -DexcludedGroups= -Dgroups=benchmark}.
+ *
+ * The embedded run needs H2, from the local Maven profile. The remote run
+ * needs {@code -Dbenchmark.remote.url=jdbc:postgresql://...} and the usual
+ * SPRING_DATASOURCE_USERNAME and SPRING_DATASOURCE_PASSWORD variables.
+ * Both write to a table of their own, dropped at the end.
+ */
+@Tag("benchmark")
+public class LeaderboardBackendTest {
+    static final String TABLE = "LeaderboardBenchmark";
+    static final String EMBEDDED_URL = "jdbc:h2:mem:benchmark;MODE=PostgreSQL;"
+        + "DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    static final int PLAYERS = 500;
+    static final int WRITES = 2000;
+    static final int READS = 500;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"embedded", "remote"})
+    void benchmark_leaderboard_writesAndReads(String backend)
+    throws Exception {
+        try (var dataSource = createDataSource(backend)) {
+            var jdbc = new JdbcTemplate(dataSource);
+            var service = createService(jdbc);
+            service.createIndexes();
+            jdbc.execute("DELETE FROM " + TABLE);
+            try {
+                double writesPerSecond = measureWrites(service);
+                long[] readMicros = measureReads(service);
+                System.out.printf(
+                    "%s: %.0f writes/s, top 10 read p50 %dus p99 %dus%n",
+                    backend,
+                    writesPerSecond,
+                    percentile(readMicros, 0.5),
+                    percentile(readMicros, 0.99)
+                );
+            } finally {
+                jdbc.execute("DROP TABLE IF EXISTS " + TABLE);
+                jdbc.execute("DROP TABLE IF EXISTS " + TABLE + "Windows");
+            }
+        }
+    }
+
+    /**
+     * Save finished games through the writer pool, as the server does.
+     * @return games saved per second
+     */
+    private double measureWrites(LeaderboardService service)
+    throws InterruptedException {
+        var writer = new LeaderboardWriter(
+            entry -> service.update(entry),
+            new LeaderboardWriter.Settings(2, 3, 100, 5_000, 5, 10_000,
+                WRITES, 0)
+        );
+        var random = new Random(42);
+        var now = new Timestamp(System.currentTimeMillis());
+
+        long start = System.nanoTime();
+        writer.start(new LinkedBlockingQueue<LeaderboardEntry>(), e -> e);
+        for (int i = 0; i < WRITES; i++) {
+            writer.submit(new LeaderboardEntry(
+                "player" + (i % PLAYERS), random.nextInt(100_000), now));
+        }
+        assertEquals(0, writer.close(60_000));
+        long elapsedNanos = System.nanoTime() - start;
+
+        assertEquals(WRITES, writer.written());
+        return WRITES / (elapsedNanos / 1e9);
+    }
+
+    /**
+     * @return latency of each top 10 read, in microseconds
+     */
+    private long[] measureReads(LeaderboardService service) {
+        var micros = new long[READS];
+        for (int i = 0; i < READS; i++) {
+            long start = System.nanoTime();
+            service.getTop10();
+            micros[i] = (System.nanoTime() - start) / 1000;
+        }
+        return micros;
+    }
+
+    private static HikariDataSource createDataSource(String backend)
+    throws SQLException {
+        var dataSource = new HikariDataSource();
+        if (backend.equals("embedded")) {
+            assumeDriver(EMBEDDED_URL);
+            dataSource.setJdbcUrl(EMBEDDED_URL);
+            dataSource.setUsername("sa");
+        } else {
+            var url = System.getProperty("benchmark.remote.url");
+            assumeTrue(url != null, "benchmark.remote.url is not set");
+            assumeDriver(url);
+            dataSource.setJdbcUrl(url);
+            dataSource.setUsername(System.getenv("SPRING_DATASOURCE_USERNAME"));
+            dataSource.setPassword(System.getenv("SPRING_DATASOURCE_PASSWORD"));
+        }
+        return dataSource;
+    }
+
+    private static void assumeDriver(String url) {
+        try {
+            DriverManager.getDriver(url);
+        } catch (SQLException e) {
+            assumeTrue(false, "No driver for " + url);
+        }
+    }
+
+    private static LeaderboardService createService(JdbcTemplate jdbc) {
+        var service = new LeaderboardService(jdbc);
+        var env = new MockEnvironment()
+            .withProperty("SPRING_DATASOURCE_USERNAME", "benchmark")
+            .withProperty("SPRING_DATASOURCE_PASSWORD", "benchmark");
+        ReflectionTestUtils.setField(service, "env", env);
+        ReflectionTestUtils.setField(service, "tableName", TABLE);
+        return service;
+    }
+
+    private static long percentile(long[] values, double percentile) {
+        var sorted = values.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
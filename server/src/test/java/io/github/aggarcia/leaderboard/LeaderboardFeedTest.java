@@ -0,0 +1,71 @@
+package io.github.aggarcia.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LeaderboardFeedTest {
+    @Test
+    void test_diff_firstTop_sendsEveryRow() {
+        var feed = new LeaderboardFeed();
+
+        var update = feed.diff(List.of(entry("a", 20), entry("b", 10)));
+        assertTrue(update.isPresent());
+        assertFalse(update.get().getIsFull());
+        assertEquals(2, update.get().getRowsCount());
+    }
+
+    @Test
+    void test_diff_sameTop_returnsEmpty() {
+        var feed = new LeaderboardFeed();
+        feed.diff(List.of(entry("a", 20), entry("b", 10)));
+
+        assertTrue(feed.diff(List.of(entry("a", 20), entry("b", 10)))
+            .isEmpty());
+    }
+
+    @Test
+    void test_diff_changedTop_sendsOnlyChanges() {
+        var feed = new LeaderboardFeed();
+        feed.diff(List.of(entry("a", 20), entry("b", 10)));
+
+        var update = feed
+            .diff(List.of(entry("c", 30), entry("a", 20)))
+            .get();
+        assertEquals(1, update.getRowsCount());
+        assertEquals("c", update.getRows(0).getPlayer());
+        assertEquals(List.of("b"), update.getRemovedPlayersList());
+    }
+
+    @Test
+    void test_diff_longerThanSize_onlyKeepsTop() {
+        var feed = new LeaderboardFeed();
+        var top = new ArrayList<LeaderboardEntry>();
+        for (int i = 0; i < LeaderboardFeed.SIZE + 5; i++) {
+            top.add(entry("player" + i, 100 - i));
+        }
+
+        assertEquals(
+            LeaderboardFeed.SIZE, feed.diff(top).get().getRowsCount());
+    }
+
+    @Test
+    void test_full_afterDiff_sendsEveryRow() {
+        var feed = new LeaderboardFeed();
+        feed.diff(List.of(entry("a", 20), entry("b", 10)));
+
+        var board = feed.full();
+        assertTrue(board.getIsFull());
+        assertEquals(2, board.getRowsCount());
+        assertEquals("a", board.getRows(0).getPlayer());
+    }
+
+    private static LeaderboardEntry entry(String player, int score) {
+        return new LeaderboardEntry(player, score, null);
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.aggarcia.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class LeaderboardServiceTest {
+    @Test
+    void test_flushWindows_nothingPending_doesNotNeedDatabase() {
+        // neither a connection nor credentials
+        var service = new LeaderboardService(null);
+        assertEquals(0, service.flushWindows());
+    }
+
+    @Test
+    void test_recordGame_everyGame_reachesWindowsWithoutDatabase() {
+        var boards = new WindowedBoards();
+        var service = new LeaderboardService(null, 10, boards);
+        var now = new Timestamp(System.currentTimeMillis());
+
+        service.recordGame(new LeaderboardEntry("a", 5, now));
+        service.recordGame(new LeaderboardEntry("b", 7, now));
+
+        for (var window : WindowedBoards.WINDOWS) {
+            assertEquals(OptionalInt.of(2), boards.index(window).rank("a"));
+        }
+        // both players, in both windows
+        assertEquals(4, boards.drainPending().size());
+    }
+
+    @Test
+    void test_getRank_outsideTopK_ranksByBestScores() {
+        var service = withDatabase(new LeaderboardService(
+            Mockito.mock(JdbcTemplate.class), 1));
+        var now = new Timestamp(System.currentTimeMillis());
+        var best = new LeaderboardEntry("a", 9, now);
+        var other = new LeaderboardEntry("b", 3, now);
+        service.recordGame(best);
+        service.recordGame(other);
+        assertTrue(service.update(best));
+        assertFalse(service.update(other));
+
+        assertEquals(
+            Optional.of(new LeaderboardRank("b", 3, 2)),
+            service.getRank("b", LeaderboardWindow.ALL_TIME));
+    }
+
+    @Test
+    void test_update_insideTransaction_waitsForCommit() {
+        var service = withDatabase(new LeaderboardService(
+            Mockito.mock(JdbcTemplate.class), 10));
+        var entry = new LeaderboardEntry(
+            "a", 5, new Timestamp(System.currentTimeMillis()));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            assertTrue(service.update(entry));
+            assertEquals(
+                Optional.empty(),
+                service.getRank("a", LeaderboardWindow.ALL_TIME));
+
+            TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(
+            Optional.of(new LeaderboardRank("a", 5, 1)),
+            service.getRank("a", LeaderboardWindow.ALL_TIME));
+    }
+
+    @Test
+    void test_hasCredentials_variablesMissing_returnsFalse() {
+        var env = new MockEnvironment()
+            .withProperty("SPRING_DATASOURCE_USERNAME", "user");
+        assertFalse(LeaderboardService.hasCredentials(env));
+
+        env.setProperty("SPRING_DATASOURCE_PASSWORD", "");
+        assertTrue(LeaderboardService.hasCredentials(env));
+    }
+
+    /**
+     * Give a service the fields Spring injects, so it passes the
+     * credentials check. A mocked JdbcTemplate reads back no rows.
+     */
+    private static LeaderboardService withDatabase(LeaderboardService service) {
+        var env = new MockEnvironment()
+            .withProperty("SPRING_DATASOURCE_USERNAME", "user")
+            .withProperty("SPRING_DATASOURCE_PASSWORD", "password");
+        ReflectionTestUtils.setField(service, "env", env);
+        ReflectionTestUtils.setField(service, "tableName", "leaderboard");
+        return service;
+    }
+}
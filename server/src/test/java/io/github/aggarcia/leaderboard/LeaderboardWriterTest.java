@@ -0,0 +1,159 @@
+package io.github.aggarcia.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import io.github.aggarcia.leaderboard.CircuitBreaker.State;
+
+public class LeaderboardWriterTest {
+    static final LeaderboardWriter.Settings SETTINGS =
+        new LeaderboardWriter.Settings(4, 2, 1, 5, 3, 50, 100, 0);
+
+    @Test
+    void test_submit_manyScoresOfOnePlayer_savedInOrder() throws Exception {
+        var saved = Collections.synchronizedList(new ArrayList<Integer>());
+        var writer = new LeaderboardWriter(
+            entry -> saved.add(entry.score()), SETTINGS);
+
+        for (int i = 0; i < 100; i++) {
+            writer.submit(entry("a", i));
+        }
+        writer.close(5000);
+        var expected = new ArrayList<Integer>();
+        for (int i = 0; i < 100; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, saved);
+    }
+
+    @Test
+    void test_submit_failsThenSucceeds_retries() throws Exception {
+        var attempts = new AtomicInteger();
+        var writer = new LeaderboardWriter(entry -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new DataAccessResourceFailureException("down");
+            }
+        }, SETTINGS);
+
+        writer.submit(entry("a", 1));
+        assertEquals(0, writer.close(5000));
+        assertEquals(1, writer.written());
+        assertEquals(2, writer.failures());
+    }
+
+    @Test
+    void test_submit_databaseDown_buffersUntilItRecovers() throws Exception {
+        var isDown = new AtomicBoolean(true);
+        var saved = Collections.synchronizedList(new ArrayList<String>());
+        var writer = new LeaderboardWriter(entry -> {
+            if (isDown.get()) {
+                throw new DataAccessResourceFailureException("down");
+            }
+            saved.add(entry.player());
+        }, SETTINGS);
+        writer.start(new LinkedBlockingQueue<LeaderboardEntry>(), e -> e);
+
+        writer.submit(entry("a", 1));
+        writer.submit(entry("b", 1));
+        waitFor(() -> writer.breakerState() == State.OPEN);
+        waitFor(() -> writer.pending() == 2 && saved.isEmpty());
+
+        isDown.set(false);
+        waitFor(() -> saved.size() == 2);
+        assertEquals(State.CLOSED, writer.breakerState());
+        assertEquals(0, writer.close(5000));
+    }
+
+    @Test
+    void test_submit_bufferFull_dropsOldest() throws Exception {
+        var settings =
+            new LeaderboardWriter.Settings(1, 0, 1, 1, 1, 60_000, 2, 0);
+        var writer = new LeaderboardWriter(entry -> {
+            throw new DataAccessResourceFailureException("down");
+        }, settings);
+
+        for (int i = 0; i < 5; i++) {
+            writer.submit(entry("player" + i, i));
+        }
+        assertEquals(2, writer.close(5000));
+        assertEquals(3, writer.dropped());
+    }
+
+    @Test
+    void test_close_queuedGames_areSaved() throws Exception {
+        var saved = new AtomicInteger();
+        var writer = new LeaderboardWriter(
+            entry -> saved.incrementAndGet(), SETTINGS);
+        var queue = new LinkedBlockingQueue<LeaderboardEntry>(List.of(
+            entry("a", 1), entry("b", 2), entry("c", 3)));
+
+        writer.start(queue, e -> e);
+        assertEquals(0, writer.close(5000));
+        assertEquals(3, saved.get());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    void test_start_coalescing_writesBestScorePerPlayer() throws Exception {
+        var saved = Collections.synchronizedList(new ArrayList<String>());
+        var settings =
+            new LeaderboardWriter.Settings(2, 0, 1, 1, 3, 50, 100, 60_000);
+        var writer = new LeaderboardWriter(
+            entry -> saved.add(entry.player() + "=" + entry.score()),
+            settings);
+        var queue = new LinkedBlockingQueue<LeaderboardEntry>();
+        writer.start(queue, e -> e);
+
+        for (int i = 1; i <= 10; i++) {
+            queue.add(entry("a", i % 4 == 0 ? 100 : i));
+        }
+        queue.add(entry("b", 5));
+        waitFor(() -> queue.isEmpty() && writer.pending() == 2);
+        assertTrue(saved.isEmpty());
+
+        assertEquals(0, writer.close(5000));
+        assertEquals(List.of("a=100", "b=5"),
+            saved.stream().sorted().toList());
+        assertEquals(9, writer.coalesced());
+    }
+
+    @Test
+    void test_start_coalescingWindowEnds_writesWithoutClosing()
+    throws Exception {
+        var saved = new AtomicInteger();
+        var settings =
+            new LeaderboardWriter.Settings(1, 0, 1, 1, 3, 50, 100, 20);
+        var writer = new LeaderboardWriter(
+            entry -> saved.incrementAndGet(), settings);
+        var queue = new LinkedBlockingQueue<LeaderboardEntry>();
+        writer.start(queue, e -> e);
+
+        queue.add(entry("a", 1));
+        waitFor(() -> saved.get() == 1);
+        writer.close(5000);
+    }
+
+    private static void waitFor(BooleanSupplier condition)
+    throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "timed out");
+            Thread.sleep(10);
+        }
+    }
+
+    private static LeaderboardEntry entry(String player, int score) {
+        return new LeaderboardEntry(player, score, null);
+    }
+}
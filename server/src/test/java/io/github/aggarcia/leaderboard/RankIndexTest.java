@@ -0,0 +1,97 @@
+package io.github.aggarcia.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class RankIndexTest {
+    @Test
+    void test_rank_distinctScores_countsHigherScores() {
+        var index = new RankIndex();
+        index.reload(List.of(entry("a", 10), entry("b", 30), entry("c", 20)));
+
+        assertEquals(OptionalInt.of(1), index.rank("b"));
+        assertEquals(OptionalInt.of(2), index.rank("c"));
+        assertEquals(OptionalInt.of(3), index.rank("a"));
+    }
+
+    @Test
+    void test_rank_tiedScores_shareRank() {
+        var index = new RankIndex();
+        index.reload(List.of(entry("a", 10), entry("b", 10), entry("c", 5)));
+
+        assertEquals(OptionalInt.of(1), index.rank("a"));
+        assertEquals(OptionalInt.of(1), index.rank("b"));
+        assertEquals(OptionalInt.of(3), index.rank("c"));
+    }
+
+    @Test
+    void test_rank_unknownPlayer_returnsEmpty() {
+        assertEquals(OptionalInt.empty(), new RankIndex().rank("nobody"));
+    }
+
+    @Test
+    void test_add_betterScore_replacesOldScore() {
+        var index = new RankIndex();
+        index.add(entry("a", 10));
+        index.add(entry("b", 20));
+        index.add(entry("a", 30));
+        index.add(entry("a", 1));
+
+        assertEquals(2, index.size());
+        assertEquals(OptionalInt.of(1), index.rank("a"));
+        assertEquals(30, index.get("a").score());
+    }
+
+    @Test
+    void test_add_scoreAboveTree_grows() {
+        var index = new RankIndex();
+        index.add(entry("a", 5));
+        index.add(entry("b", 100_000));
+
+        assertEquals(OptionalInt.of(1), index.rank("b"));
+        assertEquals(OptionalInt.of(2), index.rank("a"));
+        // counts from before the growth are still found by position
+        assertEquals(List.of(entry("a", 5)), index.page(1, 1));
+    }
+
+    @Test
+    void test_page_offsetInsideTies_matchesSortedOrder() {
+        var random = new Random(7);
+        var entries = new ArrayList<LeaderboardEntry>();
+        for (int i = 0; i < 200; i++) {
+            entries.add(entry("player" + i, random.nextInt(50)));
+        }
+        var index = new RankIndex();
+        index.reload(entries);
+        entries.sort(Comparator
+            .comparingInt(LeaderboardEntry::score)
+            .reversed()
+            .thenComparing(LeaderboardEntry::player));
+
+        for (int offset = 0; offset < 200; offset += 7) {
+            var expected = entries.subList(offset, Math.min(200, offset + 10));
+            assertEquals(expected, index.page(offset, 10));
+        }
+    }
+
+    @Test
+    void test_page_pastEnd_returnsEmpty() {
+        var index = new RankIndex();
+        index.add(entry("a", 1));
+
+        assertTrue(index.page(1, 10).isEmpty());
+        assertTrue(index.page(0, 0).isEmpty());
+    }
+
+    private static LeaderboardEntry entry(String player, int score) {
+        return new LeaderboardEntry(player, score, null);
+    }
+}
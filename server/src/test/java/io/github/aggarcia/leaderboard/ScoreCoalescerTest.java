@@ -0,0 +1,47 @@
+package io.github.aggarcia.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ScoreCoalescerTest {
+    @Test
+    void test_offer_samePlayer_keepsBestScore() {
+        var coalescer = new ScoreCoalescer();
+        coalescer.offer(entry("a", 5, 1));
+        coalescer.offer(entry("a", 9, 2));
+        coalescer.offer(entry("a", 7, 3));
+
+        assertEquals(List.of(entry("a", 9, 2)), coalescer.drain());
+        assertEquals(2, coalescer.coalesced());
+    }
+
+    @Test
+    void test_offer_tiedScore_keepsEarlierGame() {
+        var coalescer = new ScoreCoalescer();
+        coalescer.offer(entry("a", 5, 1));
+        coalescer.offer(entry("a", 5, 2));
+
+        assertEquals(List.of(entry("a", 5, 1)), coalescer.drain());
+    }
+
+    @Test
+    void test_drain_manyPlayers_oneEntryEachInArrivalOrder() {
+        var coalescer = new ScoreCoalescer();
+        coalescer.offer(entry("b", 1, 1));
+        coalescer.offer(entry("a", 2, 2));
+        coalescer.offer(entry("b", 3, 3));
+
+        assertEquals(List.of(entry("b", 3, 3), entry("a", 2, 2)),
+            coalescer.drain());
+        assertEquals(0, coalescer.size());
+        assertEquals(List.of(), coalescer.drain());
+    }
+
+    private static LeaderboardEntry entry(String player, int score, long at) {
+        return new LeaderboardEntry(player, score, new Timestamp(at));
+    }
+}
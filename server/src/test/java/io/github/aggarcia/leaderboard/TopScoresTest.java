@@ -0,0 +1,83 @@
+package io.github.aggarcia.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TopScoresTest {
+    @Test
+    void test_isCandidate_notFull_returnsTrue() {
+        var scores = new TopScores(2);
+        scores.add(entry("a", 10));
+
+        assertTrue(scores.isCandidate(entry("b", 1)));
+    }
+
+    @Test
+    void test_isCandidate_full_comparesWithLowestScore() {
+        var scores = new TopScores(2);
+        scores.add(entry("a", 10));
+        scores.add(entry("b", 20));
+
+        assertFalse(scores.isCandidate(entry("c", 10)));
+        assertTrue(scores.isCandidate(entry("c", 11)));
+    }
+
+    @Test
+    void test_isCandidate_playerAlreadyKept_needsBetterScore() {
+        var scores = new TopScores(2);
+        scores.add(entry("a", 10));
+
+        assertFalse(scores.isCandidate(entry("a", 10)));
+        assertTrue(scores.isCandidate(entry("a", 11)));
+    }
+
+    @Test
+    void test_add_overCapacity_evictsLowestScore() {
+        var scores = new TopScores(2);
+        scores.add(entry("a", 10));
+        scores.add(entry("b", 20));
+        scores.add(entry("c", 30));
+
+        assertEquals(2, scores.size());
+        // a was evicted, so its old score no longer blocks it
+        assertFalse(scores.isCandidate(entry("a", 15)));
+        assertTrue(scores.isCandidate(entry("a", 25)));
+    }
+
+    @Test
+    void test_add_samePlayerImproves_keepsOneEntry() {
+        var scores = new TopScores(2);
+        scores.add(entry("a", 10));
+        scores.add(entry("a", 30));
+        scores.add(entry("b", 20));
+
+        assertEquals(2, scores.size());
+        assertFalse(scores.isCandidate(entry("c", 20)));
+    }
+
+    @Test
+    void test_reload_replacesScores() {
+        var scores = new TopScores(2);
+        scores.add(entry("a", 100));
+        scores.add(entry("b", 100));
+
+        scores.reload(List.of(entry("c", 1)));
+        assertEquals(1, scores.size());
+        assertTrue(scores.isCandidate(entry("a", 2)));
+    }
+
+    @Test
+    void test_constructor_zeroCapacity_throws() {
+        assertThrows(IllegalArgumentException.class, () -> new TopScores(0));
+    }
+
+    private static LeaderboardEntry entry(String player, int score) {
+        return new LeaderboardEntry(player, score, null);
+    }
+}
@@ -0,0 +1,138 @@
+package io.github.aggarcia.leaderboard;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.OptionalInt;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.aggarcia.leaderboard.WindowedBoards.Pending;
+
+public class WindowedBoardsTest {
+    /** A Wednesday. */
+    static final Instant NOON = Instant.parse("2024-01-03T12:00:00Z");
+
+    @Test
+    void test_start_wednesday_returnsMidnightAndMonday() {
+        assertEquals(
+            Instant.parse("2024-01-03T00:00:00Z"),
+            LeaderboardWindow.DAILY.start(NOON));
+        assertEquals(
+            Instant.parse("2024-01-01T00:00:00Z"),
+            LeaderboardWindow.WEEKLY.start(NOON));
+    }
+
+    @Test
+    void test_record_newGame_addsToEveryWindow() {
+        var boards = new WindowedBoards(new TestClock(NOON));
+        boards.record(entry("a", 10, NOON));
+        boards.record(entry("b", 20, NOON));
+
+        for (var window : WindowedBoards.WINDOWS) {
+            assertEquals(OptionalInt.of(2), boards.index(window).rank("a"));
+        }
+    }
+
+    @Test
+    void test_record_gameFromBeforeToday_onlyCountsForWeek() {
+        var boards = new WindowedBoards(new TestClock(NOON));
+        boards.record(entry("a", 10, NOON.minus(Duration.ofDays(1))));
+
+        assertEquals(0, boards.index(LeaderboardWindow.DAILY).size());
+        assertEquals(1, boards.index(LeaderboardWindow.WEEKLY).size());
+    }
+
+    @Test
+    void test_rollOver_nextDay_startsEmptyDayButKeepsWeek() {
+        var clock = new TestClock(NOON);
+        var boards = new WindowedBoards(clock);
+        boards.record(entry("a", 10, NOON));
+
+        clock.now = NOON.plus(Duration.ofDays(1));
+        assertEquals(0, boards.index(LeaderboardWindow.DAILY).size());
+        assertEquals(1, boards.index(LeaderboardWindow.WEEKLY).size());
+        // the old day was never flushed, so it still gets written
+        var pending = boards.drainPending();
+        assertEquals(2, pending.size());
+        assertTrue(pending.contains(new Pending(
+            LeaderboardWindow.DAILY,
+            LeaderboardWindow.DAILY.start(NOON),
+            entry("a", 10, NOON))));
+    }
+
+    @Test
+    void test_drainPending_onlyReturnsChangesSinceLastDrain() {
+        var boards = new WindowedBoards(new TestClock(NOON));
+        boards.record(entry("a", 10, NOON));
+        assertEquals(2, boards.drainPending().size());
+
+        boards.record(entry("a", 5, NOON));
+        assertTrue(boards.drainPending().isEmpty());
+        boards.record(entry("a", 15, NOON));
+        assertEquals(2, boards.drainPending().size());
+    }
+
+    @Test
+    void test_requeue_failedFlush_keepsBestScore() {
+        var boards = new WindowedBoards(new TestClock(NOON));
+        boards.record(entry("a", 10, NOON));
+        var failed = boards.drainPending();
+        boards.record(entry("a", 20, NOON));
+
+        boards.requeue(failed);
+        var pending = boards.drainPending();
+        assertEquals(2, pending.size());
+        for (var score : pending) {
+            assertEquals(20, score.entry().score());
+        }
+    }
+
+    @Test
+    void test_load_keepsGamesRecordedBeforeLoad() {
+        var boards = new WindowedBoards(new TestClock(NOON));
+        boards.record(entry("a", 10, NOON));
+
+        var start = boards.start(LeaderboardWindow.DAILY);
+        boards.load(LeaderboardWindow.DAILY, start, List.of(
+            entry("b", 30, NOON)));
+        var index = boards.index(LeaderboardWindow.DAILY);
+        assertEquals(OptionalInt.of(1), index.rank("b"));
+        assertEquals(OptionalInt.of(2), index.rank("a"));
+    }
+
+    private static LeaderboardEntry
+    entry(String player, int score, Instant at) {
+        return new LeaderboardEntry(player, score, Timestamp.from(at));
+    }
+
+    private static final class TestClock extends Clock {
+        private Instant now;
+
+        TestClock(Instant now) {
+            this.now = now;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
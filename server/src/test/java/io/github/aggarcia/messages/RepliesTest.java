@@ -0,0 +1,91 @@
+package io.github.aggarcia.messages;
+
+import static io.github.aggarcia.messages.Serializer.serialize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.aggarcia.messages.Generated.ErrorReply;
+import io.github.aggarcia.messages.Generated.GameOverEvent;
+import io.github.aggarcia.messages.Generated.JoinReply;
+import io.github.aggarcia.messages.Generated.SocketMessage;
+
+public class RepliesTest {
+    @Test
+    void test_joinReply_matchesProtobufEncoding() {
+        var expected = SocketMessage.newBuilder()
+            .setJoinReply(JoinReply.newBuilder()
+                .setServerId("1234")
+                .setResumeToken("token"))
+            .build();
+
+        assertArrayEquals(
+            serialize(expected), Replies.joinReply("1234", "token"));
+    }
+
+    @Test
+    void test_joinReply_emptyFields_matchesProtobufEncoding() {
+        var expected = SocketMessage.newBuilder()
+            .setJoinReply(JoinReply.newBuilder())
+            .build();
+
+        assertArrayEquals(serialize(expected), Replies.joinReply("", ""));
+    }
+
+    @Test
+    void test_joinReply_calledTwice_returnsSeparateArrays() {
+        var first = Replies.joinReply("1234", "token");
+        var second = Replies.joinReply("1234", "token");
+
+        assertNotSame(first, second);
+        assertArrayEquals(first, second);
+    }
+
+    @Test
+    void test_error_matchesProtobufEncoding() {
+        var expected = SocketMessage.newBuilder()
+            .setErrorReply(ErrorReply.newBuilder()
+                .setMessage("Username already in use: ünïcode"))
+            .build();
+
+        assertArrayEquals(
+            serialize(expected),
+            Replies.error("Username already in use: ünïcode"));
+    }
+
+    @Test
+    void test_error_longerThanBuffer_matchesProtobufEncoding() {
+        var message = "x".repeat(2000);
+        var expected = SocketMessage.newBuilder()
+            .setErrorReply(ErrorReply.newBuilder().setMessage(message))
+            .build();
+
+        assertArrayEquals(serialize(expected), Replies.error(message));
+    }
+
+    @Test
+    void test_leftGame_matchesProtobufEncoding() {
+        var expected = SocketMessage.newBuilder()
+            .setGameOverEvent(GameOverEvent.newBuilder()
+                .setReason("You left the game"))
+            .build();
+
+        assertArrayEquals(serialize(expected), Replies.leftGame());
+    }
+
+    @Test
+    void test_leftGame_calledTwice_returnsSameFrame() {
+        assertSame(Replies.leftGame(), Replies.leftGame());
+    }
+
+    @Test
+    void test_gameOver_emptyReason_matchesProtobufEncoding() {
+        var expected = SocketMessage.newBuilder()
+            .setGameOverEvent(GameOverEvent.newBuilder())
+            .build();
+
+        assertArrayEquals(serialize(expected), Replies.gameOver(""));
+    }
+}
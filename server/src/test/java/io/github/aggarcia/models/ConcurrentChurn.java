@@ -0,0 +1,94 @@
+package io.github.aggarcia.models;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Harness for the registry race tests: runs writers on many threads at
+ * once, optionally while another thread keeps reading.
+ */
+final class ConcurrentChurn {
+    static final int THREADS = 8;
+    static final int ROUNDS = 250;
+
+    private ConcurrentChurn() {}
+
+    /**
+     * Run the task on {@link #THREADS} threads, released at the same time
+     * to maximize contention. Rethrows the first failure.
+     */
+    static void runConcurrently(ThreadTask task) throws Exception {
+        var start = new CountDownLatch(1);
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < THREADS; i++) {
+            final int thread = i;
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                    task.run(thread);
+                } catch (Throwable e) {
+                    errors.add(e);
+                }
+            }));
+        }
+        threads.forEach(Thread::start);
+        start.countDown();
+        for (var thread : threads) {
+            thread.join();
+        }
+        if (!errors.isEmpty()) {
+            throw new AssertionError(errors.peek());
+        }
+    }
+
+    /**
+     * Run {@link #ROUNDS} rounds of the write on every thread, while one
+     * more thread repeats the read until the writers are done.
+     * @param writeRound given an ID unique to the thread and round
+     * @throws AssertionError if the read ever threw
+     */
+    static void readWhileWriting(Runnable read, RoundTask writeRound)
+    throws Exception {
+        var errors = new ConcurrentLinkedQueue<Throwable>();
+        var isDone = new AtomicBoolean(false);
+
+        var reader = new Thread(() -> {
+            try {
+                while (!isDone.get()) {
+                    read.run();
+                }
+            } catch (Throwable e) {
+                errors.add(e);
+            }
+        });
+        reader.start();
+        try {
+            runConcurrently(thread -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    writeRound.run(thread + "-" + round);
+                }
+            });
+        } finally {
+            isDone.set(true);
+            reader.join();
+        }
+        assertTrue(errors.isEmpty(), () -> "reader threw " + errors.peek());
+    }
+
+    @FunctionalInterface
+    interface ThreadTask {
+        void run(int thread) throws Exception;
+    }
+
+    @FunctionalInterface
+    interface RoundTask {
+        void run(String round) throws Exception;
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.aggarcia.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class DetachedPlayersTest {
+    @Test
+    void test_containsName_otherCase_returnsTrue() {
+        var detached = new DetachedPlayers();
+        var player = PlayerStore.createRandomPlayer("Name");
+        detached.put(player.resumeToken(), new DetachedPlayer(player, 0));
+
+        assertTrue(detached.containsName("nAME"));
+        assertFalse(detached.containsName("other"));
+    }
+
+    @Test
+    void test_remove_byToken_releasesName() {
+        var detached = new DetachedPlayers();
+        var player = PlayerStore.createRandomPlayer("a");
+        detached.put(player.resumeToken(), new DetachedPlayer(player, 0));
+
+        detached.remove(player.resumeToken());
+        assertFalse(detached.containsName("a"));
+        assertTrue(detached.isEmpty());
+    }
+
+    @Test
+    void test_iteratorRemove_releasesName() {
+        var detached = new DetachedPlayers();
+        var kept = PlayerStore.createRandomPlayer("kept");
+        var expired = PlayerStore.createRandomPlayer("expired");
+        detached.put(kept.resumeToken(), new DetachedPlayer(kept, 10));
+        detached.put(expired.resumeToken(), new DetachedPlayer(expired, 0));
+
+        detached.values().removeIf(player -> player.isExpired(5));
+        assertFalse(detached.containsName("expired"));
+        assertTrue(detached.containsName("kept"));
+        assertEquals(1, detached.size());
+    }
+}
@@ -3,9 +3,11 @@ package io.github.aggarcia.models;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.mockito.Mockito;
 import org.mockito.exceptions.verification.WantedButNotInvoked;
 
+@DisabledInNativeImage
 public class GameStoreTest {
     @Test
     void test_onStartEvent_doesNotCallStartAction() {
@@ -0,0 +1,50 @@
+package io.github.aggarcia.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PlatformListTest {
+    static final GamePlatform TOP = new GamePlatform(300, 0, 100);
+    static final GamePlatform MIDDLE = new GamePlatform(300, 0, 400);
+    static final GamePlatform BOTTOM = new GamePlatform(300, 0, 700);
+
+    @Test
+    void test_add_anyOrder_keepsPlatformsSortedByHeight() {
+        var platforms = new PlatformList();
+        platforms.add(MIDDLE);
+        platforms.add(BOTTOM);
+        platforms.add(TOP);
+
+        assertEquals(List.of(TOP, MIDDLE, BOTTOM), platforms);
+        assertEquals(TOP, platforms.topmost());
+        assertEquals(BOTTOM, platforms.bottommost());
+    }
+
+    @Test
+    void test_topmost_emptyList_returnsNull() {
+        assertNull(new PlatformList().topmost());
+        assertNull(new PlatformList().bottommost());
+    }
+
+    @Test
+    void test_nearestBelow_betweenPlatforms_returnsNextPlatformDown() {
+        var platforms = new PlatformList(List.of(BOTTOM, TOP, MIDDLE));
+
+        assertEquals(MIDDLE, platforms.nearestBelow(101));
+        assertEquals(MIDDLE, platforms.nearestBelow(400));
+        assertNull(platforms.nearestBelow(701));
+    }
+
+    @Test
+    void test_between_range_returnsPlatformsInRangeInclusive() {
+        var platforms = new PlatformList(List.of(BOTTOM, TOP, MIDDLE));
+
+        assertEquals(List.of(TOP, MIDDLE), platforms.between(100, 400));
+        assertEquals(List.of(), platforms.between(401, 699));
+        assertEquals(List.of(), platforms.between(500, 0));
+    }
+}
@@ -0,0 +1,149 @@
+package io.github.aggarcia.models;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class PlayerRegistryTest {
+    @Test
+    void test_put_newPlayer_isVisibleToGet() {
+        var registry = new PlayerRegistry();
+        var player = PlayerStore.createRandomPlayer("a");
+
+        assertNull(registry.put("client", player));
+        assertSame(player, registry.get("client"));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void test_put_nameTakenInOtherCase_throwsException() {
+        var registry = new PlayerRegistry();
+        registry.put("1", PlayerStore.createRandomPlayer("Name"));
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            registry.put("2", PlayerStore.createRandomPlayer("nAME"));
+        });
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void test_remove_player_releasesName() {
+        var registry = new PlayerRegistry();
+        registry.put("1", PlayerStore.createRandomPlayer("name"));
+        assertTrue(registry.containsName("NAME"));
+
+        registry.remove("1");
+        assertFalse(registry.containsName("name"));
+        registry.put("2", PlayerStore.createRandomPlayer("name"));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void test_put_sameNameFromManyThreads_onlyOneSucceeds() throws Exception {
+        var registry = new PlayerRegistry();
+        var successes = new AtomicInteger();
+
+        ConcurrentChurn.runConcurrently(thread -> {
+            try {
+                registry.put(Integer.toString(thread),
+                    PlayerStore.createRandomPlayer("x"));
+                successes.incrementAndGet();
+            } catch (IllegalArgumentException e) {
+                // lost the race
+            }
+        });
+
+        assertEquals(1, successes.get());
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void test_view_write_throwsException() {
+        var registry = new PlayerRegistry();
+        Map<String, PlayerStore> view = registry.view();
+
+        assertThrows(UnsupportedOperationException.class, () -> {
+            view.put("1", PlayerStore.createRandomPlayer("1"));
+        });
+    }
+
+    @Test
+    void test_put_sameClientNewName_releasesOldName() {
+        var registry = new PlayerRegistry();
+        registry.put("1", PlayerStore.createRandomPlayer("old"));
+        registry.put("1", PlayerStore.createRandomPlayer("new"));
+
+        assertFalse(registry.containsName("old"));
+        assertTrue(registry.containsName("new"));
+        registry.put("2", PlayerStore.createRandomPlayer("old"));
+    }
+
+    @Test
+    void test_putIfAbsent_clientPresent_doesNotReserveName() {
+        var registry = new PlayerRegistry();
+        registry.put("1", PlayerStore.createRandomPlayer("a"));
+
+        assertEquals("a",
+            registry.putIfAbsent("1", PlayerStore.createRandomPlayer("b"))
+                .name());
+        assertFalse(registry.containsName("b"));
+    }
+
+    @Test
+    void test_removeAll_returnsEveryPlayerAndEmptiesRegistry() {
+        var registry = new PlayerRegistry(Map.of(
+            "1", PlayerStore.createRandomPlayer("1"),
+            "2", PlayerStore.createRandomPlayer("2")
+        ));
+
+        var removed = registry.removeAll();
+        assertEquals(2, removed.size());
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    void test_iteration_heavyJoinLeaveChurn_neverThrows() throws Exception {
+        var registry = new PlayerRegistry();
+
+        // each round leaves one player behind
+        ConcurrentChurn.readWhileWriting(() -> {
+            for (var entry : registry.entrySet()) {
+                entry.getValue().name();
+            }
+        }, round -> {
+            registry.put("kept-" + round,
+                PlayerStore.createRandomPlayer("kept-" + round));
+            registry.put("left-" + round,
+                PlayerStore.createRandomPlayer("left-" + round));
+            registry.remove("left-" + round);
+        });
+
+        assertEquals(
+            ConcurrentChurn.THREADS * ConcurrentChurn.ROUNDS, registry.size());
+    }
+
+    @Test
+    void test_remove_sameClientFromManyThreads_returnsPlayerOnce()
+    throws Exception {
+        for (int round = 0; round < 100; round++) {
+            var registry = new PlayerRegistry();
+            registry.put("client", PlayerStore.createRandomPlayer("a"));
+            var removals = new AtomicInteger();
+
+            ConcurrentChurn.runConcurrently(thread -> {
+                if (registry.remove("client") != null) {
+                    removals.incrementAndGet();
+                }
+            });
+            assertEquals(1, removals.get());
+        }
+    }
+}
@@ -387,4 +387,30 @@ public class PlayerStoreTest {
         assertEquals(entry.player(), testPlayer.name());
         assertEquals(entry.score(), randomScore);
     }
+
+    @Test
+    void test_moveToNextTick_higherGravity_updatesPeak() {
+        var testPlayer = PlayerStore.createRandomPlayer("test");
+
+        testPlayer.moveToNextTick(List.of(), 9);
+        testPlayer.moveToNextTick(List.of(), 7);
+        assertEquals(9, testPlayer.peakPlatformGravity());
+    }
+
+    @Test
+    void test_createGameRecord_storesCorrectData() {
+        var testPlayer = PlayerStore.builder()
+            .name("test")
+            .score(42)
+            .joinedAtMillis(1000)
+            .peakPlatformGravity(11)
+            .build();
+
+        var record = testPlayer.createGameRecord(6000);
+        assertEquals("test", record.player());
+        assertEquals(42, record.score());
+        assertEquals(5000, record.durationMillis());
+        assertEquals(11, record.peakPlatformGravity());
+        assertEquals(1000, record.joinedAtMillis());
+    }
 }
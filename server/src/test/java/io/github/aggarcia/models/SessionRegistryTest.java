@@ -0,0 +1,78 @@
+package io.github.aggarcia.models;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.mockito.Mockito;
+import org.springframework.web.socket.WebSocketSession;
+
+@DisabledInNativeImage
+public class SessionRegistryTest {
+    @Test
+    void test_add_sameSessionTwice_onlyAddsOnce() {
+        var registry = new SessionRegistry();
+        var session = Mockito.mock(WebSocketSession.class);
+
+        assertTrue(registry.add(session));
+        assertFalse(registry.add(session));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void test_snapshot_laterWrites_doNotChangeSnapshot() {
+        var first = Mockito.mock(WebSocketSession.class);
+        var second = Mockito.mock(WebSocketSession.class);
+        var registry = new SessionRegistry(List.of(first));
+
+        var snapshot = registry.snapshot();
+        registry.add(second);
+        registry.remove(first);
+
+        assertArrayEquals(new WebSocketSession[] {first}, snapshot);
+        assertArrayEquals(new WebSocketSession[] {second}, registry.snapshot());
+    }
+
+    @Test
+    void test_find_openSession_returnsSessionWithId() {
+        var session = Mockito.mock(WebSocketSession.class);
+        Mockito.when(session.getId()).thenReturn("abc");
+        var registry = new SessionRegistry(List.of(session));
+
+        assertEquals(session, registry.find("abc"));
+        assertNull(registry.find("xyz"));
+    }
+
+    @Test
+    void test_remove_missingSession_returnsFalse() {
+        var registry = new SessionRegistry();
+        registry.add(Mockito.mock(WebSocketSession.class));
+
+        assertFalse(registry.remove(Mockito.mock(WebSocketSession.class)));
+        assertEquals(1, registry.size());
+    }
+
+    @Test
+    void test_snapshot_heavyConnectDisconnectChurn_neverThrows()
+    throws Exception {
+        var registry = new SessionRegistry();
+
+        ConcurrentChurn.readWhileWriting(() -> {
+            for (var session : registry.snapshot()) {
+                session.getId();
+            }
+        }, round -> {
+            var left = Mockito.mock(WebSocketSession.class);
+            registry.add(left);
+            registry.remove(left);
+        });
+
+        assertTrue(registry.isEmpty());
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.aggarcia.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.aggarcia.messages.Snapshots.GameSnapshot;
+import io.github.aggarcia.models.GamePlatform;
+import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlayerStore;
+
+public class SnapshotCodecTest {
+    @Test
+    void test_restore_capturedStore_restoresGameState() {
+        var store = new GameStore()
+            .tickCount(7)
+            .gameAgeSeconds(42)
+            .platformGravity(3);
+        store.platforms().add(new GamePlatform(300, 10, 20));
+        var player = PlayerStore.createRandomPlayer("test")
+            .xVelocity(5)
+            .score(99)
+            .lastInputSequence(12)
+            .peakPlatformGravity(9);
+        store.players().put("client", player);
+
+        var restored = new GameStore();
+        SnapshotCodec.restore(SnapshotCodec.capture(store), restored, 0);
+
+        assertEquals(7, restored.tickCount());
+        assertEquals(42, restored.gameAgeSeconds());
+        assertEquals(3, restored.platformGravity());
+        assertEquals(List.of(new GamePlatform(300, 10, 20)),
+            restored.platforms());
+        assertTrue(restored.isRestored());
+
+        var restoredPlayer =
+            restored.detachedPlayers().get(player.resumeToken()).player();
+        assertEquals(player.name(), restoredPlayer.name());
+        assertEquals(player.color(), restoredPlayer.color());
+        assertEquals(player.xPosition(), restoredPlayer.xPosition());
+        assertEquals(player.yPosition(), restoredPlayer.yPosition());
+        assertEquals(5, restoredPlayer.xVelocity());
+        assertEquals(99, restoredPlayer.score());
+        assertEquals(12, restoredPlayer.lastInputSequence());
+        assertEquals(9, restoredPlayer.peakPlatformGravity());
+        assertEquals(player.joinedAtMillis(), restoredPlayer.joinedAtMillis());
+    }
+
+    @Test
+    void test_restore_playersWithSessions_areNotAttached() {
+        var store = new GameStore();
+        store.players().put("client", PlayerStore.createRandomPlayer("a"));
+
+        var restored = new GameStore();
+        SnapshotCodec.restore(SnapshotCodec.capture(store), restored, 0);
+
+        // the sessions did not survive the restart
+        assertTrue(restored.players().isEmpty());
+        assertEquals(1, restored.detachedPlayers().size());
+    }
+
+    @Test
+    void test_restore_unknownVersion_throwsException() {
+        var snapshot = GameSnapshot.newBuilder()
+            .setVersion(SnapshotCodec.VERSION + 1)
+            .build();
+
+        assertThrows(IllegalArgumentException.class, () -> {
+            SnapshotCodec.restore(snapshot, new GameStore(), 0);
+        });
+    }
+
+    @Test
+    void test_restore_detachedPlayers_expireAtGivenTime() {
+        var store = new GameStore();
+        store.players().put("client", PlayerStore.createRandomPlayer("a"));
+
+        var restored = new GameStore();
+        SnapshotCodec.restore(SnapshotCodec.capture(store), restored, 1234);
+
+        var detached = restored.detachedPlayers().values().iterator().next();
+        assertEquals(1234, detached.expiresAtMillis());
+    }
+}
@@ -0,0 +1,71 @@
+package io.github.aggarcia.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.aggarcia.models.GameStore;
+import io.github.aggarcia.models.PlayerStore;
+
+public class SnapshotStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void test_restore_noFile_restoresNothing() throws Exception {
+        var store = new GameStore();
+        var snapshots = new SnapshotStore(store, directory.resolve("game"));
+
+        assertEquals(0, snapshots.restore(0));
+        assertFalse(store.isRestored());
+    }
+
+    @Test
+    void test_restore_afterSave_restoresPlayersInNewStore() throws Exception {
+        var path = directory.resolve("game");
+        var store = new GameStore();
+        var player = PlayerStore.createRandomPlayer("test");
+        store.players().put("client", player);
+        new SnapshotStore(store, path).save();
+
+        var restored = new GameStore();
+        assertEquals(1, new SnapshotStore(restored, path).restore(0));
+        assertTrue(restored.detachedPlayers()
+            .containsKey(player.resumeToken()));
+    }
+
+    @Test
+    void test_save_nothingChanged_skipsWrite() throws Exception {
+        var store = new GameStore();
+        store.players().put("client", PlayerStore.createRandomPlayer("a"));
+        var snapshots = new SnapshotStore(store, directory.resolve("game"));
+
+        assertTrue(snapshots.save());
+        assertFalse(snapshots.save());
+
+        store.tickCount(store.tickCount() + 1);
+        assertTrue(snapshots.save());
+    }
+
+    @Test
+    void test_save_existingSnapshot_leavesNoTempFile() throws Exception {
+        var path = directory.resolve("game");
+        var store = new GameStore();
+        var snapshots = new SnapshotStore(store, path);
+
+        snapshots.save();
+        store.tickCount(1);
+        snapshots.save();
+
+        assertTrue(Files.exists(path));
+        try (var files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+}